@@ -0,0 +1,68 @@
+package dev.peterrhodes.optionpricing.benchmarks;
+
+import dev.peterrhodes.optionpricing.AnalyticOption;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * LaTeX calculation step builders of the analytic options, which format and substitute every intermediate value so they're much more expensive than the values themselves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AnalyticCalculationBenchmark {
+
+    @Param({ "EUROPEAN_CALL", "EUROPEAN_PUT", "BLACK_76_CALL", "BACHELIER_PUT" })
+    public String option;
+
+    private AnalyticOption analyticOption;
+
+    @Setup
+    public void setup() {
+        this.analyticOption = AnalyticOptionBenchmark.create(this.option);
+    }
+
+    @Benchmark
+    public AnalyticCalculation priceCalculation() {
+        return this.analyticOption.priceCalculation();
+    }
+
+    @Benchmark
+    public AnalyticCalculation deltaCalculation() {
+        return this.analyticOption.deltaCalculation();
+    }
+
+    @Benchmark
+    public AnalyticCalculation gammaCalculation() {
+        return this.analyticOption.gammaCalculation();
+    }
+
+    @Benchmark
+    public AnalyticCalculation vegaCalculation() {
+        return this.analyticOption.vegaCalculation();
+    }
+
+    @Benchmark
+    public AnalyticCalculation thetaCalculation() {
+        return this.analyticOption.thetaCalculation();
+    }
+
+    @Benchmark
+    public AnalyticCalculation rhoCalculation() {
+        return this.analyticOption.rhoCalculation();
+    }
+}
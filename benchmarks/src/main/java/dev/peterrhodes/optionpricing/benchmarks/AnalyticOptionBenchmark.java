@@ -0,0 +1,113 @@
+package dev.peterrhodes.optionpricing.benchmarks;
+
+import dev.peterrhodes.optionpricing.AnalyticOption;
+import dev.peterrhodes.optionpricing.AnalyticOptionFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Values of the analytic options, i.e.&nbsp;the price and each Greek, for every analytic model.
+ * <p>The option of the warm benchmarks is created once and caches its intermediate values, so after the first call they measure reading the cached values.&nbsp;The cold benchmarks create a new option per invocation and evaluate it once, which is what pricing a stream of contracts costs; {@link #create()} measures the creation on its own, to be subtracted from them.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AnalyticOptionBenchmark {
+
+    @Param({ "EUROPEAN_CALL", "EUROPEAN_PUT", "BLACK_76_CALL", "BACHELIER_PUT" })
+    public String option;
+
+    private AnalyticOption analyticOption;
+
+    @Setup
+    public void setup() {
+        this.analyticOption = create(this.option);
+    }
+
+    @Benchmark
+    public double price() {
+        return this.analyticOption.price();
+    }
+
+    @Benchmark
+    public double delta() {
+        return this.analyticOption.delta();
+    }
+
+    @Benchmark
+    public double gamma() {
+        return this.analyticOption.gamma();
+    }
+
+    @Benchmark
+    public double vega() {
+        return this.analyticOption.vega();
+    }
+
+    @Benchmark
+    public double theta() {
+        return this.analyticOption.theta();
+    }
+
+    @Benchmark
+    public double rho() {
+        return this.analyticOption.rho();
+    }
+
+    @Benchmark
+    public AnalyticOption create() {
+        return create(this.option);
+    }
+
+    @Benchmark
+    public double coldPrice() {
+        return create(this.option).price();
+    }
+
+    @Benchmark
+    public double coldDelta() {
+        return create(this.option).delta();
+    }
+
+    @Benchmark
+    public double coldTheta() {
+        return create(this.option).theta();
+    }
+
+    @Benchmark
+    public double coldPriceAndGreeks() {
+        AnalyticOption analyticOption = create(this.option);
+        return analyticOption.price() + analyticOption.delta() + analyticOption.gamma() + analyticOption.vega() + analyticOption.theta() + analyticOption.rho();
+    }
+
+    /**
+     * Creates the option named by the {@code option} parameter, shared with {@link AnalyticCalculationBenchmark}.
+     */
+    static AnalyticOption create(String option) {
+        switch (option) {
+            case "EUROPEAN_CALL":
+                return AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0.02);
+            case "EUROPEAN_PUT":
+                return AnalyticOptionFactory.createEuropeanPut(42, 40, 0.5, 0.2, 0.1, 0.02);
+            case "BLACK_76_CALL":
+                return AnalyticOptionFactory.createBlack76Call(20, 20, 4d / 12d, 0.25, 0.09);
+            case "BACHELIER_PUT":
+                return AnalyticOptionFactory.createBachelierPut(0.02, 0.015, 2, 0.008, 0.03);
+            default:
+                throw new IllegalArgumentException("unknown option " + option);
+        }
+    }
+}
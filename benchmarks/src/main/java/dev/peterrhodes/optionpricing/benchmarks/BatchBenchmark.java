@@ -0,0 +1,91 @@
+package dev.peterrhodes.optionpricing.benchmarks;
+
+import dev.peterrhodes.optionpricing.BatchPricing;
+import dev.peterrhodes.optionpricing.ImpliedVolatility;
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Batch pricing and implied volatilities of a randomly generated book of European options, reported per option.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+    private static final int SIZE = 10_000;
+    private static final long SEED = 20_211_001L;
+
+    @Param({ "BLACK_SCHOLES_MERTON", "BLACK_76", "BACHELIER" })
+    public EuropeanModel model;
+
+    private final OptionType[] optionTypes = new OptionType[SIZE];
+    private final double[] S = new double[SIZE];
+    private final double[] K = new double[SIZE];
+    private final double[] τ = new double[SIZE];
+    private final double[] σ = new double[SIZE];
+    private final double[] r = new double[SIZE];
+    private final double[] q = new double[SIZE];
+    private final double[] prices = new double[SIZE];
+    private final double[] deltas = new double[SIZE];
+    private final double[] gammas = new double[SIZE];
+    private final double[] vegas = new double[SIZE];
+    private final double[] thetas = new double[SIZE];
+    private final double[] rhos = new double[SIZE];
+    private final double[] marketPrices = new double[SIZE];
+    private final double[] volatilities = new double[SIZE];
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[] lognormalVolatilities = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            this.optionTypes[i] = random.nextBoolean() ? OptionType.CALL : OptionType.PUT;
+            this.S[i] = 100d;
+            this.K[i] = random.nextDouble(70d, 130d);
+            this.τ[i] = random.nextDouble(0.05, 3d);
+            lognormalVolatilities[i] = random.nextDouble(0.1, 0.6);
+            this.σ[i] = this.model == EuropeanModel.BACHELIER ? lognormalVolatilities[i] * this.S[i] : lognormalVolatilities[i];
+            this.r[i] = random.nextDouble(0d, 0.08);
+            this.q[i] = random.nextDouble(0d, 0.04);
+        }
+        BatchPricing.european(EuropeanModel.BLACK_SCHOLES_MERTON, this.optionTypes, this.S, this.K, this.τ, lognormalVolatilities, this.r, this.q, this.marketPrices);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] european() {
+        BatchPricing.european(this.model, this.optionTypes, this.S, this.K, this.τ, this.σ, this.r, this.q, this.prices);
+        return this.prices;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] europeanGreeks() {
+        BatchPricing.europeanGreeks(this.model, this.optionTypes, this.S, this.K, this.τ, this.σ, this.r, this.q, this.prices, this.deltas, this.gammas, this.vegas, this.thetas, this.rhos);
+        return this.rhos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int impliedVolatility() {
+        return ImpliedVolatility.european(this.optionTypes, this.marketPrices, this.S, this.K, this.τ, this.r, this.q, this.volatilities);
+    }
+}
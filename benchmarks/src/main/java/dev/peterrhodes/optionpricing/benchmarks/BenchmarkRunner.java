@@ -0,0 +1,43 @@
+package dev.peterrhodes.optionpricing.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar, which runs JMH with the GC profiler attached and writes the results to {@code jmh-result.json}.
+ * <p>The usual JMH command line options are accepted, e.g.&nbsp;a regular expression to select benchmarks ({@code java -jar target/benchmarks.jar CoxRossRubinstein}) or {@code -p timeSteps=1000} to override a parameter.&nbsp;The GC profiler reports the allocation rate and the bytes allocated per operation ({@code gc.alloc.rate.norm}), which is the number to compare between runs to catch allocation regressions.</p>
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * File the results are written to, in JMH's JSON format.
+     */
+    public static final String RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line options
+     * @throws CommandLineOptionException if the command line options can't be parsed
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(RESULT_FILE)
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,57 @@
+package dev.peterrhodes.optionpricing.benchmarks;
+
+import dev.peterrhodes.optionpricing.internal.utils.CopyUtils;
+import dev.peterrhodes.optionpricing.models.CoxRossRubinstein;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Defensive deep copies made by the calculation models, sized like the lattice nodes of a tree and the steps of an analytic calculation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CopyUtilsBenchmark {
+
+    @Param({ "66", "5151", "501501" }) // nodes in a tree with 10, 100, and 1000 time steps
+    public int size;
+
+    private CoxRossRubinstein.Node[] nodes;
+    private String[][] steps;
+
+    @Setup
+    public void setup() {
+        this.nodes = new CoxRossRubinstein.Node[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.nodes[i] = new CoxRossRubinstein.Node(i, i / 2, 100d + i, i / 100d, i % 2 == 0);
+        }
+
+        this.steps = new String[6][];
+        for (int i = 0; i < this.steps.length; i++) {
+            this.steps[i] = new String[] { "d_1", "\\frac{\\ln(S / K)}{\\sigma \\sqrt{\\tau}}", "0.5365", "0.5365" };
+        }
+    }
+
+    @Benchmark
+    public CoxRossRubinstein.Node[] deepCopyNodes() {
+        return CopyUtils.deepCopy(this.nodes, CoxRossRubinstein.Node.class);
+    }
+
+    @Benchmark
+    public String[][] deepCopySteps() {
+        return CopyUtils.deepCopy(this.steps);
+    }
+}
@@ -0,0 +1,57 @@
+package dev.peterrhodes.optionpricing.benchmarks;
+
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.OptionBuilder;
+import dev.peterrhodes.optionpricing.PricingModel;
+import dev.peterrhodes.optionpricing.PricingModelSelector;
+import dev.peterrhodes.optionpricing.models.CoxRossRubinstein;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Binomial lattice, whose cost grows with the square of the number of time steps, for European and American options.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CoxRossRubinsteinBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int timeSteps;
+
+    @Param({ "true", "false" })
+    public boolean american;
+
+    private PricingModel<CoxRossRubinstein> pricingModel;
+    private Option option;
+
+    @Setup
+    public void setup() {
+        this.pricingModel = PricingModelSelector.coxRossRubinstein(this.timeSteps);
+        OptionBuilder builder = new OptionBuilder(50, 52, 2, 0.3, 0.05, 0.01);
+        this.option = (this.american ? builder.styleAmerican() : builder.styleEuropean()).typePut().build();
+    }
+
+    @Benchmark
+    public double price() {
+        return this.pricingModel.price(this.option);
+    }
+
+    @Benchmark
+    public CoxRossRubinstein calculation() {
+        return this.pricingModel.calculation(this.option);
+    }
+}
@@ -0,0 +1,55 @@
+package dev.peterrhodes.optionpricing.benchmarks;
+
+import dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel;
+import dev.peterrhodes.optionpricing.internal.utils.MathUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Normal distribution functions, which dominate the cost of the analytic formulas.&nbsp;The arguments cover the central region and both tails as the implementations switch approximations between them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MathUtilsBenchmark {
+
+    @Param({ "-6", "-1.5", "0.3", "4" })
+    public double x;
+
+    @Benchmark
+    public double erf() {
+        return MathUtils.erf(this.x);
+    }
+
+    @Benchmark
+    public double erfc() {
+        return MathUtils.erfc(this.x);
+    }
+
+    @Benchmark
+    public double standardNormalCdf() {
+        return MathUtils.standardNormalCdf(this.x);
+    }
+
+    @Benchmark
+    public double standardNormalPdf() {
+        return MathUtils.standardNormalPdf(this.x);
+    }
+
+    @Benchmark
+    public double kernelStandardNormalCdf() {
+        return BlackScholesMertonKernel.N(this.x);
+    }
+}
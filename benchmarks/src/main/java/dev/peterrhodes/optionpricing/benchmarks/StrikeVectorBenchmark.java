@@ -0,0 +1,76 @@
+package dev.peterrhodes.optionpricing.benchmarks;
+
+import dev.peterrhodes.optionpricing.CharacteristicFunction;
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.OptionBuilder;
+import dev.peterrhodes.optionpricing.PricingModelSelector;
+import dev.peterrhodes.optionpricing.StrikeVectorPricingModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Transform pricing models of European options, for a single strike and for a vector of strikes which share the characteristic function evaluations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StrikeVectorBenchmark {
+
+    @Param({ "HESTON", "COS_HESTON", "COS_VARIANCE_GAMMA" })
+    public String model;
+
+    @Param({ "1", "50" })
+    public int strikes;
+
+    private StrikeVectorPricingModel<?> pricingModel;
+    private Option option;
+    private double[] strikePrices;
+
+    @Setup
+    public void setup() {
+        double κ = 1.5768;
+        double θ = 0.0398;
+        double ξ = 0.5751;
+        double ρ = -0.5711;
+        switch (this.model) {
+            case "HESTON":
+                this.pricingModel = PricingModelSelector.heston(κ, θ, ξ, ρ);
+                break;
+            case "COS_HESTON":
+                this.pricingModel = PricingModelSelector.fourierCosine(CharacteristicFunction.heston(κ, θ, ξ, ρ, 0.0175));
+                break;
+            case "COS_VARIANCE_GAMMA":
+                this.pricingModel = PricingModelSelector.fourierCosine(CharacteristicFunction.varianceGamma(0.12, 0.2, -0.14));
+                break;
+            default:
+                throw new IllegalArgumentException("unknown model " + this.model);
+        }
+
+        this.option = new OptionBuilder(100, 100, 1, Math.sqrt(0.0175), 0.02, 0)
+            .styleEuropean()
+            .typeCall()
+            .build();
+        this.strikePrices = new double[this.strikes];
+        for (int i = 0; i < this.strikes; i++) {
+            this.strikePrices[i] = this.strikes == 1 ? 100d : 75d + 50d * i / (this.strikes - 1);
+        }
+    }
+
+    @Benchmark
+    public double[] price() {
+        return this.pricingModel.price(this.option, this.strikePrices);
+    }
+}
@@ -1,7 +1,12 @@
 package dev.peterrhodes.optionpricing;
 
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
 import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.analyticoptions.BachelierOption;
+import dev.peterrhodes.optionpricing.internal.analyticoptions.Black76Option;
 import dev.peterrhodes.optionpricing.internal.analyticoptions.EuropeanOption;
+import dev.peterrhodes.optionpricing.internal.instrumentation.Instrumentation;
 import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
 import java.util.Map;
 
@@ -77,9 +82,185 @@ public interface AnalyticOptionFactory {
         ValidationUtils.checkGreaterThanZero(timeToMaturity, "timeToMaturity");
         ValidationUtils.checkGreaterThanZero(volatility, "volatility");
 
-        return new EuropeanOption(optionType, initialSpotPrice, strikePrice, timeToMaturity, volatility, riskFreeRate, dividendYield);
+        return Instrumentation.instrument(new EuropeanOption(optionType, initialSpotPrice, strikePrice, timeToMaturity, volatility, riskFreeRate, dividendYield), EuropeanOption.MODEL_NAME);
     }
 
     //----------------------------------------------------------------------
     //endregion European
+
+    //region Black-76
+    //----------------------------------------------------------------------
+
+    /**
+     * Creates a European call option on a futures contract, priced with the Black (1976) model.
+     *
+     * @param futuresPrice Futures price of the underlying asset ({@code F > 0}).
+     * @param strikePrice Strike/exercise price of the option ({@code K > 0}).
+     * @param timeToMaturity Time until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param volatility Volatility of the futures price ({@code σ > 0}).
+     * @param riskFreeRate Annualized risk-free interest rate continuously compounded ({@code r}).
+     * @return European call option on a futures contract
+     * @throws NullPointerException if any of the arguments are null
+     * @throws IllegalArgumentException if {@code futuresPrice}, {@code strikePrice}, {@code timeToMaturity}, or {@code volatility} are not greater than zero
+     */
+    static AnalyticOption createBlack76Call(
+        Number futuresPrice,
+        Number strikePrice,
+        Number timeToMaturity,
+        Number volatility,
+        Number riskFreeRate
+    ) throws NullPointerException, IllegalArgumentException {
+        return createBlack76(OptionType.CALL, futuresPrice, strikePrice, timeToMaturity, volatility, riskFreeRate);
+    }
+
+    /**
+     * Creates a European put option on a futures contract, priced with the Black (1976) model.
+     *
+     * @param futuresPrice Futures price of the underlying asset ({@code F > 0}).
+     * @param strikePrice Strike/exercise price of the option ({@code K > 0}).
+     * @param timeToMaturity Time until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param volatility Volatility of the futures price ({@code σ > 0}).
+     * @param riskFreeRate Annualized risk-free interest rate continuously compounded ({@code r}).
+     * @return European put option on a futures contract
+     * @throws NullPointerException if any of the arguments are null
+     * @throws IllegalArgumentException if {@code futuresPrice}, {@code strikePrice}, {@code timeToMaturity}, or {@code volatility} are not greater than zero
+     */
+    static AnalyticOption createBlack76Put(
+        Number futuresPrice,
+        Number strikePrice,
+        Number timeToMaturity,
+        Number volatility,
+        Number riskFreeRate
+    ) throws NullPointerException, IllegalArgumentException {
+        return createBlack76(OptionType.PUT, futuresPrice, strikePrice, timeToMaturity, volatility, riskFreeRate);
+    }
+
+    private static AnalyticOption createBlack76(OptionType optionType, Number futuresPrice, Number strikePrice, Number timeToMaturity, Number volatility, Number riskFreeRate) {
+        ValidationUtils.checkNotNull(Map.ofEntries(
+            Map.entry("optionType", optionType),
+            Map.entry("futuresPrice", futuresPrice),
+            Map.entry("strikePrice", strikePrice),
+            Map.entry("timeToMaturity", timeToMaturity),
+            Map.entry("volatility", volatility),
+            Map.entry("riskFreeRate", riskFreeRate)
+        ));
+
+        ValidationUtils.checkGreaterThanZero(futuresPrice, "futuresPrice");
+        ValidationUtils.checkGreaterThanZero(strikePrice, "strikePrice");
+        ValidationUtils.checkGreaterThanZero(timeToMaturity, "timeToMaturity");
+        ValidationUtils.checkGreaterThanZero(volatility, "volatility");
+
+        return Instrumentation.instrument(new Black76Option(optionType, futuresPrice, strikePrice, timeToMaturity, volatility, riskFreeRate), Black76Option.MODEL_NAME);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion Black-76
+
+    //region Bachelier
+    //----------------------------------------------------------------------
+
+    /**
+     * Creates a European call option priced with the Bachelier (1900) normal model, where the forward price and strike price can be zero or negative, e.g.&nbsp;for rates or spreads.
+     *
+     * @param forwardPrice Forward price of the underlying ({@code F}).
+     * @param strikePrice Strike/exercise price of the option ({@code K}).
+     * @param timeToMaturity Time until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param volatility Normal (absolute) volatility of the forward price ({@code σ > 0}).
+     * @param riskFreeRate Annualized risk-free interest rate continuously compounded ({@code r}).
+     * @return European call option
+     * @throws NullPointerException if any of the arguments are null
+     * @throws IllegalArgumentException if {@code timeToMaturity} or {@code volatility} are not greater than zero
+     */
+    static AnalyticOption createBachelierCall(
+        Number forwardPrice,
+        Number strikePrice,
+        Number timeToMaturity,
+        Number volatility,
+        Number riskFreeRate
+    ) throws NullPointerException, IllegalArgumentException {
+        return createBachelier(OptionType.CALL, forwardPrice, strikePrice, timeToMaturity, volatility, riskFreeRate);
+    }
+
+    /**
+     * Creates a European put option priced with the Bachelier (1900) normal model, where the forward price and strike price can be zero or negative, e.g.&nbsp;for rates or spreads.
+     *
+     * @param forwardPrice Forward price of the underlying ({@code F}).
+     * @param strikePrice Strike/exercise price of the option ({@code K}).
+     * @param timeToMaturity Time until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param volatility Normal (absolute) volatility of the forward price ({@code σ > 0}).
+     * @param riskFreeRate Annualized risk-free interest rate continuously compounded ({@code r}).
+     * @return European put option
+     * @throws NullPointerException if any of the arguments are null
+     * @throws IllegalArgumentException if {@code timeToMaturity} or {@code volatility} are not greater than zero
+     */
+    static AnalyticOption createBachelierPut(
+        Number forwardPrice,
+        Number strikePrice,
+        Number timeToMaturity,
+        Number volatility,
+        Number riskFreeRate
+    ) throws NullPointerException, IllegalArgumentException {
+        return createBachelier(OptionType.PUT, forwardPrice, strikePrice, timeToMaturity, volatility, riskFreeRate);
+    }
+
+    private static AnalyticOption createBachelier(OptionType optionType, Number forwardPrice, Number strikePrice, Number timeToMaturity, Number volatility, Number riskFreeRate) {
+        ValidationUtils.checkNotNull(Map.ofEntries(
+            Map.entry("optionType", optionType),
+            Map.entry("forwardPrice", forwardPrice),
+            Map.entry("strikePrice", strikePrice),
+            Map.entry("timeToMaturity", timeToMaturity),
+            Map.entry("volatility", volatility),
+            Map.entry("riskFreeRate", riskFreeRate)
+        ));
+
+        ValidationUtils.checkGreaterThanZero(timeToMaturity, "timeToMaturity");
+        ValidationUtils.checkGreaterThanZero(volatility, "volatility");
+
+        return Instrumentation.instrument(new BachelierOption(optionType, forwardPrice, strikePrice, timeToMaturity, volatility, riskFreeRate), BachelierOption.MODEL_NAME);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion Bachelier
+
+    //region spec
+    //----------------------------------------------------------------------
+
+    /**
+     * Creates a vanilla European option priced with the Black-Scholes-Merton model from an option spec, whose parameters have already been validated.
+     *
+     * @param spec European option spec
+     * @return European option
+     * @throws NullPointerException if {@code spec} is null
+     * @throws IllegalArgumentException if {@code spec} isn't European style
+     */
+    static AnalyticOption create(OptionSpec spec) throws NullPointerException, IllegalArgumentException {
+        return create(EuropeanModel.BLACK_SCHOLES_MERTON, spec);
+    }
+
+    /**
+     * Creates a European option priced with an analytic model from an option spec, whose parameters have already been validated, so they're passed to the option without boxing or validating them again.&nbsp;The spec's parameters are interpreted as described by {@link EuropeanModel}, e.g.&nbsp;the initial spot price is the futures price for {@link EuropeanModel#BLACK_76}.
+     *
+     * @param model analytic model
+     * @param spec European option spec
+     * @return European option
+     * @throws NullPointerException if {@code model} or {@code spec} is null
+     * @throws IllegalArgumentException if {@code spec} isn't European style
+     */
+    static AnalyticOption create(EuropeanModel model, OptionSpec spec) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(model, "model");
+        ValidationUtils.checkNotNull(spec, "spec");
+        if (spec.optionStyle() != OptionStyle.EUROPEAN) {
+            throw new IllegalArgumentException("spec must be European style");
+        }
+
+        if (model == EuropeanModel.BLACK_76) {
+            return Instrumentation.instrument(Black76Option.from(spec), Black76Option.MODEL_NAME);
+        } else if (model == EuropeanModel.BACHELIER) {
+            return Instrumentation.instrument(BachelierOption.from(spec), BachelierOption.MODEL_NAME);
+        }
+        return Instrumentation.instrument(EuropeanOption.from(spec), EuropeanOption.MODEL_NAME);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion spec
 }
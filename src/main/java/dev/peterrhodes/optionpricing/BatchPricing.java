@@ -0,0 +1,396 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.analyticoptions.BachelierOption;
+import dev.peterrhodes.optionpricing.internal.analyticoptions.Black76Option;
+import dev.peterrhodes.optionpricing.internal.analyticoptions.EuropeanOption;
+import dev.peterrhodes.optionpricing.internal.instrumentation.BatchPricingEvent;
+import dev.peterrhodes.optionpricing.internal.kernels.BachelierKernel;
+import dev.peterrhodes.optionpricing.internal.kernels.Black76Kernel;
+import dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Prices arrays of options with primitive double precision kernels, i.e.&nbsp;without creating an {@link AnalyticOption} per option.&nbsp;The arrays are indexed by option and the inputs aren't validated, so an invalid option has a {@link Double#NaN} result.
+ * <p>The buffer overloads take the same columns as buffers, e.g.&nbsp;direct buffers filled by a market data feed or views of a memory-mapped file, so they're priced without being copied onto the heap.&nbsp;Each column starts at its buffer's position and has one element per option, i.e.&nbsp;option {@code i} is at {@code position() + i}, and the number of options is the {@code remaining()} elements of the option types buffer.&nbsp;The option types are a byte per option, {@link #CALL} or {@link #PUT} (the {@link OptionType#ordinal()}), any other value having a {@link Double#NaN} result; the other columns are doubles in the byte order of their {@link DoubleBuffer}, e.g.&nbsp;{@code byteBuffer.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer()}.&nbsp;The positions and limits of the buffers aren't changed.</p>
+ */
+public interface BatchPricing {
+
+    /**
+     * Option type byte of a call in an option types buffer.
+     */
+    byte CALL = (byte) 0;
+
+    /**
+     * Option type byte of a put in an option types buffer.
+     */
+    byte PUT = (byte) 1;
+
+    /**
+     * Calculates the prices of European options.
+     *
+     * @param model Analytic model, see {@link EuropeanModel} for how the inputs are interpreted.
+     * @param optionTypes Option types (call or put).
+     * @param initialSpotPrices Initial prices of the underlying assets, or the futures/forward prices.
+     * @param strikePrices Strike/exercise prices of the options.
+     * @param timesToMaturity Times until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param volatilities Underlying volatilities ({@code σ > 0}).
+     * @param riskFreeRates Annualized risk-free interest rates continuously compounded ({@code r}).
+     * @param dividendYields Annual dividend yields continuously compounded ({@code q}), ignored by Black-76 and Bachelier.
+     * @param prices Output array for the option prices.
+     * @throws NullPointerException if {@code model} or any of the arrays are null
+     * @throws IllegalArgumentException if the arrays aren't all the same length
+     */
+    static void european(
+        EuropeanModel model,
+        OptionType[] optionTypes,
+        double[] initialSpotPrices,
+        double[] strikePrices,
+        double[] timesToMaturity,
+        double[] volatilities,
+        double[] riskFreeRates,
+        double[] dividendYields,
+        double[] prices
+    ) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(model, "model");
+        ValidationUtils.checkNotNull(prices, "prices");
+        checkBatch(optionTypes, initialSpotPrices, strikePrices, timesToMaturity, volatilities, riskFreeRates, dividendYields, prices.length);
+
+        BatchPricingEvent event = BatchPricingEvent.start();
+        for (int i = 0; i < optionTypes.length; i++) {
+            boolean isCall = optionTypes[i] == OptionType.CALL;
+            double S = initialSpotPrices[i];
+            double K = strikePrices[i];
+            double τ = timesToMaturity[i];
+            double σ = volatilities[i];
+            double r = riskFreeRates[i];
+
+            if (optionTypes[i] == null) {
+                prices[i] = Double.NaN;
+            } else if (model == EuropeanModel.BLACK_76) {
+                prices[i] = Black76Kernel.price(isCall, S, K, τ, σ, r);
+            } else if (model == EuropeanModel.BACHELIER) {
+                prices[i] = BachelierKernel.price(isCall, S, K, τ, σ, r);
+            } else {
+                prices[i] = BlackScholesMertonKernel.price(isCall, S, K, τ, σ, r, dividendYields[i]);
+            }
+        }
+        event.finish(modelName(model), "european", optionTypes.length);
+    }
+
+    /**
+     * Calculates the prices of European options whose columns are stored in buffers, see the {@link BatchPricing} buffer layout.
+     *
+     * @param model Analytic model, see {@link EuropeanModel} for how the inputs are interpreted.
+     * @param optionTypes Option types, {@link #CALL} or {@link #PUT}.
+     * @param initialSpotPrices Initial prices of the underlying assets, or the futures/forward prices.
+     * @param strikePrices Strike/exercise prices of the options.
+     * @param timesToMaturity Times until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param volatilities Underlying volatilities ({@code σ > 0}).
+     * @param riskFreeRates Annualized risk-free interest rates continuously compounded ({@code r}).
+     * @param dividendYields Annual dividend yields continuously compounded ({@code q}), ignored by Black-76 and Bachelier.
+     * @param prices Output buffer for the option prices.
+     * @throws NullPointerException if {@code model} or any of the buffers are null
+     * @throws IllegalArgumentException if the buffers don't all have the same number of remaining elements, or {@code prices} is read-only
+     */
+    static void european(
+        EuropeanModel model,
+        ByteBuffer optionTypes,
+        DoubleBuffer initialSpotPrices,
+        DoubleBuffer strikePrices,
+        DoubleBuffer timesToMaturity,
+        DoubleBuffer volatilities,
+        DoubleBuffer riskFreeRates,
+        DoubleBuffer dividendYields,
+        DoubleBuffer prices
+    ) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(model, "model");
+        checkOutput(prices, "prices");
+        checkBatch(optionTypes, initialSpotPrices, strikePrices, timesToMaturity, volatilities, riskFreeRates, dividendYields, prices.remaining());
+
+        BatchPricingEvent event = BatchPricingEvent.start();
+        int n = optionTypes.remaining();
+        // slices index each column from its position without moving it
+        ByteBuffer types = optionTypes.slice();
+        DoubleBuffer spotColumn = initialSpotPrices.slice();
+        DoubleBuffer strikeColumn = strikePrices.slice();
+        DoubleBuffer τColumn = timesToMaturity.slice();
+        DoubleBuffer σColumn = volatilities.slice();
+        DoubleBuffer rColumn = riskFreeRates.slice();
+        DoubleBuffer qColumn = dividendYields.slice();
+        DoubleBuffer priceColumn = prices.slice();
+        for (int i = 0; i < n; i++) {
+            byte optionType = types.get(i);
+            boolean isCall = optionType == CALL;
+            double S = spotColumn.get(i);
+            double K = strikeColumn.get(i);
+            double τ = τColumn.get(i);
+            double σ = σColumn.get(i);
+            double r = rColumn.get(i);
+
+            double price;
+            if (optionType != CALL && optionType != PUT) {
+                price = Double.NaN;
+            } else if (model == EuropeanModel.BLACK_76) {
+                price = Black76Kernel.price(isCall, S, K, τ, σ, r);
+            } else if (model == EuropeanModel.BACHELIER) {
+                price = BachelierKernel.price(isCall, S, K, τ, σ, r);
+            } else {
+                price = BlackScholesMertonKernel.price(isCall, S, K, τ, σ, r, qColumn.get(i));
+            }
+            priceColumn.put(i, price);
+        }
+        event.finish(modelName(model), "european", n);
+    }
+
+    /**
+     * Calculates the prices and Greeks of European options, each option's values are computed together so the work shared between them (e.g.&nbsp;{@code d₁}, {@code d₂}, and the discount factors) is only done once.
+     *
+     * @param model Analytic model, see {@link EuropeanModel} for how the inputs are interpreted.
+     * @param optionTypes Option types (call or put).
+     * @param initialSpotPrices Initial prices of the underlying assets, or the futures/forward prices.
+     * @param strikePrices Strike/exercise prices of the options.
+     * @param timesToMaturity Times until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param volatilities Underlying volatilities ({@code σ > 0}).
+     * @param riskFreeRates Annualized risk-free interest rates continuously compounded ({@code r}).
+     * @param dividendYields Annual dividend yields continuously compounded ({@code q}), ignored by Black-76 and Bachelier.
+     * @param prices Output array for the option prices.
+     * @param deltas Output array for the deltas (Δ).
+     * @param gammas Output array for the gammas (Γ).
+     * @param vegas Output array for the vegas.
+     * @param thetas Output array for the thetas (Θ).
+     * @param rhos Output array for the rhos (ρ).
+     * @throws NullPointerException if {@code model} or any of the arrays are null
+     * @throws IllegalArgumentException if the arrays aren't all the same length
+     */
+    static void europeanGreeks(
+        EuropeanModel model,
+        OptionType[] optionTypes,
+        double[] initialSpotPrices,
+        double[] strikePrices,
+        double[] timesToMaturity,
+        double[] volatilities,
+        double[] riskFreeRates,
+        double[] dividendYields,
+        double[] prices,
+        double[] deltas,
+        double[] gammas,
+        double[] vegas,
+        double[] thetas,
+        double[] rhos
+    ) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(model, "model");
+        ValidationUtils.checkNotNull(prices, "prices");
+        ValidationUtils.checkNotNull(deltas, "deltas");
+        ValidationUtils.checkNotNull(gammas, "gammas");
+        ValidationUtils.checkNotNull(vegas, "vegas");
+        ValidationUtils.checkNotNull(thetas, "thetas");
+        ValidationUtils.checkNotNull(rhos, "rhos");
+        int n = prices.length;
+        if (deltas.length != n || gammas.length != n || vegas.length != n || thetas.length != n || rhos.length != n) {
+            throw new IllegalArgumentException("arrays must all be the same length");
+        }
+        checkBatch(optionTypes, initialSpotPrices, strikePrices, timesToMaturity, volatilities, riskFreeRates, dividendYields, n);
+
+        BatchPricingEvent event = BatchPricingEvent.start();
+        double[] result = new double[6];
+        for (int i = 0; i < optionTypes.length; i++) {
+            boolean isCall = optionTypes[i] == OptionType.CALL;
+            double S = initialSpotPrices[i];
+            double K = strikePrices[i];
+            double τ = timesToMaturity[i];
+            double σ = volatilities[i];
+            double r = riskFreeRates[i];
+
+            if (optionTypes[i] == null) {
+                Arrays.fill(result, Double.NaN);
+            } else if (model == EuropeanModel.BLACK_76) {
+                Black76Kernel.greeks(isCall, S, K, τ, σ, r, result);
+            } else if (model == EuropeanModel.BACHELIER) {
+                BachelierKernel.greeks(isCall, S, K, τ, σ, r, result);
+            } else {
+                BlackScholesMertonKernel.greeks(isCall, S, K, τ, σ, r, dividendYields[i], result);
+            }
+
+            prices[i] = result[0];
+            deltas[i] = result[1];
+            gammas[i] = result[2];
+            vegas[i] = result[3];
+            thetas[i] = result[4];
+            rhos[i] = result[5];
+        }
+        event.finish(modelName(model), "europeanGreeks", optionTypes.length);
+    }
+
+    /**
+     * Calculates the prices and Greeks of European options whose columns are stored in buffers, see the {@link BatchPricing} buffer layout and {@link #europeanGreeks(EuropeanModel, OptionType[], double[], double[], double[], double[], double[], double[], double[], double[], double[], double[], double[], double[])}.
+     *
+     * @param model Analytic model, see {@link EuropeanModel} for how the inputs are interpreted.
+     * @param optionTypes Option types, {@link #CALL} or {@link #PUT}.
+     * @param initialSpotPrices Initial prices of the underlying assets, or the futures/forward prices.
+     * @param strikePrices Strike/exercise prices of the options.
+     * @param timesToMaturity Times until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param volatilities Underlying volatilities ({@code σ > 0}).
+     * @param riskFreeRates Annualized risk-free interest rates continuously compounded ({@code r}).
+     * @param dividendYields Annual dividend yields continuously compounded ({@code q}), ignored by Black-76 and Bachelier.
+     * @param prices Output buffer for the option prices.
+     * @param deltas Output buffer for the deltas (Δ).
+     * @param gammas Output buffer for the gammas (Γ).
+     * @param vegas Output buffer for the vegas.
+     * @param thetas Output buffer for the thetas (Θ).
+     * @param rhos Output buffer for the rhos (ρ).
+     * @throws NullPointerException if {@code model} or any of the buffers are null
+     * @throws IllegalArgumentException if the buffers don't all have the same number of remaining elements, or any of the output buffers are read-only
+     */
+    static void europeanGreeks(
+        EuropeanModel model,
+        ByteBuffer optionTypes,
+        DoubleBuffer initialSpotPrices,
+        DoubleBuffer strikePrices,
+        DoubleBuffer timesToMaturity,
+        DoubleBuffer volatilities,
+        DoubleBuffer riskFreeRates,
+        DoubleBuffer dividendYields,
+        DoubleBuffer prices,
+        DoubleBuffer deltas,
+        DoubleBuffer gammas,
+        DoubleBuffer vegas,
+        DoubleBuffer thetas,
+        DoubleBuffer rhos
+    ) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(model, "model");
+        checkOutput(prices, "prices");
+        checkOutput(deltas, "deltas");
+        checkOutput(gammas, "gammas");
+        checkOutput(vegas, "vegas");
+        checkOutput(thetas, "thetas");
+        checkOutput(rhos, "rhos");
+        int n = prices.remaining();
+        if (deltas.remaining() != n || gammas.remaining() != n || vegas.remaining() != n || thetas.remaining() != n || rhos.remaining() != n) {
+            throw new IllegalArgumentException("buffers must all have the same number of remaining elements");
+        }
+        checkBatch(optionTypes, initialSpotPrices, strikePrices, timesToMaturity, volatilities, riskFreeRates, dividendYields, n);
+
+        BatchPricingEvent event = BatchPricingEvent.start();
+        // slices index each column from its position without moving it
+        ByteBuffer types = optionTypes.slice();
+        DoubleBuffer spotColumn = initialSpotPrices.slice();
+        DoubleBuffer strikeColumn = strikePrices.slice();
+        DoubleBuffer τColumn = timesToMaturity.slice();
+        DoubleBuffer σColumn = volatilities.slice();
+        DoubleBuffer rColumn = riskFreeRates.slice();
+        DoubleBuffer qColumn = dividendYields.slice();
+        DoubleBuffer priceColumn = prices.slice();
+        DoubleBuffer deltaColumn = deltas.slice();
+        DoubleBuffer gammaColumn = gammas.slice();
+        DoubleBuffer vegaColumn = vegas.slice();
+        DoubleBuffer thetaColumn = thetas.slice();
+        DoubleBuffer ρColumn = rhos.slice();
+        double[] result = new double[6];
+        for (int i = 0; i < n; i++) {
+            byte optionType = types.get(i);
+            boolean isCall = optionType == CALL;
+            double S = spotColumn.get(i);
+            double K = strikeColumn.get(i);
+            double τ = τColumn.get(i);
+            double σ = σColumn.get(i);
+            double r = rColumn.get(i);
+
+            if (optionType != CALL && optionType != PUT) {
+                Arrays.fill(result, Double.NaN);
+            } else if (model == EuropeanModel.BLACK_76) {
+                Black76Kernel.greeks(isCall, S, K, τ, σ, r, result);
+            } else if (model == EuropeanModel.BACHELIER) {
+                BachelierKernel.greeks(isCall, S, K, τ, σ, r, result);
+            } else {
+                BlackScholesMertonKernel.greeks(isCall, S, K, τ, σ, r, qColumn.get(i), result);
+            }
+
+            priceColumn.put(i, result[0]);
+            deltaColumn.put(i, result[1]);
+            gammaColumn.put(i, result[2]);
+            vegaColumn.put(i, result[3]);
+            thetaColumn.put(i, result[4]);
+            ρColumn.put(i, result[5]);
+        }
+        event.finish(modelName(model), "europeanGreeks", n);
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private static String modelName(EuropeanModel model) {
+        switch (model) {
+            case BLACK_76:
+                return Black76Option.MODEL_NAME;
+            case BACHELIER:
+                return BachelierOption.MODEL_NAME;
+            default:
+                return EuropeanOption.MODEL_NAME;
+        }
+    }
+
+    private static void checkBatch(
+        OptionType[] optionTypes,
+        double[] initialSpotPrices,
+        double[] strikePrices,
+        double[] timesToMaturity,
+        double[] volatilities,
+        double[] riskFreeRates,
+        double[] dividendYields,
+        int outputLength
+    ) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(optionTypes, "optionTypes");
+        ValidationUtils.checkNotNull(initialSpotPrices, "initialSpotPrices");
+        ValidationUtils.checkNotNull(strikePrices, "strikePrices");
+        ValidationUtils.checkNotNull(timesToMaturity, "timesToMaturity");
+        ValidationUtils.checkNotNull(volatilities, "volatilities");
+        ValidationUtils.checkNotNull(riskFreeRates, "riskFreeRates");
+        ValidationUtils.checkNotNull(dividendYields, "dividendYields");
+
+        int n = optionTypes.length;
+        if (initialSpotPrices.length != n || strikePrices.length != n || timesToMaturity.length != n || volatilities.length != n
+            || riskFreeRates.length != n || dividendYields.length != n || outputLength != n) {
+            throw new IllegalArgumentException("arrays must all be the same length");
+        }
+    }
+
+    private static void checkBatch(
+        ByteBuffer optionTypes,
+        DoubleBuffer initialSpotPrices,
+        DoubleBuffer strikePrices,
+        DoubleBuffer timesToMaturity,
+        DoubleBuffer volatilities,
+        DoubleBuffer riskFreeRates,
+        DoubleBuffer dividendYields,
+        int outputLength
+    ) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(optionTypes, "optionTypes");
+        ValidationUtils.checkNotNull(initialSpotPrices, "initialSpotPrices");
+        ValidationUtils.checkNotNull(strikePrices, "strikePrices");
+        ValidationUtils.checkNotNull(timesToMaturity, "timesToMaturity");
+        ValidationUtils.checkNotNull(volatilities, "volatilities");
+        ValidationUtils.checkNotNull(riskFreeRates, "riskFreeRates");
+        ValidationUtils.checkNotNull(dividendYields, "dividendYields");
+
+        int n = optionTypes.remaining();
+        if (initialSpotPrices.remaining() != n || strikePrices.remaining() != n || timesToMaturity.remaining() != n || volatilities.remaining() != n
+            || riskFreeRates.remaining() != n || dividendYields.remaining() != n || outputLength != n) {
+            throw new IllegalArgumentException("buffers must all have the same number of remaining elements");
+        }
+    }
+
+    private static void checkOutput(DoubleBuffer buffer, String name) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(buffer, name);
+        if (buffer.isReadOnly()) {
+            throw new IllegalArgumentException(name + " must not be read-only");
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -0,0 +1,594 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import dev.peterrhodes.optionpricing.models.CoxRossRubinstein;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compact binary format for persisting calculations, e.g.&nbsp;for an audit trail.
+ * <p>Each encoding starts with an 8 byte header: a 4 byte magic number, a version byte, a flags byte and 2 reserved bytes, and all the values are little-endian.</p>
+ * <p>A {@link CoxRossRubinstein} calculation is encoded as its parameters followed by columns of its nodes, i.e.&nbsp;the exercised flags as a bitmap of longs, then the asset prices, then the option values.&nbsp;The node indices aren't written when the nodes are in the order of the pricing model (by time step, then from the lowest asset price), and the price and value columns can optionally be delta encoded.&nbsp;A {@link CoxRossRubinsteinView} reads the columns in place from a buffer, e.g.&nbsp;one mapped from a file, without copying them unless they're delta encoded.</p>
+ * <p>An {@link AnalyticCalculation} is encoded as a table of the offsets of its steps followed by the UTF-8 parts of each step, and read back as a calculation whose steps are decoded from the buffer the first time they're read.</p>
+ */
+public interface CalculationCodec {
+
+    /**
+     * Version of the format written.
+     */
+    byte VERSION = 1;
+
+    /**
+     * Magic number of an encoded {@link CoxRossRubinstein} calculation, the bytes {@code OPCR}.
+     */
+    int COX_ROSS_RUBINSTEIN_MAGIC = 'O' | 'P' << 8 | 'C' << 16 | 'R' << 24;
+
+    /**
+     * Magic number of an encoded {@link AnalyticCalculation}, the bytes {@code OPAC}.
+     */
+    int ANALYTIC_CALCULATION_MAGIC = 'O' | 'P' << 8 | 'A' << 16 | 'C' << 24;
+
+    /**
+     * Flag of a {@link CoxRossRubinstein} encoding whose asset price and option value columns are delta encoded, i.e.&nbsp;each value's bits are XORed with the previous value's bits and written as an unsigned LEB128 varint.
+     */
+    byte FLAG_DELTA_ENCODED = 1;
+
+    /**
+     * Flag of a {@link CoxRossRubinstein} encoding with time step and asset price index columns, because the nodes aren't in the order of the pricing model.
+     */
+    byte FLAG_INDEXED = 2;
+
+    //region CoxRossRubinstein
+    //----------------------------------------------------------------------
+
+    /**
+     * Encodes a Cox, Ross, and Rubinstein calculation into a new heap buffer, ready to be read.
+     *
+     * @param calculation calculation
+     * @param deltaEncoded whether to delta encode the asset price and option value columns, which is smaller when neighbouring values share their high bits but can't be read without copying
+     * @return little-endian buffer of the encoding
+     * @throws NullPointerException if {@code calculation} is null
+     */
+    static ByteBuffer encodeCoxRossRubinstein(CoxRossRubinstein calculation, boolean deltaEncoded) throws NullPointerException {
+        ValidationUtils.checkNotNull(calculation, "calculation");
+
+        CoxRossRubinstein.Node[] nodes = calculation.getNodes();
+        byte[] deltas = deltaEncoded ? deltaEncode(nodes) : null;
+        boolean indexed = !isCanonical(nodes);
+        int n = nodes.length;
+        int size = 48 + 8 * ((n + 63) / 64) + (indexed ? 8 * n : 0) + (deltaEncoded ? deltas.length : 16 * n);
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(COX_ROSS_RUBINSTEIN_MAGIC)
+            .put(VERSION)
+            .put((byte) ((deltaEncoded ? FLAG_DELTA_ENCODED : 0) | (indexed ? FLAG_INDEXED : 0)))
+            .putShort((short) 0)
+            .putInt(calculation.getTimeSteps())
+            .putInt(n)
+            .putDouble(calculation.getDeltat())
+            .putDouble(calculation.getU())
+            .putDouble(calculation.getD())
+            .putDouble(calculation.getP());
+
+        for (int first = 0; first < n; first += 64) {
+            long bits = 0L;
+            for (int k = first; k < Math.min(n, first + 64); k++) {
+                if (nodes[k].getExercised()) {
+                    bits |= 1L << (k - first);
+                }
+            }
+            buffer.putLong(bits);
+        }
+        if (indexed) {
+            for (CoxRossRubinstein.Node node : nodes) {
+                buffer.putInt(node.getI());
+            }
+            for (CoxRossRubinstein.Node node : nodes) {
+                buffer.putInt(node.getJ());
+            }
+        }
+        if (deltaEncoded) {
+            buffer.put(deltas);
+        } else {
+            for (CoxRossRubinstein.Node node : nodes) {
+                buffer.putDouble(node.getS());
+            }
+            for (CoxRossRubinstein.Node node : nodes) {
+                buffer.putDouble(node.getV());
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Writes the encoding of a Cox, Ross, and Rubinstein calculation at the position of a buffer, advancing the position past it.
+     *
+     * @param calculation calculation
+     * @param deltaEncoded whether to delta encode the asset price and option value columns
+     * @param buffer buffer to write to, its byte order is ignored
+     * @return number of bytes written
+     * @throws NullPointerException if any of the arguments are null
+     * @throws java.nio.BufferOverflowException if the encoding doesn't fit in the remaining bytes of the buffer
+     */
+    static int writeCoxRossRubinstein(CoxRossRubinstein calculation, boolean deltaEncoded, ByteBuffer buffer) throws NullPointerException {
+        ValidationUtils.checkNotNull(buffer, "buffer");
+        ByteBuffer encoding = encodeCoxRossRubinstein(calculation, deltaEncoded);
+        int size = encoding.remaining();
+        buffer.put(encoding);
+        return size;
+    }
+
+    /**
+     * Writes the encoding of a Cox, Ross, and Rubinstein calculation to a channel, e.g.&nbsp;a {@link FileChannel}.
+     *
+     * @param calculation calculation
+     * @param deltaEncoded whether to delta encode the asset price and option value columns
+     * @param channel channel to write to
+     * @return number of bytes written
+     * @throws NullPointerException if any of the arguments are null
+     * @throws IOException if the channel throws an {@link IOException}
+     */
+    static int writeCoxRossRubinstein(CoxRossRubinstein calculation, boolean deltaEncoded, WritableByteChannel channel) throws NullPointerException, IOException {
+        ValidationUtils.checkNotNull(channel, "channel");
+        return writeFully(encodeCoxRossRubinstein(calculation, deltaEncoded), channel);
+    }
+
+    /**
+     * Returns a view of the Cox, Ross, and Rubinstein calculation encoded at the position of a buffer, advancing the position past it.&nbsp;The view shares the buffer's content, so the buffer mustn't be changed while the view is used.
+     *
+     * @param buffer buffer to read from, its byte order is ignored
+     * @return view of the calculation
+     * @throws NullPointerException if {@code buffer} is null
+     * @throws IllegalArgumentException if the buffer doesn't contain an encoded calculation of a supported version
+     */
+    static CoxRossRubinsteinView readCoxRossRubinstein(ByteBuffer buffer) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(buffer, "buffer");
+        CoxRossRubinsteinView view = new CoxRossRubinsteinView(buffer.slice().order(ByteOrder.LITTLE_ENDIAN));
+        buffer.position(buffer.position() + view.size);
+        return view;
+    }
+
+    /**
+     * Returns a view of the Cox, Ross, and Rubinstein calculation encoded at a position of a file, which is mapped into memory rather than read.
+     *
+     * @param channel file to read from
+     * @param position position of the encoding in the file
+     * @return view of the calculation
+     * @throws NullPointerException if {@code channel} is null
+     * @throws IllegalArgumentException if the file doesn't contain an encoded calculation of a supported version at the position
+     * @throws IOException if the file can't be mapped
+     */
+    static CoxRossRubinsteinView readCoxRossRubinstein(FileChannel channel, long position) throws NullPointerException, IllegalArgumentException, IOException {
+        ValidationUtils.checkNotNull(channel, "channel");
+        return readCoxRossRubinstein(channel.map(FileChannel.MapMode.READ_ONLY, position, channel.size() - position));
+    }
+
+    /**
+     * Read-only view of an encoded Cox, Ross, and Rubinstein calculation, indexed by the position of the nodes in the encoding.
+     */
+    final class CoxRossRubinsteinView {
+
+        private final int size;
+        private final int timeSteps;
+        private final int nodeCount;
+        private final double deltat;
+        private final double u;
+        private final double d;
+        private final double p;
+        private final LongBuffer exercised;
+        private final IntBuffer i;
+        private final IntBuffer j;
+        private final DoubleBuffer S;
+        private final DoubleBuffer V;
+
+        private CoxRossRubinsteinView(ByteBuffer buffer) {
+            final byte flags = checkHeader(buffer, COX_ROSS_RUBINSTEIN_MAGIC, "CoxRossRubinstein");
+            this.timeSteps = buffer.getInt(8);
+            this.nodeCount = buffer.getInt(12);
+            this.deltat = buffer.getDouble(16);
+            this.u = buffer.getDouble(24);
+            this.d = buffer.getDouble(32);
+            this.p = buffer.getDouble(40);
+            if (this.nodeCount < 0) {
+                throw new IllegalArgumentException("buffer doesn't contain an encoded CoxRossRubinstein calculation");
+            }
+
+            int n = this.nodeCount;
+            int offset = 48;
+            this.exercised = column(buffer, offset, 8 * ((n + 63) / 64)).asLongBuffer();
+            offset += 8 * ((n + 63) / 64);
+            if ((flags & FLAG_INDEXED) != 0) {
+                this.i = column(buffer, offset, 4 * n).asIntBuffer();
+                this.j = column(buffer, offset + 4 * n, 4 * n).asIntBuffer();
+                offset += 8 * n;
+            } else {
+                this.i = null;
+                this.j = null;
+            }
+            if ((flags & FLAG_DELTA_ENCODED) != 0) {
+                double[] S = new double[n];
+                double[] V = new double[n];
+                ByteBuffer deltas = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).position(offset);
+                deltaDecode(deltas, S);
+                deltaDecode(deltas, V);
+                this.S = DoubleBuffer.wrap(S).asReadOnlyBuffer();
+                this.V = DoubleBuffer.wrap(V).asReadOnlyBuffer();
+                this.size = deltas.position();
+            } else {
+                this.S = column(buffer, offset, 8 * n).asDoubleBuffer();
+                this.V = column(buffer, offset + 8 * n, 8 * n).asDoubleBuffer();
+                this.size = offset + 16 * n;
+            }
+        }
+
+        //region getters
+        //----------------------------------------------------------------------
+
+        /**
+         * Get timeSteps.
+         *
+         * @return timeSteps
+         */
+        public int getTimeSteps() {
+            return this.timeSteps;
+        }
+
+        /**
+         * Get deltat.
+         *
+         * @return deltat
+         */
+        public double getDeltat() {
+            return this.deltat;
+        }
+
+        /**
+         * Get u.
+         *
+         * @return u
+         */
+        public double getU() {
+            return this.u;
+        }
+
+        /**
+         * Get d.
+         *
+         * @return d
+         */
+        public double getD() {
+            return this.d;
+        }
+
+        /**
+         * Get p.
+         *
+         * @return p
+         */
+        public double getP() {
+            return this.p;
+        }
+
+        /**
+         * Get nodeCount.
+         *
+         * @return number of nodes
+         */
+        public int getNodeCount() {
+            return this.nodeCount;
+        }
+
+        /**
+         * Returns the time step position of a node.
+         *
+         * @param k index of the node
+         * @return i
+         * @throws IndexOutOfBoundsException if {@code k} isn't the index of a node
+         */
+        public int getI(int k) throws IndexOutOfBoundsException {
+            if (this.i != null) {
+                return this.i.get(k);
+            }
+            checkIndex(k);
+            int i = (int) ((Math.sqrt(8d * k + 1d) - 1d) / 2d);
+            // Corrects the rounding of the square root, k is between the first nodes of time steps i and i + 1
+            while ((long) i * (i + 1) / 2 > k) {
+                i--;
+            }
+            while ((long) (i + 1) * (i + 2) / 2 <= k) {
+                i++;
+            }
+            return i;
+        }
+
+        /**
+         * Returns the asset price position of a node.
+         *
+         * @param k index of the node
+         * @return j
+         * @throws IndexOutOfBoundsException if {@code k} isn't the index of a node
+         */
+        public int getJ(int k) throws IndexOutOfBoundsException {
+            if (this.j != null) {
+                return this.j.get(k);
+            }
+            int i = this.getI(k);
+            return (int) (k - (long) i * (i + 1) / 2);
+        }
+
+        /**
+         * Returns the asset price at a node.
+         *
+         * @param k index of the node
+         * @return S
+         * @throws IndexOutOfBoundsException if {@code k} isn't the index of a node
+         */
+        public double getS(int k) throws IndexOutOfBoundsException {
+            return this.S.get(k);
+        }
+
+        /**
+         * Returns the option value at a node.
+         *
+         * @param k index of the node
+         * @return V
+         * @throws IndexOutOfBoundsException if {@code k} isn't the index of a node
+         */
+        public double getV(int k) throws IndexOutOfBoundsException {
+            return this.V.get(k);
+        }
+
+        /**
+         * Returns whether the option was exercised at a node.
+         *
+         * @param k index of the node
+         * @return exercised
+         * @throws IndexOutOfBoundsException if {@code k} isn't the index of a node
+         */
+        public boolean getExercised(int k) throws IndexOutOfBoundsException {
+            checkIndex(k);
+            return (this.exercised.get(k >>> 6) & (1L << k)) != 0L;
+        }
+
+        //----------------------------------------------------------------------
+        //endregion getters
+
+        /**
+         * Copies the view into a calculation model.
+         *
+         * @return calculation
+         */
+        public CoxRossRubinstein toCoxRossRubinstein() {
+            CoxRossRubinstein.Node[] nodes = new CoxRossRubinstein.Node[this.nodeCount];
+            for (int k = 0; k < nodes.length; k++) {
+                nodes[k] = new CoxRossRubinstein.Node(this.getI(k), this.getJ(k), this.getS(k), this.getV(k), this.getExercised(k));
+            }
+            return new CoxRossRubinstein(this.timeSteps, this.deltat, this.u, this.d, this.p, nodes);
+        }
+
+        private void checkIndex(int k) {
+            if (k < 0 || k >= this.nodeCount) {
+                throw new IndexOutOfBoundsException("k must be the index of a node");
+            }
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion CoxRossRubinstein
+
+    //region AnalyticCalculation
+    //----------------------------------------------------------------------
+
+    /**
+     * Encodes an analytic calculation into a new heap buffer, ready to be read.
+     *
+     * @param calculation calculation
+     * @return little-endian buffer of the encoding
+     * @throws NullPointerException if {@code calculation} is null
+     */
+    static ByteBuffer encodeAnalyticCalculation(AnalyticCalculation calculation) throws NullPointerException {
+        ValidationUtils.checkNotNull(calculation, "calculation");
+
+        int stepCount = calculation.getStepCount();
+        List<byte[][]> steps = new ArrayList<byte[][]>(stepCount);
+        int[] offsets = new int[stepCount + 1];
+        for (int s = 0; s < stepCount; s++) {
+            String[] step = calculation.getStep(s);
+            byte[][] parts = new byte[step.length][];
+            int length = 4;
+            for (int part = 0; part < step.length; part++) {
+                parts[part] = step[part].getBytes(StandardCharsets.UTF_8);
+                length += 4 + parts[part].length;
+            }
+            steps.add(parts);
+            offsets[s + 1] = offsets[s] + length;
+        }
+
+        int dataOffset = 12 + 4 * (stepCount + 1);
+        ByteBuffer buffer = ByteBuffer.allocate(dataOffset + offsets[stepCount]).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(ANALYTIC_CALCULATION_MAGIC)
+            .put(VERSION)
+            .put((byte) 0)
+            .putShort((short) 0)
+            .putInt(stepCount);
+        for (int offset : offsets) {
+            buffer.putInt(dataOffset + offset);
+        }
+        for (byte[][] parts : steps) {
+            buffer.putInt(parts.length);
+            for (byte[] part : parts) {
+                buffer.putInt(part.length).put(part);
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Writes the encoding of an analytic calculation at the position of a buffer, advancing the position past it.
+     *
+     * @param calculation calculation
+     * @param buffer buffer to write to, its byte order is ignored
+     * @return number of bytes written
+     * @throws NullPointerException if any of the arguments are null
+     * @throws java.nio.BufferOverflowException if the encoding doesn't fit in the remaining bytes of the buffer
+     */
+    static int writeAnalyticCalculation(AnalyticCalculation calculation, ByteBuffer buffer) throws NullPointerException {
+        ValidationUtils.checkNotNull(buffer, "buffer");
+        ByteBuffer encoding = encodeAnalyticCalculation(calculation);
+        int size = encoding.remaining();
+        buffer.put(encoding);
+        return size;
+    }
+
+    /**
+     * Writes the encoding of an analytic calculation to a channel, e.g.&nbsp;a {@link FileChannel}.
+     *
+     * @param calculation calculation
+     * @param channel channel to write to
+     * @return number of bytes written
+     * @throws NullPointerException if any of the arguments are null
+     * @throws IOException if the channel throws an {@link IOException}
+     */
+    static int writeAnalyticCalculation(AnalyticCalculation calculation, WritableByteChannel channel) throws NullPointerException, IOException {
+        ValidationUtils.checkNotNull(channel, "channel");
+        return writeFully(encodeAnalyticCalculation(calculation), channel);
+    }
+
+    /**
+     * Reads the analytic calculation encoded at the position of a buffer, advancing the position past it.&nbsp;The steps are decoded from the buffer the first time they're read, so the buffer mustn't be changed while the calculation is used.
+     *
+     * @param buffer buffer to read from, its byte order is ignored
+     * @return calculation
+     * @throws NullPointerException if {@code buffer} is null
+     * @throws IllegalArgumentException if the buffer doesn't contain an encoded calculation of a supported version
+     */
+    static AnalyticCalculation readAnalyticCalculation(ByteBuffer buffer) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(buffer, "buffer");
+        ByteBuffer encoding = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        checkHeader(encoding, ANALYTIC_CALCULATION_MAGIC, "AnalyticCalculation");
+        int stepCount = encoding.getInt(8);
+        if (stepCount < 0) {
+            throw new IllegalArgumentException("buffer doesn't contain an encoded AnalyticCalculation");
+        }
+
+        List<Supplier<String[]>> stepSuppliers = new ArrayList<Supplier<String[]>>(stepCount);
+        for (int s = 0; s < stepCount; s++) {
+            int offset = encoding.getInt(12 + 4 * s);
+            stepSuppliers.add(() -> decodeStep(encoding, offset));
+        }
+        buffer.position(buffer.position() + encoding.getInt(12 + 4 * stepCount));
+        return new AnalyticCalculation(stepSuppliers);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion AnalyticCalculation
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private static byte checkHeader(ByteBuffer buffer, int magic, String type) {
+        if (buffer.remaining() < 8 || buffer.getInt(0) != magic) {
+            throw new IllegalArgumentException("buffer doesn't contain an encoded " + type);
+        }
+        if (buffer.get(4) != VERSION) {
+            throw new IllegalArgumentException("version " + buffer.get(4) + " of the " + type + " encoding isn't supported");
+        }
+        return buffer.get(5);
+    }
+
+    private static ByteBuffer column(ByteBuffer buffer, int offset, int length) {
+        return buffer.duplicate().position(offset).limit(offset + length).slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static boolean isCanonical(CoxRossRubinstein.Node[] nodes) {
+        int k = 0;
+        for (int i = 0; k < nodes.length; i++) {
+            for (int j = 0; j <= i; j++, k++) {
+                if (k == nodes.length || nodes[k].getI() != i || nodes[k].getJ() != j) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static byte[] deltaEncode(CoxRossRubinstein.Node[] nodes) {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * 10 * nodes.length);
+        long previous = 0L;
+        for (CoxRossRubinstein.Node node : nodes) {
+            long bits = Double.doubleToRawLongBits(node.getS());
+            putVarint(buffer, bits ^ previous);
+            previous = bits;
+        }
+        previous = 0L;
+        for (CoxRossRubinstein.Node node : nodes) {
+            long bits = Double.doubleToRawLongBits(node.getV());
+            putVarint(buffer, bits ^ previous);
+            previous = bits;
+        }
+        byte[] deltas = new byte[buffer.position()];
+        buffer.flip().get(deltas);
+        return deltas;
+    }
+
+    private static void deltaDecode(ByteBuffer buffer, double[] values) {
+        long previous = 0L;
+        for (int k = 0; k < values.length; k++) {
+            previous ^= getVarint(buffer);
+            values[k] = Double.longBitsToDouble(previous);
+        }
+    }
+
+    private static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            buffer.put((byte) ((value & 0x7FL) | 0x80L));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long getVarint(ByteBuffer buffer) {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("buffer contains an invalid varint");
+    }
+
+    private static String[] decodeStep(ByteBuffer encoding, int offset) {
+        ByteBuffer step = encoding.duplicate().order(ByteOrder.LITTLE_ENDIAN).position(offset);
+        String[] parts = new String[step.getInt()];
+        for (int part = 0; part < parts.length; part++) {
+            byte[] bytes = new byte[step.getInt()];
+            step.get(bytes);
+            parts[part] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return parts;
+    }
+
+    private static int writeFully(ByteBuffer encoding, WritableByteChannel channel) throws IOException {
+        int size = encoding.remaining();
+        while (encoding.hasRemaining()) {
+            channel.write(encoding);
+        }
+        return size;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -0,0 +1,185 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.enums.CalculationType;
+import dev.peterrhodes.optionpricing.internal.utils.TaskUtils;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Renders the calculations of a book of analytic options in bulk, e.g.&nbsp;the worked calculations of a client statement run.
+ * <p>The options are split into blocks which are rendered in parallel on a fixed pool of threads, created for the call and shut down before it returns, so a report never takes more than the requested number of threads.&nbsp;The formula templates are cached and immutable and the numbers are formatted without a {@link java.util.Formatter}, so the threads only share read-only state.</p>
+ */
+public interface CalculationReports {
+
+    /**
+     * Number of options rendered by a task.
+     */
+    int BLOCK_SIZE = 64;
+
+    /**
+     * Calculates the requested calculations of each option in parallel, with a thread per available processor.
+     *
+     * @param options analytic options
+     * @param calculationTypes calculations of each option
+     * @return calculations, indexed by option then by calculation type in the order requested
+     * @throws NullPointerException if any of the arguments, options, or calculation types are null
+     */
+    static AnalyticCalculation[][] calculate(AnalyticOption[] options, CalculationType... calculationTypes) throws NullPointerException {
+        return calculate(options, calculationTypes, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Calculates the requested calculations of each option in parallel.&nbsp;Every step of the calculations is rendered by the pool, so reading them afterwards doesn't render anything.
+     *
+     * @param options analytic options
+     * @param calculationTypes calculations of each option
+     * @param parallelism number of threads
+     * @return calculations, indexed by option then by calculation type in the order requested
+     * @throws NullPointerException if any of the arguments, options, or calculation types are null
+     * @throws IllegalArgumentException if {@code parallelism} isn't greater than zero
+     */
+    static AnalyticCalculation[][] calculate(AnalyticOption[] options, CalculationType[] calculationTypes, int parallelism) throws NullPointerException, IllegalArgumentException {
+        checkArguments(options, calculationTypes, parallelism);
+
+        AnalyticCalculation[][] calculations = new AnalyticCalculation[options.length][calculationTypes.length];
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (int first = 0; first < options.length; first += BLOCK_SIZE) {
+            int from = first;
+            int to = Math.min(options.length, first + BLOCK_SIZE);
+            tasks.add(() -> {
+                for (int o = from; o < to; o++) {
+                    for (int c = 0; c < calculationTypes.length; c++) {
+                        AnalyticCalculation calculation = calculation(options[o], calculationTypes[c]);
+                        for (int i = 0; i < calculation.getStepCount(); i++) {
+                            calculation.getStepPart(i, 0); // renders the step
+                        }
+                        calculations[o][c] = calculation;
+                    }
+                }
+                return null;
+            });
+        }
+
+        TaskUtils.invokeAll(tasks, parallelism, "calculating");
+        return calculations;
+    }
+
+    /**
+     * Writes a LaTeX document of the requested calculations of each option, with a thread per available processor.
+     *
+     * @param <A> type of the appendable
+     * @param options analytic options
+     * @param calculationTypes calculations of each option
+     * @param appendable where to write the document, e.g.&nbsp;a {@link java.io.Writer}
+     * @return {@code appendable}
+     * @throws NullPointerException if any of the arguments, options, or calculation types are null
+     * @throws IOException if {@code appendable} throws an {@link IOException}, or the calling thread is interrupted
+     */
+    static <A extends Appendable> A document(AnalyticOption[] options, CalculationType[] calculationTypes, A appendable) throws NullPointerException, IOException {
+        return document(options, calculationTypes, appendable, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Writes a LaTeX document of the requested calculations of each option.&nbsp;Each calculation is an {@code align*} environment on its own line, as written by {@link AnalyticCalculation#appendAlign(Appendable)}, in the order of the options then of the calculation types.
+     * <p>The blocks of options are rendered in parallel, but only a few blocks per thread are rendered ahead of the block being written, so the memory used doesn't grow with the number of options when {@code appendable} streams to a file or socket.</p>
+     *
+     * @param <A> type of the appendable
+     * @param options analytic options
+     * @param calculationTypes calculations of each option
+     * @param appendable where to write the document, e.g.&nbsp;a {@link java.io.Writer}
+     * @param parallelism number of threads
+     * @return {@code appendable}
+     * @throws NullPointerException if any of the arguments, options, or calculation types are null
+     * @throws IllegalArgumentException if {@code parallelism} isn't greater than zero
+     * @throws IOException if {@code appendable} throws an {@link IOException}, or the calling thread is interrupted
+     */
+    static <A extends Appendable> A document(AnalyticOption[] options, CalculationType[] calculationTypes, A appendable, int parallelism) throws NullPointerException, IllegalArgumentException, IOException {
+        checkArguments(options, calculationTypes, parallelism);
+        ValidationUtils.checkNotNull(appendable, "appendable");
+
+        appendable.append("\\documentclass{article}\n\\usepackage{amsmath}\n\\begin{document}\n");
+        int maxPending = 4 * parallelism;
+        ArrayDeque<Future<String>> pending = new ArrayDeque<Future<String>>(maxPending);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (int first = 0; first < options.length; first += BLOCK_SIZE) {
+                if (pending.size() == maxPending) {
+                    appendable.append(TaskUtils.join(pending.removeFirst()));
+                }
+                int from = first;
+                int to = Math.min(options.length, first + BLOCK_SIZE);
+                pending.addLast(executor.submit(() -> {
+                    StringBuilder builder = new StringBuilder(2048 * (to - from) * calculationTypes.length);
+                    for (int o = from; o < to; o++) {
+                        for (CalculationType calculationType : calculationTypes) {
+                            calculation(options[o], calculationType).appendAlign(builder).append('\n');
+                        }
+                    }
+                    return builder.toString();
+                }));
+            }
+            while (!pending.isEmpty()) {
+                appendable.append(TaskUtils.join(pending.removeFirst()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException exception = new InterruptedIOException("interrupted while writing the document");
+            exception.initCause(e);
+            throw exception;
+        } finally {
+            executor.shutdownNow();
+        }
+        appendable.append("\\end{document}\n");
+        return appendable;
+    }
+
+    /**
+     * Returns a calculation of an option.
+     *
+     * @param option analytic option
+     * @param calculationType calculation
+     * @return calculation
+     * @throws NullPointerException if any of the arguments are null
+     */
+    static AnalyticCalculation calculation(AnalyticOption option, CalculationType calculationType) throws NullPointerException {
+        ValidationUtils.checkNotNull(option, "option");
+        ValidationUtils.checkNotNull(calculationType, "calculationType");
+
+        switch (calculationType) {
+            case DELTA:
+                return option.deltaCalculation();
+            case GAMMA:
+                return option.gammaCalculation();
+            case VEGA:
+                return option.vegaCalculation();
+            case THETA:
+                return option.thetaCalculation();
+            case RHO:
+                return option.rhoCalculation();
+            case PRICE:
+            default:
+                return option.priceCalculation();
+        }
+    }
+
+    private static void checkArguments(AnalyticOption[] options, CalculationType[] calculationTypes, int parallelism) {
+        ValidationUtils.checkNotNull(options, "options");
+        ValidationUtils.checkNotNull(calculationTypes, "calculationTypes");
+        for (CalculationType calculationType : calculationTypes) {
+            ValidationUtils.checkNotNull(calculationType, "calculationType");
+        }
+        for (AnalyticOption option : options) {
+            ValidationUtils.checkNotNull(option, "option");
+        }
+        ValidationUtils.checkGreaterThanZero(parallelism, "parallelism");
+    }
+}
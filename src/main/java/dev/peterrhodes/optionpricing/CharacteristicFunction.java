@@ -0,0 +1,109 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.internal.characteristicfunctions.GeometricBrownianMotionCharacteristicFunction;
+import dev.peterrhodes.optionpricing.internal.characteristicfunctions.HestonCharacteristicFunction;
+import dev.peterrhodes.optionpricing.internal.characteristicfunctions.MertonJumpDiffusionCharacteristicFunction;
+import dev.peterrhodes.optionpricing.internal.characteristicfunctions.VarianceGammaCharacteristicFunction;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+
+/**
+ * Characteristic function of the log return of the underlying asset relative to its forward price, i.e.&nbsp;{@code φ(u) = E[e^(iuX)]} where {@code X = ln(S_τ / F)} and {@code F = S₀ e^((r - q)τ)}.
+ * <p>The dynamics are risk neutral, so {@code φ(-i) = E[S_τ / F] = 1}.&nbsp;Implementations describe the whole distribution of the underlying asset, including its volatility, which is why transform pricing models that take a characteristic function ignore the option's volatility.</p>
+ */
+public interface CharacteristicFunction {
+
+    /**
+     * Evaluates the characteristic function at a real argument.
+     *
+     * @param u argument
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param result array of length two which the real ({@code [0]}) and imaginary ({@code [1]}) parts of {@code φ(u)} are written to
+     */
+    void evaluate(double u, double timeToMaturity, double[] result);
+
+    /**
+     * Returns the first, second, and fourth cumulants of {@code X}, which determine the range the density of {@code X} is effectively supported on.
+     *
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @return {@code {c₁, c₂, c₄}}
+     */
+    double[] cumulants(double timeToMaturity);
+
+    //region factories
+    //----------------------------------------------------------------------
+
+    /**
+     * Geometric Brownian motion, i.e.&nbsp;the Black-Scholes-Merton dynamics.
+     *
+     * @param volatility Underlying volatility ({@code σ > 0}).
+     * @return characteristic function
+     * @throws IllegalArgumentException if {@code volatility} is not greater than zero
+     */
+    static CharacteristicFunction geometricBrownianMotion(double volatility) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(volatility, "volatility");
+        return new GeometricBrownianMotionCharacteristicFunction(volatility);
+    }
+
+    /**
+     * <a href="https://doi.org/10.1016/0304-405X(76)90022-2">Merton (1976)</a> jump diffusion, i.e.&nbsp;geometric Brownian motion with normally distributed log jumps arriving as a Poisson process.
+     *
+     * @param volatility Diffusion volatility ({@code σ > 0}).
+     * @param jumpIntensity Expected number of jumps per year ({@code λ ≥ 0}).
+     * @param jumpMean Mean of the log jump size ({@code μ_J}).
+     * @param jumpVolatility Standard deviation of the log jump size ({@code δ ≥ 0}).
+     * @return characteristic function
+     * @throws IllegalArgumentException if {@code volatility} is not greater than zero, or {@code jumpIntensity} or {@code jumpVolatility} are negative
+     */
+    static CharacteristicFunction mertonJumpDiffusion(double volatility, double jumpIntensity, double jumpMean, double jumpVolatility) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(volatility, "volatility");
+        if (!(jumpIntensity >= 0d)) {
+            throw new IllegalArgumentException("jumpIntensity can't be negative");
+        } else if (!(jumpVolatility >= 0d)) {
+            throw new IllegalArgumentException("jumpVolatility can't be negative");
+        }
+        return new MertonJumpDiffusionCharacteristicFunction(volatility, jumpIntensity, jumpMean, jumpVolatility);
+    }
+
+    /**
+     * Variance gamma process of <a href="https://doi.org/10.1023/A:1009703431535">Madan, Carr, and Chang (1998)</a>, i.e.&nbsp;Brownian motion with drift evaluated at a gamma distributed time.
+     *
+     * @param volatility Volatility of the Brownian motion ({@code σ > 0}).
+     * @param varianceRate Variance rate of the gamma time change ({@code ν > 0}).
+     * @param drift Drift of the Brownian motion, which controls the skewness ({@code θ}).
+     * @return characteristic function
+     * @throws IllegalArgumentException if {@code volatility} or {@code varianceRate} are not greater than zero, or if the parameters don't have a finite forward price ({@code 1 - θν - σ²ν/2 ≤ 0})
+     */
+    static CharacteristicFunction varianceGamma(double volatility, double varianceRate, double drift) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(volatility, "volatility");
+        ValidationUtils.checkGreaterThanZero(varianceRate, "varianceRate");
+        if (!(1d - drift * varianceRate - volatility * volatility * varianceRate / 2d > 0d)) {
+            throw new IllegalArgumentException("1 - drift * varianceRate - volatility² * varianceRate / 2 must be greater than zero");
+        }
+        return new VarianceGammaCharacteristicFunction(volatility, varianceRate, drift);
+    }
+
+    /**
+     * <a href="https://doi.org/10.1093/rfs/6.2.327">Heston (1993)</a> stochastic volatility, where the variance follows a mean reverting square root process correlated with the underlying asset price.
+     *
+     * @param kappa Rate at which the variance reverts to its long run mean ({@code κ > 0}).
+     * @param theta Long run mean of the variance ({@code θ > 0}).
+     * @param xi Volatility of the variance ({@code ξ > 0}).
+     * @param rho Correlation between the underlying asset price and its variance ({@code -1 < ρ < 1}).
+     * @param v0 Initial variance ({@code v₀ > 0}).
+     * @return characteristic function
+     * @throws IllegalArgumentException if {@code kappa}, {@code theta}, {@code xi}, or {@code v0} are not greater than zero, or {@code rho} is not between minus one and one
+     */
+    static CharacteristicFunction heston(double kappa, double theta, double xi, double rho, double v0) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(kappa, "kappa");
+        ValidationUtils.checkGreaterThanZero(theta, "theta");
+        ValidationUtils.checkGreaterThanZero(xi, "xi");
+        ValidationUtils.checkGreaterThanZero(v0, "v0");
+        if (!(rho > -1d && rho < 1d)) {
+            throw new IllegalArgumentException("rho must be between minus one and one");
+        }
+        return new HestonCharacteristicFunction(kappa, theta, xi, rho, v0);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion factories
+}
@@ -0,0 +1,261 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.analyticoptions.EuropeanOption;
+import dev.peterrhodes.optionpricing.internal.impliedvolatility.AmericanImpliedVolatility;
+import dev.peterrhodes.optionpricing.internal.impliedvolatility.EuropeanImpliedVolatility;
+import dev.peterrhodes.optionpricing.internal.instrumentation.BatchPricingEvent;
+import dev.peterrhodes.optionpricing.internal.kernels.BaroneAdesiWhaleyKernel;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+
+/**
+ * Calculates the volatility implied by the market price of an option, i.e.&nbsp;the volatility ({@code σ}) for which the model price is equal to the market price.
+ */
+public interface ImpliedVolatility {
+
+    //region European
+    //----------------------------------------------------------------------
+
+    /**
+     * Calculates the implied volatility of a vanilla European option priced with the Black-Scholes-Merton model.
+     * <p>The solver converges to machine precision, typically in two to three iterations, without allocating any objects.</p>
+     *
+     * @param optionType Option type (call or put).
+     * @param price Market price of the option.
+     * @param initialSpotPrice Initial price of the underlying asset ({@code S₀ > 0}).
+     * @param strikePrice Strike/exercise price of the option ({@code K > 0}).
+     * @param timeToMaturity Time until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param riskFreeRate Annualized risk-free interest rate continuously compounded ({@code r}).
+     * @param dividendYield Annual dividend yield continuously compounded ({@code q}).
+     * @return implied volatility ({@code σ}), zero if the price is equal to the intrinsic value or so close to it that its time value is lost to rounding, or {@link Double#POSITIVE_INFINITY} if the price is so close to the upper bound that it can't be told apart from it
+     * @throws NullPointerException if {@code optionType} is null
+     * @throws IllegalArgumentException if {@code initialSpotPrice}, {@code strikePrice}, or {@code timeToMaturity} are not greater than zero, or if the price is not within the no-arbitrage bounds, i.e.&nbsp;below the discounted intrinsic value or not less than the discounted spot (call) or strike (put) price
+     */
+    static double european(
+        OptionType optionType,
+        double price,
+        double initialSpotPrice,
+        double strikePrice,
+        double timeToMaturity,
+        double riskFreeRate,
+        double dividendYield
+    ) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(optionType, "optionType");
+        ValidationUtils.checkGreaterThanZero(initialSpotPrice, "initialSpotPrice");
+        ValidationUtils.checkGreaterThanZero(strikePrice, "strikePrice");
+        ValidationUtils.checkGreaterThanZero(timeToMaturity, "timeToMaturity");
+
+        boolean isCall = optionType == OptionType.CALL;
+        String violation = EuropeanImpliedVolatility.arbitrageViolation(isCall, price, initialSpotPrice, strikePrice, timeToMaturity, riskFreeRate, dividendYield);
+        if (violation != null) {
+            throw new IllegalArgumentException(violation);
+        }
+
+        return EuropeanImpliedVolatility.impliedVolatility(isCall, price, initialSpotPrice, strikePrice, timeToMaturity, riskFreeRate, dividendYield);
+    }
+
+    /**
+     * Calculates the implied volatilities of a batch of vanilla European options priced with the Black-Scholes-Merton model.
+     * <p>The {@code i}th option is described by the {@code i}th element of every input array and its implied volatility is written to {@code volatilities[i]}.&nbsp;Rather than throwing, an option with invalid inputs or a price outside the no-arbitrage bounds (see {@link #european(OptionType, double, double, double, double, double, double)}) gets an implied volatility of {@link Double#NaN}, so one bad quote doesn't abort the whole batch; a price within the bounds never does.&nbsp;Nothing is allocated, so the output array can be reused between calls.</p>
+     *
+     * @param optionTypes Option types (call or put).
+     * @param prices Market prices of the options.
+     * @param initialSpotPrices Initial prices of the underlying assets ({@code S₀ > 0}).
+     * @param strikePrices Strike/exercise prices of the options ({@code K > 0}).
+     * @param timesToMaturity Times until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param riskFreeRates Annualized risk-free interest rates continuously compounded ({@code r}).
+     * @param dividendYields Annual dividend yields continuously compounded ({@code q}).
+     * @param volatilities Output array for the implied volatilities ({@code σ}).
+     * @return the number of options for which the implied volatility is {@link Double#NaN}
+     * @throws NullPointerException if any of the arrays are null
+     * @throws IllegalArgumentException if the arrays aren't all the same length
+     */
+    static int european(
+        OptionType[] optionTypes,
+        double[] prices,
+        double[] initialSpotPrices,
+        double[] strikePrices,
+        double[] timesToMaturity,
+        double[] riskFreeRates,
+        double[] dividendYields,
+        double[] volatilities
+    ) throws NullPointerException, IllegalArgumentException {
+        checkBatch(optionTypes, prices, initialSpotPrices, strikePrices, timesToMaturity, riskFreeRates, dividendYields, volatilities);
+
+        BatchPricingEvent event = BatchPricingEvent.start();
+        int failures = 0;
+        for (int i = 0; i < optionTypes.length; i++) {
+            double S = initialSpotPrices[i];
+            double K = strikePrices[i];
+            double τ = timesToMaturity[i];
+            double σ = Double.NaN;
+            if (optionTypes[i] != null && S > 0d && K > 0d && τ > 0d) {
+                σ = EuropeanImpliedVolatility.impliedVolatility(optionTypes[i] == OptionType.CALL, prices[i], S, K, τ, riskFreeRates[i], dividendYields[i]);
+            }
+
+            volatilities[i] = σ;
+            if (Double.isNaN(σ)) {
+                failures++;
+            }
+        }
+
+        event.finish(EuropeanOption.MODEL_NAME, "impliedVolatility", optionTypes.length);
+        return failures;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion European
+
+    //region American
+    //----------------------------------------------------------------------
+
+    /**
+     * Calculates the implied volatility of a vanilla American option by inverting the <a href="https://doi.org/10.1111/j.1540-6261.1987.tb02569.x">Barone-Adesi and Whaley (1987)</a> approximation.
+     *
+     * @param optionType Option type (call or put).
+     * @param price Market price of the option.
+     * @param initialSpotPrice Initial price of the underlying asset ({@code S₀ > 0}).
+     * @param strikePrice Strike/exercise price of the option ({@code K > 0}).
+     * @param timeToMaturity Time until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param riskFreeRate Annualized risk-free interest rate continuously compounded ({@code r}).
+     * @param dividendYield Annual dividend yield continuously compounded ({@code q}).
+     * @return implied volatility ({@code σ}), zero if the price is at or below the model price for a vanishing volatility, or {@link Double#NaN} if the implied volatility is unrealistically large
+     * @throws NullPointerException if {@code optionType} is null
+     * @throws IllegalArgumentException if {@code initialSpotPrice}, {@code strikePrice}, or {@code timeToMaturity} are not greater than zero, or if the price is not within the no-arbitrage bounds, i.e.&nbsp;below the intrinsic value or not less than the spot (call) or strike (put) price
+     */
+    static double american(
+        OptionType optionType,
+        double price,
+        double initialSpotPrice,
+        double strikePrice,
+        double timeToMaturity,
+        double riskFreeRate,
+        double dividendYield
+    ) throws NullPointerException, IllegalArgumentException {
+        return american(optionType, price, initialSpotPrice, strikePrice, timeToMaturity, riskFreeRate, dividendYield, Double.NaN);
+    }
+
+    /**
+     * Calculates the implied volatility of a vanilla American option starting from an initial guess, see {@link #american(OptionType, double, double, double, double, double, double)}.
+     * <p>When repricing on every quote update the implied volatility of the previous quote is a good initial guess (warm start), which typically reduces the number of price evaluations by a factor of three to four.</p>
+     *
+     * @param optionType Option type (call or put).
+     * @param price Market price of the option.
+     * @param initialSpotPrice Initial price of the underlying asset ({@code S₀ > 0}).
+     * @param strikePrice Strike/exercise price of the option ({@code K > 0}).
+     * @param timeToMaturity Time until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param riskFreeRate Annualized risk-free interest rate continuously compounded ({@code r}).
+     * @param dividendYield Annual dividend yield continuously compounded ({@code q}).
+     * @param initialVolatility Initial guess for the implied volatility, ignored unless it's greater than zero.
+     * @return implied volatility ({@code σ}), zero if the price is at or below the model price for a vanishing volatility, or {@link Double#NaN} if the implied volatility is unrealistically large
+     * @throws NullPointerException if {@code optionType} is null
+     * @throws IllegalArgumentException if {@code initialSpotPrice}, {@code strikePrice}, or {@code timeToMaturity} are not greater than zero, or if the price is not within the no-arbitrage bounds
+     */
+    static double american(
+        OptionType optionType,
+        double price,
+        double initialSpotPrice,
+        double strikePrice,
+        double timeToMaturity,
+        double riskFreeRate,
+        double dividendYield,
+        double initialVolatility
+    ) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(optionType, "optionType");
+        ValidationUtils.checkGreaterThanZero(initialSpotPrice, "initialSpotPrice");
+        ValidationUtils.checkGreaterThanZero(strikePrice, "strikePrice");
+        ValidationUtils.checkGreaterThanZero(timeToMaturity, "timeToMaturity");
+
+        boolean isCall = optionType == OptionType.CALL;
+        String violation = AmericanImpliedVolatility.arbitrageViolation(isCall, price, initialSpotPrice, strikePrice);
+        if (violation != null) {
+            throw new IllegalArgumentException(violation);
+        }
+
+        return AmericanImpliedVolatility.impliedVolatility(isCall, price, initialSpotPrice, strikePrice, timeToMaturity, riskFreeRate, dividendYield, initialVolatility);
+    }
+
+    /**
+     * Calculates the implied volatilities of a batch of vanilla American options, see {@link #american(OptionType, double, double, double, double, double, double, double)}.
+     * <p>The {@code volatilities} array is read as the initial guesses (non-positive or {@link Double#NaN} for none) and overwritten with the implied volatilities, so passing the same array on every quote update warm starts each solve from the previous result.&nbsp;An option with invalid inputs or a price outside the no-arbitrage bounds gets an implied volatility of {@link Double#NaN}.</p>
+     *
+     * @param optionTypes Option types (call or put).
+     * @param prices Market prices of the options.
+     * @param initialSpotPrices Initial prices of the underlying assets ({@code S₀ > 0}).
+     * @param strikePrices Strike/exercise prices of the options ({@code K > 0}).
+     * @param timesToMaturity Times until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @param riskFreeRates Annualized risk-free interest rates continuously compounded ({@code r}).
+     * @param dividendYields Annual dividend yields continuously compounded ({@code q}).
+     * @param volatilities Initial guesses on input, implied volatilities ({@code σ}) on output.
+     * @return the number of options for which the implied volatility is {@link Double#NaN}
+     * @throws NullPointerException if any of the arrays are null
+     * @throws IllegalArgumentException if the arrays aren't all the same length
+     */
+    static int american(
+        OptionType[] optionTypes,
+        double[] prices,
+        double[] initialSpotPrices,
+        double[] strikePrices,
+        double[] timesToMaturity,
+        double[] riskFreeRates,
+        double[] dividendYields,
+        double[] volatilities
+    ) throws NullPointerException, IllegalArgumentException {
+        checkBatch(optionTypes, prices, initialSpotPrices, strikePrices, timesToMaturity, riskFreeRates, dividendYields, volatilities);
+
+        BatchPricingEvent event = BatchPricingEvent.start();
+        int failures = 0;
+        for (int i = 0; i < optionTypes.length; i++) {
+            double S = initialSpotPrices[i];
+            double K = strikePrices[i];
+            double τ = timesToMaturity[i];
+            double σ = Double.NaN;
+            if (optionTypes[i] != null && S > 0d && K > 0d && τ > 0d) {
+                σ = AmericanImpliedVolatility.impliedVolatility(optionTypes[i] == OptionType.CALL, prices[i], S, K, τ, riskFreeRates[i], dividendYields[i], volatilities[i]);
+            }
+
+            volatilities[i] = σ;
+            if (Double.isNaN(σ)) {
+                failures++;
+            }
+        }
+
+        event.finish(BaroneAdesiWhaleyKernel.MODEL_NAME, "impliedVolatility", optionTypes.length);
+        return failures;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion American
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private static void checkBatch(
+        OptionType[] optionTypes,
+        double[] prices,
+        double[] initialSpotPrices,
+        double[] strikePrices,
+        double[] timesToMaturity,
+        double[] riskFreeRates,
+        double[] dividendYields,
+        double[] volatilities
+    ) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(optionTypes, "optionTypes");
+        ValidationUtils.checkNotNull(prices, "prices");
+        ValidationUtils.checkNotNull(initialSpotPrices, "initialSpotPrices");
+        ValidationUtils.checkNotNull(strikePrices, "strikePrices");
+        ValidationUtils.checkNotNull(timesToMaturity, "timesToMaturity");
+        ValidationUtils.checkNotNull(riskFreeRates, "riskFreeRates");
+        ValidationUtils.checkNotNull(dividendYields, "dividendYields");
+        ValidationUtils.checkNotNull(volatilities, "volatilities");
+
+        int n = optionTypes.length;
+        if (prices.length != n || initialSpotPrices.length != n || strikePrices.length != n || timesToMaturity.length != n
+            || riskFreeRates.length != n || dividendYields.length != n || volatilities.length != n) {
+            throw new IllegalArgumentException("arrays must all be the same length");
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -0,0 +1,122 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.internal.live.LiveEuropeanOption;
+import dev.peterrhodes.optionpricing.internal.live.LiveLatticeOption;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+
+/**
+ * Handle on an option which is repriced as the spot price of its underlying asset ticks, with the rest of its parameters fixed.
+ * <p>Everything that doesn't depend on the spot price, e.g.&nbsp;the discount factors, {@code σ√τ}, or the powers of the lattice movements, is calculated once when the handle is created.&nbsp;On each update the price is either recalculated exactly at the new spot price, or approximated from the price, delta, and gamma at the spot price of the last exact calculation:</p>
+ * <pre>V(S) ≈ V(S₀) + Δ (S - S₀) + ½ Γ (S - S₀)²</pre>
+ * <p>The approximation is used for moves of at most a quarter of a standard deviation of the spot price ({@code S₀σ√τ}) while a bound on the error of the expansion, {@code max|∂Γ/∂S| |S - S₀|³ / 6} with the speed bounded over the whole move rather than taken at {@code S₀}, is within the tolerance, so small moves around the last exact spot price cost a few multiplications.&nbsp;A tolerance of zero always recalculates exactly.</p>
+ * <p>Handles aren't thread safe, each is meant to be updated by the thread consuming its underlying's ticks.</p>
+ */
+public interface LiveOption {
+
+    /**
+     * Reprices the option at a new spot price.
+     *
+     * @param spotPrice price of the underlying asset ({@code S > 0})
+     * @return option price
+     * @throws IllegalArgumentException if {@code spotPrice} is not greater than zero
+     */
+    double onSpot(double spotPrice) throws IllegalArgumentException;
+
+    /**
+     * Returns the spot price of the last update.
+     *
+     * @return spot price
+     */
+    double spotPrice();
+
+    /**
+     * Returns the price at the spot price of the last update.
+     *
+     * @return option price
+     */
+    double price();
+
+    /**
+     * Returns the delta at the spot price of the last update.
+     *
+     * @return option delta
+     */
+    double delta();
+
+    /**
+     * Returns the gamma at the spot price of the last update.
+     *
+     * @return option gamma
+     */
+    double gamma();
+
+    /**
+     * Returns true if the last update was approximated rather than recalculated.
+     *
+     * @return whether the values are approximate
+     */
+    boolean isApproximate();
+
+    /**
+     * Returns the number of updates, including the initial calculation, which recalculated the values exactly.
+     *
+     * @return number of exact updates
+     */
+    long exactUpdates();
+
+    /**
+     * Returns the number of updates which approximated the values.
+     *
+     * @return number of approximate updates
+     */
+    long approximateUpdates();
+
+    //region factories
+    //----------------------------------------------------------------------
+
+    /**
+     * Creates a live European option priced with the Black-Scholes-Merton model.
+     *
+     * @param spec European option spec, its initial spot price is the first spot price
+     * @param tolerance largest estimated error of an approximated price ({@code ≥ 0})
+     * @return live option
+     * @throws NullPointerException if {@code spec} is null
+     * @throws IllegalArgumentException if {@code spec} isn't European style or {@code tolerance} is negative
+     */
+    static LiveOption european(OptionSpec spec, double tolerance) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(spec, "spec");
+        if (spec.optionStyle() != OptionStyle.EUROPEAN) {
+            throw new IllegalArgumentException("spec must be European style");
+        }
+        checkTolerance(tolerance);
+        return new LiveEuropeanOption(spec, tolerance);
+    }
+
+    /**
+     * Creates a live option priced with the Cox, Ross, and Rubinstein binomial model, which can be European or American style.
+     * <p>The lattice parameters and the powers of the movements are reused by every exact update, which leaves only the backward induction.&nbsp;Delta, gamma, and the error estimate are taken from the first time steps of the lattice, so the approximation needs at least 3 time steps.</p>
+     *
+     * @param spec option spec, its initial spot price is the first spot price
+     * @param timeSteps number of time steps in the tree
+     * @param tolerance largest estimated error of an approximated price ({@code ≥ 0})
+     * @return live option
+     * @throws NullPointerException if {@code spec} is null
+     * @throws IllegalArgumentException if {@code timeSteps} is not greater than zero or {@code tolerance} is negative
+     */
+    static LiveOption coxRossRubinstein(OptionSpec spec, int timeSteps, double tolerance) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(spec, "spec");
+        ValidationUtils.checkGreaterThanZero(timeSteps, "timeSteps");
+        checkTolerance(tolerance);
+        return new LiveLatticeOption(spec, timeSteps, tolerance);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion factories
+
+    private static void checkTolerance(double tolerance) {
+        if (!(tolerance >= 0d)) {
+            throw new IllegalArgumentException("tolerance must be greater than or equal to zero");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.internal.pricingmodels.CoxRossRubinsteinPricingModel;
+import dev.peterrhodes.optionpricing.models.MappedCoxRossRubinstein;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Performs lattice calculations whose nodes are stored in memory-mapped files rather than on the heap, e.g.&nbsp;audit trees with tens of thousands of time steps, which are too large for {@link PricingModel#calculation(Option)}.
+ * <p>The files can be opened again, including by other processes, with {@link MappedCoxRossRubinstein#MappedCoxRossRubinstein(Path)}.&nbsp;The nodes are indexed by long offsets, so a tree can have more than {@link Integer#MAX_VALUE} nodes, i.e.&nbsp;more than 65,534 time steps, as long as the file fits on disk.</p>
+ */
+public interface MappedLattices {
+
+    /**
+     * Performs a Cox, Ross, and Rubinstein calculation into a memory-mapped file, see {@link PricingModelSelector#coxRossRubinstein(int)}.
+     *
+     * @param option the option to perform the calculation on
+     * @param timeSteps number of time steps in the tree
+     * @param path path of the file, which is created or overwritten
+     * @return calculation details model
+     * @throws NullPointerException if {@code option} or {@code path} is null
+     * @throws IllegalArgumentException if {@code timeSteps} is not greater than zero, or greater than 2<sup>29</sup>
+     * @throws IOException if the file can't be written
+     */
+    static MappedCoxRossRubinstein coxRossRubinstein(Option option, int timeSteps, Path path) throws NullPointerException, IllegalArgumentException, IOException {
+        return new CoxRossRubinsteinPricingModel(timeSteps).calculation(option, path);
+    }
+}
@@ -120,4 +120,15 @@ public final class OptionBuilder {
         }
         return this.option.clone();
     }
+
+    /**
+     * Builds an immutable {@link OptionSpec} with the option's parameters converted to {@code double}.
+     *
+     * @return the option spec
+     * @throws IllegalStateException if the type (call or put) and/or the style (European, American, ...) haven't been configured
+     * @throws IllegalArgumentException if the initial spot price, strike price, time to maturity, or volatility converted to {@code double} are not greater than zero, e.g.&nbsp;a mutable {@link Number} changed after it was passed to the builder
+     */
+    public OptionSpec buildSpec() throws IllegalStateException, IllegalArgumentException {
+        return OptionSpec.from(this.build());
+    }
 }
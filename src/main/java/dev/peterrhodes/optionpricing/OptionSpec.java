@@ -0,0 +1,435 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+
+/**
+ * Immutable {@link Option} with primitive {@code double} parameters.
+ * <p>The parameters are read with the {@code get*} methods without boxing, and the pricing models and {@link AnalyticOptionFactory} have overloads which only use those, so pricing a spec never goes through {@link Number}.&nbsp;The {@link Number} methods of {@link Option} are still implemented for code written against the interface; each boxes its value the first time it's called and returns the same instance after that.</p>
+ * <p>Specs are value objects: two specs are equal if their style, type, and parameters are equal.&nbsp;A spec with one parameter changed, e.g.&nbsp;after a market data update, is created with the {@code with*} methods.</p>
+ */
+public final class OptionSpec implements Option {
+
+    private final OptionStyle optionStyle;
+    private final OptionType optionType;
+    private final double initialSpotPrice;
+    private final double strikePrice;
+    private final double timeToMaturity;
+    private final double volatility;
+    private final double riskFreeRate;
+    private final double dividendYield;
+
+    // Parameters boxed by the Number methods, null until one of them is called
+    private Number[] boxed;
+
+    private OptionSpec(OptionStyle optionStyle, OptionType optionType, double initialSpotPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate, double dividendYield) {
+        this.optionStyle = optionStyle;
+        this.optionType = optionType;
+        this.initialSpotPrice = initialSpotPrice;
+        this.strikePrice = strikePrice;
+        this.timeToMaturity = timeToMaturity;
+        this.volatility = volatility;
+        this.riskFreeRate = riskFreeRate;
+        this.dividendYield = dividendYield;
+    }
+
+    /**
+     * Creates a spec with the parameters of an option converted to {@code double}.&nbsp;Only the parameters are copied, so a custom option's exercise value is replaced by the vanilla one.
+     *
+     * @param option option to copy
+     * @return option spec, the option itself if it's already a spec
+     * @throws NullPointerException if {@code option} or its style, type, or parameters are null
+     * @throws IllegalArgumentException if the initial spot price, strike price, time to maturity, or volatility are not greater than zero
+     */
+    public static OptionSpec from(Option option) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(option, "option");
+        if (option instanceof OptionSpec) {
+            return (OptionSpec) option;
+        }
+        ValidationUtils.checkNotNull(option.optionStyle(), "optionStyle");
+        ValidationUtils.checkNotNull(option.optionType(), "optionType");
+
+        return new Builder(
+            option.initialSpotPrice().doubleValue(),
+            option.strikePrice().doubleValue(),
+            option.timeToMaturity().doubleValue(),
+            option.volatility().doubleValue(),
+            option.riskFreeRate().doubleValue(),
+            option.dividendYield().doubleValue()
+        ).style(option.optionStyle()).type(option.optionType()).build();
+    }
+
+    /**
+     * Calculates the value of exercising the option (assuming all preconditions are met), without boxing.
+     *
+     * @param exerciseValueParameter inputs required to calculate the exercise value
+     * @return exercise value
+     */
+    @Override
+    public double exerciseValue(ExerciseValueParameter exerciseValueParameter) {
+        return exerciseValue(exerciseValueParameter.getTime(), exerciseValueParameter.getSpotPrice());
+    }
+
+    /**
+     * Calculates the value of exercising the option at a time and spot price (assuming all preconditions are met).
+     *
+     * @param time time since the option was written in years ({@code t})
+     * @param spotPrice price of the underlying asset at time {@code t} ({@code S_t})
+     * @return exercise value
+     */
+    public double exerciseValue(double time, double spotPrice) {
+        if (this.optionStyle == OptionStyle.EUROPEAN && time < this.timeToMaturity) {
+            return 0d;
+        }
+        return Math.max(0d, this.optionType == OptionType.CALL ? spotPrice - this.strikePrice : this.strikePrice - spotPrice);
+    }
+
+    //region with
+    //----------------------------------------------------------------------
+
+    /**
+     * Returns a spec with a different initial spot price.
+     *
+     * @param initialSpotPrice Initial price of the underlying asset ({@code S₀ > 0}).
+     * @return option spec
+     * @throws IllegalArgumentException if {@code initialSpotPrice} is not greater than zero
+     */
+    public OptionSpec withInitialSpotPrice(double initialSpotPrice) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(initialSpotPrice, "initialSpotPrice");
+        return new OptionSpec(this.optionStyle, this.optionType, initialSpotPrice, this.strikePrice, this.timeToMaturity, this.volatility, this.riskFreeRate, this.dividendYield);
+    }
+
+    /**
+     * Returns a spec with a different initial spot price and volatility, e.g.&nbsp;after they've been rounded.
+     *
+     * @param initialSpotPrice Initial price of the underlying asset ({@code S₀ > 0}).
+     * @param volatility Underlying volatility ({@code σ > 0}).
+     * @return option spec, this spec if neither changed
+     * @throws IllegalArgumentException if {@code initialSpotPrice} or {@code volatility} is not greater than zero
+     */
+    public OptionSpec withInitialSpotPriceAndVolatility(double initialSpotPrice, double volatility) throws IllegalArgumentException {
+        if (initialSpotPrice == this.initialSpotPrice && volatility == this.volatility) {
+            return this;
+        }
+        ValidationUtils.checkGreaterThanZero(initialSpotPrice, "initialSpotPrice");
+        ValidationUtils.checkGreaterThanZero(volatility, "volatility");
+        return new OptionSpec(this.optionStyle, this.optionType, initialSpotPrice, this.strikePrice, this.timeToMaturity, volatility, this.riskFreeRate, this.dividendYield);
+    }
+
+    /**
+     * Returns a spec with a different time to maturity.
+     *
+     * @param timeToMaturity Time until maturity/expiration in years ({@code τ = T - t > 0}).
+     * @return option spec
+     * @throws IllegalArgumentException if {@code timeToMaturity} is not greater than zero
+     */
+    public OptionSpec withTimeToMaturity(double timeToMaturity) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(timeToMaturity, "timeToMaturity");
+        return new OptionSpec(this.optionStyle, this.optionType, this.initialSpotPrice, this.strikePrice, timeToMaturity, this.volatility, this.riskFreeRate, this.dividendYield);
+    }
+
+    /**
+     * Returns a spec with a different volatility.
+     *
+     * @param volatility Underlying volatility ({@code σ > 0}).
+     * @return option spec
+     * @throws IllegalArgumentException if {@code volatility} is not greater than zero
+     */
+    public OptionSpec withVolatility(double volatility) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(volatility, "volatility");
+        return new OptionSpec(this.optionStyle, this.optionType, this.initialSpotPrice, this.strikePrice, this.timeToMaturity, volatility, this.riskFreeRate, this.dividendYield);
+    }
+
+    /**
+     * Returns a spec with a different risk-free rate.
+     *
+     * @param riskFreeRate Annualized risk-free interest rate continuously compounded ({@code r}).
+     * @return option spec
+     */
+    public OptionSpec withRiskFreeRate(double riskFreeRate) {
+        return new OptionSpec(this.optionStyle, this.optionType, this.initialSpotPrice, this.strikePrice, this.timeToMaturity, this.volatility, riskFreeRate, this.dividendYield);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion with
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    /**
+     * Get initialSpotPrice.
+     *
+     * @return initialSpotPrice
+     */
+    public double getInitialSpotPrice() {
+        return this.initialSpotPrice;
+    }
+
+    /**
+     * Get strikePrice.
+     *
+     * @return strikePrice
+     */
+    public double getStrikePrice() {
+        return this.strikePrice;
+    }
+
+    /**
+     * Get timeToMaturity.
+     *
+     * @return timeToMaturity
+     */
+    public double getTimeToMaturity() {
+        return this.timeToMaturity;
+    }
+
+    /**
+     * Get volatility.
+     *
+     * @return volatility
+     */
+    public double getVolatility() {
+        return this.volatility;
+    }
+
+    /**
+     * Get riskFreeRate.
+     *
+     * @return riskFreeRate
+     */
+    public double getRiskFreeRate() {
+        return this.riskFreeRate;
+    }
+
+    /**
+     * Get dividendYield.
+     *
+     * @return dividendYield
+     */
+    public double getDividendYield() {
+        return this.dividendYield;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+
+    //region Option
+    //----------------------------------------------------------------------
+
+    @Override
+    public OptionStyle optionStyle() {
+        return this.optionStyle;
+    }
+
+    @Override
+    public OptionType optionType() {
+        return this.optionType;
+    }
+
+    @Override
+    public Number initialSpotPrice() {
+        return this.boxed(0, this.initialSpotPrice);
+    }
+
+    @Override
+    public Number strikePrice() {
+        return this.boxed(1, this.strikePrice);
+    }
+
+    @Override
+    public Number timeToMaturity() {
+        return this.boxed(2, this.timeToMaturity);
+    }
+
+    @Override
+    public Number volatility() {
+        return this.boxed(3, this.volatility);
+    }
+
+    @Override
+    public Number riskFreeRate() {
+        return this.boxed(4, this.riskFreeRate);
+    }
+
+    @Override
+    public Number dividendYield() {
+        return this.boxed(5, this.dividendYield);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion Option
+
+    // Racing calls at worst box a parameter twice, the Doubles are immutable so either is correct
+    private Number boxed(int index, double value) {
+        Number[] boxed = this.boxed;
+        if (boxed == null) {
+            boxed = new Number[6];
+            this.boxed = boxed;
+        }
+        Number number = boxed[index];
+        if (number == null) {
+            number = value;
+            boxed[index] = number;
+        }
+        return number;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        } else if (!(object instanceof OptionSpec)) {
+            return false;
+        }
+
+        OptionSpec other = (OptionSpec) object;
+        return this.optionStyle == other.optionStyle
+            && this.optionType == other.optionType
+            && Double.compare(this.initialSpotPrice, other.initialSpotPrice) == 0
+            && Double.compare(this.strikePrice, other.strikePrice) == 0
+            && Double.compare(this.timeToMaturity, other.timeToMaturity) == 0
+            && Double.compare(this.volatility, other.volatility) == 0
+            && Double.compare(this.riskFreeRate, other.riskFreeRate) == 0
+            && Double.compare(this.dividendYield, other.dividendYield) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.optionStyle.hashCode();
+        hash = 31 * hash + this.optionType.hashCode();
+        hash = 31 * hash + Double.hashCode(this.initialSpotPrice);
+        hash = 31 * hash + Double.hashCode(this.strikePrice);
+        hash = 31 * hash + Double.hashCode(this.timeToMaturity);
+        hash = 31 * hash + Double.hashCode(this.volatility);
+        hash = 31 * hash + Double.hashCode(this.riskFreeRate);
+        hash = 31 * hash + Double.hashCode(this.dividendYield);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "OptionSpec[%s %s, S=%s, K=%s, τ=%s, σ=%s, r=%s, q=%s]",
+            this.optionStyle, this.optionType, this.initialSpotPrice, this.strikePrice, this.timeToMaturity, this.volatility, this.riskFreeRate, this.dividendYield
+        );
+    }
+
+    /**
+     * Builds an {@link OptionSpec}.&nbsp;The builder can be reused, e.g.&nbsp;to build specs for a chain of strikes, as {@link #build()} copies its state.
+     */
+    public static final class Builder {
+
+        private OptionStyle optionStyle;
+        private OptionType optionType;
+        private double initialSpotPrice;
+        private double strikePrice;
+        private double timeToMaturity;
+        private double volatility;
+        private double riskFreeRate;
+        private double dividendYield;
+
+        /**
+         * Creates a builder, the style and type must be configured before building.
+         *
+         * @param initialSpotPrice Initial price of the underlying asset ({@code S₀ > 0}).
+         * @param strikePrice Strike/exercise price of the option ({@code K > 0}).
+         * @param timeToMaturity Time until maturity/expiration in years ({@code τ = T - t > 0}).
+         * @param volatility Underlying volatility ({@code σ > 0}).
+         * @param riskFreeRate Annualized risk-free interest rate continuously compounded ({@code r}).
+         * @param dividendYield Annual dividend yield continuously compounded ({@code q}).
+         */
+        public Builder(double initialSpotPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate, double dividendYield) {
+            this.initialSpotPrice = initialSpotPrice;
+            this.strikePrice = strikePrice;
+            this.timeToMaturity = timeToMaturity;
+            this.volatility = volatility;
+            this.riskFreeRate = riskFreeRate;
+            this.dividendYield = dividendYield;
+        }
+
+        /**
+         * Configures the option style as 'American'.
+         */
+        public Builder styleAmerican() {
+            this.optionStyle = OptionStyle.AMERICAN;
+            return this;
+        }
+
+        /**
+         * Configures the option style as 'European'.
+         */
+        public Builder styleEuropean() {
+            this.optionStyle = OptionStyle.EUROPEAN;
+            return this;
+        }
+
+        /**
+         * Configures the option style.
+         *
+         * @param optionStyle option style
+         */
+        public Builder style(OptionStyle optionStyle) {
+            this.optionStyle = optionStyle;
+            return this;
+        }
+
+        /**
+         * Configures the option type.
+         *
+         * @param optionType option type
+         */
+        public Builder type(OptionType optionType) {
+            this.optionType = optionType;
+            return this;
+        }
+
+        /**
+         * Configures the option type as 'call'.
+         */
+        public Builder typeCall() {
+            this.optionType = OptionType.CALL;
+            return this;
+        }
+
+        /**
+         * Configures the option type as 'put'.
+         */
+        public Builder typePut() {
+            this.optionType = OptionType.PUT;
+            return this;
+        }
+
+        /**
+         * Sets the strike price.
+         *
+         * @param strikePrice Strike/exercise price of the option ({@code K > 0}).
+         */
+        public Builder strikePrice(double strikePrice) {
+            this.strikePrice = strikePrice;
+            return this;
+        }
+
+        /**
+         * Builds the option spec.
+         *
+         * @return option spec
+         * @throws IllegalStateException if the type and/or the style haven't been configured
+         * @throws IllegalArgumentException if the initial spot price, strike price, time to maturity, or volatility are not greater than zero
+         */
+        public OptionSpec build() throws IllegalStateException, IllegalArgumentException {
+            if (this.optionStyle == null) {
+                throw new IllegalStateException("option style not configured");
+            }
+            if (this.optionType == null) {
+                throw new IllegalStateException("option type not configured");
+            }
+            ValidationUtils.checkGreaterThanZero(this.initialSpotPrice, "initialSpotPrice");
+            ValidationUtils.checkGreaterThanZero(this.strikePrice, "strikePrice");
+            ValidationUtils.checkGreaterThanZero(this.timeToMaturity, "timeToMaturity");
+            ValidationUtils.checkGreaterThanZero(this.volatility, "volatility");
+
+            return new OptionSpec(this.optionStyle, this.optionType, this.initialSpotPrice, this.strikePrice, this.timeToMaturity, this.volatility, this.riskFreeRate, this.dividendYield);
+        }
+    }
+}
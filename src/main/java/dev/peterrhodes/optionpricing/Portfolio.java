@@ -0,0 +1,406 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.internal.OptionImpl;
+import dev.peterrhodes.optionpricing.internal.portfolio.PositionGreeks;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import dev.peterrhodes.optionpricing.models.Greeks;
+import dev.peterrhodes.optionpricing.models.PortfolioGreeks;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.UnaryOperator;
+
+/**
+ * Book of option positions whose value and Greeks are aggregated per underlying and per expiry bucket.
+ * <p>A position is an option on an underlying with a quantity.&nbsp;The Greeks of an {@link AnalyticOption} are its own, any other option is priced with a {@link PricingModel} and its Greeks are calculated with central finite differences.</p>
+ * <p>The unit Greeks of the positions are held in a {@code double[]} and the aggregates in a {@code double[]} per underlying and expiry bucket.&nbsp;{@link #greeks()} calculates them with fork-join tasks over ranges of positions, each reducing into its own accumulators which are summed when the tasks join.&nbsp;After that, changing a position's quantity, replacing a position's option, or replacing the options on an underlying only recalculates the affected positions and adjusts the aggregates by the difference.&nbsp;{@link #recalculate()} recalculates everything, e.g.&nbsp;to clear the rounding error accumulated by many updates.</p>
+ * <p>Portfolios aren't thread safe, the parallelism is internal to the calculations.</p>
+ */
+public final class Portfolio {
+
+    private static final int WIDTH = PositionGreeks.WIDTH;
+
+    // Positions per fork-join leaf task
+    private static final int LEAF_SIZE = 256;
+
+    private final double[] expiryBucketBoundaries;
+    private final int bucketCount;
+    private final Map<String, Integer> underlyingIndices = new LinkedHashMap<>();
+    private final List<Option> options = new ArrayList<>();
+    private final List<PricingModel<?>> pricingModels = new ArrayList<>();
+    private final Map<Integer, int[]> positionsByUnderlying = new HashMap<>();
+
+    // Position columns
+    private int size;
+    private double[] quantities = new double[16];
+    private int[] underlyings = new int[16];
+    private int[] buckets = new int[16];
+    private double[] unitGreeks = new double[16 * WIDTH];
+
+    // Aggregates indexed by (underlying * bucketCount + bucket) * WIDTH + greek, null until calculated
+    private double[] aggregates;
+
+    /**
+     * Creates an empty portfolio.
+     *
+     * @param expiryBucketBoundaries upper bounds of the expiry buckets in years, e.g.&nbsp;{@code 0.25, 0.5, 1, 2}, positions beyond the last boundary are in an extra bucket
+     * @throws NullPointerException if {@code expiryBucketBoundaries} is null
+     * @throws IllegalArgumentException if the boundaries aren't in ascending order
+     */
+    public Portfolio(double... expiryBucketBoundaries) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(expiryBucketBoundaries, "expiryBucketBoundaries");
+        for (int i = 1; i < expiryBucketBoundaries.length; i++) {
+            if (!(expiryBucketBoundaries[i] > expiryBucketBoundaries[i - 1])) {
+                throw new IllegalArgumentException("expiryBucketBoundaries must be in ascending order");
+            }
+        }
+        this.expiryBucketBoundaries = expiryBucketBoundaries.clone();
+        this.bucketCount = expiryBucketBoundaries.length + 1;
+    }
+
+    //region positions
+    //----------------------------------------------------------------------
+
+    /**
+     * Adds a position on an analytic option.
+     *
+     * @param underlying underlying identifier
+     * @param option analytic option
+     * @param quantity quantity, negative for a short position
+     * @return position index
+     * @throws NullPointerException if {@code underlying} or {@code option} is null
+     */
+    public int add(String underlying, AnalyticOption option, double quantity) throws NullPointerException {
+        ValidationUtils.checkNotNull(option, "option");
+        return this.addPosition(underlying, option, null, quantity);
+    }
+
+    /**
+     * Adds a position on an option priced with a pricing model.
+     *
+     * @param underlying underlying identifier
+     * @param option option spec, or a vanilla option built by {@link OptionBuilder}
+     * @param pricingModel pricing model, which must be thread safe, e.g.&nbsp;one returned by {@link PricingModelSelector}
+     * @param quantity quantity, negative for a short position
+     * @return position index
+     * @throws NullPointerException if any of the arguments are null
+     * @throws IllegalArgumentException if {@code option} has a custom exercise value, which the finite differences can't bump
+     */
+    public int add(String underlying, Option option, PricingModel<?> pricingModel, double quantity) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(pricingModel, "pricingModel");
+        return this.addPosition(underlying, toSpec(option), pricingModel, quantity);
+    }
+
+    /**
+     * Changes the quantity of a position.
+     *
+     * @param position position index
+     * @param quantity quantity, zero to close the position
+     */
+    public void setQuantity(int position, double quantity) {
+        this.checkPosition(position);
+        if (this.aggregates != null) {
+            int index = this.aggregateIndex(position);
+            double change = quantity - this.quantities[position];
+            for (int g = 0; g < WIDTH; g++) {
+                this.aggregates[index + g] += change * this.unitGreeks[position * WIDTH + g];
+            }
+        }
+        this.quantities[position] = quantity;
+    }
+
+    /**
+     * Replaces the option of a position, e.g.&nbsp;after a change of its market data, and recalculates its Greeks.&nbsp;The position keeps its underlying and pricing model.
+     *
+     * @param position position index
+     * @param option new option, an {@link AnalyticOption} if the position was added as one
+     * @throws NullPointerException if {@code option} is null
+     * @throws IllegalArgumentException if {@code option} doesn't match the kind of position
+     */
+    public void replace(int position, Option option) throws NullPointerException, IllegalArgumentException {
+        this.checkPosition(position);
+        this.replaceOption(position, option);
+        this.recalculatePositions(new int[] { position });
+    }
+
+    /**
+     * Replaces the options of every position on an underlying, e.g.&nbsp;after its spot price ticks, and recalculates their Greeks in parallel.
+     *
+     * @param underlying underlying identifier
+     * @param update returns the new option for a position's current option
+     * @throws NullPointerException if {@code underlying} or {@code update} is null
+     * @throws IllegalArgumentException if an updated option doesn't match the kind of position
+     */
+    public void replaceUnderlying(String underlying, UnaryOperator<Option> update) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(underlying, "underlying");
+        ValidationUtils.checkNotNull(update, "update");
+        Integer underlyingIndex = this.underlyingIndices.get(underlying);
+        if (underlyingIndex == null) {
+            return;
+        }
+        int[] positions = this.positionsByUnderlying.get(underlyingIndex);
+        for (int position : positions) {
+            this.replaceOption(position, update.apply(this.options.get(position)));
+        }
+        this.recalculatePositions(positions);
+    }
+
+    /**
+     * Returns the number of positions.
+     *
+     * @return number of positions
+     */
+    public int size() {
+        return this.size;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion positions
+
+    //region aggregation
+    //----------------------------------------------------------------------
+
+    /**
+     * Returns the aggregated Greeks, calculating every position the first time and the updated positions after that.
+     *
+     * @return aggregated Greeks
+     */
+    public PortfolioGreeks greeks() {
+        if (this.aggregates == null) {
+            this.recalculate();
+        }
+
+        double[] total = new double[WIDTH];
+        Map<String, Greeks> underlyingGreeks = new LinkedHashMap<>();
+        Map<String, Greeks[]> bucketGreeks = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : this.underlyingIndices.entrySet()) {
+            int u = entry.getValue();
+            double[] sum = new double[WIDTH];
+            Greeks[] buckets = new Greeks[this.bucketCount];
+            for (int b = 0; b < this.bucketCount; b++) {
+                int index = (u * this.bucketCount + b) * WIDTH;
+                buckets[b] = toGreeks(this.aggregates, index);
+                for (int g = 0; g < WIDTH; g++) {
+                    sum[g] += this.aggregates[index + g];
+                }
+            }
+            for (int g = 0; g < WIDTH; g++) {
+                total[g] += sum[g];
+            }
+            underlyingGreeks.put(entry.getKey(), toGreeks(sum, 0));
+            bucketGreeks.put(entry.getKey(), buckets);
+        }
+        return new PortfolioGreeks(toGreeks(total, 0), underlyingGreeks, bucketGreeks, this.expiryBucketBoundaries);
+    }
+
+    /**
+     * Recalculates the Greeks of every position and the aggregates.
+     */
+    public void recalculate() {
+        int aggregateLength = this.underlyingIndices.size() * this.bucketCount * WIDTH;
+        this.aggregates = ForkJoinPool.commonPool().invoke(new AggregateTask(0, this.size, aggregateLength));
+    }
+
+    //----------------------------------------------------------------------
+    //endregion aggregation
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private int addPosition(String underlying, Option option, PricingModel<?> pricingModel, double quantity) {
+        ValidationUtils.checkNotNull(underlying, "underlying");
+        Integer underlyingIndex = this.underlyingIndices.get(underlying);
+        if (underlyingIndex == null) {
+            underlyingIndex = this.underlyingIndices.size();
+            this.underlyingIndices.put(underlying, underlyingIndex);
+            this.aggregates = null; // the aggregate layout changes with the number of underlyings
+        }
+
+        int position = this.size;
+        if (position == this.quantities.length) {
+            int capacity = position * 2;
+            this.quantities = Arrays.copyOf(this.quantities, capacity);
+            this.underlyings = Arrays.copyOf(this.underlyings, capacity);
+            this.buckets = Arrays.copyOf(this.buckets, capacity);
+            this.unitGreeks = Arrays.copyOf(this.unitGreeks, capacity * WIDTH);
+        }
+        this.options.add(option);
+        this.pricingModels.add(pricingModel);
+        this.quantities[position] = quantity;
+        this.underlyings[position] = underlyingIndex;
+        this.buckets[position] = this.bucket(option.timeToMaturity().doubleValue());
+        this.size++;
+
+        int[] positions = this.positionsByUnderlying.getOrDefault(underlyingIndex, new int[0]);
+        positions = Arrays.copyOf(positions, positions.length + 1);
+        positions[positions.length - 1] = position;
+        this.positionsByUnderlying.put(underlyingIndex, positions);
+
+        if (this.aggregates != null) {
+            this.calculatePosition(position);
+            this.accumulate(position, 1d, this.aggregates);
+        }
+        return position;
+    }
+
+    private void replaceOption(int position, Option option) {
+        ValidationUtils.checkNotNull(option, "option");
+        if (this.pricingModels.get(position) == null) {
+            if (!(option instanceof AnalyticOption)) {
+                throw new IllegalArgumentException("option must be an AnalyticOption");
+            }
+            this.options.set(position, option);
+        } else {
+            this.options.set(position, toSpec(option));
+        }
+    }
+
+    /**
+     * Recalculates some positions in parallel, then moves each one's contribution between the aggregates.
+     */
+    private void recalculatePositions(int[] positions) {
+        if (this.aggregates == null) {
+            for (int position : positions) {
+                this.buckets[position] = this.bucket(this.options.get(position).timeToMaturity().doubleValue());
+            }
+            return;
+        }
+
+        for (int position : positions) {
+            this.accumulate(position, -1d, this.aggregates);
+            this.buckets[position] = this.bucket(this.options.get(position).timeToMaturity().doubleValue());
+        }
+        ForkJoinPool.commonPool().invoke(new CalculateTask(positions, 0, positions.length));
+        for (int position : positions) {
+            this.accumulate(position, 1d, this.aggregates);
+        }
+    }
+
+    private void calculatePosition(int position) {
+        Option option = this.options.get(position);
+        PricingModel<?> pricingModel = this.pricingModels.get(position);
+        if (pricingModel == null) {
+            PositionGreeks.analytic((AnalyticOption) option, this.unitGreeks, position * WIDTH);
+        } else {
+            PositionGreeks.finiteDifference(pricingModel, (OptionSpec) option, this.unitGreeks, position * WIDTH);
+        }
+    }
+
+    private void accumulate(int position, double sign, double[] accumulators) {
+        int index = this.aggregateIndex(position);
+        double quantity = sign * this.quantities[position];
+        for (int g = 0; g < WIDTH; g++) {
+            accumulators[index + g] += quantity * this.unitGreeks[position * WIDTH + g];
+        }
+    }
+
+    private int aggregateIndex(int position) {
+        return (this.underlyings[position] * this.bucketCount + this.buckets[position]) * WIDTH;
+    }
+
+    private int bucket(double timeToMaturity) {
+        int bucket = 0;
+        while (bucket < this.expiryBucketBoundaries.length && timeToMaturity > this.expiryBucketBoundaries[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= this.size) {
+            throw new IndexOutOfBoundsException("position " + position + " out of bounds for size " + this.size);
+        }
+    }
+
+    private static OptionSpec toSpec(Option option) {
+        ValidationUtils.checkNotNull(option, "option");
+        if (!(option instanceof OptionSpec) && option.getClass() != OptionImpl.class) {
+            throw new IllegalArgumentException("option must be an OptionSpec or built by OptionBuilder");
+        }
+        return OptionSpec.from(option);
+    }
+
+    private static Greeks toGreeks(double[] values, int index) {
+        return new Greeks(values[index], values[index + 1], values[index + 2], values[index + 3], values[index + 4], values[index + 5]);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+
+    /**
+     * Calculates a range of positions and reduces them into accumulators, splitting the range in half until it's small enough.
+     */
+    private final class AggregateTask extends RecursiveTask<double[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int aggregateLength;
+
+        private AggregateTask(int from, int to, int aggregateLength) {
+            this.from = from;
+            this.to = to;
+            this.aggregateLength = aggregateLength;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (this.to - this.from <= LEAF_SIZE) {
+                double[] accumulators = new double[this.aggregateLength];
+                for (int position = this.from; position < this.to; position++) {
+                    Portfolio.this.calculatePosition(position);
+                    Portfolio.this.accumulate(position, 1d, accumulators);
+                }
+                return accumulators;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            AggregateTask left = new AggregateTask(this.from, middle, this.aggregateLength);
+            left.fork();
+            double[] accumulators = new AggregateTask(middle, this.to, this.aggregateLength).compute();
+            double[] leftAccumulators = left.join();
+            for (int i = 0; i < accumulators.length; i++) {
+                accumulators[i] += leftAccumulators[i];
+            }
+            return accumulators;
+        }
+    }
+
+    /**
+     * Calculates a subset of positions, splitting it in half until it's small enough.
+     */
+    private final class CalculateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] positions;
+        private final int from;
+        private final int to;
+
+        private CalculateTask(int[] positions, int from, int to) {
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= LEAF_SIZE) {
+                for (int i = this.from; i < this.to; i++) {
+                    Portfolio.this.calculatePosition(this.positions[i]);
+                }
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new CalculateTask(this.positions, this.from, middle), new CalculateTask(this.positions, middle, this.to));
+        }
+    }
+}
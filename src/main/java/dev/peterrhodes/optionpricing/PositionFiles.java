@@ -0,0 +1,171 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.common.MappedFile;
+import dev.peterrhodes.optionpricing.internal.common.PositionFileLayout;
+import dev.peterrhodes.optionpricing.internal.portfolio.PositionFilePricer;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Prices files of positions, e.g.&nbsp;the end of day run over a book, reading the parameters from a memory-mapped columnar file and writing the prices and Greeks to another, so no {@link Option} is created per European row.
+ * <p>Both files are little-endian.&nbsp;The first 32 KiB block is the header: the magic number ({@code int}, "OPPF" for positions and "OPRF" for results), the version ({@code byte}, {@code 2}), three zero bytes, and the number of rows ({@code long}).&nbsp;Each column follows at a 32 KiB boundary, padded to a whole number of blocks, with one element per row.&nbsp;A positions file has the columns style ({@code byte}, {@link #EUROPEAN} or {@link #AMERICAN}), type ({@code byte}, {@link BatchPricing#CALL} or {@link BatchPricing#PUT}), then the doubles {@code S}, {@code K}, {@code τ}, {@code σ}, {@code r}, and {@code q}; a results file has the double columns price, delta, gamma, vega, theta, and rho.</p>
+ * <p>The rows are priced in parallel chunks of {@link #CHUNK_SIZE} rows, so each chunk covers whole pages of every column and no two threads write to the same page.&nbsp;The columns are aligned to the size of a chunk of a double column, so no chunk straddles the 1 GiB segments the files are mapped in.&nbsp;The European rows of a chunk are priced by {@link BatchPricing} straight from the mapped columns and the American rows on a Cox, Ross, and Rubinstein lattice, with finite difference Greeks.&nbsp;As with {@link BatchPricing}, the European rows aren't validated; an American row which isn't a valid {@link OptionSpec} has {@link Double#NaN} results.</p>
+ * <p>The files can also be converted and priced from the command line:</p>
+ * <pre>
+ * java -cp option-pricing.jar dev.peterrhodes.optionpricing.PositionFiles convert positions.csv positions.bin
+ * java -cp option-pricing.jar dev.peterrhodes.optionpricing.PositionFiles price positions.bin results.bin [model] [timeSteps] [parallelism]
+ * </pre>
+ */
+public interface PositionFiles {
+
+    /**
+     * Style byte of a European option in a positions file.
+     */
+    byte EUROPEAN = PositionFileLayout.EUROPEAN;
+
+    /**
+     * Style byte of an American option in a positions file.
+     */
+    byte AMERICAN = PositionFileLayout.AMERICAN;
+
+    /**
+     * Number of rows priced by a task, 4 KiB of the byte columns and 32 KiB of the double columns.
+     */
+    int CHUNK_SIZE = PositionFileLayout.CHUNK_SIZE;
+
+    /**
+     * Default number of time steps of the lattice American rows are priced on.
+     */
+    int DEFAULT_TIME_STEPS = 200;
+
+    /**
+     * Converts a CSV file of positions to a positions file.
+     * <p>The first line is a header and blank lines are skipped.&nbsp;Each row has the fields style ({@code european} or {@code american}), type ({@code call} or {@code put}), {@code S}, {@code K}, {@code τ}, {@code σ}, {@code r}, and {@code q}, separated by commas.</p>
+     *
+     * @param csv path of the CSV file
+     * @param positions path of the positions file, which is created or overwritten
+     * @return number of rows
+     * @throws NullPointerException if {@code csv} or {@code positions} is null
+     * @throws IllegalArgumentException if a row doesn't have eight fields, or a style, type, or number can't be parsed
+     * @throws IOException if a file can't be read or written
+     */
+    static long convertCsv(Path csv, Path positions) throws NullPointerException, IllegalArgumentException, IOException {
+        ValidationUtils.checkNotNull(csv, "csv");
+        ValidationUtils.checkNotNull(positions, "positions");
+
+        long rowCount = 0L;
+        try (BufferedReader reader = Files.newBufferedReader(csv)) {
+            reader.readLine(); // header
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    rowCount++;
+                }
+            }
+        }
+
+        long size = PositionFileLayout.size(rowCount, PositionFileLayout.POSITION_COLUMNS, PositionFileLayout.POSITION_BYTE_COLUMNS);
+        long[] offsets = PositionFileLayout.columnOffsets(rowCount, PositionFileLayout.POSITION_COLUMNS, PositionFileLayout.POSITION_BYTE_COLUMNS);
+        try (FileChannel channel = FileChannel.open(positions, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            BufferedReader reader = Files.newBufferedReader(csv)) {
+            MappedFile file = MappedFile.map(channel, FileChannel.MapMode.READ_WRITE, size, MappedFile.DEFAULT_SEGMENT_SHIFT);
+            PositionFileLayout.writeHeader(file, PositionFileLayout.POSITIONS_MAGIC, rowCount);
+
+            reader.readLine(); // header
+            long row = 0L;
+            long lineNumber = 1L;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                if (fields.length != PositionFileLayout.POSITION_COLUMNS) {
+                    throw new IllegalArgumentException("line " + lineNumber + " must have " + PositionFileLayout.POSITION_COLUMNS + " fields");
+                }
+                try {
+                    OptionStyle optionStyle = OptionStyle.valueOf(fields[0].trim().toUpperCase(Locale.ROOT));
+                    OptionType optionType = OptionType.valueOf(fields[1].trim().toUpperCase(Locale.ROOT));
+                    file.put(offsets[0] + row, optionStyle == OptionStyle.AMERICAN ? AMERICAN : EUROPEAN);
+                    file.put(offsets[1] + row, optionType == OptionType.CALL ? BatchPricing.CALL : BatchPricing.PUT);
+                    for (int c = PositionFileLayout.POSITION_BYTE_COLUMNS; c < PositionFileLayout.POSITION_COLUMNS; c++) {
+                        file.putDouble(offsets[c] + 8L * row, Double.parseDouble(fields[c].trim()));
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("line " + lineNumber + " can't be parsed", e);
+                }
+                row++;
+            }
+            file.force();
+        }
+        return rowCount;
+    }
+
+    /**
+     * Prices a positions file with a thread per available processor, see {@link #price(Path, Path, EuropeanModel, int, int)}.
+     *
+     * @param positions path of the positions file
+     * @param results path of the results file, which is created or overwritten
+     * @param model Analytic model of the European rows, see {@link EuropeanModel}.
+     * @param timeSteps number of time steps of the lattice American rows are priced on
+     * @return number of rows
+     * @throws NullPointerException if any of the arguments are null
+     * @throws IllegalArgumentException if {@code positions} isn't a positions file, or {@code timeSteps} isn't greater than zero
+     * @throws IOException if a file can't be read or written
+     */
+    static long price(Path positions, Path results, EuropeanModel model, int timeSteps) throws NullPointerException, IllegalArgumentException, IOException {
+        return price(positions, results, model, timeSteps, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Prices a positions file, writing the price and Greeks of each row to a results file.
+     *
+     * @param positions path of the positions file
+     * @param results path of the results file, which is created or overwritten
+     * @param model Analytic model of the European rows, see {@link EuropeanModel}.
+     * @param timeSteps number of time steps of the lattice American rows are priced on
+     * @param parallelism number of threads
+     * @return number of rows
+     * @throws NullPointerException if any of the arguments are null
+     * @throws IllegalArgumentException if {@code positions} isn't a positions file, or {@code timeSteps} or {@code parallelism} isn't greater than zero
+     * @throws IOException if a file can't be read or written
+     */
+    static long price(Path positions, Path results, EuropeanModel model, int timeSteps, int parallelism) throws NullPointerException, IllegalArgumentException, IOException {
+        ValidationUtils.checkNotNull(positions, "positions");
+        ValidationUtils.checkNotNull(results, "results");
+        ValidationUtils.checkNotNull(model, "model");
+        ValidationUtils.checkGreaterThanZero(timeSteps, "timeSteps");
+        ValidationUtils.checkGreaterThanZero(parallelism, "parallelism");
+
+        return PositionFilePricer.price(positions, results, model, timeSteps, parallelism, MappedFile.DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Converts or prices files from the command line, see {@link PositionFiles}.
+     *
+     * @param args {@code convert <csv> <positions>} or {@code price <positions> <results> [model] [timeSteps] [parallelism]}
+     * @throws IllegalArgumentException if the arguments aren't a command
+     * @throws IOException if a file can't be read or written
+     */
+    static void main(String[] args) throws IllegalArgumentException, IOException {
+        if (args.length == 3 && args[0].equals("convert")) {
+            convertCsv(Paths.get(args[1]), Paths.get(args[2]));
+        } else if (args.length >= 3 && args.length <= 6 && args[0].equals("price")) {
+            EuropeanModel model = args.length > 3 ? EuropeanModel.valueOf(args[3].toUpperCase(Locale.ROOT)) : EuropeanModel.BLACK_SCHOLES_MERTON;
+            int timeSteps = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_TIME_STEPS;
+            int parallelism = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+            price(Paths.get(args[1]), Paths.get(args[2]), model, timeSteps, parallelism);
+        } else {
+            throw new IllegalArgumentException("usage: convert <csv> <positions> | price <positions> <results> [model] [timeSteps] [parallelism]");
+        }
+    }
+}
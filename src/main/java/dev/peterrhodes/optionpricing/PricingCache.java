@@ -0,0 +1,204 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.internal.cache.CacheKey;
+import dev.peterrhodes.optionpricing.internal.cache.CachingPricingModel;
+import dev.peterrhodes.optionpricing.internal.cache.MemoizedAnalyticOption;
+import dev.peterrhodes.optionpricing.internal.cache.StripedLruCache;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import dev.peterrhodes.optionpricing.models.PricingCacheStats;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Opt-in cache of pricing results for workloads which price the same contracts repeatedly, e.g.&nbsp;an option held in several books or a UI refreshing its view.
+ * <p>Results are keyed on the model and the full set of option parameters.&nbsp;Pricing models are compared with {@code equals}: the models of {@link PricingModelSelector} are equal if they have the same type and parameters, e.g.&nbsp;two {@code coxRossRubinstein(1000)} models share their results, while other implementations are compared however they implement {@code equals}, by default by identity.&nbsp;The initial spot price and volatility can be rounded to a quantum first, so nearby market data shares a result; the result is then calculated at the rounded parameters, and every lookup with the same key gets the same value.</p>
+ * <p>The cache is bounded by size, evicting the least recently used results, and optionally by time.&nbsp;It's split into lock-striped segments so it can be shared by every pricing thread.&nbsp;Results are cached for:</p>
+ * <ul>
+ *   <li>{@link PricingModel} prices, by decorating the model with {@link #cache(PricingModel)}.&nbsp;Custom options, whose exercise values can't be compared, and calculations aren't cached.</li>
+ *   <li>{@link AnalyticOption}s, looked up with {@link #analyticOption(EuropeanModel, OptionSpec)}, which calculate their price and Greeks at most once.</li>
+ * </ul>
+ */
+public final class PricingCache {
+
+    private final StripedLruCache<CacheKey, Object> cache;
+    private final double spotQuantum;
+    private final double volatilityQuantum;
+
+    private PricingCache(Builder builder) {
+        this.cache = new StripedLruCache<>(builder.maximumSize, builder.timeToLive.toNanos(), builder.stripes, builder.ticker);
+        this.spotQuantum = builder.spotQuantum;
+        this.volatilityQuantum = builder.volatilityQuantum;
+    }
+
+    /**
+     * Returns a pricing model which caches the prices calculated by a pricing model.
+     *
+     * @param <T> calculation model type
+     * @param pricingModel pricing model to cache the prices of
+     * @return caching pricing model
+     * @throws NullPointerException if {@code pricingModel} is null
+     */
+    public <T> PricingModel<T> cache(PricingModel<T> pricingModel) throws NullPointerException {
+        ValidationUtils.checkNotNull(pricingModel, "pricingModel");
+        return new CachingPricingModel<>(pricingModel, this.cache, this::quantise);
+    }
+
+    /**
+     * Returns the cached Black-Scholes-Merton option for a spec, see {@link #analyticOption(EuropeanModel, OptionSpec)}.
+     *
+     * @param spec European option spec
+     * @return cached European option
+     * @throws NullPointerException if {@code spec} is null
+     * @throws IllegalArgumentException if {@code spec} isn't European style
+     */
+    public AnalyticOption analyticOption(OptionSpec spec) throws NullPointerException, IllegalArgumentException {
+        return this.analyticOption(EuropeanModel.BLACK_SCHOLES_MERTON, spec);
+    }
+
+    /**
+     * Returns the cached analytic option for a spec, creating it with {@link AnalyticOptionFactory#create(EuropeanModel, OptionSpec)} on a miss.
+     * <p>The option calculates each of its price and Greeks at most once.&nbsp;It's shared with every other lookup of the same key, so a change of its calculation step precision applies to the calculations every lookup creates after it; the precision doesn't change the values.</p>
+     *
+     * @param model analytic model
+     * @param spec European option spec
+     * @return cached European option
+     * @throws NullPointerException if {@code model} or {@code spec} is null
+     * @throws IllegalArgumentException if {@code spec} isn't European style
+     */
+    public AnalyticOption analyticOption(EuropeanModel model, OptionSpec spec) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(model, "model");
+        ValidationUtils.checkNotNull(spec, "spec");
+        CacheKey key = new CacheKey(model, this.quantise(spec));
+        return (AnalyticOption) this.cache.get(key, k -> new MemoizedAnalyticOption(AnalyticOptionFactory.create(model, k.getSpec())));
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return point in time copy of the statistics
+     */
+    public PricingCacheStats stats() {
+        return new PricingCacheStats(this.cache.hits(), this.cache.misses(), this.cache.evictions(), this.cache.size());
+    }
+
+    /**
+     * Removes the expired results, which are otherwise only removed when they're looked up or evicted.
+     */
+    public void cleanUp() {
+        this.cache.cleanUp();
+    }
+
+    /**
+     * Removes every result, e.g.&nbsp;after a change of the market data that isn't part of the key; the statistics are kept.
+     */
+    public void invalidateAll() {
+        this.cache.clear();
+    }
+
+    private OptionSpec quantise(OptionSpec spec) {
+        return spec.withInitialSpotPriceAndVolatility(
+            quantise(spec.getInitialSpotPrice(), this.spotQuantum),
+            quantise(spec.getVolatility(), this.volatilityQuantum)
+        );
+    }
+
+    private static double quantise(double value, double quantum) {
+        if (quantum == 0d) {
+            return value;
+        }
+        return Math.max(quantum, Math.round(value / quantum) * quantum); // a positive value stays positive
+    }
+
+    /**
+     * Builds a {@link PricingCache}.
+     */
+    public static final class Builder {
+
+        private int maximumSize = 10_000;
+        private Duration timeToLive = Duration.ZERO;
+        private int stripes = 16;
+        private double spotQuantum;
+        private double volatilityQuantum;
+        private LongSupplier ticker = System::nanoTime;
+
+        /**
+         * Sets the maximum number of cached results, defaults to 10,000.
+         *
+         * @param maximumSize maximum number of results ({@code > 0})
+         * @throws IllegalArgumentException if {@code maximumSize} is not greater than zero
+         */
+        public Builder maximumSize(int maximumSize) throws IllegalArgumentException {
+            ValidationUtils.checkGreaterThanZero(maximumSize, "maximumSize");
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a result is cached after it's calculated, by default results are cached until they're evicted.
+         *
+         * @param timeToLive time to live ({@code > 0})
+         * @throws NullPointerException if {@code timeToLive} is null
+         * @throws IllegalArgumentException if {@code timeToLive} is not greater than zero
+         */
+        public Builder expireAfterWrite(Duration timeToLive) throws NullPointerException, IllegalArgumentException {
+            ValidationUtils.checkNotNull(timeToLive, "timeToLive");
+            ValidationUtils.checkGreaterThanZero(timeToLive.toNanos(), "timeToLive");
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the number of lock-striped segments, rounded up to a power of two, defaults to 16.&nbsp;Each segment holds an equal share of the maximum size.
+         *
+         * @param stripes number of segments ({@code > 0})
+         * @throws IllegalArgumentException if {@code stripes} is not greater than zero
+         */
+        public Builder stripes(int stripes) throws IllegalArgumentException {
+            ValidationUtils.checkGreaterThanZero(stripes, "stripes");
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * Rounds the initial spot price to a multiple of a quantum before it's used in a key, by default it isn't rounded.
+         *
+         * @param quantum spot price resolution, e.g.&nbsp;{@code 0.01} ({@code > 0})
+         * @throws IllegalArgumentException if {@code quantum} is not greater than zero
+         */
+        public Builder spotQuantum(double quantum) throws IllegalArgumentException {
+            ValidationUtils.checkGreaterThanZero(quantum, "quantum");
+            this.spotQuantum = quantum;
+            return this;
+        }
+
+        /**
+         * Rounds the volatility to a multiple of a quantum before it's used in a key, by default it isn't rounded.
+         *
+         * @param quantum volatility resolution, e.g.&nbsp;{@code 0.0001} ({@code > 0})
+         * @throws IllegalArgumentException if {@code quantum} is not greater than zero
+         */
+        public Builder volatilityQuantum(double quantum) throws IllegalArgumentException {
+            ValidationUtils.checkGreaterThanZero(quantum, "quantum");
+            this.volatilityQuantum = quantum;
+            return this;
+        }
+
+        /**
+         * Sets the source of the current time in nanoseconds, for testing expiry.
+         */
+        Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Builds the pricing cache.
+         *
+         * @return pricing cache
+         */
+        public PricingCache build() {
+            return new PricingCache(this);
+        }
+    }
+}
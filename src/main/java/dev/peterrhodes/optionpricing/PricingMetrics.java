@@ -0,0 +1,91 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.internal.instrumentation.Instrumentation;
+import dev.peterrhodes.optionpricing.internal.instrumentation.RecordingPricingMetrics;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import dev.peterrhodes.optionpricing.models.PricingMetricsSnapshot;
+
+/**
+ * Hook for recording where pricing time goes, i.e.&nbsp;calls and latencies of the {@link PricingModel} and {@link AnalyticOption} entry points, lattice nodes evaluated, and standard normal CDF evaluations.
+ * <p>The {@link #noOp() no-op} metrics are installed by default, in which case the options and pricing models aren't instrumented at all.&nbsp;Options and pricing models are instrumented when they're created by {@link AnalyticOptionFactory} and {@link PricingModelSelector}, so the metrics should be {@link #install installed} before creating them.&nbsp;Operations are named after the model and the method, e.g.&nbsp;{@code CoxRossRubinstein.price} or {@code BlackScholesMerton.delta}.</p>
+ * <p>Implementations are called concurrently from every pricing thread, so they must be thread safe and should be cheap.&nbsp;{@link #recording()} returns an implementation which records into lock-free histograms and counters and can be read with {@link #snapshot()}, which is enough to bridge to an external telemetry system by polling.</p>
+ */
+public interface PricingMetrics {
+
+    /**
+     * Records a call of an entry point.
+     *
+     * @param operation name of the model and method, e.g.&nbsp;{@code Heston.price}
+     * @param elapsedNanos time taken by the call in nanoseconds
+     */
+    default void recordCall(String operation, long elapsedNanos) {
+    }
+
+    /**
+     * Records the number of lattice nodes evaluated by a call of an entry point.
+     *
+     * @param operation name of the model and method, e.g.&nbsp;{@code CoxRossRubinstein.price}
+     * @param nodes number of nodes evaluated
+     */
+    default void recordLatticeNodes(String operation, long nodes) {
+    }
+
+    /**
+     * Records an evaluation of the standard normal cumulative distribution function.
+     */
+    default void recordCdfEvaluation() {
+    }
+
+    /**
+     * Returns a point in time copy of the recorded metrics.
+     *
+     * @return snapshot of the metrics, empty unless the implementation records them
+     */
+    default PricingMetricsSnapshot snapshot() {
+        return PricingMetricsSnapshot.EMPTY;
+    }
+
+    //region factories
+    //----------------------------------------------------------------------
+
+    /**
+     * Returns the metrics which don't record anything.
+     *
+     * @return no-op metrics
+     */
+    static PricingMetrics noOp() {
+        return Instrumentation.NO_OP;
+    }
+
+    /**
+     * Returns new metrics which record the calls, latencies, lattice nodes, and CDF evaluations in memory.&nbsp;Latencies are recorded in log-linear histograms with a relative error of at most {@code 1/32}.
+     *
+     * @return recording metrics
+     */
+    static PricingMetrics recording() {
+        return new RecordingPricingMetrics();
+    }
+
+    //----------------------------------------------------------------------
+    //endregion factories
+
+    /**
+     * Installs the metrics that options and pricing models created from now on record to, {@link #noOp()} to disable instrumentation.
+     *
+     * @param metrics metrics to install
+     * @throws NullPointerException if {@code metrics} is null
+     */
+    static void install(PricingMetrics metrics) throws NullPointerException {
+        ValidationUtils.checkNotNull(metrics, "metrics");
+        Instrumentation.install(metrics);
+    }
+
+    /**
+     * Returns the installed metrics.
+     *
+     * @return installed metrics
+     */
+    static PricingMetrics installed() {
+        return Instrumentation.metrics();
+    }
+}
@@ -14,6 +14,18 @@ public interface PricingModel<T> {
      */
     double price(Option option) throws NullPointerException;
 
+    /**
+     * Calculates the price of the option from its primitive parameters.
+     * <p>The default implementation prices the spec as an {@link Option}, models override it to avoid reading the parameters as {@link Number}s.</p>
+     *
+     * @param spec the option to be priced
+     * @return option price
+     * @throws NullPointerException if {@code spec} is null
+     */
+    default double price(OptionSpec spec) throws NullPointerException {
+        return this.price((Option) spec);
+    }
+
     /**
      * Returns a model with the details of the option pricing model calculation.
      *
@@ -1,13 +1,28 @@
 package dev.peterrhodes.optionpricing;
 
+import dev.peterrhodes.optionpricing.internal.instrumentation.Instrumentation;
 import dev.peterrhodes.optionpricing.internal.pricingmodels.CoxRossRubinsteinPricingModel;
+import dev.peterrhodes.optionpricing.internal.pricingmodels.FourierCosinePricingModel;
+import dev.peterrhodes.optionpricing.internal.pricingmodels.HestonPricingModel;
 import dev.peterrhodes.optionpricing.models.CoxRossRubinstein;
+import dev.peterrhodes.optionpricing.models.FourierCosine;
+import dev.peterrhodes.optionpricing.models.Heston;
 
 /**
  * Provides a selection of the available option pricing models.
  */
 public interface PricingModelSelector {
 
+    /**
+     * Default number of Gauss-Laguerre nodes for integrating characteristic functions.
+     */
+    int DEFAULT_INTEGRATION_NODES = 64;
+
+    /**
+     * Default number of terms in the cosine series of the Fourier-cosine pricing model.
+     */
+    int DEFAULT_COSINE_TERMS = 256;
+
     /**
      * Returns a {@link PricingModel} which implements the <a href="https://citeseerx.ist.psu.edu/viewdoc/summary?doi=10.1.1.379.7582">Cox, Ross, and Rubinstein (1979)</a> pricing model.
      *
@@ -16,6 +31,59 @@ public interface PricingModelSelector {
      * @throws IllegalArgumentException if {@code timeSteps} is not greater than zero
      */
     static PricingModel<CoxRossRubinstein> coxRossRubinstein(int timeSteps) throws IllegalArgumentException {
-        return new CoxRossRubinsteinPricingModel(timeSteps);
+        return Instrumentation.instrument(new CoxRossRubinsteinPricingModel(timeSteps), CoxRossRubinsteinPricingModel.MODEL_NAME);
+    }
+
+    /**
+     * Returns a {@link StrikeVectorPricingModel} which implements the <a href="https://doi.org/10.1093/rfs/6.2.327">Heston (1993)</a> stochastic volatility pricing model for European options.&nbsp;The option's volatility is used as the initial volatility, i.e.&nbsp;the initial variance is {@code v₀ = σ²}.
+     *
+     * @param kappa Rate at which the variance reverts to its long run mean ({@code κ > 0}).
+     * @param theta Long run mean of the variance ({@code θ > 0}).
+     * @param xi Volatility of the variance ({@code ξ > 0}).
+     * @param rho Correlation between the underlying asset price and its variance ({@code -1 < ρ < 1}).
+     * @return pricing model
+     * @throws IllegalArgumentException if {@code kappa}, {@code theta}, or {@code xi} are not greater than zero, or {@code rho} is not between minus one and one
+     */
+    static StrikeVectorPricingModel<Heston> heston(double kappa, double theta, double xi, double rho) throws IllegalArgumentException {
+        return heston(kappa, theta, xi, rho, DEFAULT_INTEGRATION_NODES);
+    }
+
+    /**
+     * Returns a {@link StrikeVectorPricingModel} which implements the Heston (1993) stochastic volatility pricing model for European options, see {@link #heston(double, double, double, double)}.
+     *
+     * @param kappa Rate at which the variance reverts to its long run mean ({@code κ > 0}).
+     * @param theta Long run mean of the variance ({@code θ > 0}).
+     * @param xi Volatility of the variance ({@code ξ > 0}).
+     * @param rho Correlation between the underlying asset price and its variance ({@code -1 < ρ < 1}).
+     * @param integrationNodes Number of Gauss-Laguerre nodes used to integrate the characteristic function.
+     * @return pricing model
+     * @throws IllegalArgumentException if {@code kappa}, {@code theta}, {@code xi}, or {@code integrationNodes} are not greater than zero, or {@code rho} is not between minus one and one
+     */
+    static StrikeVectorPricingModel<Heston> heston(double kappa, double theta, double xi, double rho, int integrationNodes) throws IllegalArgumentException {
+        return Instrumentation.instrument(new HestonPricingModel(kappa, theta, xi, rho, integrationNodes), HestonPricingModel.MODEL_NAME);
+    }
+
+    /**
+     * Returns a {@link StrikeVectorPricingModel} which implements the <a href="https://doi.org/10.1137/080718061">Fang and Oosterlee (2008)</a> Fourier-cosine series expansion for European options, priced under the dynamics of the characteristic function.&nbsp;The option's volatility is ignored.
+     *
+     * @param characteristicFunction Characteristic function of the log return of the underlying asset relative to its forward price, see {@link CharacteristicFunction}.
+     * @return pricing model
+     * @throws NullPointerException if {@code characteristicFunction} is null
+     */
+    static StrikeVectorPricingModel<FourierCosine> fourierCosine(CharacteristicFunction characteristicFunction) throws NullPointerException {
+        return fourierCosine(characteristicFunction, DEFAULT_COSINE_TERMS);
+    }
+
+    /**
+     * Returns a {@link StrikeVectorPricingModel} which implements the Fang and Oosterlee (2008) Fourier-cosine series expansion for European options, see {@link #fourierCosine(CharacteristicFunction)}.
+     *
+     * @param characteristicFunction Characteristic function of the log return of the underlying asset relative to its forward price, see {@link CharacteristicFunction}.
+     * @param terms Number of terms in the cosine series.
+     * @return pricing model
+     * @throws NullPointerException if {@code characteristicFunction} is null
+     * @throws IllegalArgumentException if {@code terms} is not greater than zero
+     */
+    static StrikeVectorPricingModel<FourierCosine> fourierCosine(CharacteristicFunction characteristicFunction, int terms) throws NullPointerException, IllegalArgumentException {
+        return Instrumentation.instrument(new FourierCosinePricingModel(characteristicFunction, terms), FourierCosinePricingModel.MODEL_NAME);
     }
 }
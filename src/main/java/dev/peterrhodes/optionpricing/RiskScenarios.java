@@ -0,0 +1,193 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.internal.utils.MathUtils;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import java.util.SplittableRandom;
+
+/**
+ * Spot price scenarios of a set of underlyings that the {@link ValueAtRiskEngine} revalues a book under, either historical returns or returns simulated by Monte Carlo.
+ * <p>The scenarios are generated block by block as they're revalued, so a simulation never holds more than a block of returns per thread.</p>
+ */
+public final class RiskScenarios {
+
+    private final int size;
+    private final int underlyingCount;
+
+    // Historical
+    private final double[][] spotReturns;
+
+    // Monte Carlo
+    private final double[] drifts;
+    private final double[][] choleskyFactor;
+    private final long seed;
+
+    private RiskScenarios(int size, int underlyingCount, double[][] spotReturns, double[] drifts, double[][] choleskyFactor, long seed) {
+        this.size = size;
+        this.underlyingCount = underlyingCount;
+        this.spotReturns = spotReturns;
+        this.drifts = drifts;
+        this.choleskyFactor = choleskyFactor;
+        this.seed = seed;
+    }
+
+    /**
+     * Creates historical scenarios, e.g.&nbsp;the daily returns of the underlyings over the last 10 years.
+     *
+     * @param spotReturns relative spot price returns indexed by {@code [scenario][underlying]} ({@code > -1}), the shocked price is {@code S (1 + return)}
+     * @return historical scenarios
+     * @throws NullPointerException if {@code spotReturns} or any of its rows are null
+     * @throws IllegalArgumentException if there are no scenarios or underlyings, the rows aren't all the same length, or a return isn't greater than -1
+     */
+    public static RiskScenarios historical(double[][] spotReturns) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(spotReturns, "spotReturns");
+        ValidationUtils.checkGreaterThanZero(spotReturns.length, "number of scenarios");
+        ValidationUtils.checkNotNull(spotReturns[0], "spotReturns row");
+        ValidationUtils.checkGreaterThanZero(spotReturns[0].length, "number of underlyings");
+
+        int underlyingCount = spotReturns[0].length;
+        double[][] copy = new double[spotReturns.length][];
+        for (int s = 0; s < spotReturns.length; s++) {
+            ValidationUtils.checkNotNull(spotReturns[s], "spotReturns row");
+            if (spotReturns[s].length != underlyingCount) {
+                throw new IllegalArgumentException("spotReturns rows must all be the same length");
+            }
+            for (double spotReturn : spotReturns[s]) {
+                if (!(spotReturn > -1d)) {
+                    throw new IllegalArgumentException("spot returns must be greater than -1");
+                }
+            }
+            copy[s] = spotReturns[s].clone();
+        }
+        return new RiskScenarios(spotReturns.length, underlyingCount, copy, null, null, 0L);
+    }
+
+    /**
+     * Creates Monte Carlo scenarios of correlated geometric Brownian motions without drift, i.e.&nbsp;the log return of underlying {@code u} over the horizon {@code h} is {@code -σ_u² h / 2 + σ_u √h (Lz)_u} where {@code L} is the Cholesky factor of the correlations and {@code z} is standard normal.
+     * <p>Each scenario has its own random number generator seeded from {@code seed} and the scenario index, so the scenarios don't depend on the block size or the order the blocks are generated in.</p>
+     *
+     * @param volatilities annualized volatility of each underlying ({@code σ > 0})
+     * @param correlations correlation matrix of the underlyings, which must be symmetric positive definite
+     * @param horizon risk horizon in years ({@code h > 0}), e.g.&nbsp;{@code 1 / 252} for one trading day
+     * @param count number of scenarios ({@code > 0})
+     * @param seed random number generator seed
+     * @return Monte Carlo scenarios
+     * @throws NullPointerException if {@code volatilities}, {@code correlations}, or any of its rows are null
+     * @throws IllegalArgumentException if a volatility, {@code horizon}, or {@code count} isn't greater than zero, or {@code correlations} isn't a positive definite matrix of the same size as {@code volatilities}
+     */
+    public static RiskScenarios monteCarlo(double[] volatilities, double[][] correlations, double horizon, int count, long seed) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(volatilities, "volatilities");
+        ValidationUtils.checkNotNull(correlations, "correlations");
+        ValidationUtils.checkGreaterThanZero(volatilities.length, "number of underlyings");
+        ValidationUtils.checkGreaterThanZero(horizon, "horizon");
+        ValidationUtils.checkGreaterThanZero(count, "count");
+        for (double volatility : volatilities) {
+            ValidationUtils.checkGreaterThanZero(volatility, "volatility");
+        }
+
+        int n = volatilities.length;
+        double[][] L = cholesky(correlations, n);
+
+        // The volatility is folded into the factor, so a scenario's log return is its drift plus a row of the factor times z
+        double sqrtHorizon = Math.sqrt(horizon);
+        double[] drifts = new double[n];
+        for (int u = 0; u < n; u++) {
+            double σ = volatilities[u];
+            drifts[u] = -σ * σ * horizon / 2d;
+            for (int v = 0; v <= u; v++) {
+                L[u][v] *= σ * sqrtHorizon;
+            }
+        }
+        return new RiskScenarios(count, n, null, drifts, L, seed);
+    }
+
+    /**
+     * Returns the number of scenarios.
+     *
+     * @return number of scenarios
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of underlyings.
+     *
+     * @return number of underlyings
+     */
+    public int underlyingCount() {
+        return this.underlyingCount;
+    }
+
+    /**
+     * Writes the spot price factors {@code S_shocked / S} of a block of scenarios and their logarithms, indexed by {@code (scenario - first) * underlyingCount() + underlying}.
+     */
+    void fill(int first, int count, double[] spotFactors, double[] logSpotFactors) {
+        int n = this.underlyingCount;
+        if (this.spotReturns != null) {
+            for (int s = 0; s < count; s++) {
+                double[] returns = this.spotReturns[first + s];
+                for (int u = 0; u < n; u++) {
+                    spotFactors[s * n + u] = 1d + returns[u];
+                    logSpotFactors[s * n + u] = Math.log1p(returns[u]);
+                }
+            }
+            return;
+        }
+
+        double[] z = new double[n];
+        for (int s = 0; s < count; s++) {
+            SplittableRandom random = new SplittableRandom(this.seed ^ (first + s) * 0x9E3779B97F4A7C15L);
+            for (int u = 0; u < n; u++) {
+                // Uniform in the open interval (0, 1)
+                z[u] = MathUtils.inverseStandardNormalCdf(((random.nextLong() >>> 11) + 0.5) * 0x1.0p-53);
+            }
+            for (int u = 0; u < n; u++) {
+                double[] row = this.choleskyFactor[u];
+                double logReturn = this.drifts[u];
+                for (int v = 0; v <= u; v++) {
+                    logReturn += row[v] * z[v];
+                }
+                spotFactors[s * n + u] = Math.exp(logReturn);
+                logSpotFactors[s * n + u] = logReturn;
+            }
+        }
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private static double[][] cholesky(double[][] correlations, int n) {
+        if (correlations.length != n) {
+            throw new IllegalArgumentException("correlations must be the same size as volatilities");
+        }
+
+        double[][] L = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            ValidationUtils.checkNotNull(correlations[i], "correlations row");
+            if (correlations[i].length != n) {
+                throw new IllegalArgumentException("correlations must be the same size as volatilities");
+            }
+            for (int j = 0; j <= i; j++) {
+                if (correlations[i][j] != correlations[j][i]) {
+                    throw new IllegalArgumentException("correlations must be symmetric");
+                }
+                double sum = correlations[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= L[i][k] * L[j][k];
+                }
+                if (i == j) {
+                    if (!(sum > 0d)) {
+                        throw new IllegalArgumentException("correlations must be positive definite");
+                    }
+                    L[i][i] = Math.sqrt(sum);
+                } else {
+                    L[i][j] = sum / L[j][j];
+                }
+            }
+        }
+        return L;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -0,0 +1,86 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.internal.scenario.ScenarioRevaluation;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import dev.peterrhodes.optionpricing.models.ScenarioCube;
+import java.util.stream.IntStream;
+
+/**
+ * Revalues a book of options under every scenario of a {@link ScenarioGrid}, e.g.&nbsp;a 21×21 spot/volatility grid with parallel rate shifts.
+ * <p>The contracts are revalued in parallel on the common fork-join pool, each into its own slice of a primitive {@link ScenarioCube}, so there's no option object per scenario and no contention between contracts.</p>
+ */
+public interface ScenarioEngine {
+
+    /**
+     * Revalues a book of European options with an analytic model, see {@link EuropeanModel} for how the spec parameters are interpreted.&nbsp;The work which doesn't depend on a shock is shared across the scenarios of a contract.
+     *
+     * @param model analytic model
+     * @param book contracts, which must be European style
+     * @param quantities position quantity of each contract
+     * @param grid scenario grid
+     * @return scenario cube
+     * @throws NullPointerException if any of the arguments or contracts are null
+     * @throws IllegalArgumentException if {@code book} and {@code quantities} aren't the same length or a contract isn't European style
+     */
+    static ScenarioCube european(EuropeanModel model, OptionSpec[] book, double[] quantities, ScenarioGrid grid) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(model, "model");
+        checkBook(book, quantities, grid);
+        for (OptionSpec spec : book) {
+            if (spec.optionStyle() != OptionStyle.EUROPEAN) {
+                throw new IllegalArgumentException("book must only contain European style options");
+            }
+        }
+
+        double[] spotShocks = grid.getSpotShocks();
+        double[] logSpotFactors = new double[spotShocks.length];
+        for (int i = 0; i < spotShocks.length; i++) {
+            logSpotFactors[i] = Math.log1p(spotShocks[i]);
+        }
+
+        int scenarios = grid.size();
+        double[] baseValues = new double[book.length];
+        double[] values = new double[book.length * scenarios];
+        IntStream.range(0, book.length).parallel().forEach(c -> {
+            baseValues[c] = ScenarioRevaluation.european(model, book[c], grid, logSpotFactors, values, c * scenarios);
+        });
+        return new ScenarioCube(grid, quantities.clone(), baseValues, values);
+    }
+
+    /**
+     * Revalues a book of options with a pricing model, e.g.&nbsp;a lattice for American options.
+     *
+     * @param pricingModel pricing model, which must be thread safe or confined to a single call, e.g.&nbsp;one returned by {@link PricingModelSelector}
+     * @param book contracts
+     * @param quantities position quantity of each contract
+     * @param grid scenario grid
+     * @return scenario cube
+     * @throws NullPointerException if any of the arguments or contracts are null
+     * @throws IllegalArgumentException if {@code book} and {@code quantities} aren't the same length
+     */
+    static ScenarioCube revalue(PricingModel<?> pricingModel, OptionSpec[] book, double[] quantities, ScenarioGrid grid) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(pricingModel, "pricingModel");
+        checkBook(book, quantities, grid);
+
+        int scenarios = grid.size();
+        double[] baseValues = new double[book.length];
+        double[] values = new double[book.length * scenarios];
+        IntStream.range(0, book.length).parallel().forEach(c -> {
+            baseValues[c] = ScenarioRevaluation.pricingModel(pricingModel, book[c], grid, values, c * scenarios);
+        });
+        return new ScenarioCube(grid, quantities.clone(), baseValues, values);
+    }
+
+    private static void checkBook(OptionSpec[] book, double[] quantities, ScenarioGrid grid) {
+        ValidationUtils.checkNotNull(book, "book");
+        ValidationUtils.checkNotNull(quantities, "quantities");
+        ValidationUtils.checkNotNull(grid, "grid");
+        if (book.length != quantities.length) {
+            throw new IllegalArgumentException("book and quantities must be the same length");
+        }
+        for (OptionSpec spec : book) {
+            ValidationUtils.checkNotNull(spec, "book contract");
+        }
+    }
+}
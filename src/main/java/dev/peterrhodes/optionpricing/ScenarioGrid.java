@@ -0,0 +1,202 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+
+/**
+ * Grid of market data shocks that a book is revalued under by the {@link ScenarioEngine}, i.e.&nbsp;every combination of a spot price shock, a volatility shock, and a rate shift.
+ * <ul>
+ *   <li>Spot price shocks are relative, the shocked price is {@code S (1 + shock)}.</li>
+ *   <li>Volatility shocks are absolute, the shocked volatility is {@code σ + shock}, floored at {@link #VOLATILITY_FLOOR}.</li>
+ *   <li>Rate shifts are parallel shifts of the risk-free rate, the shifted rate is {@code r + shift}.</li>
+ * </ul>
+ * <p>Scenarios are numbered with the spot price shock varying fastest, then the volatility shock, then the rate shift.</p>
+ */
+public final class ScenarioGrid {
+
+    /**
+     * Smallest shocked volatility.
+     */
+    public static final double VOLATILITY_FLOOR = 1e-8;
+
+    private final double[] spotShocks;
+    private final double[] volatilityShocks;
+    private final double[] rateShifts;
+
+    private ScenarioGrid(double[] spotShocks, double[] volatilityShocks, double[] rateShifts) {
+        this.spotShocks = spotShocks;
+        this.volatilityShocks = volatilityShocks;
+        this.rateShifts = rateShifts;
+    }
+
+    /**
+     * Returns evenly spaced shocks, e.g.&nbsp;{@code steps(-0.1, 0.1, 21)} for spot price shocks of ±10% in 1% steps.
+     *
+     * @param min first shock
+     * @param max last shock
+     * @param count number of shocks ({@code > 0}), a single shock is {@code min}
+     * @return shocks
+     * @throws IllegalArgumentException if {@code count} is not greater than zero
+     */
+    public static double[] steps(double min, double max, int count) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(count, "count");
+        double[] shocks = new double[count];
+        for (int i = 0; i < count; i++) {
+            shocks[i] = count == 1 ? min : min + (max - min) * i / (count - 1);
+        }
+        return shocks;
+    }
+
+    /**
+     * Returns the number of scenarios.
+     *
+     * @return number of scenarios
+     */
+    public int size() {
+        return this.spotShocks.length * this.volatilityShocks.length * this.rateShifts.length;
+    }
+
+    /**
+     * Returns the index of a scenario.
+     *
+     * @param spotIndex index of the spot price shock
+     * @param volatilityIndex index of the volatility shock
+     * @param rateIndex index of the rate shift
+     * @return scenario index
+     */
+    public int scenario(int spotIndex, int volatilityIndex, int rateIndex) {
+        return (rateIndex * this.volatilityShocks.length + volatilityIndex) * this.spotShocks.length + spotIndex;
+    }
+
+    /**
+     * Returns the spot price shock of a scenario.
+     *
+     * @param scenario scenario index
+     * @return relative spot price shock
+     */
+    public double spotShock(int scenario) {
+        return this.spotShocks[scenario % this.spotShocks.length];
+    }
+
+    /**
+     * Returns the volatility shock of a scenario.
+     *
+     * @param scenario scenario index
+     * @return absolute volatility shock
+     */
+    public double volatilityShock(int scenario) {
+        return this.volatilityShocks[scenario / this.spotShocks.length % this.volatilityShocks.length];
+    }
+
+    /**
+     * Returns the rate shift of a scenario.
+     *
+     * @param scenario scenario index
+     * @return rate shift
+     */
+    public double rateShift(int scenario) {
+        return this.rateShifts[scenario / (this.spotShocks.length * this.volatilityShocks.length)];
+    }
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    /**
+     * Get spotShocks.
+     *
+     * @return spotShocks
+     */
+    public double[] getSpotShocks() {
+        return this.spotShocks.clone();
+    }
+
+    /**
+     * Get volatilityShocks.
+     *
+     * @return volatilityShocks
+     */
+    public double[] getVolatilityShocks() {
+        return this.volatilityShocks.clone();
+    }
+
+    /**
+     * Get rateShifts.
+     *
+     * @return rateShifts
+     */
+    public double[] getRateShifts() {
+        return this.rateShifts.clone();
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+
+    /**
+     * Builds a {@link ScenarioGrid}, each dimension defaults to a single zero shock.
+     */
+    public static final class Builder {
+
+        private double[] spotShocks = { 0d };
+        private double[] volatilityShocks = { 0d };
+        private double[] rateShifts = { 0d };
+
+        /**
+         * Sets the relative spot price shocks.
+         *
+         * @param shocks spot price shocks ({@code > -1})
+         * @throws NullPointerException if {@code shocks} is null
+         * @throws IllegalArgumentException if {@code shocks} is empty or any shock is not greater than -1
+         */
+        public Builder spotShocks(double... shocks) throws NullPointerException, IllegalArgumentException {
+            checkShocks(shocks, "spotShocks");
+            for (double shock : shocks) {
+                if (!(shock > -1d)) {
+                    throw new IllegalArgumentException("spotShocks must be greater than -1");
+                }
+            }
+            this.spotShocks = shocks.clone();
+            return this;
+        }
+
+        /**
+         * Sets the absolute volatility shocks.
+         *
+         * @param shocks volatility shocks
+         * @throws NullPointerException if {@code shocks} is null
+         * @throws IllegalArgumentException if {@code shocks} is empty
+         */
+        public Builder volatilityShocks(double... shocks) throws NullPointerException, IllegalArgumentException {
+            checkShocks(shocks, "volatilityShocks");
+            this.volatilityShocks = shocks.clone();
+            return this;
+        }
+
+        /**
+         * Sets the parallel risk-free rate shifts.
+         *
+         * @param shifts rate shifts
+         * @throws NullPointerException if {@code shifts} is null
+         * @throws IllegalArgumentException if {@code shifts} is empty
+         */
+        public Builder rateShifts(double... shifts) throws NullPointerException, IllegalArgumentException {
+            checkShocks(shifts, "rateShifts");
+            this.rateShifts = shifts.clone();
+            return this;
+        }
+
+        /**
+         * Builds the scenario grid.
+         *
+         * @return scenario grid
+         */
+        public ScenarioGrid build() {
+            return new ScenarioGrid(this.spotShocks, this.volatilityShocks, this.rateShifts);
+        }
+
+        private static void checkShocks(double[] shocks, String description) {
+            ValidationUtils.checkNotNull(shocks, description);
+            if (shocks.length == 0) {
+                throw new IllegalArgumentException(description + " can't be empty");
+            }
+        }
+    }
+}
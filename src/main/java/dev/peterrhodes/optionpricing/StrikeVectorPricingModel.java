@@ -0,0 +1,17 @@
+package dev.peterrhodes.optionpricing;
+
+/**
+ * Interface for an option pricing model that can price options on the same underlying asset and maturity for many strike prices at once, e.g.&nbsp;transform methods where the characteristic function only needs to be evaluated once per maturity.
+ */
+public interface StrikeVectorPricingModel<T> extends PricingModel<T> {
+
+    /**
+     * Calculates the prices of options which are identical to {@code option} apart from their strike prices.
+     *
+     * @param option the option to be priced, its strike price is ignored
+     * @param strikePrices strike prices to price the option for
+     * @return option prices, in the same order as {@code strikePrices}
+     * @throws NullPointerException if {@code option} or {@code strikePrices} are null
+     */
+    double[] price(Option option, double[] strikePrices) throws NullPointerException;
+}
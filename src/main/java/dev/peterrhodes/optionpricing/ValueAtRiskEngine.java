@@ -0,0 +1,108 @@
+package dev.peterrhodes.optionpricing;
+
+import dev.peterrhodes.optionpricing.internal.risk.RiskBook;
+import dev.peterrhodes.optionpricing.internal.utils.SelectionUtils;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import dev.peterrhodes.optionpricing.models.ValueAtRisk;
+import java.util.stream.IntStream;
+
+/**
+ * Calculates the value at risk and expected shortfall of a book of options by full revaluation under {@link RiskScenarios}.
+ * <ul>
+ *   <li>European options are revalued with Black-Scholes-Merton, sharing the work which doesn't depend on the spot price across the scenarios.</li>
+ *   <li>American options are revalued with the Barone-Adesi and Whaley approximation rather than a lattice.</li>
+ *   <li>The scenarios are generated and revalued in blocks, in parallel on the common fork-join pool, so the only memory proportional to the number of scenarios is the book's profit and loss vector.</li>
+ *   <li>The tail is found by selection, i.e.&nbsp;in expected linear time rather than by sorting the profit and loss.</li>
+ * </ul>
+ * <p>Only the spot prices are shocked, the times to maturity aren't rolled forward over the horizon.</p>
+ */
+public interface ValueAtRiskEngine {
+
+    /**
+     * Default number of scenarios in a block.
+     */
+    int DEFAULT_BLOCK_SIZE = 1024;
+
+    /**
+     * Calculates the value at risk and expected shortfall of a book, with blocks of {@link #DEFAULT_BLOCK_SIZE} scenarios.
+     *
+     * @param book contracts
+     * @param underlyings scenario underlying index of each contract
+     * @param quantities position quantity of each contract
+     * @param scenarios spot price scenarios
+     * @param confidence confidence level ({@code 0 < α < 1}), e.g.&nbsp;0.99
+     * @return value at risk and expected shortfall
+     * @throws NullPointerException if any of the arguments or contracts are null
+     * @throws IllegalArgumentException if the arrays aren't the same length, an underlying index isn't an underlying of the scenarios, or {@code confidence} isn't between zero and one
+     */
+    static ValueAtRisk calculate(OptionSpec[] book, int[] underlyings, double[] quantities, RiskScenarios scenarios, double confidence) throws NullPointerException, IllegalArgumentException {
+        return calculate(book, underlyings, quantities, scenarios, confidence, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Calculates the value at risk and expected shortfall of a book.
+     *
+     * @param book contracts
+     * @param underlyings scenario underlying index of each contract
+     * @param quantities position quantity of each contract
+     * @param scenarios spot price scenarios
+     * @param confidence confidence level ({@code 0 < α < 1}), e.g.&nbsp;0.99
+     * @param blockSize number of scenarios generated and revalued together ({@code > 0})
+     * @return value at risk and expected shortfall
+     * @throws NullPointerException if any of the arguments or contracts are null
+     * @throws IllegalArgumentException if the arrays aren't the same length, an underlying index isn't an underlying of the scenarios, {@code confidence} isn't between zero and one, or {@code blockSize} isn't greater than zero
+     */
+    static ValueAtRisk calculate(OptionSpec[] book, int[] underlyings, double[] quantities, RiskScenarios scenarios, double confidence, int blockSize) throws NullPointerException, IllegalArgumentException {
+        checkBook(book, underlyings, quantities, scenarios);
+        if (!(confidence > 0d && confidence < 1d)) {
+            throw new IllegalArgumentException("confidence must be between zero and one");
+        }
+        ValidationUtils.checkGreaterThanZero(blockSize, "blockSize");
+
+        RiskBook riskBook = new RiskBook(book, underlyings, quantities);
+        int scenarioCount = scenarios.size();
+        int underlyingCount = scenarios.underlyingCount();
+        int blocks = (scenarioCount + blockSize - 1) / blockSize;
+        double[] pnl = new double[scenarioCount];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int first = b * blockSize;
+            int count = Math.min(blockSize, scenarioCount - first);
+            double[] spotFactors = new double[count * underlyingCount];
+            double[] logSpotFactors = new double[count * underlyingCount];
+            scenarios.fill(first, count, spotFactors, logSpotFactors);
+            riskBook.revalue(underlyingCount, count, spotFactors, logSpotFactors, pnl, first);
+        });
+
+        // The selection partially orders a copy, leaving the tail in its first elements
+        int tailCount = (int) Math.min(scenarioCount, Math.max(1L, (long) Math.ceil((1d - confidence) * scenarioCount - 1e-9)));
+        double[] ordered = pnl.clone();
+        double valueAtRisk = -SelectionUtils.select(ordered, tailCount - 1);
+        double tailSum = 0d;
+        for (int s = 0; s < tailCount; s++) {
+            tailSum += ordered[s];
+        }
+        return new ValueAtRisk(confidence, valueAtRisk, -tailSum / tailCount, tailCount, riskBook.baseValue(), pnl);
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private static void checkBook(OptionSpec[] book, int[] underlyings, double[] quantities, RiskScenarios scenarios) {
+        ValidationUtils.checkNotNull(book, "book");
+        ValidationUtils.checkNotNull(underlyings, "underlyings");
+        ValidationUtils.checkNotNull(quantities, "quantities");
+        ValidationUtils.checkNotNull(scenarios, "scenarios");
+        if (book.length != underlyings.length || book.length != quantities.length) {
+            throw new IllegalArgumentException("book, underlyings, and quantities must be the same length");
+        }
+        for (int c = 0; c < book.length; c++) {
+            ValidationUtils.checkNotNull(book[c], "book contract");
+            if (underlyings[c] < 0 || underlyings[c] >= scenarios.underlyingCount()) {
+                throw new IllegalArgumentException("underlyings must be underlying indices of the scenarios");
+            }
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
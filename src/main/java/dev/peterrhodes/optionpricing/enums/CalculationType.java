@@ -0,0 +1,37 @@
+package dev.peterrhodes.optionpricing.enums;
+
+/**
+ * Calculations of an analytic option which can be requested in bulk, i.e.&nbsp;its price and each of its Greeks.
+ */
+public enum CalculationType {
+
+    /**
+     * Price calculation, see {@link dev.peterrhodes.optionpricing.AnalyticOption#priceCalculation()}.
+     */
+    PRICE,
+
+    /**
+     * Delta (Δ) calculation, see {@link dev.peterrhodes.optionpricing.AnalyticOption#deltaCalculation()}.
+     */
+    DELTA,
+
+    /**
+     * Gamma (Γ) calculation, see {@link dev.peterrhodes.optionpricing.AnalyticOption#gammaCalculation()}.
+     */
+    GAMMA,
+
+    /**
+     * Vega calculation, see {@link dev.peterrhodes.optionpricing.AnalyticOption#vegaCalculation()}.
+     */
+    VEGA,
+
+    /**
+     * Theta (Θ) calculation, see {@link dev.peterrhodes.optionpricing.AnalyticOption#thetaCalculation()}.
+     */
+    THETA,
+
+    /**
+     * Rho (ρ) calculation, see {@link dev.peterrhodes.optionpricing.AnalyticOption#rhoCalculation()}.
+     */
+    RHO
+}
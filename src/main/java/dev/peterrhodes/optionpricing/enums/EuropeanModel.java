@@ -0,0 +1,22 @@
+package dev.peterrhodes.optionpricing.enums;
+
+/**
+ * Analytic models available for pricing European options in bulk.
+ */
+public enum EuropeanModel {
+
+    /**
+     * Black-Scholes-Merton: the underlying asset follows a geometric Brownian motion with a continuous dividend yield.
+     */
+    BLACK_SCHOLES_MERTON,
+
+    /**
+     * Black (1976): options on futures, the initial spot price is the futures price and the dividend yield is ignored.
+     */
+    BLACK_76,
+
+    /**
+     * Bachelier (1900): the forward price follows an arithmetic Brownian motion, the initial spot price is the forward price, the volatility is the normal (absolute) volatility, and the dividend yield is ignored.
+     */
+    BACHELIER
+}
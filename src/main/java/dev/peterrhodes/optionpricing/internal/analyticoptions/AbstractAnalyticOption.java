@@ -7,11 +7,16 @@ import dev.peterrhodes.optionpricing.internal.OptionImpl;
 import dev.peterrhodes.optionpricing.internal.common.EquationInput;
 import dev.peterrhodes.optionpricing.internal.enums.LatexDelimeterType;
 import dev.peterrhodes.optionpricing.internal.enums.PrecisionType;
+import dev.peterrhodes.optionpricing.internal.instrumentation.PricingEvent;
 import dev.peterrhodes.optionpricing.internal.utils.FormulaUtils;
 import dev.peterrhodes.optionpricing.internal.utils.LatexUtils;
 import dev.peterrhodes.optionpricing.internal.utils.MathUtils;
 import dev.peterrhodes.optionpricing.internal.utils.NumberUtils;
 import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Base class for concrete option classes that have an analytical solution, e.g.&nbsp;vanilla European options.
@@ -32,11 +37,29 @@ public abstract class AbstractAnalyticOption extends OptionImpl implements Analy
     protected double C̟P̠; // +1 for call, -1 for put
     protected double C̠P̟; // -1 for call, +1 for put
 
+    // Intermediate values, shared with the snapshots of the option since its parameters don't change
+    private final IntermediateValues intermediateValues = new IntermediateValues();
+
+    // Parameters boxed by the Number methods of an option created from primitive parameters
+    private Number[] boxed;
+
     /**
      * Creates the base class for an analytic option.
      */
     public AbstractAnalyticOption(OptionStyle optionStyle, OptionType optionType, Number initialSpotPrice, Number strikePrice, Number timeToMaturity, Number volatility, Number riskFreeRate, Number dividendYield) {
         super(initialSpotPrice, strikePrice, timeToMaturity, volatility, riskFreeRate, dividendYield);
+        this.initialize(optionStyle, optionType, initialSpotPrice.doubleValue(), strikePrice.doubleValue(), timeToMaturity.doubleValue(), volatility.doubleValue(), riskFreeRate.doubleValue(), dividendYield.doubleValue());
+    }
+
+    /**
+     * Creates the base class for an analytic option from primitive parameters, e.g.&nbsp;those of an {@link dev.peterrhodes.optionpricing.OptionSpec}, without boxing them.&nbsp;The {@link Number} methods box a parameter the first time they're called.
+     */
+    protected AbstractAnalyticOption(OptionStyle optionStyle, OptionType optionType, double initialSpotPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate, double dividendYield) {
+        super(null, null, null, null, null, null);
+        this.initialize(optionStyle, optionType, initialSpotPrice, strikePrice, timeToMaturity, volatility, riskFreeRate, dividendYield);
+    }
+
+    private void initialize(OptionStyle optionStyle, OptionType optionType, double initialSpotPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate, double dividendYield) {
         this.setOptionStyle(optionStyle);
         this.setOptionType(optionType);
 
@@ -46,16 +69,73 @@ public abstract class AbstractAnalyticOption extends OptionImpl implements Analy
 
         // math notation
         this.isCall = optionType == OptionType.CALL;
-        this.S = initialSpotPrice.doubleValue();
-        this.K = strikePrice.doubleValue();
-        this.τ = timeToMaturity.doubleValue();
-        this.σ = volatility.doubleValue();
-        this.r = riskFreeRate.doubleValue();
-        this.q = dividendYield.doubleValue();
+        this.S = initialSpotPrice;
+        this.K = strikePrice;
+        this.τ = timeToMaturity;
+        this.σ = volatility;
+        this.r = riskFreeRate;
+        this.q = dividendYield;
         this.C̟P̠ = optionType == OptionType.CALL ? 1d : -1d;
         this.C̠P̟ = this.C̟P̠ * -1d;
     }
 
+    //region Option
+    //----------------------------------------------------------------------
+
+    @Override
+    public Number initialSpotPrice() {
+        Number initialSpotPrice = super.initialSpotPrice();
+        return initialSpotPrice != null ? initialSpotPrice : this.boxed(0, this.S);
+    }
+
+    @Override
+    public Number strikePrice() {
+        Number strikePrice = super.strikePrice();
+        return strikePrice != null ? strikePrice : this.boxed(1, this.K);
+    }
+
+    @Override
+    public Number timeToMaturity() {
+        Number timeToMaturity = super.timeToMaturity();
+        return timeToMaturity != null ? timeToMaturity : this.boxed(2, this.τ);
+    }
+
+    @Override
+    public Number volatility() {
+        Number volatility = super.volatility();
+        return volatility != null ? volatility : this.boxed(3, this.σ);
+    }
+
+    @Override
+    public Number riskFreeRate() {
+        Number riskFreeRate = super.riskFreeRate();
+        return riskFreeRate != null ? riskFreeRate : this.boxed(4, this.r);
+    }
+
+    @Override
+    public Number dividendYield() {
+        Number dividendYield = super.dividendYield();
+        return dividendYield != null ? dividendYield : this.boxed(5, this.q);
+    }
+
+    // Racing calls at worst box a parameter twice, the Doubles are immutable so either is correct
+    private Number boxed(int index, double value) {
+        Number[] boxed = this.boxed;
+        if (boxed == null) {
+            boxed = new Number[6];
+            this.boxed = boxed;
+        }
+        Number number = boxed[index];
+        if (number == null) {
+            number = value;
+            boxed[index] = number;
+        }
+        return number;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion Option
+
     @Override
     public final void setCalculationStepPrecision(int precisionDigits, PrecisionType precisionType) throws NullPointerException, IllegalArgumentException {
         ValidationUtils.checkNotNull(precisionType, "precisionType");
@@ -67,6 +147,109 @@ public abstract class AbstractAnalyticOption extends OptionImpl implements Analy
         this.calculationStepPrecisionType = precisionType;
     }
 
+    //region intermediate values
+    //----------------------------------------------------------------------
+
+    /**
+     * Calculates dᵢ, the argument of the standard normal distribution in the option's formulas, which is only called the first time dᵢ is used.
+     *
+     * @param i 1 or 2
+     * @return dᵢ
+     */
+    protected abstract double calculateD(int i);
+
+    /**
+     * Returns dᵢ, calculating it the first time.&nbsp;The option's parameters don't change after it's created, so the numeric values and the calculation steps share one evaluation of each intermediate value, and calculating one concurrently at worst evaluates it twice.
+     *
+     * @param i 1 or 2
+     * @return dᵢ
+     */
+    protected final double dᵢ(int i) {
+        double d = i == 1 ? this.intermediateValues.d1 : this.intermediateValues.d2;
+        if (Double.isNaN(d)) {
+            d = this.calculateD(i);
+            if (i == 1) {
+                this.intermediateValues.d1 = d;
+            } else {
+                this.intermediateValues.d2 = d;
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Returns the standard normal CDF at +dᵢ or -dᵢ, calculating it the first time.
+     *
+     * @param i 1 or 2
+     * @param positive whether the argument is +dᵢ, otherwise -dᵢ
+     * @return N(±dᵢ)
+     */
+    protected final double N_at_d(int i, boolean positive) {
+        double N = i == 1 ? (positive ? this.intermediateValues.N_d1 : this.intermediateValues.N_minus_d1) : (positive ? this.intermediateValues.N_d2 : this.intermediateValues.N_minus_d2);
+        if (Double.isNaN(N)) {
+            N = this.N((positive ? 1d : -1d) * this.dᵢ(i));
+            if (i == 1) {
+                if (positive) {
+                    this.intermediateValues.N_d1 = N;
+                } else {
+                    this.intermediateValues.N_minus_d1 = N;
+                }
+            } else {
+                if (positive) {
+                    this.intermediateValues.N_d2 = N;
+                } else {
+                    this.intermediateValues.N_minus_d2 = N;
+                }
+            }
+        }
+        return N;
+    }
+
+    /**
+     * Returns the standard normal PDF at d₁, calculating it the first time.
+     *
+     * @return N'(d₁)
+     */
+    protected final double N̕_at_d1() {
+        double N̕ = this.intermediateValues.N̕_d1;
+        if (Double.isNaN(N̕)) {
+            N̕ = this.N̕(this.dᵢ(1));
+            this.intermediateValues.N̕_d1 = N̕;
+        }
+        return N̕;
+    }
+
+    /**
+     * Returns the risk-free discount factor e<sup>-rτ</sup>, calculating it the first time.
+     *
+     * @return discount factor
+     */
+    protected final double discountFactor() {
+        double discountFactor = this.intermediateValues.discountFactor;
+        if (Double.isNaN(discountFactor)) {
+            discountFactor = Math.exp(-this.r * this.τ);
+            this.intermediateValues.discountFactor = discountFactor;
+        }
+        return discountFactor;
+    }
+
+    /**
+     * Returns the dividend discount factor e<sup>-qτ</sup>, calculating it the first time.
+     *
+     * @return dividend discount factor
+     */
+    protected final double dividendDiscountFactor() {
+        double dividendDiscountFactor = this.intermediateValues.dividendDiscountFactor;
+        if (Double.isNaN(dividendDiscountFactor)) {
+            dividendDiscountFactor = Math.exp(-this.q * this.τ);
+            this.intermediateValues.dividendDiscountFactor = dividendDiscountFactor;
+        }
+        return dividendDiscountFactor;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion intermediate values
+
     //region standard normal
     //----------------------------------------------------------------------
 
@@ -80,8 +263,14 @@ public abstract class AbstractAnalyticOption extends OptionImpl implements Analy
      * </ol>
      */
     public final String[] standardNormalCdfCalculationStep(String variableLatex, Number variableValue) {
+        return this.standardNormalCdfCalculationStep(variableLatex, variableValue, this.N(variableValue.doubleValue()));
+    }
+
+    /**
+     * Returns the details of a standard normal cumulative distribution function calculation step whose value has already been calculated, e.g.&nbsp;by {@link #N_at_d(int, boolean)}.
+     */
+    protected final String[] standardNormalCdfCalculationStep(String variableLatex, Number variableValue, double answer) {
         String formula = standardNormalCdfLatex(variableLatex).trim();
-        double answer = this.N(variableValue.doubleValue());
         EquationInput input = new EquationInput.Builder(variableLatex)
             .withNumberValue(variableValue)
             .withPrecision(this.calculationStepPrecisionDigits, this.calculationStepPrecisionType)
@@ -104,8 +293,14 @@ public abstract class AbstractAnalyticOption extends OptionImpl implements Analy
      * </ol>
      */
     public final String[] standardNormalPdfCalculationStep(String variableLatex, Number variableValue) {
+        return this.standardNormalPdfCalculationStep(variableLatex, variableValue, this.N̕(variableValue.doubleValue()));
+    }
+
+    /**
+     * Returns the details of a standard normal probability density function calculation step whose value has already been calculated, e.g.&nbsp;the cached N'(d₁).
+     */
+    protected final String[] standardNormalPdfCalculationStep(String variableLatex, Number variableValue, double answer) {
         String formula = standardNormalPdfLatex(variableLatex).trim();
-        double answer = this.N̕(variableValue.doubleValue());
         EquationInput input = new EquationInput.Builder(variableLatex)
             .withNumberValue(variableValue)
             .withPrecision(this.calculationStepPrecisionDigits, this.calculationStepPrecisionType)
@@ -163,6 +358,39 @@ public abstract class AbstractAnalyticOption extends OptionImpl implements Analy
         return MathUtils.standardNormalPdf(x);
     }
 
+    /**
+     * Returns a copy of the option for rendering the steps of a lazy calculation, so that changing the calculation step precision afterwards doesn't change a calculation that's already been returned.
+     *
+     * @param <T> concrete option type
+     * @return a shallow copy of the option
+     */
+    @SuppressWarnings("unchecked")
+    protected final <T extends AbstractAnalyticOption> T calculationSnapshot() {
+        return (T) this.clone();
+    }
+
+    /**
+     * Creates a lazy calculation whose steps each emit a {@link PricingEvent} when they're rendered, so the events time the rendering rather than the creation of the calculation.
+     *
+     * @param modelName name of the model
+     * @param operationName name of the calculation method, e.g.&nbsp;{@code priceCalculation}
+     * @param snapshot calculation snapshot the steps are rendered from
+     * @param stepSuppliers suppliers of the steps
+     * @return calculation
+     */
+    protected static AnalyticCalculation timedCalculation(String modelName, String operationName, AbstractAnalyticOption snapshot, List<Supplier<String[]>> stepSuppliers) {
+        List<Supplier<String[]>> timedSuppliers = new ArrayList<Supplier<String[]>>(stepSuppliers.size());
+        for (Supplier<String[]> stepSupplier : stepSuppliers) {
+            timedSuppliers.add(() -> {
+                PricingEvent event = PricingEvent.start();
+                String[] step = stepSupplier.get();
+                event.finish(modelName, operationName, snapshot, 0);
+                return step;
+            });
+        }
+        return new AnalyticCalculation(timedSuppliers);
+    }
+
     protected final String roundCalculationStepValue(double value) {
         return NumberUtils.precision(value, this.calculationStepPrecisionDigits, this.calculationStepPrecisionType);
     }
@@ -204,4 +432,19 @@ public abstract class AbstractAnalyticOption extends OptionImpl implements Analy
 
     //----------------------------------------------------------------------
     //endregion constants
+
+    /**
+     * Intermediate values of an option's formulas, calculated the first time they're used and NaN until then, a NaN value is just recalculated.
+     */
+    private static final class IntermediateValues {
+        volatile double d1 = Double.NaN;
+        volatile double d2 = Double.NaN;
+        volatile double N_d1 = Double.NaN; // N(+d₁)
+        volatile double N_minus_d1 = Double.NaN; // N(-d₁)
+        volatile double N_d2 = Double.NaN; // N(+d₂)
+        volatile double N_minus_d2 = Double.NaN; // N(-d₂)
+        volatile double N̕_d1 = Double.NaN; // N'(d₁)
+        volatile double discountFactor = Double.NaN; // e^(-rτ)
+        volatile double dividendDiscountFactor = Double.NaN; // e^(-qτ)
+    }
 }
@@ -0,0 +1,455 @@
+package dev.peterrhodes.optionpricing.internal.analyticoptions;
+
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.common.EquationInput;
+import dev.peterrhodes.optionpricing.internal.enums.LatexDelimeterType;
+import dev.peterrhodes.optionpricing.internal.kernels.BachelierKernel;
+import dev.peterrhodes.optionpricing.internal.utils.FormulaUtils;
+import dev.peterrhodes.optionpricing.internal.utils.LatexUtils;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * European option under normal dynamics.
+ * <p>The value of the option and it's greeks are calculated analytically using the <a href="https://doi.org/10.24033/asens.476">Bachelier (1900)</a> model, in which the forward price follows an arithmetic Brownian motion, so it's suited to underlyings that can be negative such as short rates and spreads.&nbsp;The option's initial spot price is the forward price ({@code F}), its volatility is the normal (absolute) volatility, and its dividend yield is zero.&nbsp;The values are evaluated with {@link BachelierKernel}, which is also used for batch pricing.</p>
+ */
+public final class BachelierOption extends AbstractAnalyticOption {
+
+    /**
+     * Name of the model in the operations recorded by {@link dev.peterrhodes.optionpricing.PricingMetrics}.
+     */
+    public static final String MODEL_NAME = "Bachelier";
+
+    private static final String LATEX_F = " F ";
+    private static final String LATEX_d = " d ";
+
+    /**
+     * European option under normal dynamics.
+     */
+    public BachelierOption(OptionType optionType, Number forwardPrice, Number strikePrice, Number timeToMaturity, Number volatility, Number riskFreeRate) {
+        super(OptionStyle.EUROPEAN, optionType, forwardPrice, strikePrice, timeToMaturity, volatility, riskFreeRate, 0);
+    }
+
+    private BachelierOption(OptionType optionType, double forwardPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        super(OptionStyle.EUROPEAN, optionType, forwardPrice, strikePrice, timeToMaturity, volatility, riskFreeRate, 0d);
+    }
+
+    /**
+     * European option under normal dynamics with the parameters of a spec, whose initial spot price is the forward price.&nbsp;The parameters have already been validated, so they're neither boxed nor validated again.
+     *
+     * @param spec option spec
+     * @return European option
+     */
+    public static BachelierOption from(OptionSpec spec) {
+        return new BachelierOption(spec.optionType(), spec.getInitialSpotPrice(), spec.getStrikePrice(), spec.getTimeToMaturity(), spec.getVolatility(), spec.getRiskFreeRate());
+    }
+
+    //region d
+    //----------------------------------------------------------------------
+
+    /**
+     * Calculates the value of d, the number of standard deviations the forward price is above the strike price at maturity.
+     *
+     * @return d
+     */
+    public double d() {
+        return this.dᵢ(1);
+    }
+
+    /**
+     * Calculates d, the model has a single argument of the standard normal distribution so {@code i} is ignored.
+     */
+    @Override
+    protected double calculateD(int i) {
+        return (this.S - this.K) / (this.σ * Math.sqrt(this.τ));
+    }
+
+    /**
+     * Returns the details of the d calculation step.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The parts of the calculation step are:</p>
+     * <ol start="0">
+     *   <li>symbol</li>
+     *   <li>equation</li>
+     *   <li>option parameters substituted into the equation</li>
+     *   <li>value</li>
+     * </ol>
+     */
+    public String[] dCalculationStep() {
+        String rhs = LatexUtils.fraction(LATEX_F + " - " + LATEX_K, LATEX_σ + LatexUtils.squareRoot(LATEX_τ));
+
+        return FormulaUtils.solve(
+            new String[] { LATEX_d.trim(), rhs },
+            this.calculationInputs(LatexDelimeterType.NONE),
+            this.roundCalculationStepValue(this.d())
+        );
+    }
+
+    private String dParameterLatex(boolean positive) {
+        return positive ? LATEX_d : " -" + LATEX_d;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion d
+
+    //region price
+    //----------------------------------------------------------------------
+
+    @Override
+    public double price() {
+        return BachelierKernel.price(this.isCall, this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the price calculation.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d (see {@link #dCalculationStep()})</li>
+     *   <li>standard normal CDF at +d for call and -d for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>standard normal PDF at d (see {@link AbstractAnalyticOption#standardNormalPdfCalculationStep(String, Number)})</li>
+     *   <li>price
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>equation</li>
+     *       <li>option parameters and value of d substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation priceCalculation() {
+        BachelierOption option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "priceCalculation", option, List.of(
+            () -> option.dCalculationStep(),
+            () -> option.N_at_d_calculationStep(option.isCall),
+            () -> option.N̕_at_d_calculationStep(),
+            () -> option.finalCalculationStep(option.priceFormula(), option.price())
+        ));
+    }
+
+    private String[] priceFormula() {
+        return new String[] { this.typeParameterLatex().trim(), this.priceFormulaRhs() };
+    }
+
+    private String priceFormulaRhs() {
+        String intrinsic = this.isCall ? LATEX_F + " - " + LATEX_K : LATEX_K + " - " + LATEX_F;
+        String bracket = LatexUtils.subFormula(intrinsic, LatexDelimeterType.PARENTHESIS)
+            + standardNormalCdfLatex(this.dParameterLatex(this.isCall))
+            + " + " + LATEX_σ + LatexUtils.squareRoot(LATEX_τ) + standardNormalPdfLatex(LATEX_d);
+
+        return this.discountFactorLatex().trim() + LatexUtils.subFormula(bracket, LatexDelimeterType.BRACKET);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion price
+
+    //region delta
+    //----------------------------------------------------------------------
+
+    @Override
+    public double delta() {
+        return BachelierKernel.delta(this.isCall, this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the delta (Δ) calculation.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d (see {@link #dCalculationStep()})</li>
+     *   <li>standard normal CDF at +d for call and -d for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>delta (Δ)
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>PDE</li>
+     *       <li>equation</li>
+     *       <li>option parameters and value of d substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation deltaCalculation() {
+        BachelierOption option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "deltaCalculation", option, List.of(
+            () -> option.dCalculationStep(),
+            () -> option.N_at_d_calculationStep(option.isCall),
+            () -> option.finalCalculationStep(option.deltaFormula(), option.delta())
+        ));
+    }
+
+    private String[] deltaFormula() {
+        String lhs = LatexUtils.partialDerivative(this.typeParameterLatex(), LATEX_F);
+        String rhs = (this.isCall ? "" : "-")
+            + this.discountFactorLatex().trim()
+            + standardNormalCdfLatex(this.dParameterLatex(this.isCall));
+
+        return new String[] { LATEX_Δ.trim(), lhs, rhs };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion delta
+
+    //region gamma
+    //----------------------------------------------------------------------
+
+    @Override
+    public double gamma() {
+        return BachelierKernel.gamma(this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the gamma (Γ) calculation.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d (see {@link #dCalculationStep()})</li>
+     *   <li>standard normal PDF at d (see {@link AbstractAnalyticOption#standardNormalPdfCalculationStep(String, Number)})</li>
+     *   <li>gamma (Γ)
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>PDE</li>
+     *       <li>equation</li>
+     *       <li>option parameters and value of d substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation gammaCalculation() {
+        BachelierOption option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "gammaCalculation", option, List.of(
+            () -> option.dCalculationStep(),
+            () -> option.N̕_at_d_calculationStep(),
+            () -> option.finalCalculationStep(option.gammaFormula(), option.gamma())
+        ));
+    }
+
+    private String[] gammaFormula() {
+        String lhs = LatexUtils.partialDerivative(this.typeParameterLatex(), LATEX_F, "2");
+        String rhs = this.discountFactorLatex().trim()
+            + LatexUtils.fraction(standardNormalPdfLatex(LATEX_d), LATEX_σ + LatexUtils.squareRoot(LATEX_τ));
+
+        return new String[] { LATEX_Γ.trim(), lhs, rhs };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion gamma
+
+    //region vega
+    //----------------------------------------------------------------------
+
+    @Override
+    public double vega() {
+        return BachelierKernel.vega(this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the vega calculation.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d (see {@link #dCalculationStep()})</li>
+     *   <li>standard normal PDF at d (see {@link AbstractAnalyticOption#standardNormalPdfCalculationStep(String, Number)})</li>
+     *   <li>vega
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>PDE</li>
+     *       <li>equation</li>
+     *       <li>option parameters and value of d substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation vegaCalculation() {
+        BachelierOption option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "vegaCalculation", option, List.of(
+            () -> option.dCalculationStep(),
+            () -> option.N̕_at_d_calculationStep(),
+            () -> option.finalCalculationStep(option.vegaFormula(), option.vega())
+        ));
+    }
+
+    private String[] vegaFormula() {
+        String lhs = LatexUtils.partialDerivative(this.typeParameterLatex(), LATEX_σ);
+        String rhs = this.discountFactorLatex().trim() + standardNormalPdfLatex(LATEX_d) + LatexUtils.squareRoot(LATEX_τ);
+
+        return new String[] { LATEX_VEGA.trim(), lhs, rhs };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion vega
+
+    //region theta
+    //----------------------------------------------------------------------
+
+    @Override
+    public double theta() {
+        return BachelierKernel.theta(this.isCall, this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the theta (Θ) calculation.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d (see {@link #dCalculationStep()})</li>
+     *   <li>standard normal CDF at +d for call and -d for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>standard normal PDF at d (see {@link AbstractAnalyticOption#standardNormalPdfCalculationStep(String, Number)})</li>
+     *   <li>theta (Θ)
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>PDE</li>
+     *       <li>equation</li>
+     *       <li>option parameters and value of d substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation thetaCalculation() {
+        BachelierOption option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "thetaCalculation", option, List.of(
+            () -> option.dCalculationStep(),
+            () -> option.N_at_d_calculationStep(option.isCall),
+            () -> option.N̕_at_d_calculationStep(),
+            () -> option.finalCalculationStep(option.thetaFormula(), option.theta())
+        ));
+    }
+
+    private String[] thetaFormula() {
+        String lhs = LatexUtils.partialDerivative(this.typeParameterLatex(), LATEX_τ);
+        String rhs = "- " + this.discountFactorLatex()
+            + LatexUtils.fraction(LATEX_σ + standardNormalPdfLatex(LATEX_d), "2 " + LatexUtils.squareRoot(LATEX_τ))
+            + " + " + LATEX_r + this.priceFormulaRhs();
+
+        return new String[] { LATEX_Θ.trim(), lhs, rhs };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion theta
+
+    //region rho
+    //----------------------------------------------------------------------
+
+    @Override
+    public double rho() {
+        return BachelierKernel.rho(this.isCall, this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the rho (ρ) calculation, the forward price is held fixed so rho is {@code -τ} times the price.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d (see {@link #dCalculationStep()})</li>
+     *   <li>standard normal CDF at +d for call and -d for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>standard normal PDF at d (see {@link AbstractAnalyticOption#standardNormalPdfCalculationStep(String, Number)})</li>
+     *   <li>rho (ρ)
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>PDE</li>
+     *       <li>equation</li>
+     *       <li>option parameters and value of d substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation rhoCalculation() {
+        BachelierOption option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "rhoCalculation", option, List.of(
+            () -> option.dCalculationStep(),
+            () -> option.N_at_d_calculationStep(option.isCall),
+            () -> option.N̕_at_d_calculationStep(),
+            () -> option.finalCalculationStep(option.rhoFormula(), option.rho())
+        ));
+    }
+
+    private String[] rhoFormula() {
+        String lhs = LatexUtils.partialDerivative(this.typeParameterLatex(), LATEX_r);
+        String rhs = "- " + LATEX_τ + this.priceFormulaRhs();
+
+        return new String[] { LATEX_ρ.trim(), lhs.trim(), rhs };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion rho
+
+    /**
+     * List of the LaTeX notation used for the option parameters in the formulas.
+     * <ol start="0">
+     *   <li>forward price (F)</li>
+     *   <li>strike price (K)</li>
+     *   <li>time to maturity (τ)</li>
+     *   <li>normal volatility (σ)</li>
+     *   <li>risk-free rate (r)</li>
+     * </ol>
+     *
+     * @return LaTeX notations
+     */
+    public String[] parameterNotation() {
+        return new String[] {
+            LATEX_F.trim(),
+            LATEX_K.trim(),
+            LATEX_τ.trim(),
+            LATEX_σ.trim(),
+            LATEX_r.trim()
+        };
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private EquationInput[] calculationInputs(LatexDelimeterType latexDelimeterType) {
+        return new EquationInput[] {
+            this.baseCalculationInput(LATEX_F.trim(), this.initialSpotPrice(), latexDelimeterType),
+            this.baseCalculationInput(LATEX_K.trim(), this.strikePrice(), latexDelimeterType),
+            this.baseCalculationInput(LATEX_τ.trim(), this.timeToMaturity(), latexDelimeterType),
+            this.baseCalculationInput(LATEX_σ.trim(), this.volatility(), latexDelimeterType),
+            this.baseCalculationInput(LATEX_r.trim(), this.riskFreeRate(), latexDelimeterType),
+        };
+    }
+
+    private String[] N_at_d_calculationStep(boolean positive) {
+        return this.standardNormalCdfCalculationStep(this.dParameterLatex(positive), (positive ? 1d : -1d) * this.d(), this.N_at_d(1, positive));
+    }
+
+    private String[] N̕_at_d_calculationStep() {
+        return this.standardNormalPdfCalculationStep(LATEX_d, this.d(), this.N̕_at_d1());
+    }
+
+    private String[] finalCalculationStep(String[] formula, double answer) {
+        EquationInput d = new EquationInput.Builder(LATEX_d.trim())
+            .withNumberValue(this.d())
+            .withPrecision(this.calculationStepPrecisionDigits, this.calculationStepPrecisionType)
+            .build();
+        EquationInput[] inputs = Stream.concat(
+            Arrays.stream(this.calculationInputs(LatexDelimeterType.PARENTHESIS)),
+            Stream.of(d)
+        ).toArray(EquationInput[]::new);
+
+        return FormulaUtils.solve(formula, inputs, this.roundCalculationStepValue(answer));
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -0,0 +1,519 @@
+package dev.peterrhodes.optionpricing.internal.analyticoptions;
+
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.common.EquationInput;
+import dev.peterrhodes.optionpricing.internal.enums.LatexDelimeterType;
+import dev.peterrhodes.optionpricing.internal.kernels.Black76Kernel;
+import dev.peterrhodes.optionpricing.internal.utils.FormulaUtils;
+import dev.peterrhodes.optionpricing.internal.utils.LatexUtils;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * European option on a futures contract.
+ * <p>The value of the option and it's greeks are calculated analytically using the <a href="https://doi.org/10.1016/0304-405X(76)90024-6">Black (1976)</a> model, in which the futures price takes the place of the spot price and there's no cost of carry.&nbsp;The option's initial spot price is the futures price ({@code F}) and its dividend yield is zero.&nbsp;The values are evaluated with {@link Black76Kernel}, which is also used for batch pricing.</p>
+ */
+public final class Black76Option extends AbstractAnalyticOption {
+
+    /**
+     * Name of the model in the operations recorded by {@link dev.peterrhodes.optionpricing.PricingMetrics}.
+     */
+    public static final String MODEL_NAME = "Black76";
+
+    private static final String LATEX_F = " F ";
+
+    /**
+     * European option on a futures contract.
+     */
+    public Black76Option(OptionType optionType, Number futuresPrice, Number strikePrice, Number timeToMaturity, Number volatility, Number riskFreeRate) {
+        super(OptionStyle.EUROPEAN, optionType, futuresPrice, strikePrice, timeToMaturity, volatility, riskFreeRate, 0);
+    }
+
+    private Black76Option(OptionType optionType, double futuresPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        super(OptionStyle.EUROPEAN, optionType, futuresPrice, strikePrice, timeToMaturity, volatility, riskFreeRate, 0d);
+    }
+
+    /**
+     * European option on a futures contract with the parameters of a spec, whose initial spot price is the futures price.&nbsp;The parameters have already been validated, so they're neither boxed nor validated again.
+     *
+     * @param spec option spec
+     * @return European option
+     */
+    public static Black76Option from(OptionSpec spec) {
+        return new Black76Option(spec.optionType(), spec.getInitialSpotPrice(), spec.getStrikePrice(), spec.getTimeToMaturity(), spec.getVolatility(), spec.getRiskFreeRate());
+    }
+
+    //region d₁, d₂
+    //----------------------------------------------------------------------
+
+    /**
+     * Calculates the values of d₁ and d₂ in the Black (1976) formula.
+     *
+     * @return dᵢ
+     * @throws IllegalArgumentException if i not in {1, 2}
+     */
+    public double d(int i) throws IllegalArgumentException {
+        checkdi(i);
+
+        return this.dᵢ(i);
+    }
+
+    @Override
+    protected double calculateD(int i) {
+        return (Math.log(this.S / this.K) + (i == 1 ? 1 : -1) * this.σ * this.σ / 2d * this.τ) / (this.σ * Math.sqrt(this.τ));
+    }
+
+    /**
+     * Returns the details of the dᵢ calculation step.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The parts of the calculation step are:</p>
+     * <ol start="0">
+     *   <li>symbol</li>
+     *   <li>equation</li>
+     *   <li>option parameters substituted into the equation</li>
+     *   <li>value</li>
+     * </ol>
+     *
+     * @throws IllegalArgumentException if i not in {1, 2}
+     */
+    public String[] dCalculationStep(int i) {
+        checkdi(i);
+
+        return FormulaUtils.solve(
+            this.dFormula(i),
+            this.calculationInputs(LatexDelimeterType.NONE),
+            this.roundCalculationStepValue(this.d(i))
+        );
+    }
+
+    private void checkdi(int i) throws IllegalArgumentException {
+        if (i != 1 && i != 2) {
+            throw new IllegalArgumentException("i must be either 1 or 2");
+        }
+    }
+
+    private String[] dFormula(int i) {
+        String lhs = this.dParameterLatex(i, true).trim();
+
+        // RHS
+        String iFactor = i == 1 ? " + " : " - ";
+        String rhsNumerator = LatexUtils.naturalLogarithm(LatexUtils.fraction(LATEX_F, LATEX_K))
+            + iFactor + LatexUtils.half(LatexUtils.squared(LATEX_σ)) + LATEX_τ;
+        String rhsDenominator = LatexUtils.MATH_SYMBOL_GREEK_LETTER_SIGMA_LOWERCASE + LatexUtils.squareRoot(LATEX_τ);
+        String rhs = LatexUtils.fraction(rhsNumerator, rhsDenominator);
+
+        return new String[] { lhs, rhs };
+    }
+
+    private String dParameterLatex(int i, boolean positive) {
+        return String.format(" " + (positive ? "" : "- ") + "d_%d ", i);
+    }
+
+    private EquationInput[] dEquationSubstitutionValues() {
+        return new EquationInput[] {
+            this.dEquationSubstitutionValue(1),
+            this.dEquationSubstitutionValue(2)
+        };
+    }
+
+    private EquationInput dEquationSubstitutionValue(int i) {
+        return new EquationInput.Builder(this.dParameterLatex(i, true).trim())
+            .withNumberValue(this.d(i))
+            .withPrecision(this.calculationStepPrecisionDigits, this.calculationStepPrecisionType)
+            .build();
+    }
+
+    //----------------------------------------------------------------------
+    //endregion d₁, d₂
+
+    //region price
+    //----------------------------------------------------------------------
+
+    @Override
+    public double price() {
+        return Black76Kernel.price(this.isCall, this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the price calculation.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d₁ (see {@link #dCalculationStep(int)})</li>
+     *   <li>d₂ (see {@link #dCalculationStep(int)})</li>
+     *   <li>standard normal CDF at +d₁ for call and -d₁ for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>standard normal CDF at +d₂ for call and -d₂ for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>price
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>equation</li>
+     *       <li>option parameters and values of d₁ and d₂ substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation priceCalculation() {
+        Black76Option option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "priceCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.dCalculationStep(2),
+            () -> option.N_at_d_calculationStep(1, option.isCall),
+            () -> option.N_at_d_calculationStep(2, option.isCall),
+            () -> option.finalCalculationStep(option.priceFormula(), option.price())
+        ));
+    }
+
+    private String[] priceFormula() {
+        String lhs = this.typeParameterLatex();
+        String rhs = this.discountFactorLatex().trim() + LatexUtils.subFormula(this.isCall ? this.priceFormulaCallBracket() : this.priceFormulaPutBracket(), LatexDelimeterType.BRACKET);
+
+        return new String[] { lhs.trim(), rhs };
+    }
+
+    private String priceFormulaCallBracket() {
+        return LATEX_F + standardNormalCdfLatex(this.dParameterLatex(1, true))
+            + " - " + LATEX_K + standardNormalCdfLatex(this.dParameterLatex(2, true));
+    }
+
+    private String priceFormulaPutBracket() {
+        return LATEX_K + standardNormalCdfLatex(this.dParameterLatex(2, false))
+            + " - " + LATEX_F + standardNormalCdfLatex(this.dParameterLatex(1, false));
+    }
+
+    //----------------------------------------------------------------------
+    //endregion price
+
+    //region delta
+    //----------------------------------------------------------------------
+
+    @Override
+    public double delta() {
+        return Black76Kernel.delta(this.isCall, this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the delta (Δ) calculation.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d₁ (see {@link #dCalculationStep(int)})</li>
+     *   <li>standard normal CDF at +d₁ for call and -d₁ for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>delta (Δ)
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>PDE</li>
+     *       <li>equation</li>
+     *       <li>option parameters and value of d₁ substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation deltaCalculation() {
+        Black76Option option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "deltaCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.N_at_d_calculationStep(1, option.isCall),
+            () -> option.finalCalculationStep(option.deltaFormula(), option.delta())
+        ));
+    }
+
+    private String[] deltaFormula() {
+        String lhs = LatexUtils.partialDerivative(this.typeParameterLatex(), LATEX_F);
+
+        String rhs = (this.isCall ? "" : "-")
+            + this.discountFactorLatex().trim()
+            + standardNormalCdfLatex(this.dParameterLatex(1, this.isCall));
+
+        return new String[] { LATEX_Δ.trim(), lhs, rhs };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion delta
+
+    //region gamma
+    //----------------------------------------------------------------------
+
+    @Override
+    public double gamma() {
+        return Black76Kernel.gamma(this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the gamma (Γ) calculation.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d₁ (see {@link #dCalculationStep(int)})</li>
+     *   <li>standard normal PDF at d₁ (see {@link AbstractAnalyticOption#standardNormalPdfCalculationStep(String, Number)})</li>
+     *   <li>gamma (Γ)
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>PDE</li>
+     *       <li>equation</li>
+     *       <li>option parameters and value of d₁ substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation gammaCalculation() {
+        Black76Option option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "gammaCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.N̕_at_d1_calculationStep(),
+            () -> option.finalCalculationStep(option.gammaFormula(), option.gamma())
+        ));
+    }
+
+    private String[] gammaFormula() {
+        String lhs = LatexUtils.partialDerivative(this.typeParameterLatex(), LATEX_F, "2");
+
+        String rhs = this.discountFactorLatex().trim()
+            + LatexUtils.fraction(
+                standardNormalPdfLatex(this.dParameterLatex(1, true)),
+                LATEX_F + LATEX_σ + LatexUtils.squareRoot(LATEX_τ)
+            );
+
+        return new String[] { LATEX_Γ.trim(), lhs, rhs };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion gamma
+
+    //region vega
+    //----------------------------------------------------------------------
+
+    @Override
+    public double vega() {
+        return Black76Kernel.vega(this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the vega calculation.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d₁ (see {@link #dCalculationStep(int)})</li>
+     *   <li>standard normal PDF at d₁ (see {@link AbstractAnalyticOption#standardNormalPdfCalculationStep(String, Number)})</li>
+     *   <li>vega
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>PDE</li>
+     *       <li>equation</li>
+     *       <li>option parameters and value of d₁ substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation vegaCalculation() {
+        Black76Option option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "vegaCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.N̕_at_d1_calculationStep(),
+            () -> option.finalCalculationStep(option.vegaFormula(), option.vega())
+        ));
+    }
+
+    private String[] vegaFormula() {
+        String lhs = LatexUtils.partialDerivative(this.typeParameterLatex(), LATEX_σ);
+
+        String rhs = LATEX_F.trim()
+            + this.discountFactorLatex()
+            + standardNormalPdfLatex(this.dParameterLatex(1, true))
+            + LatexUtils.squareRoot(LATEX_τ);
+
+        return new String[] { LATEX_VEGA.trim(), lhs, rhs };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion vega
+
+    //region theta
+    //----------------------------------------------------------------------
+
+    @Override
+    public double theta() {
+        return Black76Kernel.theta(this.isCall, this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the theta (Θ) calculation.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d₁ (see {@link #dCalculationStep(int)})</li>
+     *   <li>d₂ (see {@link #dCalculationStep(int)})</li>
+     *   <li>standard normal CDF at +d₁ for call and -d₁ for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>standard normal CDF at +d₂ for call and -d₂ for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>standard normal PDF at d₁ (see {@link AbstractAnalyticOption#standardNormalPdfCalculationStep(String, Number)})</li>
+     *   <li>theta (Θ)
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>equation</li>
+     *       <li>option parameters and values of d₁ and d₂ substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation thetaCalculation() {
+        Black76Option option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "thetaCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.dCalculationStep(2),
+            () -> option.N_at_d_calculationStep(1, option.isCall),
+            () -> option.N_at_d_calculationStep(2, option.isCall),
+            () -> option.N̕_at_d1_calculationStep(),
+            () -> option.finalCalculationStep(option.thetaFormula(), option.theta())
+        ));
+    }
+
+    private String[] thetaFormula() {
+        String lhs = LatexUtils.partialDerivative(this.typeParameterLatex(), LATEX_τ);
+
+        // RHS
+        String rhsTerm1 = "- " + this.discountFactorLatex()
+            + LatexUtils.fraction(
+                LATEX_F + standardNormalPdfLatex(this.dParameterLatex(1, true)) + LATEX_σ,
+                "2 " + LatexUtils.squareRoot(LATEX_τ)
+            );
+
+        String rhsTerm2 = (this.isCall ? " + " : " - ")
+            + LATEX_r + LATEX_F + this.discountFactorLatex()
+            + standardNormalCdfLatex(this.dParameterLatex(1, this.isCall));
+
+        String rhsTerm3 = (this.isCall ? " - " : " + ")
+            + LATEX_r + LATEX_K + this.discountFactorLatex()
+            + standardNormalCdfLatex(this.dParameterLatex(2, this.isCall));
+
+        String rhs = rhsTerm1 + rhsTerm2 + rhsTerm3;
+
+        return new String[] { LATEX_Θ.trim(), lhs, rhs };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion theta
+
+    //region rho
+    //----------------------------------------------------------------------
+
+    @Override
+    public double rho() {
+        return Black76Kernel.rho(this.isCall, this.S, this.K, this.τ, this.σ, this.r);
+    }
+
+    /**
+     * Returns the details of the rho (ρ) calculation, the futures price is held fixed so rho is {@code -τ} times the price.
+     * <p>For a list of parameters used in the calculation see {@link #parameterNotation}.</p>
+     * <p>The calculation steps are:</p>
+     * <ol start="0">
+     *   <li>d₁ (see {@link #dCalculationStep(int)})</li>
+     *   <li>d₂ (see {@link #dCalculationStep(int)})</li>
+     *   <li>standard normal CDF at +d₁ for call and -d₁ for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>standard normal CDF at +d₂ for call and -d₂ for put (see {@link AbstractAnalyticOption#standardNormalCdfCalculationStep(String, Number)})</li>
+     *   <li>rho (ρ)
+     *     <ol start="0">
+     *       <li>symbol</li>
+     *       <li>PDE</li>
+     *       <li>equation</li>
+     *       <li>option parameters and values of d₁ and d₂ substituted in</li>
+     *       <li>value</li>
+     *     </ol>
+     *   </li>
+     * </ol>
+     */
+    @Override
+    public AnalyticCalculation rhoCalculation() {
+        Black76Option option = this.calculationSnapshot();
+
+        return timedCalculation(MODEL_NAME, "rhoCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.dCalculationStep(2),
+            () -> option.N_at_d_calculationStep(1, option.isCall),
+            () -> option.N_at_d_calculationStep(2, option.isCall),
+            () -> option.finalCalculationStep(option.rhoFormula(), option.rho())
+        ));
+    }
+
+    private String[] rhoFormula() {
+        String lhs = LatexUtils.partialDerivative(this.typeParameterLatex(), LATEX_r);
+        String rhs = "- " + LATEX_τ + this.priceFormula()[1];
+
+        return new String[] { LATEX_ρ.trim(), lhs.trim(), rhs };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion rho
+
+    /**
+     * List of the LaTeX notation used for the option parameters in the formulas.
+     * <ol start="0">
+     *   <li>futures price (F)</li>
+     *   <li>strike price (K)</li>
+     *   <li>time to maturity (τ)</li>
+     *   <li>volatility (σ)</li>
+     *   <li>risk-free rate (r)</li>
+     * </ol>
+     *
+     * @return LaTeX notations
+     */
+    public String[] parameterNotation() {
+        return new String[] {
+            LATEX_F.trim(),
+            LATEX_K.trim(),
+            LATEX_τ.trim(),
+            LATEX_σ.trim(),
+            LATEX_r.trim()
+        };
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private EquationInput[] calculationInputs(LatexDelimeterType latexDelimeterType) {
+        return new EquationInput[] {
+            this.baseCalculationInput(LATEX_F.trim(), this.initialSpotPrice(), latexDelimeterType),
+            this.baseCalculationInput(LATEX_K.trim(), this.strikePrice(), latexDelimeterType),
+            this.baseCalculationInput(LATEX_τ.trim(), this.timeToMaturity(), latexDelimeterType),
+            this.baseCalculationInput(LATEX_σ.trim(), this.volatility(), latexDelimeterType),
+            this.baseCalculationInput(LATEX_r.trim(), this.riskFreeRate(), latexDelimeterType),
+        };
+    }
+
+    private String[] N_at_d_calculationStep(int i, boolean positive) {
+        return this.standardNormalCdfCalculationStep(this.dParameterLatex(i, positive), (positive ? 1d : -1d) * this.d(i), this.N_at_d(i, positive));
+    }
+
+    private String[] N̕_at_d1_calculationStep() {
+        return this.standardNormalPdfCalculationStep(this.dParameterLatex(1, true), this.d(1), this.N̕_at_d1());
+    }
+
+    private String[] finalCalculationStep(String[] formula, double answer) {
+        EquationInput[] inputs = Stream.concat(
+            Arrays.stream(this.calculationInputs(LatexDelimeterType.PARENTHESIS)),
+            Arrays.stream(this.dEquationSubstitutionValues())
+        ).toArray(EquationInput[]::new);
+
+        return FormulaUtils.solve(formula, inputs, this.roundCalculationStepValue(answer));
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -1,5 +1,6 @@
 package dev.peterrhodes.optionpricing.internal.analyticoptions;
 
+import dev.peterrhodes.optionpricing.OptionSpec;
 import dev.peterrhodes.optionpricing.enums.OptionStyle;
 import dev.peterrhodes.optionpricing.enums.OptionType;
 import dev.peterrhodes.optionpricing.internal.common.EquationInput;
@@ -8,6 +9,7 @@ import dev.peterrhodes.optionpricing.internal.utils.FormulaUtils;
 import dev.peterrhodes.optionpricing.internal.utils.LatexUtils;
 import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -16,6 +18,11 @@ import java.util.stream.Stream;
  */
 public final class EuropeanOption extends AbstractAnalyticOption {
 
+    /**
+     * Name of the model in the operations recorded by {@link dev.peterrhodes.optionpricing.PricingMetrics}.
+     */
+    public static final String MODEL_NAME = "BlackScholesMerton";
+
     /**
      * Vanilla European option.
      */
@@ -23,6 +30,20 @@ public final class EuropeanOption extends AbstractAnalyticOption {
         super(OptionStyle.EUROPEAN, optionType, initialSpotPrice, strikePrice, timeToMaturity, volatility, riskFreeRate, dividendYield);
     }
 
+    private EuropeanOption(OptionType optionType, double initialSpotPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate, double dividendYield) {
+        super(OptionStyle.EUROPEAN, optionType, initialSpotPrice, strikePrice, timeToMaturity, volatility, riskFreeRate, dividendYield);
+    }
+
+    /**
+     * Vanilla European option with the parameters of a spec, which have already been validated, so they're neither boxed nor validated again.
+     *
+     * @param spec option spec
+     * @return European option
+     */
+    public static EuropeanOption from(OptionSpec spec) {
+        return new EuropeanOption(spec.optionType(), spec.getInitialSpotPrice(), spec.getStrikePrice(), spec.getTimeToMaturity(), spec.getVolatility(), spec.getRiskFreeRate(), spec.getDividendYield());
+    }
+
     //region d₁, d₂
     //----------------------------------------------------------------------
 
@@ -35,6 +56,11 @@ public final class EuropeanOption extends AbstractAnalyticOption {
     public double d(int i) throws IllegalArgumentException {
         checkdi(i);
 
+        return this.dᵢ(i);
+    }
+
+    @Override
+    protected double calculateD(int i) {
         return (Math.log(this.S / this.K) + (this.r - this.q + (i == 1 ? 1 : -1) * Math.pow(this.σ, 2) / 2) * this.τ)
             / (this.σ * Math.sqrt(this.τ));
     }
@@ -107,8 +133,8 @@ public final class EuropeanOption extends AbstractAnalyticOption {
 
     @Override
     public double price() {
-        return this.C̟P̠ * this.S * Math.exp(-this.q * this.τ) * this.N(this.C̟P̠ * this.d(1))
-             + this.C̠P̟ * this.K * Math.exp(-this.r * this.τ) * this.N(this.C̟P̠ * this.d(2));
+        return this.C̟P̠ * this.S * this.dividendDiscountFactor() * this.N_at_d(1, this.isCall)
+             + this.C̠P̟ * this.K * this.discountFactor() * this.N_at_d(2, this.isCall);
     }
 
     /**
@@ -132,17 +158,15 @@ public final class EuropeanOption extends AbstractAnalyticOption {
      */
     @Override
     public AnalyticCalculation priceCalculation() {
-        double answer = this.price();
-        String[] finalStep = this.finalCalculationStep(this.priceFormula(), answer);
+        EuropeanOption option = this.calculationSnapshot();
 
-        return new AnalyticCalculation(
-            new String[][] {
-                this.dCalculationStep(1),
-                this.dCalculationStep(2),
-                this.N_at_d_calculationStep(1, this.isCall),
-                this.N_at_d_calculationStep(2, this.isCall),
-                finalStep
-            });
+        return timedCalculation(MODEL_NAME, "priceCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.dCalculationStep(2),
+            () -> option.N_at_d_calculationStep(1, option.isCall),
+            () -> option.N_at_d_calculationStep(2, option.isCall),
+            () -> option.finalCalculationStep(option.priceFormula(), option.price())
+        ));
     }
 
     private String[] priceFormula() {
@@ -170,7 +194,7 @@ public final class EuropeanOption extends AbstractAnalyticOption {
 
     @Override
     public double delta() {
-        return this.C̟P̠ * Math.exp(-this.q * this.τ) * this.N(this.C̟P̠ * this.d(1));
+        return this.C̟P̠ * this.dividendDiscountFactor() * this.N_at_d(1, this.isCall);
     }
 
     /**
@@ -193,15 +217,13 @@ public final class EuropeanOption extends AbstractAnalyticOption {
      */
     @Override
     public AnalyticCalculation deltaCalculation() {
-        double answer = this.delta();
-        String[] finalStep = this.finalCalculationStep(this.deltaFormula(), answer);
+        EuropeanOption option = this.calculationSnapshot();
 
-        return new AnalyticCalculation(
-            new String[][] {
-                this.dCalculationStep(1),
-                this.N_at_d_calculationStep(1, this.isCall),
-                finalStep
-            });
+        return timedCalculation(MODEL_NAME, "deltaCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.N_at_d_calculationStep(1, option.isCall),
+            () -> option.finalCalculationStep(option.deltaFormula(), option.delta())
+        ));
     }
 
     private String[] deltaFormula() {
@@ -222,7 +244,7 @@ public final class EuropeanOption extends AbstractAnalyticOption {
 
     @Override
     public double gamma() {
-        return Math.exp(-this.q * this.τ) * this.N̕(this.d(1)) / (this.S * this.σ * Math.sqrt(this.τ));
+        return this.dividendDiscountFactor() * this.N̕_at_d1() / (this.S * this.σ * Math.sqrt(this.τ));
     }
 
     /**
@@ -245,15 +267,13 @@ public final class EuropeanOption extends AbstractAnalyticOption {
      */
     @Override
     public AnalyticCalculation gammaCalculation() {
-        double answer = this.gamma();
-        String[] finalStep = this.finalCalculationStep(this.gammaFormula(), answer);
+        EuropeanOption option = this.calculationSnapshot();
 
-        return new AnalyticCalculation(
-            new String[][] {
-                this.dCalculationStep(1),
-                this.N̕_at_d_calculationStep(1, true),
-                finalStep
-            });
+        return timedCalculation(MODEL_NAME, "gammaCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.N̕_at_d1_calculationStep(),
+            () -> option.finalCalculationStep(option.gammaFormula(), option.gamma())
+        ));
     }
 
     private String[] gammaFormula() {
@@ -276,7 +296,7 @@ public final class EuropeanOption extends AbstractAnalyticOption {
 
     @Override
     public double vega() {
-        return this.S * Math.exp(-this.q * this.τ) * this.N̕(this.d(1)) * Math.sqrt(this.τ);
+        return this.S * this.dividendDiscountFactor() * this.N̕_at_d1() * Math.sqrt(this.τ);
     }
 
     /**
@@ -299,15 +319,13 @@ public final class EuropeanOption extends AbstractAnalyticOption {
      */
     @Override
     public AnalyticCalculation vegaCalculation() {
-        double answer = this.vega();
-        String[] finalStep = this.finalCalculationStep(this.vegaFormula(), answer);
+        EuropeanOption option = this.calculationSnapshot();
 
-        return new AnalyticCalculation(
-            new String[][] {
-                this.dCalculationStep(1),
-                this.N̕_at_d_calculationStep(1, true),
-                finalStep
-            });
+        return timedCalculation(MODEL_NAME, "vegaCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.N̕_at_d1_calculationStep(),
+            () -> option.finalCalculationStep(option.vegaFormula(), option.vega())
+        ));
     }
 
     private String[] vegaFormula() {
@@ -329,9 +347,9 @@ public final class EuropeanOption extends AbstractAnalyticOption {
 
     @Override
     public double theta() {
-        double term1 = -Math.exp(-this.q * this.τ) * (this.S * this.N̕(this.d(1)) * this.σ) / (2d * Math.sqrt(this.τ));
-        double term2 = this.r * this.K * Math.exp(-this.r * this.τ) * this.N(this.C̟P̠ * this.d(2));
-        double term3 = this.q * this.S * Math.exp(-this.q * this.τ) * this.N(this.C̟P̠ * this.d(1));
+        double term1 = -this.dividendDiscountFactor() * (this.S * this.N̕_at_d1() * this.σ) / (2d * Math.sqrt(this.τ));
+        double term2 = this.r * this.K * this.discountFactor() * this.N_at_d(2, this.isCall);
+        double term3 = this.q * this.S * this.dividendDiscountFactor() * this.N_at_d(1, this.isCall);
         return term1 + this.C̠P̟ *  term2 + this.C̟P̠ * term3;
     }
 
@@ -357,18 +375,16 @@ public final class EuropeanOption extends AbstractAnalyticOption {
      */
     @Override
     public AnalyticCalculation thetaCalculation() {
-        double answer = this.theta();
-        String[] finalStep = this.finalCalculationStep(this.thetaFormula(), answer);
+        EuropeanOption option = this.calculationSnapshot();
 
-        return new AnalyticCalculation(
-            new String[][] {
-                this.dCalculationStep(1),
-                this.dCalculationStep(2),
-                this.N_at_d_calculationStep(1, this.isCall),
-                this.N_at_d_calculationStep(2, this.isCall),
-                this.N̕_at_d_calculationStep(1, true),
-                finalStep
-            });
+        return timedCalculation(MODEL_NAME, "thetaCalculation", option, List.of(
+            () -> option.dCalculationStep(1),
+            () -> option.dCalculationStep(2),
+            () -> option.N_at_d_calculationStep(1, option.isCall),
+            () -> option.N_at_d_calculationStep(2, option.isCall),
+            () -> option.N̕_at_d1_calculationStep(),
+            () -> option.finalCalculationStep(option.thetaFormula(), option.theta())
+        ));
     }
 
     private String[] thetaFormula() {
@@ -402,7 +418,7 @@ public final class EuropeanOption extends AbstractAnalyticOption {
 
     @Override
     public double rho() {
-        return this.C̟P̠ * this.K * this.τ * Math.exp(-this.r * this.τ) * this.N(this.C̟P̠ * this.d(2));
+        return this.C̟P̠ * this.K * this.τ * this.discountFactor() * this.N_at_d(2, this.isCall);
     }
 
     /**
@@ -425,15 +441,13 @@ public final class EuropeanOption extends AbstractAnalyticOption {
      */
     @Override
     public AnalyticCalculation rhoCalculation() {
-        double answer = this.rho();
-        String[] finalStep = this.finalCalculationStep(this.rhoFormula(), answer);
+        EuropeanOption option = this.calculationSnapshot();
 
-        return new AnalyticCalculation(
-            new String[][] {
-                this.dCalculationStep(2),
-                this.N_at_d_calculationStep(2, this.isCall),
-                finalStep
-            });
+        return timedCalculation(MODEL_NAME, "rhoCalculation", option, List.of(
+            () -> option.dCalculationStep(2),
+            () -> option.N_at_d_calculationStep(2, option.isCall),
+            () -> option.finalCalculationStep(option.rhoFormula(), option.rho())
+        ));
     }
 
     private String[] rhoFormula() {
@@ -477,11 +491,11 @@ public final class EuropeanOption extends AbstractAnalyticOption {
     //----------------------------------------------------------------------
 
     private String[] N_at_d_calculationStep(int i, boolean positive) {
-        return this.standardNormalCdfCalculationStep(this.dParameterLatex(i, positive), (positive ? 1d : -1d) * this.d(i));
+        return this.standardNormalCdfCalculationStep(this.dParameterLatex(i, positive), (positive ? 1d : -1d) * this.d(i), this.N_at_d(i, positive));
     }
 
-    private String[] N̕_at_d_calculationStep(int i, boolean positive) {
-        return this.standardNormalPdfCalculationStep(this.dParameterLatex(i, positive), (positive ? 1d : -1d) * this.d(i));
+    private String[] N̕_at_d1_calculationStep() {
+        return this.standardNormalPdfCalculationStep(this.dParameterLatex(1, true), this.d(1), this.N̕_at_d1());
     }
 
     private String[] finalCalculationStep(String[] formula, double answer) {
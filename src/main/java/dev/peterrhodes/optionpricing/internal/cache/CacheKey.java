@@ -0,0 +1,51 @@
+package dev.peterrhodes.optionpricing.internal.cache;
+
+import dev.peterrhodes.optionpricing.OptionSpec;
+
+/**
+ * Key of a cached result: the model that calculated it, compared with its {@code equals}, so that pricing models with the same configuration share their results, and the quantised option spec it was calculated for.
+ */
+public final class CacheKey {
+
+    private final Object model;
+    private final OptionSpec spec;
+    private final int hash;
+
+    /**
+     * Creates a cache key.
+     *
+     * @param model pricing model or analytic model
+     * @param spec quantised option spec
+     */
+    public CacheKey(Object model, OptionSpec spec) {
+        this.model = model;
+        this.spec = spec;
+        this.hash = 31 * model.hashCode() + spec.hashCode();
+    }
+
+    /**
+     * Get spec.
+     *
+     * @return spec
+     */
+    public OptionSpec getSpec() {
+        return this.spec;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        } else if (!(object instanceof CacheKey)) {
+            return false;
+        }
+
+        CacheKey other = (CacheKey) object;
+        return this.model.equals(other.model) && this.spec.equals(other.spec);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+}
@@ -0,0 +1,68 @@
+package dev.peterrhodes.optionpricing.internal.cache;
+
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.PricingModel;
+import dev.peterrhodes.optionpricing.internal.OptionImpl;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import java.util.function.UnaryOperator;
+
+/**
+ * Decorator which caches the prices calculated by a {@link PricingModel}.
+ * <p>Specs and the vanilla options built by {@link dev.peterrhodes.optionpricing.OptionBuilder} are keyed on their quantised parameters and priced at those parameters, so every option with the same key gets the same price.&nbsp;Custom options, whose exercise values can't be compared, options whose parameters a spec can't hold, e.g.&nbsp;an {@link OptionImpl} created without validation, and calculations aren't cached, they're passed to the wrapped model unchanged.</p>
+ *
+ * @param <T> calculation model type
+ */
+public final class CachingPricingModel<T> implements PricingModel<T> {
+
+    private final PricingModel<T> pricingModel;
+    private final StripedLruCache<CacheKey, Object> cache;
+    private final UnaryOperator<OptionSpec> quantiser;
+
+    /**
+     * Creates a caching pricing model.
+     *
+     * @param pricingModel pricing model to cache the prices of
+     * @param cache cache shared with the other decorators of a {@link dev.peterrhodes.optionpricing.PricingCache}
+     * @param quantiser rounds the parameters of a spec to the resolution of the cache
+     */
+    public CachingPricingModel(PricingModel<T> pricingModel, StripedLruCache<CacheKey, Object> cache, UnaryOperator<OptionSpec> quantiser) {
+        this.pricingModel = pricingModel;
+        this.cache = cache;
+        this.quantiser = quantiser;
+    }
+
+    @Override
+    public double price(Option option) throws NullPointerException {
+        ValidationUtils.checkNotNull(option, "option");
+        if (option instanceof OptionSpec) {
+            return this.price((OptionSpec) option);
+        } else if (option.getClass() == OptionImpl.class && isSpecifiable(option)) {
+            return this.price(OptionSpec.from(option));
+        }
+        return this.pricingModel.price(option);
+    }
+
+    @Override
+    public double price(OptionSpec spec) throws NullPointerException {
+        ValidationUtils.checkNotNull(spec, "spec");
+        CacheKey key = new CacheKey(this.pricingModel, this.quantiser.apply(spec));
+        return (Double) this.cache.get(key, k -> this.pricingModel.price(k.getSpec()));
+    }
+
+    @Override
+    public T calculation(Option option) throws NullPointerException {
+        return this.pricingModel.calculation(option);
+    }
+
+    // Whether OptionSpec#from accepts the option, so the wrapped model sees the same inputs with and without the cache
+    private static boolean isSpecifiable(Option option) {
+        return option.optionStyle() != null && option.optionType() != null
+            && isPositive(option.initialSpotPrice()) && isPositive(option.strikePrice()) && isPositive(option.timeToMaturity()) && isPositive(option.volatility())
+            && option.riskFreeRate() != null && option.dividendYield() != null;
+    }
+
+    private static boolean isPositive(Number number) {
+        return number != null && number.doubleValue() > 0;
+    }
+}
@@ -0,0 +1,199 @@
+package dev.peterrhodes.optionpricing.internal.cache;
+
+import dev.peterrhodes.optionpricing.AnalyticOption;
+import dev.peterrhodes.optionpricing.ExerciseValueParameter;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.enums.PrecisionType;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+
+/**
+ * Decorator which calculates the price and Greeks of an {@link AnalyticOption} at most once each.
+ * <p>The option is shared by everyone who looks it up in a {@link dev.peterrhodes.optionpricing.PricingCache}.&nbsp;The calculation step precision only changes how the calculation steps are rounded, not the memoized values, so it's delegated to the option and applies to the calculations created after it's changed.&nbsp;The values are calculated on first use and published through volatile fields, a race only means a value is calculated twice.</p>
+ */
+public final class MemoizedAnalyticOption implements AnalyticOption {
+
+    private final AnalyticOption option;
+
+    // NaN until calculated
+    private volatile double price = Double.NaN;
+    private volatile double delta = Double.NaN;
+    private volatile double gamma = Double.NaN;
+    private volatile double vega = Double.NaN;
+    private volatile double theta = Double.NaN;
+    private volatile double rho = Double.NaN;
+
+    /**
+     * Creates a memoized analytic option.
+     *
+     * @param option option to memoize the values of
+     */
+    public MemoizedAnalyticOption(AnalyticOption option) {
+        this.option = option;
+    }
+
+    //region values
+    //----------------------------------------------------------------------
+
+    @Override
+    public double price() {
+        double value = this.price;
+        if (Double.isNaN(value)) {
+            value = this.option.price();
+            this.price = value;
+        }
+        return value;
+    }
+
+    @Override
+    public double delta() {
+        double value = this.delta;
+        if (Double.isNaN(value)) {
+            value = this.option.delta();
+            this.delta = value;
+        }
+        return value;
+    }
+
+    @Override
+    public double gamma() {
+        double value = this.gamma;
+        if (Double.isNaN(value)) {
+            value = this.option.gamma();
+            this.gamma = value;
+        }
+        return value;
+    }
+
+    @Override
+    public double vega() {
+        double value = this.vega;
+        if (Double.isNaN(value)) {
+            value = this.option.vega();
+            this.vega = value;
+        }
+        return value;
+    }
+
+    @Override
+    public double theta() {
+        double value = this.theta;
+        if (Double.isNaN(value)) {
+            value = this.option.theta();
+            this.theta = value;
+        }
+        return value;
+    }
+
+    @Override
+    public double rho() {
+        double value = this.rho;
+        if (Double.isNaN(value)) {
+            value = this.option.rho();
+            this.rho = value;
+        }
+        return value;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion values
+
+    /**
+     * Sets the precision of the calculation steps created after this call, which the memoized values don't depend on.&nbsp;The option is shared by every lookup of the same key, so the precision applies to all of them.
+     *
+     * @param precisionDigits number of digits
+     * @param precisionType type of precision
+     * @throws NullPointerException if {@code precisionType} is null
+     * @throws IllegalArgumentException if {@code precisionDigits} is negative
+     */
+    @Override
+    public void setCalculationStepPrecision(int precisionDigits, PrecisionType precisionType) throws NullPointerException, IllegalArgumentException {
+        this.option.setCalculationStepPrecision(precisionDigits, precisionType);
+    }
+
+    //region delegated
+    //----------------------------------------------------------------------
+
+    @Override
+    public AnalyticCalculation priceCalculation() {
+        return this.option.priceCalculation();
+    }
+
+    @Override
+    public AnalyticCalculation deltaCalculation() {
+        return this.option.deltaCalculation();
+    }
+
+    @Override
+    public AnalyticCalculation gammaCalculation() {
+        return this.option.gammaCalculation();
+    }
+
+    @Override
+    public AnalyticCalculation vegaCalculation() {
+        return this.option.vegaCalculation();
+    }
+
+    @Override
+    public AnalyticCalculation thetaCalculation() {
+        return this.option.thetaCalculation();
+    }
+
+    @Override
+    public AnalyticCalculation rhoCalculation() {
+        return this.option.rhoCalculation();
+    }
+
+    @Override
+    public String[] parameterNotation() {
+        return this.option.parameterNotation();
+    }
+
+    @Override
+    public double exerciseValue(ExerciseValueParameter exerciseValueParameter) {
+        return this.option.exerciseValue(exerciseValueParameter);
+    }
+
+    @Override
+    public OptionStyle optionStyle() {
+        return this.option.optionStyle();
+    }
+
+    @Override
+    public OptionType optionType() {
+        return this.option.optionType();
+    }
+
+    @Override
+    public Number initialSpotPrice() {
+        return this.option.initialSpotPrice();
+    }
+
+    @Override
+    public Number strikePrice() {
+        return this.option.strikePrice();
+    }
+
+    @Override
+    public Number timeToMaturity() {
+        return this.option.timeToMaturity();
+    }
+
+    @Override
+    public Number volatility() {
+        return this.option.volatility();
+    }
+
+    @Override
+    public Number riskFreeRate() {
+        return this.option.riskFreeRate();
+    }
+
+    @Override
+    public Number dividendYield() {
+        return this.option.dividendYield();
+    }
+
+    //----------------------------------------------------------------------
+    //endregion delegated
+}
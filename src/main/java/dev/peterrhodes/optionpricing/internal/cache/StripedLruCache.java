@@ -0,0 +1,190 @@
+package dev.peterrhodes.optionpricing.internal.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrent size and time bounded cache, split into lock-striped least recently used segments.
+ * <p>A key is hashed to one of the stripes, each an access ordered {@link LinkedHashMap} guarded by its own lock, so threads only contend when their keys share a stripe.&nbsp;Each stripe holds at most {@code ceil(maximumSize / stripes)} entries and evicts its least recently used entry when it's full.&nbsp;Entries older than the time to live are treated as misses and removed when they're read.</p>
+ * <p>Values are loaded outside the lock so a slow load doesn't block the rest of its stripe, which means concurrent misses on the same key may load it more than once; the last load wins.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class StripedLruCache<K, V> {
+
+    private final Stripe<K, V>[] stripes;
+    private final int stripeMask;
+    private final long timeToLiveNanos;
+    private final LongSupplier ticker;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maximumSize maximum number of entries ({@code > 0})
+     * @param timeToLiveNanos time an entry is kept after it's written in nanoseconds, or zero to keep entries until they're evicted
+     * @param stripeCount number of stripes, rounded up to a power of two
+     * @param ticker source of the current time in nanoseconds, e.g.&nbsp;{@code System::nanoTime}
+     */
+    @SuppressWarnings("unchecked")
+    public StripedLruCache(int maximumSize, long timeToLiveNanos, int stripeCount, LongSupplier ticker) {
+        int count = Integer.highestOneBit(Math.max(1, Math.min(stripeCount, maximumSize)) * 2 - 1);
+        int stripeCapacity = (maximumSize + count - 1) / count;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe<>(stripeCapacity, this.evictions);
+        }
+        this.stripeMask = count - 1;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns the cached value of a key, loading and caching it on a miss.
+     *
+     * @param key key
+     * @param loader calculates the value of a key, mustn't return null
+     * @return cached or loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Stripe<K, V> stripe = this.stripeOf(key);
+        long now = this.ticker.getAsLong();
+        synchronized (stripe) {
+            Entry<V> entry = stripe.get(key);
+            if (entry != null) {
+                if (this.timeToLiveNanos == 0L || now - entry.writeNanos < this.timeToLiveNanos) {
+                    this.hits.increment();
+                    return entry.value;
+                }
+                stripe.remove(key);
+                this.evictions.increment();
+            }
+        }
+
+        this.misses.increment();
+        V value = loader.apply(key);
+        Entry<V> entry = new Entry<>(value, this.ticker.getAsLong());
+        synchronized (stripe) {
+            stripe.put(key, entry);
+        }
+        return value;
+    }
+
+    /**
+     * Removes every entry, the statistics are kept.
+     */
+    public void clear() {
+        for (Stripe<K, V> stripe : this.stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Removes the expired entries, which would otherwise only be removed when they're read or evicted.
+     */
+    public void cleanUp() {
+        if (this.timeToLiveNanos == 0L) {
+            return;
+        }
+        long now = this.ticker.getAsLong();
+        for (Stripe<K, V> stripe : this.stripes) {
+            synchronized (stripe) {
+                Iterator<Entry<V>> iterator = stripe.values().iterator();
+                while (iterator.hasNext()) {
+                    if (now - iterator.next().writeNanos >= this.timeToLiveNanos) {
+                        iterator.remove();
+                        this.evictions.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    //region statistics
+    //----------------------------------------------------------------------
+
+    /**
+     * Returns the number of entries, including expired entries which haven't been removed yet.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : this.stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of lookups which found a live entry.
+     */
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which loaded the value.
+     */
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of entries removed because their stripe was full or they expired.
+     */
+    public long evictions() {
+        return this.evictions.sum();
+    }
+
+    //----------------------------------------------------------------------
+    //endregion statistics
+
+    private Stripe<K, V> stripeOf(K key) {
+        int hash = key.hashCode();
+        return this.stripes[(hash ^ (hash >>> 16)) & this.stripeMask];
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long writeNanos;
+
+        private Entry(V value, long writeNanos) {
+            this.value = value;
+            this.writeNanos = writeNanos;
+        }
+    }
+
+    private static final class Stripe<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final transient LongAdder evictions;
+
+        private Stripe(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if (this.size() > this.capacity) {
+                this.evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dev.peterrhodes.optionpricing.internal.characteristicfunctions;
+
+import dev.peterrhodes.optionpricing.CharacteristicFunction;
+import dev.peterrhodes.optionpricing.internal.common.Complex;
+
+/**
+ * Base class for the built in characteristic functions, which can also be evaluated at complex arguments (e.g.&nbsp;{@code u - i/2} for the Lewis (2001) formula).
+ */
+public abstract class AbstractCharacteristicFunction implements CharacteristicFunction {
+
+    /**
+     * Evaluates the characteristic function at a complex argument.
+     *
+     * @param u argument
+     * @param timeToMaturity time until maturity in years
+     * @return {@code φ(u)}
+     */
+    public abstract Complex evaluate(Complex u, double timeToMaturity);
+
+    @Override
+    public final void evaluate(double u, double timeToMaturity, double[] result) {
+        Complex φ = this.evaluate(new Complex(u, 0d), timeToMaturity);
+        result[0] = φ.re();
+        result[1] = φ.im();
+    }
+
+    /**
+     * Estimates the fourth cumulant with the central fourth difference of {@code ln|φ(u)| = -c₂u²/2 + c₄u⁴/24 - ...} with a step of a quarter of a standard deviation in {@code u}, for models whose closed form is too lengthy to be worth it when only used for a truncation range.
+     *
+     * @param timeToMaturity time until maturity in years
+     * @param secondCumulant second cumulant ({@code c₂ > 0}), which sets the step size
+     * @return {@code c₄}
+     */
+    protected double fourthCumulant(double timeToMaturity, double secondCumulant) {
+        double h = 0.25 / Math.sqrt(secondCumulant);
+        double f1 = Math.log(this.evaluate(new Complex(h, 0d), timeToMaturity).abs()) + Math.log(this.evaluate(new Complex(-h, 0d), timeToMaturity).abs());
+        double f2 = Math.log(this.evaluate(new Complex(2d * h, 0d), timeToMaturity).abs()) + Math.log(this.evaluate(new Complex(-2d * h, 0d), timeToMaturity).abs());
+        double hSquared = h * h;
+        return (f2 - 4d * f1) / (hSquared * hSquared); // ln|φ(0)| = 0
+    }
+}
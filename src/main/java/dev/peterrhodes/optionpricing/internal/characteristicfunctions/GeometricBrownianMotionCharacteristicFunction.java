@@ -0,0 +1,35 @@
+package dev.peterrhodes.optionpricing.internal.characteristicfunctions;
+
+import dev.peterrhodes.optionpricing.internal.common.Complex;
+
+/**
+ * Characteristic function of geometric Brownian motion.
+ * <pre>
+ * φ(u) = exp(-σ²τ (iu + u²) / 2)
+ * </pre>
+ */
+public final class GeometricBrownianMotionCharacteristicFunction extends AbstractCharacteristicFunction {
+
+    private final double σ;
+
+    /**
+     * Creates the characteristic function of geometric Brownian motion.
+     *
+     * @param volatility underlying volatility ({@code σ})
+     */
+    public GeometricBrownianMotionCharacteristicFunction(double volatility) {
+        this.σ = volatility;
+    }
+
+    @Override
+    public Complex evaluate(Complex u, double τ) {
+        Complex iu = Complex.I.multiply(u);
+        return iu.add(u.multiply(u)).multiply(-this.σ * this.σ * τ / 2d).exp();
+    }
+
+    @Override
+    public double[] cumulants(double timeToMaturity) {
+        double variance = this.σ * this.σ * timeToMaturity;
+        return new double[] { -variance / 2d, variance, 0d };
+    }
+}
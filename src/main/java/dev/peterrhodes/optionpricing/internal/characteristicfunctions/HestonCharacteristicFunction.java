@@ -0,0 +1,154 @@
+package dev.peterrhodes.optionpricing.internal.characteristicfunctions;
+
+import dev.peterrhodes.optionpricing.internal.common.Complex;
+
+/**
+ * Characteristic function of the Heston (1993) model in the "little Heston trap" form of <a href="https://doi.org/10.1002/wilm.10056">Albrecher et al.&nbsp;(2007)</a>, which avoids the branch cut discontinuity of the complex logarithm.
+ * <pre>
+ * φ(u) = exp(C + D v₀)
+ * β = κ - ρξiu,   d = √(β² + ξ²(iu + u²)),   g = (β - d) / (β + d)
+ * C = κθ / ξ² ((β - d) τ - 2 ln((1 - g e^(-dτ)) / (1 - g)))
+ * D = (β - d) / ξ² (1 - e^(-dτ)) / (1 - g e^(-dτ))
+ * </pre>
+ */
+public final class HestonCharacteristicFunction extends AbstractCharacteristicFunction {
+
+    private final double κ;
+    private final double θ;
+    private final double ξ;
+    private final double ρ;
+    private final double v0;
+
+    /**
+     * Creates the characteristic function of the Heston model.
+     *
+     * @param kappa rate at which the variance reverts to its long run mean ({@code κ})
+     * @param theta long run mean of the variance ({@code θ})
+     * @param xi volatility of the variance ({@code ξ})
+     * @param rho correlation between the underlying asset price and its variance ({@code ρ})
+     * @param v0 initial variance ({@code v₀})
+     */
+    public HestonCharacteristicFunction(double kappa, double theta, double xi, double rho, double v0) {
+        this.κ = kappa;
+        this.θ = theta;
+        this.ξ = xi;
+        this.ρ = rho;
+        this.v0 = v0;
+    }
+
+    @Override
+    public Complex evaluate(Complex u, double τ) {
+        double[] result = new double[2];
+        this.evaluate(u.re(), u.im(), τ, result);
+        return new Complex(result[0], result[1]);
+    }
+
+    /**
+     * Evaluates the characteristic function at a complex argument without creating any objects, with the arithmetic of {@link Complex} written out on the real and imaginary parts, so it's equal to {@link #evaluate(Complex, double)}.
+     *
+     * @param uRe real part of the argument
+     * @param uIm imaginary part of the argument
+     * @param timeToMaturity time until maturity in years
+     * @param result array of length at least 2 to write the real ({@code [0]}) and imaginary ({@code [1]}) parts of {@code φ(u)} to, also used as scratch space
+     */
+    public void evaluate(double uRe, double uIm, double timeToMaturity, double[] result) {
+        double τ = timeToMaturity;
+        double ξSquared = this.ξ * this.ξ;
+
+        // β = κ - ρξiu
+        double iuRe = -uIm;
+        double iuIm = uRe;
+        double ρξ = -this.ρ * this.ξ;
+        double βRe = iuRe * ρξ + this.κ;
+        double βIm = iuIm * ρξ;
+
+        // d = √(β² + ξ²(iu + u²))
+        double squareRe = βRe * βRe - βIm * βIm + (iuRe + (uRe * uRe - uIm * uIm)) * ξSquared;
+        double squareIm = βRe * βIm + βIm * βRe + (iuIm + (uRe * uIm + uIm * uRe)) * ξSquared;
+        double dRe = 0d;
+        double dIm = 0d;
+        if (squareRe != 0d || squareIm != 0d) {
+            double t = Math.sqrt((Math.abs(squareRe) + Math.hypot(squareRe, squareIm)) / 2d);
+            dRe = squareRe >= 0d ? t : Math.abs(squareIm) / (2d * t);
+            dIm = squareRe >= 0d ? squareIm / (2d * t) : Math.copySign(t, squareIm);
+        }
+
+        // g = (β - d) / (β + d)
+        double βMinusdRe = βRe - dRe;
+        double βMinusdIm = βIm - dIm;
+        divide(βMinusdRe, βMinusdIm, βRe + dRe, βIm + dIm, result);
+        double gRe = result[0];
+        double gIm = result[1];
+
+        // e^(-dτ)
+        double eModulus = Math.exp(dRe * -τ);
+        double eRe = eModulus * Math.cos(dIm * -τ);
+        double eIm = eModulus * Math.sin(dIm * -τ);
+        double oneMinusGeRe = 1d - (gRe * eRe - gIm * eIm);
+        double oneMinusGeIm = 0d - (gRe * eIm + gIm * eRe);
+
+        // C = κθ / ξ² ((β - d) τ - 2 ln((1 - g e^(-dτ)) / (1 - g)))
+        divide(oneMinusGeRe, oneMinusGeIm, 1d - gRe, 0d - gIm, result);
+        double logRe = Math.log(Math.hypot(result[0], result[1]));
+        double logIm = Math.atan2(result[1], result[0]);
+        double κθOverξSquared = this.κ * this.θ / ξSquared;
+        double cTermRe = (βMinusdRe * τ - logRe * 2d) * κθOverξSquared;
+        double cTermIm = (βMinusdIm * τ - logIm * 2d) * κθOverξSquared;
+
+        // D = (β - d) / ξ² (1 - e^(-dτ)) / (1 - g e^(-dτ))
+        double oneMinusExpRe = 1d - eRe;
+        double oneMinusExpIm = 0d - eIm;
+        divide(βMinusdRe * oneMinusExpRe - βMinusdIm * oneMinusExpIm, βMinusdRe * oneMinusExpIm + βMinusdIm * oneMinusExpRe, oneMinusGeRe, oneMinusGeIm, result);
+        double dTermRe = result[0] * (1d / ξSquared);
+        double dTermIm = result[1] * (1d / ξSquared);
+
+        // φ(u) = exp(C + D v₀)
+        double modulus = Math.exp(cTermRe + dTermRe * this.v0);
+        double argument = cTermIm + dTermIm * this.v0;
+        result[0] = modulus * Math.cos(argument);
+        result[1] = modulus * Math.sin(argument);
+    }
+
+    /**
+     * Returns the cumulants, the first two in closed form from the expected integrated variance {@code I = ∫₀^τ v_t dt} and {@code X = -I/2 + ∫₀^τ √v_t dW_t}, i.e.&nbsp;{@code c₁ = -E[I]/2} and {@code c₂ = E[I] + Var(I)/4 - Cov(I, ∫₀^τ √v_t dW_t)}.&nbsp;The fourth is estimated from the characteristic function as its closed form is lengthy, it matters as the left tail is heavy when the correlation is strongly negative.
+     *
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @return {@code {c₁, c₂, c₄}}
+     */
+    @Override
+    public double[] cumulants(double timeToMaturity) {
+        double τ = timeToMaturity;
+        double κ = this.κ;
+        double θ = this.θ;
+        double ξ = this.ξ;
+        double e = Math.exp(-κ * τ);
+
+        double meanIntegratedVariance = θ * τ + (this.v0 - θ) * (1d - e) / κ;
+        double covariance = ξ * this.ρ / κ * (θ * τ + (this.v0 - θ) * ((1d - e) / κ - τ * e) - θ * (1d - e) / κ);
+        double integratedVarianceVariance = 2d * ξ * ξ / (κ * κ) * (θ / 2d * (τ - (1d - e) / κ)
+            + (this.v0 - θ) * ((1d - e) / κ - τ * e)
+            + (θ / 2d - this.v0) * (1d - e) * (1d - e) / (2d * κ));
+
+        double c1 = -meanIntegratedVariance / 2d;
+        double c2 = meanIntegratedVariance + integratedVarianceVariance / 4d - covariance;
+
+        return new double[] { c1, c2, Math.abs(this.fourthCumulant(τ, c2)) };
+    }
+
+    /**
+     * Writes {@code (aRe + aIm i) / (bRe + bIm i)} to {@code result}, with Smith's algorithm like {@link Complex#divide(Complex)}.
+     */
+    private static void divide(double aRe, double aIm, double bRe, double bIm, double[] result) {
+        if (Math.abs(bRe) >= Math.abs(bIm)) {
+            double ratio = bIm / bRe;
+            double denominator = bRe + bIm * ratio;
+            result[0] = (aRe + aIm * ratio) / denominator;
+            result[1] = (aIm - aRe * ratio) / denominator;
+        } else {
+            double ratio = bRe / bIm;
+            double denominator = bRe * ratio + bIm;
+            result[0] = (aRe * ratio + aIm) / denominator;
+            result[1] = (aIm * ratio - aRe) / denominator;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package dev.peterrhodes.optionpricing.internal.characteristicfunctions;
+
+import dev.peterrhodes.optionpricing.internal.common.Complex;
+
+/**
+ * Characteristic function of the Merton (1976) jump diffusion.
+ * <pre>
+ * φ(u) = exp(iuωτ - σ²τu²/2 + λτ(e^(iuμ_J - δ²u²/2) - 1)),   ω = -σ²/2 - λ(e^(μ_J + δ²/2) - 1)
+ * </pre>
+ */
+public final class MertonJumpDiffusionCharacteristicFunction extends AbstractCharacteristicFunction {
+
+    private final double σ;
+    private final double λ;
+    private final double μ_J;
+    private final double δ;
+    private final double ω; // martingale correction
+
+    /**
+     * Creates the characteristic function of the Merton jump diffusion.
+     *
+     * @param volatility diffusion volatility ({@code σ})
+     * @param jumpIntensity expected number of jumps per year ({@code λ})
+     * @param jumpMean mean of the log jump size ({@code μ_J})
+     * @param jumpVolatility standard deviation of the log jump size ({@code δ})
+     */
+    public MertonJumpDiffusionCharacteristicFunction(double volatility, double jumpIntensity, double jumpMean, double jumpVolatility) {
+        this.σ = volatility;
+        this.λ = jumpIntensity;
+        this.μ_J = jumpMean;
+        this.δ = jumpVolatility;
+        this.ω = -this.σ * this.σ / 2d - this.λ * (Math.exp(this.μ_J + this.δ * this.δ / 2d) - 1d);
+    }
+
+    @Override
+    public Complex evaluate(Complex u, double τ) {
+        Complex iu = Complex.I.multiply(u);
+        Complex uSquared = u.multiply(u);
+        Complex jump = iu.multiply(this.μ_J).subtract(uSquared.multiply(this.δ * this.δ / 2d)).exp().add(-1d);
+
+        return iu.multiply(this.ω * τ)
+            .subtract(uSquared.multiply(this.σ * this.σ * τ / 2d))
+            .add(jump.multiply(this.λ * τ))
+            .exp();
+    }
+
+    @Override
+    public double[] cumulants(double timeToMaturity) {
+        double τ = timeToMaturity;
+        double μSquared = this.μ_J * this.μ_J;
+        double δSquared = this.δ * this.δ;
+        return new double[] {
+            τ * (this.ω + this.λ * this.μ_J),
+            τ * (this.σ * this.σ + this.λ * (μSquared + δSquared)),
+            τ * this.λ * (μSquared * μSquared + 6d * δSquared * μSquared + 3d * δSquared * δSquared),
+        };
+    }
+}
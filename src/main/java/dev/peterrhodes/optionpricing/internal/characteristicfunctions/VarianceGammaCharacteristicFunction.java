@@ -0,0 +1,55 @@
+package dev.peterrhodes.optionpricing.internal.characteristicfunctions;
+
+import dev.peterrhodes.optionpricing.internal.common.Complex;
+
+/**
+ * Characteristic function of the variance gamma process.
+ * <pre>
+ * φ(u) = e^(iuωτ) (1 - iuθν + σ²νu²/2)^(-τ/ν),   ω = ln(1 - θν - σ²ν/2) / ν
+ * </pre>
+ */
+public final class VarianceGammaCharacteristicFunction extends AbstractCharacteristicFunction {
+
+    private final double σ;
+    private final double ν;
+    private final double θ;
+    private final double ω; // martingale correction
+
+    /**
+     * Creates the characteristic function of the variance gamma process.
+     *
+     * @param volatility volatility of the Brownian motion ({@code σ})
+     * @param varianceRate variance rate of the gamma time change ({@code ν})
+     * @param drift drift of the Brownian motion ({@code θ})
+     */
+    public VarianceGammaCharacteristicFunction(double volatility, double varianceRate, double drift) {
+        this.σ = volatility;
+        this.ν = varianceRate;
+        this.θ = drift;
+        this.ω = Math.log(1d - this.θ * this.ν - this.σ * this.σ * this.ν / 2d) / this.ν;
+    }
+
+    @Override
+    public Complex evaluate(Complex u, double τ) {
+        Complex iu = Complex.I.multiply(u);
+        Complex base = Complex.ONE
+            .subtract(iu.multiply(this.θ * this.ν))
+            .add(u.multiply(u).multiply(this.σ * this.σ * this.ν / 2d));
+
+        return iu.multiply(this.ω * τ)
+            .subtract(base.log().multiply(τ / this.ν))
+            .exp();
+    }
+
+    @Override
+    public double[] cumulants(double timeToMaturity) {
+        double τ = timeToMaturity;
+        double σSquared = this.σ * this.σ;
+        double θSquared = this.θ * this.θ;
+        return new double[] {
+            τ * (this.ω + this.θ),
+            τ * (σSquared + this.ν * θSquared),
+            τ * 3d * (σSquared * σSquared * this.ν + 2d * θSquared * θSquared * this.ν * this.ν * this.ν + 4d * σSquared * θSquared * this.ν * this.ν),
+        };
+    }
+}
@@ -0,0 +1,182 @@
+package dev.peterrhodes.optionpricing.internal.common;
+
+/**
+ * Immutable complex number for evaluating characteristic functions.
+ * <p>The arithmetic is kept to what the transform pricers need, and every operation returns a new instance; these are short-lived so the JIT compiler's escape analysis usually removes the allocations in hot loops.</p>
+ */
+public final class Complex {
+
+    /**
+     * Zero.
+     */
+    public static final Complex ZERO = new Complex(0d, 0d);
+
+    /**
+     * One.
+     */
+    public static final Complex ONE = new Complex(1d, 0d);
+
+    /**
+     * Imaginary unit ({@code i}).
+     */
+    public static final Complex I = new Complex(0d, 1d);
+
+    private final double re;
+    private final double im;
+
+    /**
+     * Creates a complex number.
+     *
+     * @param re real part
+     * @param im imaginary part
+     */
+    public Complex(double re, double im) {
+        this.re = re;
+        this.im = im;
+    }
+
+    /**
+     * Real part.
+     *
+     * @return real part
+     */
+    public double re() {
+        return this.re;
+    }
+
+    /**
+     * Imaginary part.
+     *
+     * @return imaginary part
+     */
+    public double im() {
+        return this.im;
+    }
+
+    /**
+     * Returns {@code this + other}.
+     *
+     * @param other complex number to add
+     * @return sum
+     */
+    public Complex add(Complex other) {
+        return new Complex(this.re + other.re, this.im + other.im);
+    }
+
+    /**
+     * Returns {@code this + x}.
+     *
+     * @param x real number to add
+     * @return sum
+     */
+    public Complex add(double x) {
+        return new Complex(this.re + x, this.im);
+    }
+
+    /**
+     * Returns {@code this - other}.
+     *
+     * @param other complex number to subtract
+     * @return difference
+     */
+    public Complex subtract(Complex other) {
+        return new Complex(this.re - other.re, this.im - other.im);
+    }
+
+    /**
+     * Returns {@code this × other}.
+     *
+     * @param other complex number to multiply by
+     * @return product
+     */
+    public Complex multiply(Complex other) {
+        return new Complex(this.re * other.re - this.im * other.im, this.re * other.im + this.im * other.re);
+    }
+
+    /**
+     * Returns {@code this × x}.
+     *
+     * @param x real number to multiply by
+     * @return product
+     */
+    public Complex multiply(double x) {
+        return new Complex(this.re * x, this.im * x);
+    }
+
+    /**
+     * Returns {@code this / other}, using Smith's algorithm to avoid overflow.
+     *
+     * @param other complex number to divide by
+     * @return quotient
+     */
+    public Complex divide(Complex other) {
+        if (Math.abs(other.re) >= Math.abs(other.im)) {
+            double ratio = other.im / other.re;
+            double denominator = other.re + other.im * ratio;
+            return new Complex((this.re + this.im * ratio) / denominator, (this.im - this.re * ratio) / denominator);
+        }
+
+        double ratio = other.re / other.im;
+        double denominator = other.re * ratio + other.im;
+        return new Complex((this.re * ratio + this.im) / denominator, (this.im * ratio - this.re) / denominator);
+    }
+
+    /**
+     * Returns {@code -this}.
+     *
+     * @return negation
+     */
+    public Complex negate() {
+        return new Complex(-this.re, -this.im);
+    }
+
+    /**
+     * Returns {@code e^this}.
+     *
+     * @return exponential
+     */
+    public Complex exp() {
+        double modulus = Math.exp(this.re);
+        return new Complex(modulus * Math.cos(this.im), modulus * Math.sin(this.im));
+    }
+
+    /**
+     * Returns the principal value of the natural logarithm, i.e.&nbsp;with the argument in {@code (-π, π]}.
+     *
+     * @return logarithm
+     */
+    public Complex log() {
+        return new Complex(Math.log(this.abs()), Math.atan2(this.im, this.re));
+    }
+
+    /**
+     * Returns the principal square root, i.e.&nbsp;with a non-negative real part.
+     *
+     * @return square root
+     */
+    public Complex sqrt() {
+        if (this.re == 0d && this.im == 0d) {
+            return ZERO;
+        }
+
+        double t = Math.sqrt((Math.abs(this.re) + this.abs()) / 2d);
+        if (this.re >= 0d) {
+            return new Complex(t, this.im / (2d * t));
+        }
+        return new Complex(Math.abs(this.im) / (2d * t), Math.copySign(t, this.im));
+    }
+
+    /**
+     * Modulus ({@code |this|}).
+     *
+     * @return modulus
+     */
+    public double abs() {
+        return Math.hypot(this.re, this.im);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%+si", this.re, this.im);
+    }
+}
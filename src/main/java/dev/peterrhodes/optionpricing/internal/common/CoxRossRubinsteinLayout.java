@@ -0,0 +1,91 @@
+package dev.peterrhodes.optionpricing.internal.common;
+
+/**
+ * Offsets of the values of a tree in its file, see {@link dev.peterrhodes.optionpricing.CalculationCodec}.
+ */
+public interface CoxRossRubinsteinLayout {
+
+    /**
+     * Magic number of the encoding, equal to {@link dev.peterrhodes.optionpricing.CalculationCodec#COX_ROSS_RUBINSTEIN_MAGIC}.
+     */
+    int MAGIC = 'O' | 'P' << 8 | 'C' << 16 | 'R' << 24;
+
+    /**
+     * Version of the encoding.
+     */
+    byte VERSION = 1;
+
+    /**
+     * Offset of the exercised bitmap, after the header and the parameters.
+     */
+    long BITMAP_OFFSET = 48L;
+
+    /**
+     * Largest number of time steps of a tree, so that the offsets of its values fit in a long.
+     */
+    int MAX_TIME_STEPS = 1 << 29;
+
+    /**
+     * Returns the value of the node count field of the header, which is an int, so it's {@code -1} for a tree with more than {@link Integer#MAX_VALUE} nodes.&nbsp;The node count of a mapped tree is derived from its number of time steps instead.
+     *
+     * @param timeSteps number of time steps
+     * @return node count field
+     */
+    static int nodeCountField(int timeSteps) {
+        long nodeCount = nodeCount(timeSteps);
+        return nodeCount > Integer.MAX_VALUE ? -1 : (int) nodeCount;
+    }
+
+    /**
+     * Returns the number of nodes of a tree.
+     *
+     * @param timeSteps number of time steps
+     * @return number of nodes
+     */
+    static long nodeCount(int timeSteps) {
+        return (timeSteps + 1L) * (timeSteps + 2L) / 2L;
+    }
+
+    /**
+     * Returns the index of a node, the nodes are ordered by time step then from the lowest asset price.
+     *
+     * @param i time step position
+     * @param j asset price position for the time step
+     * @return index of the node
+     */
+    static long index(int i, int j) {
+        return (long) i * (i + 1L) / 2L + j;
+    }
+
+    /**
+     * Returns the offset of the asset price of a node.
+     *
+     * @param timeSteps number of time steps
+     * @param k index of the node
+     * @return offset
+     */
+    static long sOffset(int timeSteps, long k) {
+        return BITMAP_OFFSET + 8L * ((nodeCount(timeSteps) + 63L) / 64L) + 8L * k;
+    }
+
+    /**
+     * Returns the offset of the option value of a node.
+     *
+     * @param timeSteps number of time steps
+     * @param k index of the node
+     * @return offset
+     */
+    static long vOffset(int timeSteps, long k) {
+        return sOffset(timeSteps, nodeCount(timeSteps) + k);
+    }
+
+    /**
+     * Returns the size of the file of a tree.
+     *
+     * @param timeSteps number of time steps
+     * @return number of bytes
+     */
+    static long size(int timeSteps) {
+        return vOffset(timeSteps, nodeCount(timeSteps));
+    }
+}
@@ -0,0 +1,174 @@
+package dev.peterrhodes.optionpricing.internal.common;
+
+import dev.peterrhodes.optionpricing.internal.utils.LatexUtils;
+import dev.peterrhodes.optionpricing.internal.utils.NumberUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LaTeX formula parsed once into literal segments and placeholder slots, so that substituting values into it is a single pass which appends each segment and each slot's value.
+ * <p>The keys are matched in order, as whole words if a key is a word, and a key is only matched in the parts of the formula which an earlier key didn't match, i.e.&nbsp;the same substitutions as replacing the keys one after the other.&nbsp;Templates are cached per formula and keys, the formulas are constants of the analytic options so the cache doesn't grow with the number of calculations.</p>
+ */
+public final class FormulaTemplate {
+
+    private static final Map<CacheKey, FormulaTemplate> CACHE = new ConcurrentHashMap<CacheKey, FormulaTemplate>();
+    private static final Pattern WORD = Pattern.compile("^\\w+");
+    private static final Pattern NON_WORD_CHARACTER = Pattern.compile("[\\W]");
+
+    private final String[] literals; // literals[i] precedes slots[i], the last literal follows the last slot
+    private final int[] slots; // index of the key substituted into each slot
+    private final int literalLength;
+
+    private FormulaTemplate(String[] literals, int[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Returns the template of a formula for the keys of some equation inputs, parsing it the first time.
+     *
+     * @param formula the formula with variables
+     * @param inputs inputs whose keys are the variables, in the order they're matched
+     * @return formula template
+     */
+    public static FormulaTemplate of(String formula, EquationInput[] inputs) {
+        String[] keys = new String[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            keys[i] = inputs[i].getKey();
+        }
+        return CACHE.computeIfAbsent(new CacheKey(formula, keys), key -> compile(key.formula, key.keys));
+    }
+
+    /**
+     * Parses a formula into a template, without caching it.
+     *
+     * @param formula the formula with variables
+     * @param keys the variables, in the order they're matched
+     * @return formula template
+     */
+    public static FormulaTemplate compile(String formula, String... keys) {
+        // Literal ranges of the formula, split around each match of each key in turn
+        List<int[]> literalRanges = new ArrayList<int[]>();
+        List<Integer> slots = new ArrayList<Integer>();
+        literalRanges.add(new int[] { 0, formula.length() });
+        slots.add(-1); // sentinel for the slot after the last literal
+
+        for (int k = 0; k < keys.length; k++) {
+            Matcher matcher = pattern(keys[k]).matcher(formula).useTransparentBounds(true);
+            for (int i = 0; i < literalRanges.size(); i++) {
+                int[] range = literalRanges.get(i);
+                matcher.region(range[0], range[1]);
+                if (!matcher.find()) {
+                    continue;
+                }
+
+                // Literal before the match keeps the index, what follows it is searched next
+                int end = range[1];
+                range[1] = matcher.start();
+                literalRanges.add(i + 1, new int[] { matcher.end(), end });
+                slots.add(i, k);
+            }
+        }
+
+        String[] literals = new String[literalRanges.size()];
+        int[] slotKeys = new int[literalRanges.size() - 1];
+        for (int i = 0; i < literals.length; i++) {
+            int[] range = literalRanges.get(i);
+            literals[i] = formula.substring(range[0], range[1]);
+            if (i < slotKeys.length) {
+                slotKeys[i] = slots.get(i);
+            }
+        }
+        return new FormulaTemplate(literals, slotKeys);
+    }
+
+    /**
+     * Substitutes values into the formula.
+     *
+     * @param values values for the keys the template was parsed with, in the same order
+     * @return the substituted formula
+     */
+    public String render(EquationInput[] values) {
+        return this.render(values, new StringBuilder(this.literalLength + 16 * this.slots.length)).toString();
+    }
+
+    /**
+     * Substitutes values into the formula, appending it to a builder.&nbsp;Each value is formatted once however many slots it fills.
+     *
+     * @param values values for the keys the template was parsed with, in the same order
+     * @param builder the builder to append to
+     * @return {@code builder}
+     */
+    public StringBuilder render(EquationInput[] values, StringBuilder builder) {
+        String[] replacements = new String[values.length];
+        for (int i = 0; i < this.slots.length; i++) {
+            builder.append(this.literals[i]);
+            int k = this.slots[i];
+            if (replacements[k] == null) {
+                replacements[k] = replacement(values[k]);
+            }
+            builder.append(replacements[k]);
+        }
+        return builder.append(this.literals[this.slots.length]);
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private static Pattern pattern(String key) {
+        if (WORD.matcher(key).matches()) { // key is a word
+            return Pattern.compile("\\b" + key + "\\b"); // match whole word only
+        }
+        return Pattern.compile(NON_WORD_CHARACTER.matcher(key).replaceAll("\\\\$0")); // escape all non-word characters for the regex
+    }
+
+    private static String replacement(EquationInput equationInput) {
+        String replacement;
+        if (equationInput.hasNumberValue()) {
+            replacement = NumberUtils.precision(equationInput.getNumberValue(), equationInput.getPrecisionDigits(), equationInput.getPrecisionType());
+        } else {
+            replacement = equationInput.getStringValue();
+        }
+        return LatexUtils.subFormula(replacement, equationInput.getLatexDelimeterType());
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+
+    private static final class CacheKey {
+
+        private final String formula;
+        private final String[] keys;
+        private final int hashCode;
+
+        CacheKey(String formula, String[] keys) {
+            this.formula = formula;
+            this.keys = keys;
+            this.hashCode = 31 * formula.hashCode() + Arrays.hashCode(keys);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) object;
+            return this.hashCode == other.hashCode && this.formula.equals(other.formula) && Arrays.equals(this.keys, other.keys);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package dev.peterrhodes.optionpricing.internal.common;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * File mapped into memory as a sequence of little-endian segments, so that it can be larger than the 2 GiB limit of a single {@link MappedByteBuffer}.
+ * <p>The segments are a power of two bytes long, so a value whose offset is a multiple of its size never straddles two segments.&nbsp;The mapping stays valid after the channel is closed and is released when the segments are garbage collected, so the heap used is a reference per segment whatever the size of the file.</p>
+ */
+public final class MappedFile {
+
+    /**
+     * Default segment size, 1 GiB, which keeps the number of mappings of even a very large file well below the operating system's limit.
+     */
+    public static final int DEFAULT_SEGMENT_SHIFT = 30;
+
+    private final MappedByteBuffer[] segments;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final long size;
+
+    private MappedFile(MappedByteBuffer[] segments, int segmentShift, long size) {
+        this.segments = segments;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1L;
+        this.size = size;
+    }
+
+    /**
+     * Maps the first {@code size} bytes of a file, extending the file if it's mapped for writing.
+     *
+     * @param channel file channel, which can be closed once the file is mapped
+     * @param mode mapping mode
+     * @param size number of bytes to map
+     * @param segmentShift base 2 logarithm of the segment size, at least 3 so that a {@code long} fits in a segment
+     * @return mapped file
+     * @throws IllegalArgumentException if {@code size} is negative or {@code segmentShift} isn't between 3 and 30
+     * @throws IOException if the file can't be mapped
+     */
+    public static MappedFile map(FileChannel channel, FileChannel.MapMode mode, long size, int segmentShift) throws IllegalArgumentException, IOException {
+        if (size < 0L) {
+            throw new IllegalArgumentException("size must be greater than or equal to zero");
+        }
+        if (segmentShift < 3 || segmentShift > 30) {
+            throw new IllegalArgumentException("segmentShift must be between 3 and 30");
+        }
+
+        long segmentSize = 1L << segmentShift;
+        MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + segmentSize - 1L) >>> segmentShift)];
+        for (int s = 0; s < segments.length; s++) {
+            long position = (long) s << segmentShift;
+            segments[s] = channel.map(mode, position, Math.min(segmentSize, size - position));
+            segments[s].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new MappedFile(segments, segmentShift, size);
+    }
+
+    /**
+     * Get size.
+     *
+     * @return number of bytes mapped
+     */
+    public long size() {
+        return this.size;
+    }
+
+    //region accessors
+    //----------------------------------------------------------------------
+
+    /**
+     * Reads a {@code byte}.
+     *
+     * @param offset offset of the first byte of the value
+     * @return value at {@code offset}
+     * @throws IndexOutOfBoundsException if the value isn't within the file
+     */
+    public byte get(long offset) throws IndexOutOfBoundsException {
+        return this.segment(offset).get(this.index(offset));
+    }
+
+    /**
+     * Writes a {@code byte}.
+     *
+     * @param offset offset of the first byte of the value
+     * @param value value to write
+     * @throws IndexOutOfBoundsException if the value isn't within the file
+     */
+    public void put(long offset, byte value) throws IndexOutOfBoundsException {
+        this.segment(offset).put(this.index(offset), value);
+    }
+
+    /**
+     * Reads an {@code int}, little-endian.
+     *
+     * @param offset offset of the first byte of the value
+     * @return value at {@code offset}
+     * @throws IndexOutOfBoundsException if the value isn't within the file
+     */
+    public int getInt(long offset) throws IndexOutOfBoundsException {
+        return this.segment(offset).getInt(this.index(offset));
+    }
+
+    /**
+     * Writes an {@code int}, little-endian.
+     *
+     * @param offset offset of the first byte of the value
+     * @param value value to write
+     * @throws IndexOutOfBoundsException if the value isn't within the file
+     */
+    public void putInt(long offset, int value) throws IndexOutOfBoundsException {
+        this.segment(offset).putInt(this.index(offset), value);
+    }
+
+    /**
+     * Reads a {@code long}, little-endian.
+     *
+     * @param offset offset of the first byte of the value
+     * @return value at {@code offset}
+     * @throws IndexOutOfBoundsException if the value isn't within the file
+     */
+    public long getLong(long offset) throws IndexOutOfBoundsException {
+        return this.segment(offset).getLong(this.index(offset));
+    }
+
+    /**
+     * Writes a {@code long}, little-endian.
+     *
+     * @param offset offset of the first byte of the value
+     * @param value value to write
+     * @throws IndexOutOfBoundsException if the value isn't within the file
+     */
+    public void putLong(long offset, long value) throws IndexOutOfBoundsException {
+        this.segment(offset).putLong(this.index(offset), value);
+    }
+
+    /**
+     * Reads a {@code double}, little-endian.
+     *
+     * @param offset offset of the first byte of the value
+     * @return value at {@code offset}
+     * @throws IndexOutOfBoundsException if the value isn't within the file
+     */
+    public double getDouble(long offset) throws IndexOutOfBoundsException {
+        return this.segment(offset).getDouble(this.index(offset));
+    }
+
+    /**
+     * Writes a {@code double}, little-endian.
+     *
+     * @param offset offset of the first byte of the value
+     * @param value value to write
+     * @throws IndexOutOfBoundsException if the value isn't within the file
+     */
+    public void putDouble(long offset, double value) throws IndexOutOfBoundsException {
+        this.segment(offset).putDouble(this.index(offset), value);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion accessors
+
+    /**
+     * Returns a little-endian view of a range of the file, e.g.&nbsp;to read a block of a column as a {@link java.nio.DoubleBuffer} without copying it.&nbsp;The view is independent of the other views, so threads can each use their own.
+     *
+     * @param offset offset of the first byte
+     * @param length number of bytes
+     * @return view of the range
+     * @throws IndexOutOfBoundsException if the range isn't within the file, or straddles two segments
+     */
+    public ByteBuffer slice(long offset, int length) throws IndexOutOfBoundsException {
+        if (length < 0 || offset < 0L || offset + length > this.size || (length > 0 && (offset >>> this.segmentShift) != ((offset + length - 1L) >>> this.segmentShift))) {
+            throw new IndexOutOfBoundsException("range must be within a segment of the mapped file");
+        }
+        ByteBuffer view = this.segments[(int) (offset >>> this.segmentShift)].duplicate();
+        view.position(this.index(offset)).limit(this.index(offset) + length);
+        return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Writes any changes to the storage device.
+     */
+    public void force() {
+        for (MappedByteBuffer segment : this.segments) {
+            segment.force();
+        }
+    }
+
+    private MappedByteBuffer segment(long offset) {
+        if (offset < 0L || offset >= this.size) {
+            throw new IndexOutOfBoundsException("offset must be within the mapped file");
+        }
+        return this.segments[(int) (offset >>> this.segmentShift)];
+    }
+
+    private int index(long offset) {
+        return (int) (offset & this.segmentMask);
+    }
+}
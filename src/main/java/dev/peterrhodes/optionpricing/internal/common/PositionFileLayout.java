@@ -0,0 +1,133 @@
+package dev.peterrhodes.optionpricing.internal.common;
+
+/**
+ * Offsets of the columns of the positions and results files, see {@link dev.peterrhodes.optionpricing.PositionFiles}.
+ */
+public interface PositionFileLayout {
+
+    /**
+     * Magic number of a positions file.
+     */
+    int POSITIONS_MAGIC = 'O' | 'P' << 8 | 'P' << 16 | 'F' << 24;
+
+    /**
+     * Magic number of a results file.
+     */
+    int RESULTS_MAGIC = 'O' | 'P' << 8 | 'R' << 16 | 'F' << 24;
+
+    /**
+     * Version of the files.
+     */
+    byte VERSION = 2;
+
+    /**
+     * Style byte of a European option.
+     */
+    byte EUROPEAN = (byte) 0;
+
+    /**
+     * Style byte of an American option.
+     */
+    byte AMERICAN = (byte) 1;
+
+    /**
+     * Number of rows in a chunk, a page of a byte column.
+     */
+    int CHUNK_SIZE = 4096;
+
+    /**
+     * Base 2 logarithm of the alignment of the columns.
+     */
+    int ALIGNMENT_SHIFT = 15;
+
+    /**
+     * Alignment of the columns, the size of a chunk of a double column, so a chunk of any column starting at a multiple of its size never straddles two segments of a {@link MappedFile}.&nbsp;The header takes the first block.
+     */
+    int ALIGNMENT = 1 << ALIGNMENT_SHIFT;
+
+    /**
+     * Number of columns of a positions file.
+     */
+    int POSITION_COLUMNS = 8;
+
+    /**
+     * Number of byte columns of a positions file, the style and type columns before the double columns.
+     */
+    int POSITION_BYTE_COLUMNS = 2;
+
+    /**
+     * Number of columns of a results file, all of them doubles.
+     */
+    int RESULT_COLUMNS = 6;
+
+    /**
+     * Offset of the row count in the header.
+     */
+    long ROW_COUNT_OFFSET = 8L;
+
+    /**
+     * Returns the offset of a column, the columns start at multiples of {@link #ALIGNMENT} after the header.
+     *
+     * @param rowCount number of rows
+     * @param column index of the column
+     * @param byteColumns number of byte columns, which are before the double columns
+     * @return offset
+     */
+    static long columnOffset(long rowCount, int column, int byteColumns) {
+        long byteColumnSize = align(rowCount);
+        long doubleColumnSize = align(8L * rowCount);
+        int bytes = Math.min(column, byteColumns);
+        return ALIGNMENT + bytes * byteColumnSize + (column - bytes) * doubleColumnSize;
+    }
+
+    /**
+     * Returns the offsets of all the columns of a file.
+     *
+     * @param rowCount number of rows
+     * @param columns number of columns
+     * @param byteColumns number of byte columns
+     * @return offsets
+     */
+    static long[] columnOffsets(long rowCount, int columns, int byteColumns) {
+        long[] offsets = new long[columns];
+        for (int c = 0; c < columns; c++) {
+            offsets[c] = columnOffset(rowCount, c, byteColumns);
+        }
+        return offsets;
+    }
+
+    /**
+     * Returns the size of a file.
+     *
+     * @param rowCount number of rows
+     * @param columns number of columns
+     * @param byteColumns number of byte columns
+     * @return number of bytes
+     */
+    static long size(long rowCount, int columns, int byteColumns) {
+        return columnOffset(rowCount, columns, byteColumns);
+    }
+
+    /**
+     * Writes the header of a file.
+     *
+     * @param file mapped file
+     * @param magic magic number
+     * @param rowCount number of rows
+     */
+    static void writeHeader(MappedFile file, int magic, long rowCount) {
+        file.putInt(0, magic);
+        file.put(4, VERSION);
+        file.putLong(ROW_COUNT_OFFSET, rowCount);
+    }
+
+    /**
+     * Rounds a size up to a multiple of {@link #ALIGNMENT}.
+     *
+     * @param size number of bytes
+     * @return number of bytes
+     */
+    static long align(long size) {
+        return (size + ALIGNMENT - 1L) & -ALIGNMENT;
+    }
+}
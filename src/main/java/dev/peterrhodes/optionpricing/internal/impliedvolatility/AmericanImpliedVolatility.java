@@ -0,0 +1,191 @@
+package dev.peterrhodes.optionpricing.internal.impliedvolatility;
+
+import dev.peterrhodes.optionpricing.internal.kernels.BaroneAdesiWhaleyKernel;
+
+/**
+ * Implied volatility of an American option priced with the {@link BaroneAdesiWhaleyKernel Barone-Adesi and Whaley (1987)} approximation.
+ * <p>The volatility is bracketed by stepping geometrically away from an initial guess and then refined with Brent's method, i.e.&nbsp;inverse quadratic interpolation and secant steps safeguarded by bisection.&nbsp;When quotes are updated tick by tick the previous implied volatility is a good initial guess (warm start), in which case the root is usually bracketed by the first step and found in a few more price evaluations.&nbsp;Without a warm start the European implied volatility of the price is used, which is an upper bound as the early exercise premium is non-negative.</p>
+ */
+public interface AmericanImpliedVolatility {
+
+    /**
+     * Maximum number of price evaluations while refining the bracket.
+     */
+    int MAX_ITERATIONS = 100;
+
+    /**
+     * Absolute tolerance on the volatility.
+     */
+    double TOLERANCE = 1e-10;
+
+    /**
+     * Lower limit of the volatility search, a price below the model price at this volatility has an implied volatility of zero.
+     */
+    double MIN_VOLATILITY = 1e-4;
+
+    /**
+     * Upper limit of the volatility search.
+     */
+    double MAX_VOLATILITY = 10d;
+
+    /**
+     * Relative size of the first step away from the initial guess when bracketing the root.
+     */
+    double INITIAL_STEP = 0.01;
+
+    /**
+     * Calculates the implied volatility of an American option.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param price market price of the option
+     * @param initialSpotPrice initial price of the underlying asset ({@code S₀})
+     * @param strikePrice strike price of the option ({@code K})
+     * @param timeToMaturity time until maturity in years ({@code τ})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @param dividendYield annual dividend yield continuously compounded ({@code q})
+     * @param initialVolatility initial guess, e.g.&nbsp;the implied volatility of the previous quote, or {@link Double#NaN} for none
+     * @return implied volatility ({@code σ}), zero if the price is equal to the intrinsic value or at or below the model price for {@link #MIN_VOLATILITY}, or {@link Double#NaN} if the price violates the no-arbitrage bounds or the volatility is above {@link #MAX_VOLATILITY}
+     */
+    static double impliedVolatility(boolean isCall, double price, double initialSpotPrice, double strikePrice, double timeToMaturity, double riskFreeRate, double dividendYield, double initialVolatility) {
+        double S = initialSpotPrice;
+        double K = strikePrice;
+        double τ = timeToMaturity;
+        double r = riskFreeRate;
+        double q = dividendYield;
+
+        if (arbitrageViolation(isCall, price, S, K) != null) {
+            return Double.NaN;
+        } else if (price == Math.max(isCall ? S - K : K - S, 0d)) {
+            return 0d; // exercised immediately, any volatility up to the point where holding becomes optimal gives this price
+        }
+
+        double σ = initialVolatility;
+        if (!(σ > 0d)) {
+            σ = EuropeanImpliedVolatility.impliedVolatility(isCall, price, S, K, τ, r, q);
+        }
+        σ = Math.min(Math.max(Double.isNaN(σ) ? 0.2 : σ, MIN_VOLATILITY), MAX_VOLATILITY);
+
+        // Bracket the root, stepping geometrically in the direction of the price
+        double a = σ;
+        double fa = BaroneAdesiWhaleyKernel.price(isCall, S, K, τ, a, r, q) - price;
+        if (fa == 0d) {
+            return a;
+        }
+        double step = 1d + INITIAL_STEP;
+        double b = a;
+        double fb = fa;
+        while (Math.signum(fb) == Math.signum(fa)) {
+            a = b;
+            fa = fb;
+            if (fa > 0d) {
+                if (a == MIN_VOLATILITY) {
+                    return 0d;
+                }
+                b = Math.max(a / step, MIN_VOLATILITY);
+            } else {
+                if (a == MAX_VOLATILITY) {
+                    return Double.NaN;
+                }
+                b = Math.min(a * step, MAX_VOLATILITY);
+            }
+            fb = BaroneAdesiWhaleyKernel.price(isCall, S, K, τ, b, r, q) - price;
+            step *= step;
+        }
+
+        return brent(isCall, price, S, K, τ, r, q, a, fa, b, fb);
+    }
+
+    /**
+     * Returns a description of why the price violates the no-arbitrage bounds of an American option, or {@code null} if it doesn't.
+     * <p>An American option can be exercised immediately, so its price can't be below the (undiscounted) intrinsic value, and it can't be worth more than the underlying asset (call) or the strike price (put).</p>
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param price market price of the option
+     * @param initialSpotPrice initial price of the underlying asset ({@code S₀})
+     * @param strikePrice strike price of the option ({@code K})
+     * @return the reason the bounds are violated, or {@code null}
+     */
+    static String arbitrageViolation(boolean isCall, double price, double initialSpotPrice, double strikePrice) {
+        double lowerBound = Math.max(isCall ? initialSpotPrice - strikePrice : strikePrice - initialSpotPrice, 0d);
+        double upperBound = isCall ? initialSpotPrice : strikePrice;
+
+        if (Double.isNaN(price)) {
+            return "price can't be NaN";
+        } else if (price < lowerBound) {
+            return String.format("price %s is below the intrinsic value %s", price, lowerBound);
+        } else if (price >= upperBound) {
+            return String.format("price %s must be less than %s", price, upperBound);
+        }
+
+        return null;
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    /**
+     * Brent's method for the root of the model price minus the market price, which is bracketed by {@code a} and {@code b}.
+     */
+    private static double brent(boolean isCall, double price, double S, double K, double τ, double r, double q, double a, double fa, double b, double fb) {
+        if (Math.abs(fa) < Math.abs(fb)) {
+            double swap = a;
+            a = b;
+            b = swap;
+            swap = fa;
+            fa = fb;
+            fb = swap;
+        }
+
+        double c = a;
+        double fc = fa;
+        double d = b - a;
+        boolean bisected = true;
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS && fb != 0d && Math.abs(b - a) > TOLERANCE; iteration++) {
+            double s;
+            if (fa != fc && fb != fc) {
+                // Inverse quadratic interpolation
+                s = a * fb * fc / ((fa - fb) * (fa - fc)) + b * fa * fc / ((fb - fa) * (fb - fc)) + c * fa * fb / ((fc - fa) * (fc - fb));
+            } else {
+                // Secant
+                s = b - fb * (b - a) / (fb - fa);
+            }
+
+            double boundary = (3d * a + b) / 4d;
+            boolean outside = (s - boundary) * (s - b) >= 0d;
+            boolean slow = bisected
+                ? Math.abs(s - b) >= Math.abs(b - c) / 2d || Math.abs(b - c) < TOLERANCE
+                : Math.abs(s - b) >= Math.abs(c - d) / 2d || Math.abs(c - d) < TOLERANCE;
+            bisected = outside || slow;
+            if (bisected) {
+                s = (a + b) / 2d;
+            }
+
+            d = c;
+            c = b;
+            fc = fb;
+            double fs = BaroneAdesiWhaleyKernel.price(isCall, S, K, τ, s, r, q) - price;
+            if (fa * fs < 0d) {
+                b = s;
+                fb = fs;
+            } else {
+                a = s;
+                fa = fs;
+            }
+
+            if (Math.abs(fa) < Math.abs(fb)) {
+                double swap = a;
+                a = b;
+                b = swap;
+                swap = fa;
+                fa = fb;
+                fb = swap;
+            }
+        }
+
+        return b;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
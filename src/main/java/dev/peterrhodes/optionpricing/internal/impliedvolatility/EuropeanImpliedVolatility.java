@@ -0,0 +1,193 @@
+package dev.peterrhodes.optionpricing.internal.impliedvolatility;
+
+import dev.peterrhodes.optionpricing.internal.utils.MathUtils;
+
+/**
+ * Implied volatility of a European option priced with the Black-Scholes-Merton model.
+ * <p>The price is normalized and reduced to an out-of-the-money call (see {@link NormalizedBlack}) which is then solved for the total volatility with third order Householder iterations, following the approach of <a href="http://www.jaeckel.org/LetsBeRational.pdf">Jäckel (2015)</a>:</p>
+ * <ul>
+ *   <li>the initial guess comes from the rational approximations either side of the point of inflection of {@code b(s)} at {@code s = √(2|x|)}, see <a href="http://www.jaeckel.org/ByImplication.pdf">Jäckel (2006)</a>;</li>
+ *   <li>below the point of inflection the logarithm of the price is solved for, above it the logarithm of the distance to the upper bound, which keeps the objective function close to linear over the whole range;</li>
+ *   <li>every iterate is kept inside a bracket that's updated after each function evaluation, so a poor step falls back to bisection.</li>
+ * </ul>
+ * <p>It usually converges to machine precision in two to three iterations and only uses primitive arithmetic, i.e.&nbsp;nothing is allocated.</p>
+ */
+public interface EuropeanImpliedVolatility {
+
+    /**
+     * Maximum number of Householder iterations.
+     */
+    int MAX_ITERATIONS = 10;
+
+    /**
+     * Relative size of a Householder step below which the iterations terminate, the step after it is accurate to machine precision as the convergence is cubic.
+     */
+    double TOLERANCE = 1e-9;
+
+    /**
+     * Calculates the implied volatility of a European option.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param price market price of the option
+     * @param initialSpotPrice initial price of the underlying asset ({@code S₀})
+     * @param strikePrice strike price of the option ({@code K})
+     * @param timeToMaturity time until maturity in years ({@code τ})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @param dividendYield annual dividend yield continuously compounded ({@code q})
+     * @return implied volatility ({@code σ}); {@link Double#NaN} if the price violates the no-arbitrage bounds (see {@link #arbitrageViolation}), otherwise zero if the price is so close to the intrinsic value that its time value is lost to rounding, and {@link Double#POSITIVE_INFINITY} if it's so close to the upper bound that it can't be told apart from it
+     */
+    static double impliedVolatility(boolean isCall, double price, double initialSpotPrice, double strikePrice, double timeToMaturity, double riskFreeRate, double dividendYield) {
+        double S = initialSpotPrice;
+        double K = strikePrice;
+        double τ = timeToMaturity;
+        double r = riskFreeRate;
+        double q = dividendYield;
+
+        double discountFactor = Math.exp(-r * τ);
+        double discountedSpot = S * Math.exp(-q * τ);
+        double discountedStrike = K * discountFactor;
+        double lowerBound = Math.max(isCall ? discountedSpot - discountedStrike : discountedStrike - discountedSpot, 0d);
+        double upperBound = isCall ? discountedSpot : discountedStrike;
+        if (!(price >= lowerBound && price < upperBound)) {
+            return Double.NaN; // see arbitrageViolation
+        }
+
+        double F = S * Math.exp((r - q) * τ);
+        double totalVolatility = totalVolatility(isCall ? 1d : -1d, price / discountFactor, F, K);
+        return totalVolatility / Math.sqrt(τ);
+    }
+
+    /**
+     * Returns a description of why the price violates the no-arbitrage bounds of a European option, or {@code null} if it doesn't.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param price market price of the option
+     * @param initialSpotPrice initial price of the underlying asset ({@code S₀})
+     * @param strikePrice strike price of the option ({@code K})
+     * @param timeToMaturity time until maturity in years ({@code τ})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @param dividendYield annual dividend yield continuously compounded ({@code q})
+     * @return the reason the bounds are violated, or {@code null}
+     */
+    static String arbitrageViolation(boolean isCall, double price, double initialSpotPrice, double strikePrice, double timeToMaturity, double riskFreeRate, double dividendYield) {
+        double discountedSpot = initialSpotPrice * Math.exp(-dividendYield * timeToMaturity);
+        double discountedStrike = strikePrice * Math.exp(-riskFreeRate * timeToMaturity);
+        double lowerBound = Math.max(isCall ? discountedSpot - discountedStrike : discountedStrike - discountedSpot, 0d);
+        double upperBound = isCall ? discountedSpot : discountedStrike;
+
+        if (Double.isNaN(price)) {
+            return "price can't be NaN";
+        } else if (price < lowerBound) {
+            return String.format("price %s is below the intrinsic value %s", price, lowerBound);
+        } else if (price >= upperBound) {
+            return String.format("price %s must be less than %s", price, upperBound);
+        }
+
+        return null;
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    /**
+     * Total volatility ({@code σ √τ}) for an undiscounted price whose discounted price is within the no-arbitrage bounds, which rounding may have moved onto or past them.
+     */
+    private static double totalVolatility(double θ, double price, double F, double K) {
+        double intrinsic = Math.max(θ * (F - K), 0d);
+        double upperBound = θ > 0d ? F : K;
+        if (price <= intrinsic) {
+            return 0d;
+        } else if (price >= upperBound) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double x = Math.log(F / K);
+        double β = price / Math.sqrt(F * K);
+
+        // Reduce to an out-of-the-money call, i.e. x ≤ 0
+        if (θ * x > 0d) {
+            β -= θ * (Math.exp(x / 2d) - Math.exp(-x / 2d)); // subtract the intrinsic value (put-call parity)
+            θ = -θ;
+        }
+        if (θ < 0d) {
+            x = -x; // b(x, s, -1) = b(-x, s, +1)
+        }
+
+        if (β <= 0d) {
+            return 0d; // time value lost to rounding
+        } else if (β >= Math.exp(x / 2d)) {
+            return Double.POSITIVE_INFINITY; // distance to the upper bound lost to rounding
+        }
+
+        return normalizedTotalVolatility(β, x);
+    }
+
+    /**
+     * Solves {@code b(x, s) = β} for {@code s} where {@code x ≤ 0} and {@code 0 < β < e^(x/2)}.
+     */
+    private static double normalizedTotalVolatility(double β, double x) {
+        double bMax = Math.exp(x / 2d);
+        double sC = Math.sqrt(-2d * x); // point of inflection
+        double bC = NormalizedBlack.call(x, sC);
+        boolean lowerBranch = β < bC;
+
+        double s;
+        double sLeft;
+        double sRight;
+        if (lowerBranch) {
+            s = Math.sqrt(2d * x * x / (-x - 4d * Math.log(β / bC)));
+            sLeft = 0d;
+            sRight = sC;
+        } else {
+            double p = (bMax - β) / (bMax - bC) * 0.5 * MathUtils.erfc(sC / (2d * NormalizedBlack.SQRT_TWO));
+            s = -2d * MathUtils.inverseStandardNormalCdf(p);
+            sLeft = sC;
+            sRight = Double.POSITIVE_INFINITY;
+        }
+        double logTarget = lowerBranch ? Math.log(β) : Math.log(bMax - β);
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            if (!(s > sLeft && s < sRight)) {
+                s = Double.isInfinite(sRight) ? 2d * Math.max(sLeft, Double.MIN_NORMAL) : (sLeft + sRight) / 2d;
+            }
+
+            double b2 = NormalizedBlack.volgaOverVega(x, s);
+            double b3 = NormalizedBlack.thirdDerivativeOverVega(x, s);
+            double vega = NormalizedBlack.vega(x, s);
+
+            // Objective function f = ln(b) - ln(β) below the point of inflection, f = ln(bMax - b) - ln(bMax - β) above it
+            double value = lowerBranch ? NormalizedBlack.call(x, s) : NormalizedBlack.callComplement(x, s);
+            double f = Math.log(value) - logTarget;
+            double f1 = (lowerBranch ? vega : -vega) / value;
+
+            // b is increasing in s, so the bracket can be tightened
+            if (lowerBranch == (f > 0d)) {
+                sRight = s;
+            } else {
+                sLeft = s;
+            }
+
+            if (f == 0d || f1 == 0d || Double.isNaN(f)) {
+                break;
+            }
+
+            double ν = -f / f1;
+            double h2 = b2 - f1;
+            double h3 = b3 - 3d * f1 * b2 + 2d * f1 * f1;
+            double Δs = ν * (1d + 0.5 * h2 * ν) / (1d + ν * (h2 + h3 * ν / 6d));
+            if (Double.isNaN(Δs)) {
+                Δs = ν;
+            }
+
+            s += Δs;
+            if (Math.abs(Δs) <= TOLERANCE * s) {
+                break;
+            }
+        }
+
+        return s;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
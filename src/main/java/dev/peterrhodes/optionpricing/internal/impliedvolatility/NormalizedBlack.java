@@ -0,0 +1,128 @@
+package dev.peterrhodes.optionpricing.internal.impliedvolatility;
+
+import dev.peterrhodes.optionpricing.internal.instrumentation.Instrumentation;
+import dev.peterrhodes.optionpricing.internal.utils.MathUtils;
+
+/**
+ * Normalized Black call price and its derivatives with respect to the total volatility, as used by <a href="http://www.jaeckel.org/LetsBeRational.pdf">Jäckel (2015)</a>.
+ * <p>For a forward price {@code F}, strike {@code K}, and total volatility {@code s = σ √τ}, the undiscounted Black call price divided by {@code √(F K)} only depends on {@code x = ln(F / K)} and {@code s}:</p>
+ * <pre>
+ * b(x, s) = e^(x/2) N(x/s + s/2) - e^(-x/2) N(x/s - s/2)
+ * </pre>
+ */
+public interface NormalizedBlack {
+
+    //region constants
+    //----------------------------------------------------------------------
+
+    /**
+     * √2.
+     */
+    double SQRT_TWO = Math.sqrt(2d);
+
+    /**
+     * √(2π).
+     */
+    double SQRT_TWO_PI = Math.sqrt(2d * Math.PI);
+
+    /**
+     * √(π/2).
+     */
+    double SQRT_HALF_PI = Math.sqrt(Math.PI / 2d);
+
+    //----------------------------------------------------------------------
+    //endregion constants
+
+    /**
+     * Normalized Black call price {@code b(x, s)}.
+     *
+     * @param x log-moneyness {@code ln(F / K)}
+     * @param s total volatility {@code σ √τ}
+     * @return normalized call price
+     */
+    static double call(double x, double s) {
+        if (s <= 0d) {
+            return Math.max(Math.exp(x / 2d) - Math.exp(-x / 2d), 0d);
+        }
+
+        double d1 = x / s + s / 2d;
+        double d2 = d1 - s;
+
+        if (d1 < 0d) {
+            // Both terms are in the left tail, so factor out the common density to avoid subtracting two small numbers
+            return vega(x, s) * (millsRatio(-d1) - millsRatio(-d2));
+        }
+
+        return Math.exp(x / 2d) * N(d1) - Math.exp(-x / 2d) * N(d2);
+    }
+
+    /**
+     * Difference between the upper bound of the normalized call price ({@code e^(x/2)}) and {@code b(x, s)}, i.e.&nbsp;{@code e^(x/2) N(-d₁) + e^(-x/2) N(d₂)}.&nbsp;Evaluated directly so that there's no loss of precision when {@code b(x, s)} is close to its upper bound.
+     *
+     * @param x log-moneyness {@code ln(F / K)}
+     * @param s total volatility {@code σ √τ}
+     * @return {@code e^(x/2) - b(x, s)}
+     */
+    static double callComplement(double x, double s) {
+        double d1 = x / s + s / 2d;
+        double d2 = d1 - s;
+        return Math.exp(x / 2d) * N(-d1) + Math.exp(-x / 2d) * N(d2);
+    }
+
+    /**
+     * First derivative of the normalized call price with respect to the total volatility ({@code ∂b/∂s}).
+     *
+     * @param x log-moneyness {@code ln(F / K)}
+     * @param s total volatility {@code σ √τ}
+     * @return normalized vega
+     */
+    static double vega(double x, double s) {
+        double h = x / s;
+        double t = s / 2d;
+        return Math.exp(-0.5 * (h * h + t * t)) / SQRT_TWO_PI;
+    }
+
+    /**
+     * Ratio of the second and first derivatives of the normalized call price with respect to the total volatility ({@code b'' / b'}).
+     *
+     * @param x log-moneyness {@code ln(F / K)}
+     * @param s total volatility {@code σ √τ}
+     * @return {@code b'' / b'}
+     */
+    static double volgaOverVega(double x, double s) {
+        return x * x / (s * s * s) - s / 4d;
+    }
+
+    /**
+     * Ratio of the third and first derivatives of the normalized call price with respect to the total volatility ({@code b''' / b'}).
+     *
+     * @param x log-moneyness {@code ln(F / K)}
+     * @param s total volatility {@code σ √τ}
+     * @return {@code b''' / b'}
+     */
+    static double thirdDerivativeOverVega(double x, double s) {
+        double b2 = volgaOverVega(x, s);
+        return b2 * b2 - 3d * x * x / (s * s * s * s) - 0.25;
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    /**
+     * Standard normal CDF evaluated with the double precision complementary error function.
+     */
+    private static double N(double x) {
+        Instrumentation.cdfEvaluated();
+        return 0.5 * MathUtils.erfc(-x / SQRT_TWO);
+    }
+
+    /**
+     * Mills ratio {@code N(-h) / N'(h)}.
+     */
+    private static double millsRatio(double h) {
+        return SQRT_HALF_PI * MathUtils.erfcx(h / SQRT_TWO);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
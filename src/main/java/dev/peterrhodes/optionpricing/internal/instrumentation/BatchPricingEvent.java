@@ -0,0 +1,62 @@
+package dev.peterrhodes.optionpricing.internal.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for a call of a batch API, which prices or solves many options in one call.&nbsp;A single event is emitted per batch rather than per option.
+ */
+@Name(BatchPricingEvent.NAME)
+@Label("Option Batch Pricing")
+@Category("Option Pricing")
+@Description("Pricing or implied volatility calculation of a batch of options")
+@StackTrace(false)
+public final class BatchPricingEvent extends Event {
+
+    /**
+     * Name of the event type.
+     */
+    public static final String NAME = "dev.peterrhodes.optionpricing.BatchPricing";
+
+    @Label("Model")
+    String model;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Options")
+    @Description("Number of options in the batch")
+    int options;
+
+    /**
+     * Creates an event and starts timing it.
+     *
+     * @return started event
+     */
+    public static BatchPricingEvent start() {
+        BatchPricingEvent event = new BatchPricingEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the event and commits it with the details of the batch.
+     *
+     * @param modelName name of the model, e.g.&nbsp;{@code BlackScholesMerton}
+     * @param operationName name of the method, e.g.&nbsp;{@code european}
+     * @param size number of options in the batch
+     */
+    public void finish(String modelName, String operationName, int size) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.model = modelName;
+            this.operation = operationName;
+            this.options = size;
+            this.commit();
+        }
+    }
+}
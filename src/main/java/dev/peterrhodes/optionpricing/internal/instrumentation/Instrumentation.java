@@ -0,0 +1,120 @@
+package dev.peterrhodes.optionpricing.internal.instrumentation;
+
+import dev.peterrhodes.optionpricing.AnalyticOption;
+import dev.peterrhodes.optionpricing.PricingMetrics;
+import dev.peterrhodes.optionpricing.PricingModel;
+import dev.peterrhodes.optionpricing.StrikeVectorPricingModel;
+
+/**
+ * Holds the installed {@link PricingMetrics} and the hooks called by the options and pricing models.
+ * <p>While the no-op metrics are installed the hooks only read a volatile flag, and the factories return the options and pricing models themselves rather than instrumented decorators, so disabled instrumentation doesn't time anything or add a level of indirection.</p>
+ */
+public final class Instrumentation {
+
+    /**
+     * Metrics which don't record anything.
+     */
+    public static final PricingMetrics NO_OP = new PricingMetrics() { };
+
+    private static volatile PricingMetrics metrics = NO_OP;
+    private static volatile boolean enabled;
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Installs the metrics that the hooks record to.
+     *
+     * @param pricingMetrics metrics to install
+     */
+    public static void install(PricingMetrics pricingMetrics) {
+        metrics = pricingMetrics;
+        enabled = pricingMetrics != NO_OP;
+    }
+
+    /**
+     * Returns the installed metrics.
+     *
+     * @return installed metrics
+     */
+    public static PricingMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns true if metrics other than the no-op metrics are installed.
+     *
+     * @return whether instrumentation is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    //region hooks
+    //----------------------------------------------------------------------
+
+    /**
+     * Records the number of lattice nodes evaluated by an operation.
+     *
+     * @param operation name of the operation
+     * @param nodes number of nodes
+     */
+    public static void latticeNodesEvaluated(String operation, long nodes) {
+        if (enabled) {
+            metrics.recordLatticeNodes(operation, nodes);
+        }
+    }
+
+    /**
+     * Records an evaluation of the standard normal CDF.
+     */
+    public static void cdfEvaluated() {
+        if (enabled) {
+            metrics.recordCdfEvaluation();
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion hooks
+
+    //region decorators
+    //----------------------------------------------------------------------
+
+    /**
+     * Returns the option decorated to record the calls of its entry points if instrumentation is enabled, otherwise the option itself.
+     *
+     * @param option option to instrument
+     * @param modelName name of the model used to name the operations
+     * @return instrumented option
+     */
+    public static AnalyticOption instrument(AnalyticOption option, String modelName) {
+        return enabled ? new InstrumentedAnalyticOption(option, modelName) : option;
+    }
+
+    /**
+     * Returns the pricing model decorated to record the calls of its entry points if instrumentation is enabled, otherwise the pricing model itself.
+     *
+     * @param <T> calculation model type
+     * @param pricingModel pricing model to instrument
+     * @param modelName name of the model used to name the operations
+     * @return instrumented pricing model
+     */
+    public static <T> PricingModel<T> instrument(PricingModel<T> pricingModel, String modelName) {
+        return enabled ? new InstrumentedPricingModel<>(pricingModel, modelName) : pricingModel;
+    }
+
+    /**
+     * Returns the pricing model decorated to record the calls of its entry points if instrumentation is enabled, otherwise the pricing model itself.
+     *
+     * @param <T> calculation model type
+     * @param pricingModel pricing model to instrument
+     * @param modelName name of the model used to name the operations
+     * @return instrumented pricing model
+     */
+    public static <T> StrikeVectorPricingModel<T> instrument(StrikeVectorPricingModel<T> pricingModel, String modelName) {
+        return enabled ? new InstrumentedStrikeVectorPricingModel<>(pricingModel, modelName) : pricingModel;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion decorators
+}
@@ -0,0 +1,209 @@
+package dev.peterrhodes.optionpricing.internal.instrumentation;
+
+import dev.peterrhodes.optionpricing.AnalyticOption;
+import dev.peterrhodes.optionpricing.ExerciseValueParameter;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.enums.PrecisionType;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decorator which records the calls of an {@link AnalyticOption}'s values and calculations to the installed metrics, a calculation's steps being recorded one call per step when they're rendered rather than when the calculation is created.&nbsp;The option parameters are delegated without being recorded.
+ */
+final class InstrumentedAnalyticOption implements AnalyticOption {
+
+    private final AnalyticOption option;
+    private final String priceOperation;
+    private final String deltaOperation;
+    private final String gammaOperation;
+    private final String vegaOperation;
+    private final String thetaOperation;
+    private final String rhoOperation;
+    private final String priceCalculationOperation;
+    private final String deltaCalculationOperation;
+    private final String gammaCalculationOperation;
+    private final String vegaCalculationOperation;
+    private final String thetaCalculationOperation;
+    private final String rhoCalculationOperation;
+
+    InstrumentedAnalyticOption(AnalyticOption option, String modelName) {
+        this.option = option;
+        this.priceOperation = modelName + ".price";
+        this.deltaOperation = modelName + ".delta";
+        this.gammaOperation = modelName + ".gamma";
+        this.vegaOperation = modelName + ".vega";
+        this.thetaOperation = modelName + ".theta";
+        this.rhoOperation = modelName + ".rho";
+        this.priceCalculationOperation = modelName + ".priceCalculation";
+        this.deltaCalculationOperation = modelName + ".deltaCalculation";
+        this.gammaCalculationOperation = modelName + ".gammaCalculation";
+        this.vegaCalculationOperation = modelName + ".vegaCalculation";
+        this.thetaCalculationOperation = modelName + ".thetaCalculation";
+        this.rhoCalculationOperation = modelName + ".rhoCalculation";
+    }
+
+    //region values and calculations
+    //----------------------------------------------------------------------
+
+    @Override
+    public double price() {
+        long start = System.nanoTime();
+        double value = this.option.price();
+        Instrumentation.metrics().recordCall(this.priceOperation, System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public AnalyticCalculation priceCalculation() {
+        return timed(this.option.priceCalculation(), this.priceCalculationOperation);
+    }
+
+    @Override
+    public double delta() {
+        long start = System.nanoTime();
+        double value = this.option.delta();
+        Instrumentation.metrics().recordCall(this.deltaOperation, System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public AnalyticCalculation deltaCalculation() {
+        return timed(this.option.deltaCalculation(), this.deltaCalculationOperation);
+    }
+
+    @Override
+    public double gamma() {
+        long start = System.nanoTime();
+        double value = this.option.gamma();
+        Instrumentation.metrics().recordCall(this.gammaOperation, System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public AnalyticCalculation gammaCalculation() {
+        return timed(this.option.gammaCalculation(), this.gammaCalculationOperation);
+    }
+
+    @Override
+    public double vega() {
+        long start = System.nanoTime();
+        double value = this.option.vega();
+        Instrumentation.metrics().recordCall(this.vegaOperation, System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public AnalyticCalculation vegaCalculation() {
+        return timed(this.option.vegaCalculation(), this.vegaCalculationOperation);
+    }
+
+    @Override
+    public double theta() {
+        long start = System.nanoTime();
+        double value = this.option.theta();
+        Instrumentation.metrics().recordCall(this.thetaOperation, System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public AnalyticCalculation thetaCalculation() {
+        return timed(this.option.thetaCalculation(), this.thetaCalculationOperation);
+    }
+
+    @Override
+    public double rho() {
+        long start = System.nanoTime();
+        double value = this.option.rho();
+        Instrumentation.metrics().recordCall(this.rhoOperation, System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public AnalyticCalculation rhoCalculation() {
+        return timed(this.option.rhoCalculation(), this.rhoCalculationOperation);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion values and calculations
+
+    /**
+     * Wraps a lazy calculation so that each step is recorded when it's rendered, the steps of both being memoized so each is recorded once.
+     */
+    private static AnalyticCalculation timed(AnalyticCalculation calculation, String operation) {
+        List<Supplier<String[]>> stepSuppliers = new ArrayList<Supplier<String[]>>(calculation.getStepCount());
+        for (int i = 0; i < calculation.getStepCount(); i++) {
+            int step = i;
+            stepSuppliers.add(() -> {
+                long start = System.nanoTime();
+                String[] value = calculation.getStep(step);
+                Instrumentation.metrics().recordCall(operation, System.nanoTime() - start);
+                return value;
+            });
+        }
+        return new AnalyticCalculation(stepSuppliers);
+    }
+
+    //region delegated
+    //----------------------------------------------------------------------
+
+    @Override
+    public void setCalculationStepPrecision(int precisionDigits, PrecisionType precisionType) throws NullPointerException, IllegalArgumentException {
+        this.option.setCalculationStepPrecision(precisionDigits, precisionType);
+    }
+
+    @Override
+    public String[] parameterNotation() {
+        return this.option.parameterNotation();
+    }
+
+    @Override
+    public double exerciseValue(ExerciseValueParameter exerciseValueParameter) {
+        return this.option.exerciseValue(exerciseValueParameter);
+    }
+
+    @Override
+    public OptionStyle optionStyle() {
+        return this.option.optionStyle();
+    }
+
+    @Override
+    public OptionType optionType() {
+        return this.option.optionType();
+    }
+
+    @Override
+    public Number initialSpotPrice() {
+        return this.option.initialSpotPrice();
+    }
+
+    @Override
+    public Number strikePrice() {
+        return this.option.strikePrice();
+    }
+
+    @Override
+    public Number timeToMaturity() {
+        return this.option.timeToMaturity();
+    }
+
+    @Override
+    public Number volatility() {
+        return this.option.volatility();
+    }
+
+    @Override
+    public Number riskFreeRate() {
+        return this.option.riskFreeRate();
+    }
+
+    @Override
+    public Number dividendYield() {
+        return this.option.dividendYield();
+    }
+
+    //----------------------------------------------------------------------
+    //endregion delegated
+}
@@ -0,0 +1,69 @@
+package dev.peterrhodes.optionpricing.internal.instrumentation;
+
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.PricingModel;
+
+/**
+ * Decorator which records the calls of a {@link PricingModel}'s entry points to the installed metrics.
+ *
+ * @param <T> calculation model type
+ */
+class InstrumentedPricingModel<T> implements PricingModel<T> {
+
+    private final PricingModel<T> pricingModel;
+    private final String priceOperation;
+    private final String calculationOperation;
+
+    InstrumentedPricingModel(PricingModel<T> pricingModel, String modelName) {
+        this.pricingModel = pricingModel;
+        this.priceOperation = modelName + ".price";
+        this.calculationOperation = modelName + ".calculation";
+    }
+
+    @Override
+    public double price(Option option) throws NullPointerException {
+        long start = System.nanoTime();
+        double price = this.pricingModel.price(option);
+        Instrumentation.metrics().recordCall(this.priceOperation, System.nanoTime() - start);
+        return price;
+    }
+
+    @Override
+    public double price(OptionSpec spec) throws NullPointerException {
+        long start = System.nanoTime();
+        double price = this.pricingModel.price(spec);
+        Instrumentation.metrics().recordCall(this.priceOperation, System.nanoTime() - start);
+        return price;
+    }
+
+    @Override
+    public T calculation(Option option) throws NullPointerException {
+        long start = System.nanoTime();
+        T calculation = this.pricingModel.calculation(option);
+        Instrumentation.metrics().recordCall(this.calculationOperation, System.nanoTime() - start);
+        return calculation;
+    }
+
+    /**
+     * Compares the decorated models, so that equal models decorated the same way share the entries of a {@link dev.peterrhodes.optionpricing.PricingCache}.
+     *
+     * @param object object to compare with
+     * @return whether {@code object} is a decorator of the same class of an equal pricing model
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        } else if (object == null || object.getClass() != this.getClass()) {
+            return false;
+        }
+
+        return this.pricingModel.equals(((InstrumentedPricingModel<?>) object).pricingModel);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.pricingModel.hashCode();
+    }
+}
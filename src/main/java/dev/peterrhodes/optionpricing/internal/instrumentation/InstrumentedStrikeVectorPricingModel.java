@@ -0,0 +1,29 @@
+package dev.peterrhodes.optionpricing.internal.instrumentation;
+
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.StrikeVectorPricingModel;
+
+/**
+ * Decorator which records the calls of a {@link StrikeVectorPricingModel}'s entry points to the installed metrics.
+ *
+ * @param <T> calculation model type
+ */
+final class InstrumentedStrikeVectorPricingModel<T> extends InstrumentedPricingModel<T> implements StrikeVectorPricingModel<T> {
+
+    private final StrikeVectorPricingModel<T> pricingModel;
+    private final String strikeVectorPriceOperation;
+
+    InstrumentedStrikeVectorPricingModel(StrikeVectorPricingModel<T> pricingModel, String modelName) {
+        super(pricingModel, modelName);
+        this.pricingModel = pricingModel;
+        this.strikeVectorPriceOperation = modelName + ".strikeVectorPrice";
+    }
+
+    @Override
+    public double[] price(Option option, double[] strikePrices) throws NullPointerException {
+        long start = System.nanoTime();
+        double[] prices = this.pricingModel.price(option, strikePrices);
+        Instrumentation.metrics().recordCall(this.strikeVectorPriceOperation, System.nanoTime() - start);
+        return prices;
+    }
+}
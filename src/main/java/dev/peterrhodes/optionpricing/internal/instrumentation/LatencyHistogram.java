@@ -0,0 +1,112 @@
+package dev.peterrhodes.optionpricing.internal.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of latencies in nanoseconds, in the style of HdrHistogram.
+ * <p>Values below {@link #SUB_BUCKETS} have a bucket each.&nbsp;Above that each power of two is split into {@link #SUB_BUCKETS} linear buckets, so a value is recorded to within a relative error of {@code 1/32} with a fixed number of buckets covering the whole {@code long} range.&nbsp;Recording is a few shifts and an atomic increment, and nothing is allocated.</p>
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Number of linear buckets each power of two is split into.
+     */
+    public static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * {@code 2^SUB_BUCKET_BITS}.
+     */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Total number of buckets, enough for any non-negative {@code long}.
+     */
+    public static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency, negative values are recorded as zero.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        this.counts.incrementAndGet(bucketIndex(value));
+        this.count.increment();
+        this.total.add(value);
+        long currentMax = this.max.get();
+        while (value > currentMax && !this.max.compareAndSet(currentMax, value)) {
+            currentMax = this.max.get();
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     */
+    public long count() {
+        return this.count.sum();
+    }
+
+    /**
+     * Returns the sum of the recorded values.
+     */
+    public long total() {
+        return this.total.sum();
+    }
+
+    /**
+     * Returns the largest recorded value.
+     */
+    public long max() {
+        return this.max.get();
+    }
+
+    /**
+     * Returns the count of each bucket.&nbsp;Values recorded while copying may or may not be included.
+     *
+     * @return bucket counts indexed by bucket
+     */
+    public long[] bucketCounts() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = this.counts.get(i);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the index of the bucket a value is recorded in.
+     *
+     * @param value non-negative value
+     * @return bucket index
+     */
+    public static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS; // drop the leading one bit
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value recorded in a bucket.
+     *
+     * @param index bucket index
+     * @return inclusive upper bound of the bucket
+     */
+    public static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = SUB_BUCKETS + index % SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1; // the last bucket's bound overflows to Long.MAX_VALUE
+    }
+}
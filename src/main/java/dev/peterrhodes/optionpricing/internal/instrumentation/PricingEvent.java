@@ -0,0 +1,98 @@
+package dev.peterrhodes.optionpricing.internal.instrumentation;
+
+import dev.peterrhodes.optionpricing.Option;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for a calculation of a single option, e.g.&nbsp;a lattice or a LaTeX calculation step, which is emitted when the step is rendered rather than when the calculation is created, so that pricing work can be told apart from the rest of a service in a recording.
+ * <p>The contract parameters are only copied into the event if the recording will keep it, i.e.&nbsp;the event is enabled and above its duration threshold.</p>
+ */
+@Name(PricingEvent.NAME)
+@Label("Option Pricing")
+@Category("Option Pricing")
+@Description("Calculation of an option's price or Greek")
+@StackTrace(false)
+public final class PricingEvent extends Event {
+
+    /**
+     * Name of the event type.
+     */
+    public static final String NAME = "dev.peterrhodes.optionpricing.Pricing";
+
+    @Label("Model")
+    String model;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Option Style")
+    String optionStyle;
+
+    @Label("Option Type")
+    String optionType;
+
+    @Label("Underlying Price")
+    double underlyingPrice;
+
+    @Label("Strike Price")
+    double strikePrice;
+
+    @Label("Time to Maturity")
+    @Description("Time until maturity in years")
+    double timeToMaturity;
+
+    @Label("Volatility")
+    double volatility;
+
+    @Label("Risk-free Rate")
+    double riskFreeRate;
+
+    @Label("Dividend Yield")
+    double dividendYield;
+
+    @Label("Time Steps")
+    @Description("Number of time steps in the lattice, zero for analytic calculations")
+    int timeSteps;
+
+    /**
+     * Creates an event and starts timing it.
+     *
+     * @return started event
+     */
+    public static PricingEvent start() {
+        PricingEvent event = new PricingEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the event and commits it with the details of the calculation.
+     *
+     * @param modelName name of the model, e.g.&nbsp;{@code CoxRossRubinstein}
+     * @param operationName name of the method, e.g.&nbsp;{@code calculation}
+     * @param option option the calculation was performed on
+     * @param lattice number of time steps in the lattice, zero for analytic calculations
+     */
+    public void finish(String modelName, String operationName, Option option, int lattice) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.model = modelName;
+            this.operation = operationName;
+            this.optionStyle = String.valueOf(option.optionStyle());
+            this.optionType = String.valueOf(option.optionType());
+            this.underlyingPrice = option.initialSpotPrice().doubleValue();
+            this.strikePrice = option.strikePrice().doubleValue();
+            this.timeToMaturity = option.timeToMaturity().doubleValue();
+            this.volatility = option.volatility().doubleValue();
+            this.riskFreeRate = option.riskFreeRate().doubleValue();
+            this.dividendYield = option.dividendYield().doubleValue();
+            this.timeSteps = lattice;
+            this.commit();
+        }
+    }
+}
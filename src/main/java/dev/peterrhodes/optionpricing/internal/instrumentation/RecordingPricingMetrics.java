@@ -0,0 +1,87 @@
+package dev.peterrhodes.optionpricing.internal.instrumentation;
+
+import dev.peterrhodes.optionpricing.PricingMetrics;
+import dev.peterrhodes.optionpricing.models.PricingMetricsSnapshot;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link PricingMetrics} which records into a {@link LatencyHistogram} and a lattice node counter per operation, and a global CDF evaluation counter.
+ * <p>Recording never locks: the recorder of an operation is looked up in a concurrent map, which only locks the first time an operation is recorded, and the histograms and counters are updated atomically.</p>
+ */
+public final class RecordingPricingMetrics implements PricingMetrics {
+
+    private final Map<String, OperationRecorder> operations = new ConcurrentHashMap<>();
+    private final LongAdder cdfEvaluations = new LongAdder();
+
+    @Override
+    public void recordCall(String operation, long elapsedNanos) {
+        this.recorder(operation).latencies.record(elapsedNanos);
+    }
+
+    @Override
+    public void recordLatticeNodes(String operation, long nodes) {
+        this.recorder(operation).latticeNodes.add(nodes);
+    }
+
+    @Override
+    public void recordCdfEvaluation() {
+        this.cdfEvaluations.increment();
+    }
+
+    @Override
+    public PricingMetricsSnapshot snapshot() {
+        Map<String, PricingMetricsSnapshot.Operation> snapshots = new HashMap<>();
+        for (Map.Entry<String, OperationRecorder> entry : this.operations.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return new PricingMetricsSnapshot(snapshots, this.cdfEvaluations.sum());
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private OperationRecorder recorder(String operation) {
+        OperationRecorder recorder = this.operations.get(operation);
+        return recorder != null ? recorder : this.operations.computeIfAbsent(operation, key -> new OperationRecorder());
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+
+    private static final class OperationRecorder {
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder latticeNodes = new LongAdder();
+
+        private PricingMetricsSnapshot.Operation snapshot() {
+            long[] counts = this.latencies.bucketCounts();
+            int nonEmpty = 0;
+            for (long count : counts) {
+                nonEmpty += count > 0L ? 1 : 0;
+            }
+
+            long[] bucketUpperBounds = new long[nonEmpty];
+            long[] bucketCounts = new long[nonEmpty];
+            int k = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0L) {
+                    bucketUpperBounds[k] = LatencyHistogram.bucketUpperBound(i);
+                    bucketCounts[k] = counts[i];
+                    k++;
+                }
+            }
+
+            return new PricingMetricsSnapshot.Operation(
+                this.latencies.count(),
+                this.latencies.total(),
+                this.latencies.max(),
+                this.latticeNodes.sum(),
+                bucketUpperBounds,
+                bucketCounts
+            );
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package dev.peterrhodes.optionpricing.internal.kernels;
+
+import static dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel.N;
+import static dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel.n;
+
+/**
+ * Primitive double precision formulas of the <a href="https://doi.org/10.24033/asens.476">Bachelier (1900)</a> model, where the forward price follows an arithmetic Brownian motion, e.g.&nbsp;for options on interest rates or spreads which can be negative.
+ * <pre>
+ * V = e^(-rτ) (θ(F - K) N(θd) + σ√τ N'(d)),   d = (F - K) / (σ √τ)
+ * </pre>
+ * <p>where {@code θ} is {@code +1} for a call and {@code -1} for a put, and {@code σ} is the normal (absolute) volatility in units of the forward price per square root of a year.&nbsp;The forward price ({@code F}) is held fixed when differentiating, so rho is {@code -τV} and theta is {@code rV} plus the time decay of the undiscounted price.</p>
+ */
+public interface BachelierKernel {
+
+    /**
+     * Price of a European option under normal dynamics.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param forwardPrice forward price of the underlying ({@code F})
+     * @param strikePrice strike price of the option ({@code K})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility normal volatility of the forward price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option price
+     */
+    static double price(boolean isCall, double forwardPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        double θ = isCall ? 1d : -1d;
+        double σ_sqrtτ = volatility * Math.sqrt(timeToMaturity);
+        double intrinsic = forwardPrice - strikePrice;
+        double d = intrinsic / σ_sqrtτ;
+
+        return Math.exp(-riskFreeRate * timeToMaturity) * (θ * intrinsic * N(θ * d) + σ_sqrtτ * n(d));
+    }
+
+    /**
+     * Delta ({@code Δ = ∂V/∂F}) of a European option under normal dynamics.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param forwardPrice forward price of the underlying ({@code F})
+     * @param strikePrice strike price of the option ({@code K})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility normal volatility of the forward price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option delta
+     */
+    static double delta(boolean isCall, double forwardPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        double θ = isCall ? 1d : -1d;
+        double d = (forwardPrice - strikePrice) / (volatility * Math.sqrt(timeToMaturity));
+
+        return θ * Math.exp(-riskFreeRate * timeToMaturity) * N(θ * d);
+    }
+
+    /**
+     * Gamma ({@code Γ = ∂²V/∂F²}) of a European option under normal dynamics, which is the same for a call and a put.
+     *
+     * @param forwardPrice forward price of the underlying ({@code F})
+     * @param strikePrice strike price of the option ({@code K})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility normal volatility of the forward price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option gamma
+     */
+    static double gamma(double forwardPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        double σ_sqrtτ = volatility * Math.sqrt(timeToMaturity);
+        double d = (forwardPrice - strikePrice) / σ_sqrtτ;
+
+        return Math.exp(-riskFreeRate * timeToMaturity) * n(d) / σ_sqrtτ;
+    }
+
+    /**
+     * Vega ({@code ∂V/∂σ}) of a European option under normal dynamics, which is the same for a call and a put.
+     *
+     * @param forwardPrice forward price of the underlying ({@code F})
+     * @param strikePrice strike price of the option ({@code K})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility normal volatility of the forward price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option vega
+     */
+    static double vega(double forwardPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        double sqrtτ = Math.sqrt(timeToMaturity);
+        double d = (forwardPrice - strikePrice) / (volatility * sqrtτ);
+
+        return Math.exp(-riskFreeRate * timeToMaturity) * n(d) * sqrtτ;
+    }
+
+    /**
+     * Theta ({@code Θ = -∂V/∂τ}) of a European option under normal dynamics.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param forwardPrice forward price of the underlying ({@code F})
+     * @param strikePrice strike price of the option ({@code K})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility normal volatility of the forward price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option theta
+     */
+    static double theta(boolean isCall, double forwardPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        double sqrtτ = Math.sqrt(timeToMaturity);
+        double d = (forwardPrice - strikePrice) / (volatility * sqrtτ);
+        double decay = Math.exp(-riskFreeRate * timeToMaturity) * n(d) * volatility / (2d * sqrtτ);
+
+        return riskFreeRate * price(isCall, forwardPrice, strikePrice, timeToMaturity, volatility, riskFreeRate) - decay;
+    }
+
+    /**
+     * Rho ({@code ρ = ∂V/∂r}) of a European option under normal dynamics, with the forward price held fixed.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param forwardPrice forward price of the underlying ({@code F})
+     * @param strikePrice strike price of the option ({@code K})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility normal volatility of the forward price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option rho
+     */
+    static double rho(boolean isCall, double forwardPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        return -timeToMaturity * price(isCall, forwardPrice, strikePrice, timeToMaturity, volatility, riskFreeRate);
+    }
+
+    /**
+     * Price and Greeks of a European option under normal dynamics, computed together so that {@code d}, the discount factor, and the normal CDF and PDF values are only evaluated once.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param forwardPrice forward price of the underlying ({@code F})
+     * @param strikePrice strike price of the option ({@code K})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility normal volatility of the forward price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @param result array of length six which the price, delta, gamma, vega, theta, and rho are written to, in that order
+     */
+    static void greeks(boolean isCall, double forwardPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate, double[] result) {
+        double τ = timeToMaturity;
+        double σ = volatility;
+        double r = riskFreeRate;
+        double θ = isCall ? 1d : -1d;
+
+        double sqrtτ = Math.sqrt(τ);
+        double σ_sqrtτ = σ * sqrtτ;
+        double intrinsic = forwardPrice - strikePrice;
+        double d = intrinsic / σ_sqrtτ;
+        double discountFactor = Math.exp(-r * τ);
+        double Nθd = N(θ * d);
+        double nd = n(d);
+        double price = discountFactor * (θ * intrinsic * Nθd + σ_sqrtτ * nd);
+
+        result[0] = price;
+        result[1] = θ * discountFactor * Nθd;
+        result[2] = discountFactor * nd / σ_sqrtτ;
+        result[3] = discountFactor * nd * sqrtτ;
+        result[4] = r * price - discountFactor * nd * σ / (2d * sqrtτ);
+        result[5] = -τ * price;
+    }
+}
@@ -0,0 +1,166 @@
+package dev.peterrhodes.optionpricing.internal.kernels;
+
+import static dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel.N;
+import static dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel.n;
+
+/**
+ * Primitive double precision formulas of <a href="https://doi.org/10.1016/0304-405X(76)90024-6">Black (1976)</a> for European options on futures and forwards, i.e.&nbsp;the Black-Scholes-Merton model where the underlying asset has no cost of carry.
+ * <pre>
+ * C = e^(-rτ) (F N(d₁) - K N(d₂)),   P = e^(-rτ) (K N(-d₂) - F N(-d₁)),   d₁,₂ = (ln(F / K) ± σ²τ / 2) / (σ √τ)
+ * </pre>
+ * <p>The futures price ({@code F}) is held fixed when differentiating, so rho is {@code -τV} and theta is {@code rV} plus the time decay of the undiscounted price.</p>
+ */
+public interface Black76Kernel {
+
+    /**
+     * Price of a European option on a futures contract.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param futuresPrice futures price of the underlying asset ({@code F > 0})
+     * @param strikePrice strike price of the option ({@code K > 0})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility volatility of the futures price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option price
+     */
+    static double price(boolean isCall, double futuresPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        double θ = isCall ? 1d : -1d;
+        double σ_sqrtτ = volatility * Math.sqrt(timeToMaturity);
+        double d1 = d1(futuresPrice, strikePrice, σ_sqrtτ);
+        double d2 = d1 - σ_sqrtτ;
+
+        return θ * Math.exp(-riskFreeRate * timeToMaturity) * (futuresPrice * N(θ * d1) - strikePrice * N(θ * d2));
+    }
+
+    /**
+     * Delta ({@code Δ = ∂V/∂F}) of a European option on a futures contract.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param futuresPrice futures price of the underlying asset ({@code F > 0})
+     * @param strikePrice strike price of the option ({@code K > 0})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility volatility of the futures price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option delta
+     */
+    static double delta(boolean isCall, double futuresPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        double θ = isCall ? 1d : -1d;
+        double d1 = d1(futuresPrice, strikePrice, volatility * Math.sqrt(timeToMaturity));
+
+        return θ * Math.exp(-riskFreeRate * timeToMaturity) * N(θ * d1);
+    }
+
+    /**
+     * Gamma ({@code Γ = ∂²V/∂F²}) of a European option on a futures contract, which is the same for a call and a put.
+     *
+     * @param futuresPrice futures price of the underlying asset ({@code F > 0})
+     * @param strikePrice strike price of the option ({@code K > 0})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility volatility of the futures price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option gamma
+     */
+    static double gamma(double futuresPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        double σ_sqrtτ = volatility * Math.sqrt(timeToMaturity);
+        double d1 = d1(futuresPrice, strikePrice, σ_sqrtτ);
+
+        return Math.exp(-riskFreeRate * timeToMaturity) * n(d1) / (futuresPrice * σ_sqrtτ);
+    }
+
+    /**
+     * Vega ({@code ∂V/∂σ}) of a European option on a futures contract, which is the same for a call and a put.
+     *
+     * @param futuresPrice futures price of the underlying asset ({@code F > 0})
+     * @param strikePrice strike price of the option ({@code K > 0})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility volatility of the futures price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option vega
+     */
+    static double vega(double futuresPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        double sqrtτ = Math.sqrt(timeToMaturity);
+        double d1 = d1(futuresPrice, strikePrice, volatility * sqrtτ);
+
+        return Math.exp(-riskFreeRate * timeToMaturity) * futuresPrice * n(d1) * sqrtτ;
+    }
+
+    /**
+     * Theta ({@code Θ = -∂V/∂τ}) of a European option on a futures contract.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param futuresPrice futures price of the underlying asset ({@code F > 0})
+     * @param strikePrice strike price of the option ({@code K > 0})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility volatility of the futures price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option theta
+     */
+    static double theta(boolean isCall, double futuresPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        double sqrtτ = Math.sqrt(timeToMaturity);
+        double d1 = d1(futuresPrice, strikePrice, volatility * sqrtτ);
+        double decay = Math.exp(-riskFreeRate * timeToMaturity) * futuresPrice * n(d1) * volatility / (2d * sqrtτ);
+
+        return riskFreeRate * price(isCall, futuresPrice, strikePrice, timeToMaturity, volatility, riskFreeRate) - decay;
+    }
+
+    /**
+     * Rho ({@code ρ = ∂V/∂r}) of a European option on a futures contract, with the futures price held fixed.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param futuresPrice futures price of the underlying asset ({@code F > 0})
+     * @param strikePrice strike price of the option ({@code K > 0})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility volatility of the futures price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @return option rho
+     */
+    static double rho(boolean isCall, double futuresPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate) {
+        return -timeToMaturity * price(isCall, futuresPrice, strikePrice, timeToMaturity, volatility, riskFreeRate);
+    }
+
+    /**
+     * Price and Greeks of a European option on a futures contract, computed together so that {@code d₁}, {@code d₂}, the discount factor, and the normal CDF and PDF values are only evaluated once.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param futuresPrice futures price of the underlying asset ({@code F > 0})
+     * @param strikePrice strike price of the option ({@code K > 0})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility volatility of the futures price ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @param result array of length six which the price, delta, gamma, vega, theta, and rho are written to, in that order
+     */
+    static void greeks(boolean isCall, double futuresPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate, double[] result) {
+        double F = futuresPrice;
+        double K = strikePrice;
+        double τ = timeToMaturity;
+        double σ = volatility;
+        double r = riskFreeRate;
+        double θ = isCall ? 1d : -1d;
+
+        double sqrtτ = Math.sqrt(τ);
+        double σ_sqrtτ = σ * sqrtτ;
+        double d1 = d1(F, K, σ_sqrtτ);
+        double d2 = d1 - σ_sqrtτ;
+        double discountFactor = Math.exp(-r * τ);
+        double Nθd1 = N(θ * d1);
+        double nd1 = n(d1);
+        double price = θ * discountFactor * (F * Nθd1 - K * N(θ * d2));
+
+        result[0] = price;
+        result[1] = θ * discountFactor * Nθd1;
+        result[2] = discountFactor * nd1 / (F * σ_sqrtτ);
+        result[3] = discountFactor * F * nd1 * sqrtτ;
+        result[4] = r * price - discountFactor * F * nd1 * σ / (2d * sqrtτ);
+        result[5] = -τ * price;
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private static double d1(double F, double K, double σ_sqrtτ) {
+        return Math.log(F / K) / σ_sqrtτ + σ_sqrtτ / 2d;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -0,0 +1,118 @@
+package dev.peterrhodes.optionpricing.internal.kernels;
+
+import dev.peterrhodes.optionpricing.internal.instrumentation.Instrumentation;
+import dev.peterrhodes.optionpricing.internal.utils.MathUtils;
+
+/**
+ * Primitive double precision Black-Scholes-Merton formulas for pricing engines that need to evaluate a European option many times, e.g.&nbsp;iterative solvers.
+ * <p>Unlike {@link dev.peterrhodes.optionpricing.internal.analyticoptions.EuropeanOption} there's no validation, boxing, or calculation steps, and the normal CDF is evaluated with {@link MathUtils#erfc(double)} so it's accurate to double precision in the tails.</p>
+ */
+public interface BlackScholesMertonKernel {
+
+    //region constants
+    //----------------------------------------------------------------------
+
+    /**
+     * √2.
+     */
+    double SQRT_TWO = Math.sqrt(2d);
+
+    /**
+     * √(2π).
+     */
+    double SQRT_TWO_PI = Math.sqrt(2d * Math.PI);
+
+    //----------------------------------------------------------------------
+    //endregion constants
+
+    /**
+     * Price of a European option.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param initialSpotPrice initial price of the underlying asset ({@code S₀ > 0})
+     * @param strikePrice strike price of the option ({@code K > 0})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility underlying volatility ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @param dividendYield annual dividend yield continuously compounded ({@code q})
+     * @return option price
+     */
+    static double price(boolean isCall, double initialSpotPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate, double dividendYield) {
+        double S = initialSpotPrice;
+        double K = strikePrice;
+        double τ = timeToMaturity;
+        double σ = volatility;
+        double r = riskFreeRate;
+        double q = dividendYield;
+
+        double σ_sqrtτ = σ * Math.sqrt(τ);
+        double d1 = (Math.log(S / K) + (r - q + σ * σ / 2d) * τ) / σ_sqrtτ;
+        double d2 = d1 - σ_sqrtτ;
+        double discountedSpot = S * Math.exp(-q * τ);
+        double discountedStrike = K * Math.exp(-r * τ);
+
+        return isCall
+            ? discountedSpot * N(d1) - discountedStrike * N(d2)
+            : discountedStrike * N(-d2) - discountedSpot * N(-d1);
+    }
+
+    /**
+     * Price and Greeks of a European option, computed together so that {@code d₁}, {@code d₂}, the discount factors, and the normal CDF and PDF values are only evaluated once.
+     *
+     * @param isCall true for a call option, false for a put option
+     * @param initialSpotPrice initial price of the underlying asset ({@code S₀ > 0})
+     * @param strikePrice strike price of the option ({@code K > 0})
+     * @param timeToMaturity time until maturity in years ({@code τ > 0})
+     * @param volatility underlying volatility ({@code σ > 0})
+     * @param riskFreeRate annualized risk-free interest rate continuously compounded ({@code r})
+     * @param dividendYield annual dividend yield continuously compounded ({@code q})
+     * @param result array of length six which the price, delta, gamma, vega, theta, and rho are written to, in that order
+     */
+    static void greeks(boolean isCall, double initialSpotPrice, double strikePrice, double timeToMaturity, double volatility, double riskFreeRate, double dividendYield, double[] result) {
+        double S = initialSpotPrice;
+        double K = strikePrice;
+        double τ = timeToMaturity;
+        double σ = volatility;
+        double r = riskFreeRate;
+        double q = dividendYield;
+        double θ = isCall ? 1d : -1d;
+
+        double sqrtτ = Math.sqrt(τ);
+        double σ_sqrtτ = σ * sqrtτ;
+        double d1 = (Math.log(S / K) + (r - q + σ * σ / 2d) * τ) / σ_sqrtτ;
+        double d2 = d1 - σ_sqrtτ;
+        double discountedSpot = S * Math.exp(-q * τ);
+        double discountedStrike = K * Math.exp(-r * τ);
+        double Nθd1 = N(θ * d1);
+        double Nθd2 = N(θ * d2);
+        double nd1 = n(d1);
+
+        result[0] = θ * (discountedSpot * Nθd1 - discountedStrike * Nθd2);
+        result[1] = θ * discountedSpot / S * Nθd1;
+        result[2] = discountedSpot / S * nd1 / (S * σ_sqrtτ);
+        result[3] = discountedSpot * nd1 * sqrtτ;
+        result[4] = -discountedSpot * nd1 * σ / (2d * sqrtτ) - θ * r * discountedStrike * Nθd2 + θ * q * discountedSpot * Nθd1;
+        result[5] = θ * τ * discountedStrike * Nθd2;
+    }
+
+    /**
+     * Standard normal CDF evaluated with the double precision complementary error function.
+     *
+     * @param x point to evaluate the standard normal CDF at
+     * @return standard normal CDF at {@code x}
+     */
+    static double N(double x) {
+        Instrumentation.cdfEvaluated();
+        return 0.5 * MathUtils.erfc(-x / SQRT_TWO);
+    }
+
+    /**
+     * Standard normal PDF.
+     *
+     * @param x point to evaluate the standard normal PDF at
+     * @return standard normal PDF at {@code x}
+     */
+    static double n(double x) {
+        return Math.exp(-x * x / 2d) / SQRT_TWO_PI;
+    }
+}
@@ -0,0 +1,142 @@
+package dev.peterrhodes.optionpricing.internal.live;
+
+import dev.peterrhodes.optionpricing.LiveOption;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+
+/**
+ * Base class for live options, which decides between an exact recalculation and the delta-gamma approximation around the last exact spot price.
+ * <p>Subclasses recalculate the price, delta, gamma, and speed ({@code ∂Γ/∂S}) at a spot price with {@link #calculate(double)}, writing them to the {@code exact*} fields.</p>
+ * <p>The error of the expansion is at most {@code max|∂Γ/∂S| |dS|³ / 6} over the move, not the speed at the last exact spot price, which is zero at an inflection of gamma whatever the size of the move.&nbsp;The moves are capped at {@link #MAX_MOVE} standard deviations of the spot price, {@code S₀σ√τ}, and within the cap the speed is bounded by its value at {@code S₀} plus its leading order change, {@code Γ |dS| / (S₀σ√τ)²}, doubled for the change of {@code Γ/S} across the move.</p>
+ */
+public abstract class AbstractLiveOption implements LiveOption {
+
+    /**
+     * Largest move approximated, in standard deviations of the spot price over the option's life ({@code S₀σ√τ}).
+     */
+    public static final double MAX_MOVE = 0.25;
+
+    private final double tolerance;
+    private final double σ_sqrtτ;
+
+    // Values at the spot price of the last exact calculation
+    protected double exactSpotPrice;
+    protected double exactPrice;
+    protected double exactDelta;
+    protected double exactGamma;
+    protected double exactSpeed;
+
+    // Bounds of the approximation around the spot price of the last exact calculation
+    private double maxMove;
+    private double speedSlope;
+
+    // Values at the spot price of the last update
+    private double spotPrice;
+    private double price;
+    private double delta;
+    private double gamma;
+    private boolean isApproximate;
+
+    private long exactUpdates;
+    private long approximateUpdates;
+
+    /**
+     * Creates the base class for a live option, subclasses call {@link #initialize(double)} once their state is set up.
+     *
+     * @param tolerance largest error of an approximated price
+     * @param volatilityScale volatility over the option's life ({@code σ√τ})
+     */
+    protected AbstractLiveOption(double tolerance, double volatilityScale) {
+        this.tolerance = tolerance;
+        this.σ_sqrtτ = volatilityScale;
+    }
+
+    /**
+     * Calculates the values at the initial spot price.
+     */
+    protected final void initialize(double initialSpotPrice) {
+        this.recalculate(initialSpotPrice);
+    }
+
+    /**
+     * Calculates the price, delta, gamma, and speed at a spot price, writing them to the {@code exact*} fields.
+     *
+     * @param spotPrice spot price
+     */
+    protected abstract void calculate(double spotPrice);
+
+    @Override
+    public final double onSpot(double spotPrice) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(spotPrice, "spotPrice");
+
+        double dS = spotPrice - this.exactSpotPrice;
+        double absdS = Math.abs(dS);
+        double speedBound = 2d * (Math.abs(this.exactSpeed) + this.speedSlope * absdS);
+        if (this.tolerance > 0d && absdS <= this.maxMove && speedBound * absdS * absdS * absdS / 6d <= this.tolerance) {
+            this.spotPrice = spotPrice;
+            this.price = this.exactPrice + this.exactDelta * dS + 0.5 * this.exactGamma * dS * dS;
+            this.delta = this.exactDelta + this.exactGamma * dS;
+            this.gamma = this.exactGamma + this.exactSpeed * dS;
+            this.isApproximate = true;
+            this.approximateUpdates++;
+        } else {
+            this.recalculate(spotPrice);
+        }
+
+        return this.price;
+    }
+
+    private void recalculate(double spotPrice) {
+        this.calculate(spotPrice);
+        this.exactSpotPrice = spotPrice;
+        double standardDeviation = spotPrice * this.σ_sqrtτ;
+        this.maxMove = MAX_MOVE * standardDeviation;
+        this.speedSlope = Math.abs(this.exactGamma) / (standardDeviation * standardDeviation);
+        this.spotPrice = spotPrice;
+        this.price = this.exactPrice;
+        this.delta = this.exactDelta;
+        this.gamma = this.exactGamma;
+        this.isApproximate = false;
+        this.exactUpdates++;
+    }
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    @Override
+    public final double spotPrice() {
+        return this.spotPrice;
+    }
+
+    @Override
+    public final double price() {
+        return this.price;
+    }
+
+    @Override
+    public final double delta() {
+        return this.delta;
+    }
+
+    @Override
+    public final double gamma() {
+        return this.gamma;
+    }
+
+    @Override
+    public final boolean isApproximate() {
+        return this.isApproximate;
+    }
+
+    @Override
+    public final long exactUpdates() {
+        return this.exactUpdates;
+    }
+
+    @Override
+    public final long approximateUpdates() {
+        return this.approximateUpdates;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+}
@@ -0,0 +1,61 @@
+package dev.peterrhodes.optionpricing.internal.live;
+
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel;
+
+/**
+ * Live European option priced with the Black-Scholes-Merton model.
+ * <p>Only {@code d₁} depends on the spot price, so an exact update is a logarithm, two CDF evaluations, and a PDF evaluation.</p>
+ */
+public final class LiveEuropeanOption extends AbstractLiveOption {
+
+    // Math notation
+    private final double θ; // +1 for call, -1 for put
+    private final double lnK; // ln(K)
+    private final double σ_sqrtτ; // σ√τ
+    private final double drift; // (r - q + σ²/2)τ
+    private final double dividendDiscountFactor; // e^(-qτ)
+    private final double discountedStrike; // Ke^(-rτ)
+
+    /**
+     * Creates a live European option.
+     *
+     * @param spec European option spec
+     * @param tolerance largest estimated error of an approximated price
+     */
+    public LiveEuropeanOption(OptionSpec spec, double tolerance) {
+        super(tolerance, spec.getVolatility() * Math.sqrt(spec.getTimeToMaturity()));
+        final double K = spec.getStrikePrice();
+        final double τ = spec.getTimeToMaturity();
+        final double σ = spec.getVolatility();
+        final double r = spec.getRiskFreeRate();
+        final double q = spec.getDividendYield();
+
+        this.θ = spec.optionType() == OptionType.CALL ? 1d : -1d;
+        this.lnK = Math.log(K);
+        this.σ_sqrtτ = σ * Math.sqrt(τ);
+        this.drift = (r - q + σ * σ / 2d) * τ;
+        this.dividendDiscountFactor = Math.exp(-q * τ);
+        this.discountedStrike = K * Math.exp(-r * τ);
+
+        this.initialize(spec.getInitialSpotPrice());
+    }
+
+    @Override
+    protected void calculate(double spotPrice) {
+        double S = spotPrice;
+        double d1 = (Math.log(S) - this.lnK + this.drift) / this.σ_sqrtτ;
+        double d2 = d1 - this.σ_sqrtτ;
+        double discountedSpot = S * this.dividendDiscountFactor;
+        double Nθd1 = BlackScholesMertonKernel.N(this.θ * d1);
+        double Nθd2 = BlackScholesMertonKernel.N(this.θ * d2);
+        double nd1 = BlackScholesMertonKernel.n(d1);
+        double Γ = this.dividendDiscountFactor * nd1 / (S * this.σ_sqrtτ);
+
+        this.exactPrice = this.θ * (discountedSpot * Nθd1 - this.discountedStrike * Nθd2);
+        this.exactDelta = this.θ * this.dividendDiscountFactor * Nθd1;
+        this.exactGamma = Γ;
+        this.exactSpeed = -Γ / S * (d1 / this.σ_sqrtτ + 1d);
+    }
+}
@@ -0,0 +1,122 @@
+package dev.peterrhodes.optionpricing.internal.live;
+
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+
+/**
+ * Live option priced with the Cox, Ross, and Rubinstein binomial model.
+ * <p>The lattice parameters only depend on the time to maturity, volatility, and rates, and the underlying price of a node is {@code S₀ u^j d^(i-j)}, so the powers of {@code u} and {@code d} are calculated once and an exact update is only the backward induction, using the same arithmetic as {@link dev.peterrhodes.optionpricing.internal.pricingmodels.CoxRossRubinsteinPricingModel#price}.&nbsp;The option values of the first time steps are kept to estimate delta, gamma, and speed with finite differences across their nodes.</p>
+ */
+public final class LiveLatticeOption extends AbstractLiveOption {
+
+    private final int timeSteps;
+    private final boolean isAmerican;
+    private final double C̟P̠; // +1 for call, -1 for put
+    private final double K;
+    private final double p;
+    private final double discountFactor;
+    private final double[] uPowers;
+    private final double[] dPowers;
+
+    // Option values of the current induction and of the first time steps
+    private final double[] V;
+    private final double[] V_1 = new double[2];
+    private final double[] V_2 = new double[3];
+    private final double[] V_3 = new double[4];
+
+    /**
+     * Creates a live Cox, Ross, and Rubinstein option.
+     *
+     * @param spec option spec
+     * @param timeSteps number of time steps in the tree
+     * @param tolerance largest estimated error of an approximated price
+     */
+    public LiveLatticeOption(OptionSpec spec, int timeSteps, double tolerance) {
+        super(tolerance, spec.getVolatility() * Math.sqrt(spec.getTimeToMaturity()));
+        final double τ = spec.getTimeToMaturity();
+        final double σ = spec.getVolatility();
+        final double r = spec.getRiskFreeRate();
+        final double q = spec.getDividendYield();
+
+        this.timeSteps = timeSteps;
+        this.isAmerican = spec.optionStyle() == OptionStyle.AMERICAN;
+        this.C̟P̠ = spec.optionType() == OptionType.CALL ? 1d : -1d;
+        this.K = spec.getStrikePrice();
+
+        double Δt = τ / (double) timeSteps;
+        double u = Math.exp(σ * Math.sqrt(Δt));
+        double d = Math.exp(-σ * Math.sqrt(Δt));
+        double a = Math.exp((r - q) * Δt);
+        this.p = (a - d) / (u - d);
+        this.discountFactor = Math.exp(-r * Δt);
+        this.uPowers = new double[timeSteps + 1];
+        this.dPowers = new double[timeSteps + 1];
+        for (int k = 0; k <= timeSteps; k++) {
+            this.uPowers[k] = Math.pow(u, k);
+            this.dPowers[k] = Math.pow(d, k);
+        }
+        this.V = new double[timeSteps + 1];
+
+        this.initialize(spec.getInitialSpotPrice());
+    }
+
+    @Override
+    protected void calculate(double spotPrice) {
+        double S_0 = spotPrice;
+        int N = this.timeSteps;
+        double[] V = this.V;
+
+        for (int j = 0; j <= N; j++) {
+            V[j] = Math.max(0d, this.C̟P̠ * (S_0 * this.uPowers[j] * this.dPowers[N - j] - this.K));
+        }
+        this.keepTimeStep(N);
+
+        for (int i = N - 1; i >= 0; i--) {
+            for (int j = 0; j <= i; j++) {
+                double optionCurrentValue = (this.p * V[j + 1] + (1 - this.p) * V[j]) * this.discountFactor;
+                double earlyExerciseValue = this.isAmerican ? Math.max(0d, this.C̟P̠ * (S_0 * this.uPowers[j] * this.dPowers[i - j] - this.K)) : 0d;
+                V[j] = Math.max(optionCurrentValue, earlyExerciseValue);
+            }
+            this.keepTimeStep(i);
+        }
+
+        this.exactPrice = V[0];
+        this.exactDelta = N >= 1 ? this.slope(S_0, V_1, 1, 0) : 0d;
+        this.exactGamma = N >= 2 ? this.curvature(S_0, V_2, 2, 0) : 0d;
+        // Without a third time step there's no error estimate, so every update is exact
+        this.exactSpeed = N >= 3
+            ? (this.curvature(S_0, V_3, 3, 1) - this.curvature(S_0, V_3, 3, 0)) / (this.nodeSpot(S_0, 3, 2) - this.nodeSpot(S_0, 3, 1))
+            : Double.POSITIVE_INFINITY;
+    }
+
+    private void keepTimeStep(int i) {
+        if (i == 1) {
+            System.arraycopy(this.V, 0, this.V_1, 0, 2);
+        } else if (i == 2) {
+            System.arraycopy(this.V, 0, this.V_2, 0, 3);
+        } else if (i == 3) {
+            System.arraycopy(this.V, 0, this.V_3, 0, 4);
+        }
+    }
+
+    private double nodeSpot(double S_0, int i, int j) {
+        return S_0 * this.uPowers[j] * this.dPowers[i - j];
+    }
+
+    /**
+     * Delta between nodes {@code j} and {@code j + 1} of time step {@code i}.
+     */
+    private double slope(double S_0, double[] values, int i, int j) {
+        return (values[j + 1] - values[j]) / (this.nodeSpot(S_0, i, j + 1) - this.nodeSpot(S_0, i, j));
+    }
+
+    /**
+     * Gamma across nodes {@code j}, {@code j + 1}, and {@code j + 2} of time step {@code i}.
+     */
+    private double curvature(double S_0, double[] values, int i, int j) {
+        double Δ_up = this.slope(S_0, values, i, j + 1);
+        double Δ_down = this.slope(S_0, values, i, j);
+        return (Δ_up - Δ_down) / ((this.nodeSpot(S_0, i, j + 2) - this.nodeSpot(S_0, i, j)) / 2d);
+    }
+}
@@ -0,0 +1,134 @@
+package dev.peterrhodes.optionpricing.internal.portfolio;
+
+import dev.peterrhodes.optionpricing.BatchPricing;
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.PricingModel;
+import dev.peterrhodes.optionpricing.PricingModelSelector;
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.common.MappedFile;
+import dev.peterrhodes.optionpricing.internal.common.PositionFileLayout;
+import dev.peterrhodes.optionpricing.internal.utils.TaskUtils;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Prices a positions file into a results file in parallel chunks, see {@link dev.peterrhodes.optionpricing.PositionFiles}.
+ */
+public interface PositionFilePricer {
+
+    /**
+     * Prices a positions file, the arguments having been validated.
+     *
+     * @param positions path of the positions file
+     * @param results path of the results file, which is created or overwritten
+     * @param model analytic model of the European rows
+     * @param timeSteps number of time steps of the lattice American rows are priced on
+     * @param parallelism number of threads
+     * @param segmentShift base 2 logarithm of the segment size the files are mapped in, at least {@link PositionFileLayout#ALIGNMENT_SHIFT}
+     * @return number of rows
+     * @throws IllegalArgumentException if {@code positions} isn't a positions file, or {@code segmentShift} is too small or too large
+     * @throws IOException if a file can't be read or written
+     */
+    static long price(Path positions, Path results, EuropeanModel model, int timeSteps, int parallelism, int segmentShift) throws IllegalArgumentException, IOException {
+        if (segmentShift < PositionFileLayout.ALIGNMENT_SHIFT) {
+            throw new IllegalArgumentException("segmentShift must be at least " + PositionFileLayout.ALIGNMENT_SHIFT);
+        }
+
+        MappedFile input;
+        try (FileChannel channel = FileChannel.open(positions, StandardOpenOption.READ)) {
+            input = MappedFile.map(channel, FileChannel.MapMode.READ_ONLY, channel.size(), segmentShift);
+        }
+        if (input.size() < PositionFileLayout.ALIGNMENT || input.getInt(0) != PositionFileLayout.POSITIONS_MAGIC || input.get(4) != PositionFileLayout.VERSION) {
+            throw new IllegalArgumentException("positions must be a positions file");
+        }
+        long rowCount = input.getLong(PositionFileLayout.ROW_COUNT_OFFSET);
+        if (rowCount < 0L || input.size() < PositionFileLayout.size(rowCount, PositionFileLayout.POSITION_COLUMNS, PositionFileLayout.POSITION_BYTE_COLUMNS)) {
+            throw new IllegalArgumentException("positions must be a positions file");
+        }
+
+        MappedFile output;
+        try (FileChannel channel = FileChannel.open(results, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            output = MappedFile.map(channel, FileChannel.MapMode.READ_WRITE, PositionFileLayout.size(rowCount, PositionFileLayout.RESULT_COLUMNS, 0), segmentShift);
+        }
+        PositionFileLayout.writeHeader(output, PositionFileLayout.RESULTS_MAGIC, rowCount);
+
+        long[] inputOffsets = PositionFileLayout.columnOffsets(rowCount, PositionFileLayout.POSITION_COLUMNS, PositionFileLayout.POSITION_BYTE_COLUMNS);
+        long[] outputOffsets = PositionFileLayout.columnOffsets(rowCount, PositionFileLayout.RESULT_COLUMNS, 0);
+        PricingModel<?> latticeModel = PricingModelSelector.coxRossRubinstein(timeSteps);
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+        for (long first = 0L; first < rowCount; first += PositionFileLayout.CHUNK_SIZE) {
+            long from = first;
+            int n = (int) Math.min(PositionFileLayout.CHUNK_SIZE, rowCount - first);
+            tasks.add(() -> {
+                priceChunk(model, latticeModel, input, inputOffsets, output, outputOffsets, from, n);
+                return null;
+            });
+        }
+
+        TaskUtils.invokeAll(tasks, parallelism, "pricing");
+        output.force();
+        return rowCount;
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private static void priceChunk(EuropeanModel model, PricingModel<?> latticeModel, MappedFile input, long[] inputOffsets, MappedFile output, long[] outputOffsets, long from, int n) {
+        ByteBuffer styles = input.slice(inputOffsets[0] + from, n);
+        ByteBuffer types = input.slice(inputOffsets[1] + from, n);
+        DoubleBuffer[] parameters = new DoubleBuffer[PositionFileLayout.POSITION_COLUMNS - PositionFileLayout.POSITION_BYTE_COLUMNS];
+        for (int c = 0; c < parameters.length; c++) {
+            parameters[c] = input.slice(inputOffsets[PositionFileLayout.POSITION_BYTE_COLUMNS + c] + 8L * from, 8 * n).asDoubleBuffer();
+        }
+        DoubleBuffer[] values = new DoubleBuffer[PositionFileLayout.RESULT_COLUMNS];
+        for (int c = 0; c < values.length; c++) {
+            values[c] = output.slice(outputOffsets[c] + 8L * from, 8 * n).asDoubleBuffer();
+        }
+
+        // American rows get an invalid type so the batch skips them
+        ByteBuffer europeanTypes = ByteBuffer.allocate(n);
+        for (int i = 0; i < n; i++) {
+            europeanTypes.put(i, styles.get(i) == PositionFileLayout.EUROPEAN ? types.get(i) : (byte) -1);
+        }
+        BatchPricing.europeanGreeks(
+            model, europeanTypes,
+            parameters[0], parameters[1], parameters[2], parameters[3], parameters[4], parameters[5],
+            values[0], values[1], values[2], values[3], values[4], values[5]
+        );
+
+        double[] result = new double[PositionGreeks.WIDTH];
+        for (int i = 0; i < n; i++) {
+            if (styles.get(i) != PositionFileLayout.AMERICAN) {
+                continue;
+            }
+            byte optionType = types.get(i);
+            try {
+                if (optionType != BatchPricing.CALL && optionType != BatchPricing.PUT) {
+                    throw new IllegalArgumentException("optionType must be a call or a put");
+                }
+                OptionSpec spec = new OptionSpec.Builder(parameters[0].get(i), parameters[1].get(i), parameters[2].get(i), parameters[3].get(i), parameters[4].get(i), parameters[5].get(i))
+                    .styleAmerican()
+                    .type(optionType == BatchPricing.CALL ? OptionType.CALL : OptionType.PUT)
+                    .build();
+                PositionGreeks.finiteDifference(latticeModel, spec, result, 0);
+            } catch (IllegalArgumentException e) {
+                Arrays.fill(result, Double.NaN);
+            }
+            for (int c = 0; c < values.length; c++) {
+                values[c].put(i, result[c]);
+            }
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -0,0 +1,95 @@
+package dev.peterrhodes.optionpricing.internal.portfolio;
+
+import dev.peterrhodes.optionpricing.AnalyticOption;
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.PricingModel;
+
+/**
+ * Calculates the unit value and Greeks of a position, writing them to six consecutive elements of an array: value, delta, gamma, vega, theta, and rho.
+ */
+public interface PositionGreeks {
+
+    /**
+     * Number of values written per position.
+     */
+    int WIDTH = 6;
+
+    /**
+     * Spot price bump of the finite differences as a fraction of the standard deviation of the spot price at maturity, {@code S σ √τ}, so that the bump is small compared to the curvature of a short-dated option's value and large enough to smooth over the lattice's nodes, whose spacing also scales with {@code σ √τ}.
+     */
+    double SPOT_BUMP = 0.25;
+
+    /**
+     * Smallest relative spot price bump of the finite differences, which keeps the bump of an option with almost no time or volatility left well above the rounding error of its price.
+     */
+    double MIN_SPOT_BUMP = 1e-3;
+
+    /**
+     * Absolute volatility bump of the finite differences.
+     */
+    double VOLATILITY_BUMP = 0.01;
+
+    /**
+     * Absolute rate bump of the finite differences.
+     */
+    double RATE_BUMP = 1e-4;
+
+    /**
+     * Time to maturity bump of the finite differences in years, one day.
+     */
+    double TIME_BUMP = 1d / 365d;
+
+    /**
+     * Reads the value and Greeks of an analytic option.
+     *
+     * @param option analytic option
+     * @param result output array
+     * @param offset index of the value
+     */
+    static void analytic(AnalyticOption option, double[] result, int offset) {
+        result[offset] = option.price();
+        result[offset + 1] = option.delta();
+        result[offset + 2] = option.gamma();
+        result[offset + 3] = option.vega();
+        result[offset + 4] = option.theta();
+        result[offset + 5] = option.rho();
+    }
+
+    /**
+     * Calculates the value and Greeks of an option with a pricing model, the Greeks with central finite differences.
+     *
+     * @param pricingModel pricing model
+     * @param spec option
+     * @param result output array
+     * @param offset index of the value
+     */
+    static void finiteDifference(PricingModel<?> pricingModel, OptionSpec spec, double[] result, int offset) {
+        final double S = spec.getInitialSpotPrice();
+        final double σ = spec.getVolatility();
+        final double τ = spec.getTimeToMaturity();
+        final double r = spec.getRiskFreeRate();
+        final double h_S = S * Math.max(SPOT_BUMP * σ * Math.sqrt(τ), MIN_SPOT_BUMP);
+        final double h_σ = Math.min(VOLATILITY_BUMP, σ / 2d);
+        final double h_τ = Math.min(TIME_BUMP, τ / 2d);
+
+        double V = pricingModel.price(spec);
+        result[offset] = V;
+
+        double V_Sup = pricingModel.price(spec.withInitialSpotPrice(S + h_S));
+        double V_Sdown = pricingModel.price(spec.withInitialSpotPrice(S - h_S));
+        result[offset + 1] = (V_Sup - V_Sdown) / (2d * h_S);
+        result[offset + 2] = (V_Sup - 2d * V + V_Sdown) / (h_S * h_S);
+
+        double V_σup = pricingModel.price(spec.withVolatility(σ + h_σ));
+        double V_σdown = pricingModel.price(spec.withVolatility(σ - h_σ));
+        result[offset + 3] = (V_σup - V_σdown) / (2d * h_σ);
+
+        double V_τup = pricingModel.price(spec.withTimeToMaturity(τ + h_τ));
+        double V_τdown = pricingModel.price(spec.withTimeToMaturity(τ - h_τ));
+        result[offset + 4] = -(V_τup - V_τdown) / (2d * h_τ);
+
+        double V_rup = pricingModel.price(spec.withRiskFreeRate(r + RATE_BUMP));
+        double V_rdown = pricingModel.price(spec.withRiskFreeRate(r - RATE_BUMP));
+        result[offset + 5] = (V_rup - V_rdown) / (2d * RATE_BUMP);
+    }
+}
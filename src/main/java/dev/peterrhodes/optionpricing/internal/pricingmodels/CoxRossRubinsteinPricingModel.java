@@ -2,18 +2,38 @@ package dev.peterrhodes.optionpricing.internal.pricingmodels;
 
 import dev.peterrhodes.optionpricing.ExerciseValueParameter;
 import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.OptionSpec;
 import dev.peterrhodes.optionpricing.PricingModel;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.OptionImpl;
+import dev.peterrhodes.optionpricing.internal.common.CoxRossRubinsteinLayout;
+import dev.peterrhodes.optionpricing.internal.common.MappedFile;
+import dev.peterrhodes.optionpricing.internal.instrumentation.Instrumentation;
+import dev.peterrhodes.optionpricing.internal.instrumentation.PricingEvent;
 import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
 import dev.peterrhodes.optionpricing.models.CoxRossRubinstein;
+import dev.peterrhodes.optionpricing.models.MappedCoxRossRubinstein;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
 
 /**
  * Binomial options pricing model described by <a href="https://citeseerx.ist.psu.edu/viewdoc/summary?doi=10.1.1.379.7582">Cox, Ross, and Rubinstein (1979)</a>.
  */
 public final class CoxRossRubinsteinPricingModel implements PricingModel<CoxRossRubinstein> {
 
+    /**
+     * Name of the model in the operations recorded by {@link dev.peterrhodes.optionpricing.PricingMetrics}.
+     */
+    public static final String MODEL_NAME = "CoxRossRubinstein";
+
+    private static final String PRICE_OPERATION = MODEL_NAME + ".price";
+    private static final String CALCULATION_OPERATION = MODEL_NAME + ".calculation";
+
     private int timeSteps;
 
     // Math notation
@@ -36,6 +56,7 @@ public final class CoxRossRubinsteinPricingModel implements PricingModel<CoxRoss
 
     /**
      * Calculates the price of the option using the Cox, Ross, and Rubinstein option pricing model.
+     * <p>Only the option values of a single time step are needed to work backwards through the tree, so the price is calculated in a {@code double[]} of length {@code timeSteps + 1} without creating the nodes.&nbsp;The underlying prices are calculated from the same powers of {@code u} and {@code d} as {@link #calculation}, so the price is equal to the value of its root node.</p>
      *
      * @param option the option to be priced
      * @return option price
@@ -43,8 +64,93 @@ public final class CoxRossRubinsteinPricingModel implements PricingModel<CoxRoss
      */
     @Override
     public double price(Option option) throws NullPointerException {
-        CoxRossRubinstein calc = this.calculation(option);
-        return calc.getNodes()[0].getV();
+        ValidationUtils.checkNotNull(option, "option");
+        if (option instanceof OptionSpec) {
+            return this.price((OptionSpec) option);
+        }
+
+        // The exercise value of the library's options is calculated inline, custom options are asked for theirs
+        return this.price(
+            option.optionStyle() == OptionStyle.AMERICAN,
+            option.optionType() == OptionType.CALL,
+            option.initialSpotPrice().doubleValue(),
+            option.strikePrice().doubleValue(),
+            option.timeToMaturity().doubleValue(),
+            option.volatility().doubleValue(),
+            option.riskFreeRate().doubleValue(),
+            option.dividendYield().doubleValue(),
+            option.getClass() == OptionImpl.class ? null : option
+        );
+    }
+
+    /**
+     * Calculates the price of the option using the Cox, Ross, and Rubinstein option pricing model, reading its parameters without boxing.
+     *
+     * @param spec the option to be priced
+     * @return option price
+     * @throws NullPointerException if {@code spec} is null
+     */
+    @Override
+    public double price(OptionSpec spec) throws NullPointerException {
+        ValidationUtils.checkNotNull(spec, "spec");
+        return this.price(
+            spec.optionStyle() == OptionStyle.AMERICAN,
+            spec.optionType() == OptionType.CALL,
+            spec.getInitialSpotPrice(),
+            spec.getStrikePrice(),
+            spec.getTimeToMaturity(),
+            spec.getVolatility(),
+            spec.getRiskFreeRate(),
+            spec.getDividendYield(),
+            null
+        );
+    }
+
+    /**
+     * Backward induction over a single time step, {@code customOption} is null for vanilla options whose exercise value is calculated inline.
+     */
+    private double price(boolean isAmerican, boolean isCall, double S_0, double K, double τ, double σ, double r, double q, Option customOption) {
+        double Δt = τ / (double) this.timeSteps;
+        double u = Math.exp(σ * Math.sqrt(Δt));
+        double d = Math.exp(-σ * Math.sqrt(Δt));
+        double a = Math.exp((r - q) * Δt);
+        double p = (a - d) / (u - d);
+        double discountFactor = Math.exp(-r * Δt);
+
+        // Powers of the proportional movements, S_ij = S₀ u^j d^(i-j)
+        double[] uPowers = new double[this.timeSteps + 1];
+        double[] dPowers = new double[this.timeSteps + 1];
+        for (int k = 0; k <= this.timeSteps; k++) {
+            uPowers[k] = Math.pow(u, k);
+            dPowers[k] = Math.pow(d, k);
+        }
+
+        boolean isVanilla = customOption == null;
+        double C̟P̠ = isCall ? 1d : -1d;
+
+        double[] V = new double[this.timeSteps + 1];
+        for (int j = 0; j <= this.timeSteps; j++) {
+            double S_ij = S_0 * uPowers[j] * dPowers[this.timeSteps - j];
+            V[j] = isVanilla ? Math.max(0d, C̟P̠ * (S_ij - K)) : this.calculateExerciseValue(τ, S_ij, customOption);
+        }
+
+        // Working backwards through the tree, V[j] is overwritten once V[j + 1] has been used for the node below it
+        for (int i = this.timeSteps - 1; i >= 0; i--) {
+            double t_i = i * Δt;
+            for (int j = 0; j <= i; j++) {
+                double optionCurrentValue = (p * V[j + 1] + (1 - p) * V[j]) * discountFactor;
+                double earlyExerciseValue;
+                if (isVanilla) {
+                    earlyExerciseValue = isAmerican ? Math.max(0d, C̟P̠ * (S_0 * uPowers[j] * dPowers[i - j] - K)) : 0d;
+                } else {
+                    earlyExerciseValue = this.calculateExerciseValue(t_i, S_0 * uPowers[j] * dPowers[i - j], customOption);
+                }
+                V[j] = Math.max(optionCurrentValue, earlyExerciseValue);
+            }
+        }
+
+        Instrumentation.latticeNodesEvaluated(PRICE_OPERATION, nodeCount(this.timeSteps));
+        return V[0];
     }
 
     /**
@@ -57,6 +163,7 @@ public final class CoxRossRubinsteinPricingModel implements PricingModel<CoxRoss
     @Override
     public CoxRossRubinstein calculation(Option option) throws NullPointerException {
         ValidationUtils.checkNotNull(option, "option");
+        final PricingEvent event = PricingEvent.start();
         this.setMathNotation(option);
 
         double[] modelParameters = this.determineModelParameters();
@@ -82,7 +189,124 @@ public final class CoxRossRubinsteinPricingModel implements PricingModel<CoxRoss
             }
         }
 
-        return new CoxRossRubinstein(this.timeSteps, Δt, u, d, p, nodes.toArray(new CoxRossRubinstein.Node[0]));
+        Instrumentation.latticeNodesEvaluated(CALCULATION_OPERATION, nodeCount(this.timeSteps));
+        CoxRossRubinstein calculation = new CoxRossRubinstein(this.timeSteps, Δt, u, d, p, nodes.toArray(new CoxRossRubinstein.Node[0]));
+        event.finish(MODEL_NAME, "calculation", option, this.timeSteps);
+        return calculation;
+    }
+
+    /**
+     * Performs the calculation of {@link #calculation(Option)} with the nodes stored in a memory-mapped file instead of on the heap.
+     * <p>The tree is written to the file in the order of the nodes, then worked backwards through, reading the option values of the following time step from the file, so the heap used doesn't depend on the number of time steps.&nbsp;The nodes have the same values as {@link #calculation(Option)}.</p>
+     *
+     * @param option the option to perform the calculation on
+     * @param path path of the file, which is created or overwritten
+     * @return calculation details model
+     * @throws NullPointerException if {@code option} or {@code path} is null
+     * @throws IllegalArgumentException if the number of time steps is greater than {@link CoxRossRubinsteinLayout#MAX_TIME_STEPS}
+     * @throws IOException if the file can't be written
+     */
+    public MappedCoxRossRubinstein calculation(Option option, Path path) throws NullPointerException, IllegalArgumentException, IOException {
+        ValidationUtils.checkNotNull(option, "option");
+        ValidationUtils.checkNotNull(path, "path");
+        if (this.timeSteps > CoxRossRubinsteinLayout.MAX_TIME_STEPS) {
+            throw new IllegalArgumentException("timeSteps must be less than or equal to " + CoxRossRubinsteinLayout.MAX_TIME_STEPS);
+        }
+        final PricingEvent event = PricingEvent.start();
+        this.setMathNotation(option);
+
+        double[] modelParameters = this.determineModelParameters();
+        double Δt = modelParameters[0];
+        double u = modelParameters[1];
+        double d = modelParameters[2];
+        double p = modelParameters[3];
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedFile file = MappedFile.map(channel, FileChannel.MapMode.READ_WRITE, CoxRossRubinsteinLayout.size(this.timeSteps), MappedFile.DEFAULT_SEGMENT_SHIFT);
+            file.putInt(0, CoxRossRubinsteinLayout.MAGIC);
+            file.put(4, CoxRossRubinsteinLayout.VERSION);
+            file.putInt(8, this.timeSteps);
+            file.putInt(12, CoxRossRubinsteinLayout.nodeCountField(this.timeSteps));
+            file.putDouble(16, Δt);
+            file.putDouble(24, u);
+            file.putDouble(32, d);
+            file.putDouble(40, p);
+
+            // Create the tree
+            for (int i = 0; i <= this.timeSteps; i++) {
+                for (int j = 0; j <= i; j++) {
+                    long k = CoxRossRubinsteinLayout.index(i, j);
+                    file.putDouble(CoxRossRubinsteinLayout.sOffset(this.timeSteps, k), this.S_0 * Math.pow(u, j) * Math.pow(d, i - j)); // S_ij = S₀ u^j d^(i-j)
+                }
+            }
+
+            // Working backwards through the tree calculating the option values, the exercised bitmap is zero until a bit is set
+            // The exercise value of the library's options is calculated inline, custom options are asked for theirs
+            boolean isVanilla = option instanceof OptionSpec || option.getClass() == OptionImpl.class;
+            boolean isAmerican = option.optionStyle() == OptionStyle.AMERICAN;
+            double C̟P̠ = option.optionType() == OptionType.CALL ? 1d : -1d;
+            double K = option.strikePrice().doubleValue();
+            double discountFactor = Math.exp(-this.r * Δt);
+            for (int i = this.timeSteps; i >= 0; i--) {
+                double t_i = i == this.timeSteps ? this.τ : i * Δt;
+                boolean isExercisable = isAmerican || i == this.timeSteps;
+                for (int j = 0; j <= i; j++) {
+                    long k = CoxRossRubinsteinLayout.index(i, j);
+                    double S_ij = file.getDouble(CoxRossRubinsteinLayout.sOffset(this.timeSteps, k));
+                    double exerciseValue;
+                    if (isVanilla) {
+                        exerciseValue = isExercisable ? Math.max(0d, C̟P̠ * (S_ij - K)) : 0d;
+                    } else {
+                        exerciseValue = this.calculateExerciseValue(t_i, S_ij, option);
+                    }
+
+                    double V;
+                    boolean exercised;
+                    if (i == this.timeSteps) {
+                        V = exerciseValue;
+                        exercised = V > 0;
+                    } else {
+                        long downIndex = k + (i + 1);
+                        double optionCurrentValue = (p * file.getDouble(CoxRossRubinsteinLayout.vOffset(this.timeSteps, downIndex + 1)) + (1 - p) * file.getDouble(CoxRossRubinsteinLayout.vOffset(this.timeSteps, downIndex))) * discountFactor;
+                        V = Math.max(optionCurrentValue, exerciseValue);
+                        exercised = exerciseValue > optionCurrentValue;
+                    }
+
+                    file.putDouble(CoxRossRubinsteinLayout.vOffset(this.timeSteps, k), V);
+                    if (exercised) {
+                        long bitmapOffset = CoxRossRubinsteinLayout.BITMAP_OFFSET + (k >>> 3);
+                        file.put(bitmapOffset, (byte) (file.get(bitmapOffset) | (1 << (k & 7))));
+                    }
+                }
+            }
+            file.force();
+        }
+
+        Instrumentation.latticeNodesEvaluated(CALCULATION_OPERATION, CoxRossRubinsteinLayout.nodeCount(this.timeSteps));
+        event.finish(MODEL_NAME, "calculation", option, this.timeSteps);
+        return new MappedCoxRossRubinstein(path);
+    }
+
+    /**
+     * Compares the configuration of the models, so that equal models share the entries of a {@link dev.peterrhodes.optionpricing.PricingCache}.
+     *
+     * @param object object to compare with
+     * @return whether {@code object} is a Cox, Ross, and Rubinstein pricing model with the same number of time steps
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        } else if (!(object instanceof CoxRossRubinsteinPricingModel)) {
+            return false;
+        }
+
+        return this.timeSteps == ((CoxRossRubinsteinPricingModel) object).timeSteps;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * CoxRossRubinsteinPricingModel.class.hashCode() + this.timeSteps;
     }
 
     private void setMathNotation(Option option) {
@@ -153,7 +377,11 @@ public final class CoxRossRubinsteinPricingModel implements PricingModel<CoxRoss
      * i = 0 1 2 3   Σi = 0 1 3 6
      */
     private int calculateNodeIndex(int i, int j) {
-        return IntStream.rangeClosed(0, i).sum() + j;
+        return i * (i + 1) / 2 + j;
+    }
+
+    private static long nodeCount(int timeSteps) {
+        return (timeSteps + 1L) * (timeSteps + 2L) / 2L;
     }
 
     private double calculateExerciseValue(double t_i, double S_ij, Option option) {
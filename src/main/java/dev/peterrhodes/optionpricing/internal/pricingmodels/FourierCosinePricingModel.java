@@ -0,0 +1,251 @@
+package dev.peterrhodes.optionpricing.internal.pricingmodels;
+
+import dev.peterrhodes.optionpricing.CharacteristicFunction;
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.StrikeVectorPricingModel;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import dev.peterrhodes.optionpricing.models.FourierCosine;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Option pricing model for European options based on the Fourier-cosine series expansion of <a href="https://doi.org/10.1137/080718061">Fang and Oosterlee (2008)</a>, which prices with any {@link CharacteristicFunction}.
+ * <p>The density of {@code y = ln(S_τ / K)} is truncated to {@code [a, b]} and expanded in a cosine series whose coefficients are read off the characteristic function, so a put is priced with:</p>
+ * <pre>
+ * P = K e^(-rτ) Σ'ₖ Re[φ(uₖ) e^(iuₖ(x - a))] Uₖ,   uₖ = kπ / (b - a),   x = ln(F / K)
+ * Uₖ = 2 / (b - a) (ψₖ(a, 0) - χₖ(a, 0))
+ * </pre>
+ * <p>where {@code Σ'} halves the first term and {@code χₖ}, {@code ψₖ} are the cosine coefficients of {@code e^y} and {@code 1} on {@code [a, 0]}.&nbsp;Calls are priced with put-call parity, which avoids the cancellation error of the exponentially growing call payoff.</p>
+ * <p>The truncation range is {@code x + c₁ ± L √(c₂ + √c₄)} from the cumulants, widened to cover every strike of a vector and rounded outwards to a grid, so a strike vector shares one set of {@code φ(uₖ)} and {@code Uₖ}: each additional strike only costs one pass over the terms, with {@code e^(iuₖ(x - a))} generated by a rotation recurrence rather than a cosine and sine per term.&nbsp;The payoff coefficients only depend on the number of terms and the (rounded) range, so they're cached across calls.</p>
+ */
+public final class FourierCosinePricingModel implements StrikeVectorPricingModel<FourierCosine> {
+
+    /**
+     * Name of the model in the operations recorded by {@link dev.peterrhodes.optionpricing.PricingMetrics}.
+     */
+    public static final String MODEL_NAME = "FourierCosine";
+
+    /**
+     * Width of the truncation range in standard deviations ({@code L}).
+     */
+    private static final double TRUNCATION_WIDTH = 12d;
+
+    /**
+     * Grid the ends of the truncation range are rounded outwards to, so that the payoff coefficients can be reused.
+     */
+    private static final double TRUNCATION_GRID = 0.25;
+
+    /**
+     * Maximum number of cached sets of payoff coefficients, the cache is cleared when it's exceeded.
+     */
+    private static final int MAX_CACHE_SIZE = 256;
+
+    /**
+     * Cached put payoff coefficients ({@code Uₖ}), keyed by the number of terms and the ends of the truncation range in units of {@link #TRUNCATION_GRID}.
+     */
+    private static final Map<List<Integer>, double[]> PUT_COEFFICIENT_CACHE = new ConcurrentHashMap<List<Integer>, double[]>();
+
+    private final CharacteristicFunction characteristicFunction;
+    private final int terms;
+
+    /**
+     * Creates a new Fourier-cosine option pricing model.
+     *
+     * @param characteristicFunction Characteristic function of the log return of the underlying asset relative to its forward price.
+     * @param terms Number of terms in the cosine series.
+     * @throws NullPointerException if {@code characteristicFunction} is null
+     * @throws IllegalArgumentException if {@code terms} is not greater than zero
+     */
+    public FourierCosinePricingModel(CharacteristicFunction characteristicFunction, int terms) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(characteristicFunction, "characteristicFunction");
+        ValidationUtils.checkGreaterThanZero(terms, "terms");
+
+        this.characteristicFunction = characteristicFunction;
+        this.terms = terms;
+    }
+
+    /**
+     * Calculates the price of a European option using the Fourier-cosine series expansion, the option's volatility is ignored.
+     *
+     * @param option the option to be priced
+     * @return option price
+     * @throws NullPointerException if {@code option} is null
+     * @throws IllegalArgumentException if {@code option} is not European
+     */
+    @Override
+    public double price(Option option) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(option, "option");
+        return this.price(option, new double[] { option.strikePrice().doubleValue() })[0];
+    }
+
+    /**
+     * Calculates the prices of European options which are identical to {@code option} apart from their strike prices, using a single evaluation of the characteristic function per term.
+     *
+     * @param option the option to be priced, its strike price and volatility are ignored
+     * @param strikePrices strike prices to price the option for
+     * @return option prices, in the same order as {@code strikePrices}
+     * @throws NullPointerException if {@code option} or {@code strikePrices} are null
+     * @throws IllegalArgumentException if {@code option} is not European
+     */
+    @Override
+    public double[] price(Option option, double[] strikePrices) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(option, "option");
+        ValidationUtils.checkNotNull(strikePrices, "strikePrices");
+        if (option.optionStyle() != OptionStyle.EUROPEAN) {
+            throw new IllegalArgumentException("the Fourier-cosine model can only price European options");
+        }
+
+        double S = option.initialSpotPrice().doubleValue();
+        double τ = option.timeToMaturity().doubleValue();
+        double r = option.riskFreeRate().doubleValue();
+        double q = option.dividendYield().doubleValue();
+        double F = S * Math.exp((r - q) * τ);
+        double discountFactor = Math.exp(-r * τ);
+
+        double[] range = this.truncationRange(F, strikePrices, τ);
+        double a = range[0];
+        double b = range[1];
+        double[] U = putCoefficients(this.terms, a, b);
+
+        // Characteristic function at each term, including the halved first term
+        double[] φRe = new double[this.terms];
+        double[] φIm = new double[this.terms];
+        double[] φ = new double[2];
+        for (int k = 0; k < this.terms; k++) {
+            this.characteristicFunction.evaluate(k * Math.PI / (b - a), τ, φ);
+            double weight = k == 0 ? 0.5 * U[k] : U[k];
+            φRe[k] = φ[0] * weight;
+            φIm[k] = φ[1] * weight;
+        }
+
+        boolean isCall = option.optionType() == OptionType.CALL;
+        double[] prices = new double[strikePrices.length];
+        for (int j = 0; j < strikePrices.length; j++) {
+            double K = strikePrices[j];
+            double x = Math.log(F / K);
+
+            // Re[φ e^(ikΔ)] = cos(kΔ) Re[φ] - sin(kΔ) Im[φ], with e^(ikΔ) by rotation
+            double Δ = Math.PI * (x - a) / (b - a);
+            double cosΔ = Math.cos(Δ);
+            double sinΔ = Math.sin(Δ);
+            double cos = 1d;
+            double sin = 0d;
+            double sum = 0d;
+            for (int k = 0; k < this.terms; k++) {
+                sum += cos * φRe[k] - sin * φIm[k];
+                double nextCos = cos * cosΔ - sin * sinΔ;
+                sin = sin * cosΔ + cos * sinΔ;
+                cos = nextCos;
+            }
+
+            double put = Math.max(K * discountFactor * sum, 0d);
+            prices[j] = isCall ? put + discountFactor * (F - K) : put; // put-call parity
+        }
+
+        return prices;
+    }
+
+    /**
+     * Returns a {@link FourierCosine} model with the details of the Fourier-cosine option pricing model calculation.
+     *
+     * @param option the option to perform the calculation on
+     * @return calculation details model
+     * @throws NullPointerException if {@code option} is null
+     * @throws IllegalArgumentException if {@code option} is not European
+     */
+    @Override
+    public FourierCosine calculation(Option option) throws NullPointerException, IllegalArgumentException {
+        double price = this.price(option);
+
+        double S = option.initialSpotPrice().doubleValue();
+        double τ = option.timeToMaturity().doubleValue();
+        double F = S * Math.exp((option.riskFreeRate().doubleValue() - option.dividendYield().doubleValue()) * τ);
+        double[] range = this.truncationRange(F, new double[] { option.strikePrice().doubleValue() }, τ);
+
+        return new FourierCosine(range[0], range[1], this.terms, price);
+    }
+
+    /**
+     * Compares the configuration of the models, so that equal models share the entries of a {@link dev.peterrhodes.optionpricing.PricingCache}.&nbsp;Characteristic functions are compared with their own {@code equals}, which for a lambda is identity.
+     *
+     * @param object object to compare with
+     * @return whether {@code object} is a Fourier-cosine pricing model with an equal characteristic function and the same number of terms
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        } else if (!(object instanceof FourierCosinePricingModel)) {
+            return false;
+        }
+
+        FourierCosinePricingModel other = (FourierCosinePricingModel) object;
+        return this.characteristicFunction.equals(other.characteristicFunction) && this.terms == other.terms;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.characteristicFunction.hashCode() + this.terms;
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    /**
+     * Truncation range {@code [a, b]} of {@code ln(S_τ / K)} covering every strike price, which includes zero so the put payoff's kink is inside it.
+     */
+    private double[] truncationRange(double F, double[] strikePrices, double τ) {
+        double minX = 0d;
+        double maxX = 0d;
+        for (int j = 0; j < strikePrices.length; j++) {
+            double x = Math.log(F / strikePrices[j]);
+            minX = j == 0 ? x : Math.min(minX, x);
+            maxX = j == 0 ? x : Math.max(maxX, x);
+        }
+
+        double[] c = this.characteristicFunction.cumulants(τ);
+        double halfWidth = TRUNCATION_WIDTH * Math.sqrt(Math.abs(c[1]) + Math.sqrt(Math.abs(c[2])));
+        double a = Math.min(minX + c[0] - halfWidth, 0d);
+        double b = Math.max(maxX + c[0] + halfWidth, 0d);
+
+        return new double[] { Math.floor(a / TRUNCATION_GRID) * TRUNCATION_GRID, Math.ceil(b / TRUNCATION_GRID) * TRUNCATION_GRID };
+    }
+
+    /**
+     * Put payoff coefficients {@code Uₖ = 2 / (b - a) (ψₖ(a, 0) - χₖ(a, 0))}, the arrays are shared between callers and must not be modified.
+     */
+    private static double[] putCoefficients(int terms, double a, double b) {
+        List<Integer> key = List.of(terms, (int) Math.round(a / TRUNCATION_GRID), (int) Math.round(b / TRUNCATION_GRID));
+        double[] coefficients = PUT_COEFFICIENT_CACHE.get(key);
+        if (coefficients == null) {
+            if (PUT_COEFFICIENT_CACHE.size() >= MAX_CACHE_SIZE) {
+                PUT_COEFFICIENT_CACHE.clear();
+            }
+            coefficients = PUT_COEFFICIENT_CACHE.computeIfAbsent(key, ignored -> computePutCoefficients(terms, a, b));
+        }
+        return coefficients;
+    }
+
+    /**
+     * With {@code ω = kπ / (b - a)}, {@code χₖ(a, 0) = (cos(ωa) - e^a - ω sin(ωa)) / (1 + ω²)} and {@code ψₖ(a, 0) = -sin(ωa) / ω}, or {@code -a} for {@code k = 0}.
+     */
+    private static double[] computePutCoefficients(int terms, double a, double b) {
+        double[] U = new double[terms];
+        double expA = Math.exp(a);
+        for (int k = 0; k < terms; k++) {
+            double ω = k * Math.PI / (b - a);
+            double cosωa = Math.cos(ω * a);
+            double sinωa = Math.sin(ω * a);
+            double χ = (cosωa - expA - ω * sinωa) / (1d + ω * ω);
+            double ψ = k == 0 ? -a : -sinωa / ω;
+            U[k] = 2d / (b - a) * (ψ - χ);
+        }
+        return U;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
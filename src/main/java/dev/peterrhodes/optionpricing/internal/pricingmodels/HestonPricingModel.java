@@ -0,0 +1,255 @@
+package dev.peterrhodes.optionpricing.internal.pricingmodels;
+
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.StrikeVectorPricingModel;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.characteristicfunctions.HestonCharacteristicFunction;
+import dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel;
+import dev.peterrhodes.optionpricing.internal.utils.QuadratureUtils;
+import dev.peterrhodes.optionpricing.internal.utils.ValidationUtils;
+import dev.peterrhodes.optionpricing.models.Heston;
+
+/**
+ * Stochastic volatility option pricing model described by <a href="https://doi.org/10.1093/rfs/6.2.327">Heston (1993)</a>, where the variance follows a mean reverting square root process correlated with the underlying asset price.
+ * <p>European options are priced with the single integral of <a href="https://doi.org/10.2139/ssrn.282110">Lewis (2001)</a>:</p>
+ * <pre>
+ * C = e^(-rτ) (F - √(F K) / π ∫₀^∞ Re[e^(iuk) φ(u - i/2)] / (u² + 1/4) du),   k = ln(F / K)
+ * </pre>
+ * <p>where {@code φ} is the characteristic function of {@code ln(S_τ / F)}, see {@link HestonCharacteristicFunction}.&nbsp;The Black-Scholes price with the expected total variance is used as a control variate, i.e.&nbsp;only the difference between the two characteristic functions is integrated, which removes the sharp peak of {@code 1 / (u² + 1/4)} at zero so that the integral is evaluated accurately with a cached Gauss-Laguerre rule of modest size, scaled to the point where the integrand becomes negligible.&nbsp;{@code φ(u - i/2)} doesn't depend on the strike price, so for a vector of strikes it's only evaluated once per node and each additional strike costs one cosine and sine per node.</p>
+ * <p>The initial variance ({@code v₀}) is the square of the option's volatility, i.e.&nbsp;the option's volatility is interpreted as the current instantaneous volatility.</p>
+ */
+public final class HestonPricingModel implements StrikeVectorPricingModel<Heston> {
+
+    /**
+     * Name of the model in the operations recorded by {@link dev.peterrhodes.optionpricing.PricingMetrics}.
+     */
+    public static final String MODEL_NAME = "Heston";
+
+    /**
+     * {@code ln(1 / ε)} for double precision, i.e.&nbsp;the number of e-foldings for the integrand to become negligible.
+     */
+    private static final double LOG_INVERSE_EPSILON = -Math.log(Math.ulp(1d));
+
+    /**
+     * Number of bisections of the integration truncation point, each halves the ratio between the bracket's ends in log space.
+     */
+    private static final int TRUNCATION_BISECTIONS = 4;
+
+    private final double κ;
+    private final double θ;
+    private final double ξ;
+    private final double ρ;
+    private final int integrationNodes;
+
+    /**
+     * Creates a new Heston option pricing model.
+     *
+     * @param kappa Rate at which the variance reverts to its long run mean ({@code κ > 0}).
+     * @param theta Long run mean of the variance ({@code θ > 0}).
+     * @param xi Volatility of the variance ({@code ξ > 0}).
+     * @param rho Correlation between the underlying asset price and its variance ({@code -1 < ρ < 1}).
+     * @param integrationNodes Number of Gauss-Laguerre nodes used to integrate the characteristic function.
+     * @throws IllegalArgumentException if {@code kappa}, {@code theta}, {@code xi}, or {@code integrationNodes} are not greater than zero, or {@code rho} is not between minus one and one
+     */
+    public HestonPricingModel(double kappa, double theta, double xi, double rho, int integrationNodes) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(kappa, "kappa");
+        ValidationUtils.checkGreaterThanZero(theta, "theta");
+        ValidationUtils.checkGreaterThanZero(xi, "xi");
+        ValidationUtils.checkGreaterThanZero(integrationNodes, "integrationNodes");
+        if (!(rho > -1d && rho < 1d)) {
+            throw new IllegalArgumentException("rho must be between minus one and one");
+        }
+
+        this.κ = kappa;
+        this.θ = theta;
+        this.ξ = xi;
+        this.ρ = rho;
+        this.integrationNodes = integrationNodes;
+    }
+
+    /**
+     * Calculates the price of a European option using the Heston option pricing model.
+     *
+     * @param option the option to be priced
+     * @return option price
+     * @throws NullPointerException if {@code option} is null
+     * @throws IllegalArgumentException if {@code option} is not European
+     */
+    @Override
+    public double price(Option option) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(option, "option");
+        return this.price(option, new double[] { option.strikePrice().doubleValue() })[0];
+    }
+
+    /**
+     * Calculates the prices of European options which are identical to {@code option} apart from their strike prices, using a single evaluation of the characteristic function.
+     *
+     * @param option the option to be priced, its strike price is ignored
+     * @param strikePrices strike prices to price the option for
+     * @return option prices, in the same order as {@code strikePrices}
+     * @throws NullPointerException if {@code option} or {@code strikePrices} are null
+     * @throws IllegalArgumentException if {@code option} is not European
+     */
+    @Override
+    public double[] price(Option option, double[] strikePrices) throws NullPointerException, IllegalArgumentException {
+        ValidationUtils.checkNotNull(option, "option");
+        ValidationUtils.checkNotNull(strikePrices, "strikePrices");
+        if (option.optionStyle() != OptionStyle.EUROPEAN) {
+            throw new IllegalArgumentException("the Heston model can only price European options");
+        }
+
+        double S = option.initialSpotPrice().doubleValue();
+        double τ = option.timeToMaturity().doubleValue();
+        double σ = option.volatility().doubleValue();
+        double r = option.riskFreeRate().doubleValue();
+        double q = option.dividendYield().doubleValue();
+        double v0 = σ * σ;
+
+        double F = S * Math.exp((r - q) * τ);
+        double discountFactor = Math.exp(-r * τ);
+
+        // Black-Scholes control variate with the expected total variance, φ_BS(u - i/2) = exp(-w (u² + 1/4) / 2)
+        double w = this.averageVariance(τ, v0) * τ;
+        double σ_w = Math.sqrt(w / τ);
+
+        // Characteristic function at each node, less the control variate, including the quadrature weight and the 1 / (u² + 1/4) factor
+        double[][] rule = QuadratureUtils.gaussLaguerre(this.integrationNodes);
+        double[] nodes = rule[0];
+        double[] weights = rule[1];
+        HestonCharacteristicFunction φ_H = new HestonCharacteristicFunction(this.κ, this.θ, this.ξ, this.ρ, v0);
+        double[] φ = new double[2]; // scratch for φ(u - i/2), reused at every node
+        double scale = this.scale(φ_H, τ, v0, φ);
+        double[] u = new double[nodes.length];
+        double[] integrandRe = new double[nodes.length];
+        double[] integrandIm = new double[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            u[i] = nodes[i] / scale;
+            double uSquaredPlusQuarter = u[i] * u[i] + 0.25;
+            φ_H.evaluate(u[i], -0.5, τ, φ);
+            double factor = weights[i] / (scale * uSquaredPlusQuarter);
+            integrandRe[i] = (φ[0] - Math.exp(-w * uSquaredPlusQuarter / 2d)) * factor;
+            integrandIm[i] = φ[1] * factor;
+        }
+
+        boolean isCall = option.optionType() == OptionType.CALL;
+        double[] prices = new double[strikePrices.length];
+        for (int j = 0; j < strikePrices.length; j++) {
+            double K = strikePrices[j];
+            double k = Math.log(F / K);
+
+            // Re[e^(iuk) φ] = cos(uk) Re[φ] - sin(uk) Im[φ]
+            double integral = 0d;
+            for (int i = 0; i < nodes.length; i++) {
+                double uk = u[i] * k;
+                integral += Math.cos(uk) * integrandRe[i] - Math.sin(uk) * integrandIm[i];
+            }
+
+            double call = BlackScholesMertonKernel.price(true, S, K, τ, σ_w, r, q) - discountFactor * Math.sqrt(F * K) / Math.PI * integral;
+            prices[j] = isCall ? call : call - discountFactor * (F - K); // put-call parity
+        }
+
+        return prices;
+    }
+
+    /**
+     * Returns a {@link Heston} model with the details of the Heston option pricing model calculation.
+     *
+     * @param option the option to perform the calculation on
+     * @return calculation details model
+     * @throws NullPointerException if {@code option} is null
+     * @throws IllegalArgumentException if {@code option} is not European
+     */
+    @Override
+    public Heston calculation(Option option) throws NullPointerException, IllegalArgumentException {
+        double price = this.price(option);
+        double σ = option.volatility().doubleValue();
+        return new Heston(this.κ, this.θ, this.ξ, this.ρ, σ * σ, this.integrationNodes, price);
+    }
+
+    /**
+     * Compares the configuration of the models, so that equal models share the entries of a {@link dev.peterrhodes.optionpricing.PricingCache}.
+     *
+     * @param object object to compare with
+     * @return whether {@code object} is a Heston pricing model with the same parameters and number of integration nodes
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        } else if (!(object instanceof HestonPricingModel)) {
+            return false;
+        }
+
+        HestonPricingModel other = (HestonPricingModel) object;
+        return Double.compare(this.κ, other.κ) == 0
+            && Double.compare(this.θ, other.θ) == 0
+            && Double.compare(this.ξ, other.ξ) == 0
+            && Double.compare(this.ρ, other.ρ) == 0
+            && this.integrationNodes == other.integrationNodes;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = HestonPricingModel.class.hashCode();
+        hash = 31 * hash + Double.hashCode(this.κ);
+        hash = 31 * hash + Double.hashCode(this.θ);
+        hash = 31 * hash + Double.hashCode(this.ξ);
+        hash = 31 * hash + Double.hashCode(this.ρ);
+        return 31 * hash + this.integrationNodes;
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    /**
+     * Scale for the Gauss-Laguerre nodes ({@code u = x / scale}) such that the integrand has decayed below machine precision relative to its value at zero by {@code x = ln(1 / ε)}, which matches the decay of the integrand to the {@code e^(-x)} weight of the rule.
+     * <p>For small {@code u} the characteristic function decays like the Black-Scholes one, i.e.&nbsp;{@code exp(-w u² / 2)} where {@code w} is the expected total variance, and for large {@code u} it decays exponentially, which is much slower when the volatility of the variance is large.&nbsp;So the truncation point is found by bracketing from the Black-Scholes estimate and bisecting on the logarithm of the integrand, which only costs a few characteristic function evaluations.</p>
+     */
+    private double scale(HestonCharacteristicFunction φ_H, double τ, double v0, double[] scratch) {
+        double lower = Math.sqrt(2d * LOG_INVERSE_EPSILON / (this.averageVariance(τ, v0) * τ));
+        double upper = lower;
+
+        if (logIntegrandMagnitude(φ_H, lower, τ, scratch) > -LOG_INVERSE_EPSILON) {
+            do {
+                lower = upper;
+                upper *= 2d;
+            } while (logIntegrandMagnitude(φ_H, upper, τ, scratch) > -LOG_INVERSE_EPSILON && upper < Double.MAX_VALUE);
+        } else {
+            do {
+                upper = lower;
+                lower /= 2d;
+            } while (logIntegrandMagnitude(φ_H, lower, τ, scratch) <= -LOG_INVERSE_EPSILON && lower > Double.MIN_NORMAL);
+        }
+
+        for (int iteration = 0; iteration < TRUNCATION_BISECTIONS; iteration++) {
+            double middle = Math.sqrt(lower * upper);
+            if (logIntegrandMagnitude(φ_H, middle, τ, scratch) > -LOG_INVERSE_EPSILON) {
+                lower = middle;
+            } else {
+                upper = middle;
+            }
+        }
+
+        return LOG_INVERSE_EPSILON / upper;
+    }
+
+    /**
+     * Expected variance over the life of the option, {@code E[(1/τ) ∫₀^τ v_t dt]}.
+     */
+    private double averageVariance(double τ, double v0) {
+        return this.θ + (v0 - this.θ) * (1d - Math.exp(-this.κ * τ)) / (this.κ * τ);
+    }
+
+    /**
+     * {@code ln|φ(u - i/2) / (u² + 1/4)|} relative to its value at {@code u = 0}.
+     */
+    private static double logIntegrandMagnitude(HestonCharacteristicFunction φ_H, double u, double τ, double[] scratch) {
+        φ_H.evaluate(u, -0.5, τ, scratch);
+        double magnitude = Math.hypot(scratch[0], scratch[1]);
+        return Math.log(magnitude / (4d * (u * u + 0.25)));
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -0,0 +1,135 @@
+package dev.peterrhodes.optionpricing.internal.risk;
+
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.kernels.BaroneAdesiWhaleyKernel;
+import dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel;
+
+/**
+ * Primitive columns of a book of options, with the work which doesn't depend on the spot price done once per position so that a scenario only costs {@code d₁}, {@code d₂}, and two normal CDFs for a European option.
+ * <p>American options are revalued with the {@link BaroneAdesiWhaleyKernel} approximation, which costs a handful of Newton iterations instead of a lattice.</p>
+ */
+public final class RiskBook {
+
+    private final int size;
+    private final int[] underlyings;
+    private final double[] quantities;
+    private final double[] baseValues;
+    private final boolean[] isAmerican;
+    private final boolean[] isCall;
+
+    // Math notation
+    private final double[] S;
+    private final double[] K;
+    private final double[] τ;
+    private final double[] σ;
+    private final double[] r;
+    private final double[] q;
+    private final double[] lnS_K;
+    private final double[] σ_sqrtτ;
+    private final double[] drift;
+    private final double[] discountedSpot;
+    private final double[] discountedStrike;
+
+    /**
+     * Creates the columns of a book, the arguments are assumed to be validated.
+     *
+     * @param book contracts
+     * @param underlyings scenario underlying index of each contract
+     * @param quantities position quantity of each contract
+     */
+    public RiskBook(OptionSpec[] book, int[] underlyings, double[] quantities) {
+        int n = book.length;
+        this.size = n;
+        this.underlyings = underlyings.clone();
+        this.quantities = quantities.clone();
+        this.baseValues = new double[n];
+        this.isAmerican = new boolean[n];
+        this.isCall = new boolean[n];
+        this.S = new double[n];
+        this.K = new double[n];
+        this.τ = new double[n];
+        this.σ = new double[n];
+        this.r = new double[n];
+        this.q = new double[n];
+        this.lnS_K = new double[n];
+        this.σ_sqrtτ = new double[n];
+        this.drift = new double[n];
+        this.discountedSpot = new double[n];
+        this.discountedStrike = new double[n];
+
+        for (int c = 0; c < n; c++) {
+            OptionSpec spec = book[c];
+            this.isAmerican[c] = spec.optionStyle() == OptionStyle.AMERICAN;
+            this.isCall[c] = spec.optionType() == OptionType.CALL;
+            this.S[c] = spec.getInitialSpotPrice();
+            this.K[c] = spec.getStrikePrice();
+            this.τ[c] = spec.getTimeToMaturity();
+            this.σ[c] = spec.getVolatility();
+            this.r[c] = spec.getRiskFreeRate();
+            this.q[c] = spec.getDividendYield();
+            this.lnS_K[c] = Math.log(this.S[c] / this.K[c]);
+            this.σ_sqrtτ[c] = this.σ[c] * Math.sqrt(this.τ[c]);
+            this.drift[c] = (this.r[c] - this.q[c] + this.σ[c] * this.σ[c] / 2d) * this.τ[c];
+            this.discountedSpot[c] = this.S[c] * Math.exp(-this.q[c] * this.τ[c]);
+            this.discountedStrike[c] = this.K[c] * Math.exp(-this.r[c] * this.τ[c]);
+            this.baseValues[c] = this.value(c, 1d, 0d);
+        }
+    }
+
+    /**
+     * Returns the value of the book without any shocks.
+     *
+     * @return book value
+     */
+    public double baseValue() {
+        double value = 0d;
+        for (int c = 0; c < this.size; c++) {
+            value += this.quantities[c] * this.baseValues[c];
+        }
+        return value;
+    }
+
+    /**
+     * Adds the profit and loss of every position under a block of scenarios.&nbsp;The positions are the outer loop so that a position's columns stay in registers across the block.
+     *
+     * @param underlyingCount number of scenario underlyings
+     * @param count number of scenarios in the block
+     * @param spotFactors spot price factors indexed by {@code scenario * underlyingCount + underlying}
+     * @param logSpotFactors logarithms of the spot price factors
+     * @param pnl book profit and loss
+     * @param offset index of the block's first scenario in {@code pnl}
+     */
+    public void revalue(int underlyingCount, int count, double[] spotFactors, double[] logSpotFactors, double[] pnl, int offset) {
+        for (int c = 0; c < this.size; c++) {
+            double quantity = this.quantities[c];
+            if (quantity == 0d) {
+                continue;
+            }
+            double baseValue = this.baseValues[c];
+            int u = this.underlyings[c];
+            for (int s = 0; s < count; s++) {
+                int index = s * underlyingCount + u;
+                pnl[offset + s] += quantity * (this.value(c, spotFactors[index], logSpotFactors[index]) - baseValue);
+            }
+        }
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private double value(int c, double spotFactor, double logSpotFactor) {
+        if (this.isAmerican[c]) {
+            return BaroneAdesiWhaleyKernel.price(this.isCall[c], this.S[c] * spotFactor, this.K[c], this.τ[c], this.σ[c], this.r[c], this.q[c]);
+        }
+
+        double θ = this.isCall[c] ? 1d : -1d;
+        double d1 = (this.lnS_K[c] + logSpotFactor + this.drift[c]) / this.σ_sqrtτ[c];
+        double d2 = d1 - this.σ_sqrtτ[c];
+        return θ * (this.discountedSpot[c] * spotFactor * BlackScholesMertonKernel.N(θ * d1) - this.discountedStrike[c] * BlackScholesMertonKernel.N(θ * d2));
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
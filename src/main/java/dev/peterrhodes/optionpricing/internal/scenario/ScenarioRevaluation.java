@@ -0,0 +1,110 @@
+package dev.peterrhodes.optionpricing.internal.scenario;
+
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.PricingModel;
+import dev.peterrhodes.optionpricing.ScenarioGrid;
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.kernels.BachelierKernel;
+import dev.peterrhodes.optionpricing.internal.kernels.Black76Kernel;
+import dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel;
+
+/**
+ * Revalues a single contract under every scenario of a grid, writing the unit values to its slice of the cube.
+ */
+public interface ScenarioRevaluation {
+
+    /**
+     * Revalues a European contract with an analytic model.
+     * <p>For Black-Scholes-Merton the loops are ordered so that each level only calculates what changes at it: the discounted strike per rate shift, {@code σ√τ} and the drift per volatility shock, and only {@code d₁}, {@code d₂}, and the normal CDFs per spot price shock, with {@code ln(1 + shock)} calculated once for the grid.</p>
+     *
+     * @param model analytic model
+     * @param spec contract
+     * @param grid scenario grid
+     * @param logSpotFactors {@code ln(1 + shock)} of each spot price shock
+     * @param values cube values
+     * @param offset index of the contract's first scenario value
+     * @return unit value without any shocks
+     */
+    static double european(EuropeanModel model, OptionSpec spec, ScenarioGrid grid, double[] logSpotFactors, double[] values, int offset) {
+        boolean isCall = spec.optionType() == OptionType.CALL;
+        double S = spec.getInitialSpotPrice();
+        double K = spec.getStrikePrice();
+        double τ = spec.getTimeToMaturity();
+        double σ = spec.getVolatility();
+        double r = spec.getRiskFreeRate();
+        double q = spec.getDividendYield();
+        double[] spotShocks = grid.getSpotShocks();
+        double[] volatilityShocks = grid.getVolatilityShocks();
+        double[] rateShifts = grid.getRateShifts();
+
+        if (model == EuropeanModel.BLACK_SCHOLES_MERTON) {
+            double θ = isCall ? 1d : -1d;
+            double sqrtτ = Math.sqrt(τ);
+            double lnS_K = Math.log(S / K);
+            double dividendDiscountFactor = Math.exp(-q * τ);
+            int index = offset;
+            for (double rateShift : rateShifts) {
+                double r_k = r + rateShift;
+                double discountedStrike = K * Math.exp(-r_k * τ);
+                for (double volatilityShock : volatilityShocks) {
+                    double σ_j = Math.max(ScenarioGrid.VOLATILITY_FLOOR, σ + volatilityShock);
+                    double σ_sqrtτ = σ_j * sqrtτ;
+                    double drift = (r_k - q + σ_j * σ_j / 2d) * τ;
+                    for (int i = 0; i < spotShocks.length; i++) {
+                        double d1 = (lnS_K + logSpotFactors[i] + drift) / σ_sqrtτ;
+                        double d2 = d1 - σ_sqrtτ;
+                        double discountedSpot = S * (1d + spotShocks[i]) * dividendDiscountFactor;
+                        values[index++] = θ * (discountedSpot * BlackScholesMertonKernel.N(θ * d1) - discountedStrike * BlackScholesMertonKernel.N(θ * d2));
+                    }
+                }
+            }
+            return BlackScholesMertonKernel.price(isCall, S, K, τ, σ, r, q);
+        }
+
+        int index = offset;
+        for (double rateShift : rateShifts) {
+            for (double volatilityShock : volatilityShocks) {
+                double σ_j = Math.max(ScenarioGrid.VOLATILITY_FLOOR, σ + volatilityShock);
+                for (double spotShock : spotShocks) {
+                    double S_i = S * (1d + spotShock);
+                    values[index++] = model == EuropeanModel.BLACK_76
+                        ? Black76Kernel.price(isCall, S_i, K, τ, σ_j, r + rateShift)
+                        : BachelierKernel.price(isCall, S_i, K, τ, σ_j, r + rateShift);
+                }
+            }
+        }
+        return model == EuropeanModel.BLACK_76 ? Black76Kernel.price(isCall, S, K, τ, σ, r) : BachelierKernel.price(isCall, S, K, τ, σ, r);
+    }
+
+    /**
+     * Revalues a contract with a pricing model, creating a spec per scenario.
+     *
+     * @param pricingModel pricing model
+     * @param spec contract
+     * @param grid scenario grid
+     * @param values cube values
+     * @param offset index of the contract's first scenario value
+     * @return unit value without any shocks
+     */
+    static double pricingModel(PricingModel<?> pricingModel, OptionSpec spec, ScenarioGrid grid, double[] values, int offset) {
+        double S = spec.getInitialSpotPrice();
+        double σ = spec.getVolatility();
+        double r = spec.getRiskFreeRate();
+        double[] spotShocks = grid.getSpotShocks();
+        double[] volatilityShocks = grid.getVolatilityShocks();
+        double[] rateShifts = grid.getRateShifts();
+
+        int index = offset;
+        for (double rateShift : rateShifts) {
+            OptionSpec shiftedSpec = spec.withRiskFreeRate(r + rateShift);
+            for (double volatilityShock : volatilityShocks) {
+                double σ_j = Math.max(ScenarioGrid.VOLATILITY_FLOOR, σ + volatilityShock);
+                for (double spotShock : spotShocks) {
+                    values[index++] = pricingModel.price(shiftedSpec.withInitialSpotPriceAndVolatility(S * (1d + spotShock), σ_j));
+                }
+            }
+        }
+        return pricingModel.price(spec);
+    }
+}
@@ -1,6 +1,7 @@
 package dev.peterrhodes.optionpricing.internal.utils;
 
 import dev.peterrhodes.optionpricing.internal.common.EquationInput;
+import dev.peterrhodes.optionpricing.internal.common.FormulaTemplate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -12,6 +13,7 @@ public interface FormulaUtils {
 
     /**
      * Substitute values into an equation, i.e.&nbsp;replaces the variables with their values.
+     * <p>The equation is parsed into a {@link FormulaTemplate} the first time it's substituted with the same keys, and later substitutions are a single pass over the template.</p>
      *
      * @param equation the equation with variables
      * @param values list of values for the variables in the equation
@@ -26,34 +28,7 @@ public interface FormulaUtils {
             throw new IllegalArgumentException("values array can't be empty");
         }
 
-        String substitutedEquation = equation;
-        for (EquationInput value : values) {
-            substitutedEquation = substitute(substitutedEquation, value);
-        }
-        
-        return substitutedEquation;
-    }
-
-    private static String substitute(String equation, EquationInput equationInput) {
-        String key = equationInput.getKey();
-
-        String regex;
-        if (key.matches("^\\w+")) { // key is a word
-            regex = "\\b" + key + "\\b"; // match whole word only
-        } else {
-            regex = key.replaceAll("[\\W]", "\\\\$0"); // escape all non-word characters for the regex
-        }
-
-        String replacement;
-        if (equationInput.hasNumberValue()) {
-            replacement = NumberUtils.precision(equationInput.getNumberValue(), equationInput.getPrecisionDigits(), equationInput.getPrecisionType());
-        } else {
-            replacement = equationInput.getStringValue();
-        }
-        replacement = LatexUtils.subFormula(replacement, equationInput.getLatexDelimeterType());
-        replacement = replacement.replaceAll("\\\\", "\\\\\\\\");
-
-        return equation.replaceAll(regex, replacement);
+        return FormulaTemplate.of(equation, values).render(values);
     }
 
     /**
@@ -0,0 +1,15 @@
+package dev.peterrhodes.optionpricing.internal.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holder of the Gauss-Laguerre rules cached by {@link QuadratureUtils#gaussLaguerre(int)}, keyed by the number of nodes.&nbsp;The fields of an interface are public, so the cache is kept here where only the package can reach it.
+ */
+final class GaussLaguerreCache {
+
+    static final Map<Integer, double[][]> RULES = new ConcurrentHashMap<Integer, double[][]>();
+
+    private GaussLaguerreCache() {
+    }
+}
@@ -1,5 +1,6 @@
 package dev.peterrhodes.optionpricing.internal.utils;
 
+import dev.peterrhodes.optionpricing.internal.instrumentation.Instrumentation;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
@@ -14,6 +15,31 @@ public interface MathUtils {
      */
     BigDecimal PI = new BigDecimal("3.14159265358979323846264338327950288419716939937510");
 
+    /**
+     * Boundary between the erf and erfc rational approximations.
+     */
+    double CODY_THRESHOLD = 0.46875;
+
+    /**
+     * Above this erfc underflows.
+     */
+    double CODY_ERFC_MAX = 26.543;
+
+    /**
+     * Above this erfcx is 1 / (x √π) to double precision.
+     */
+    double CODY_ERFCX_HUGE = 6.71e7;
+
+    /**
+     * Below this erfcx overflows.
+     */
+    double CODY_ERFCX_MIN = -26.628;
+
+    /**
+     * 1 / √π.
+     */
+    double CODY_ONE_OVER_SQRT_PI = 5.6418958354775628695e-1;
+
     /**
      * Calculates the factorial (!) of a non-negative integer.
      *
@@ -79,12 +105,14 @@ public interface MathUtils {
 
     /**
      * Returns the standard normal cumulative distribution function (CDF) evaluated at {@code x}.
+     * <p>Evaluated with the double precision {@link #erfc(double) complementary error function}, so nothing is allocated and the lower tail keeps its relative accuracy.</p>
      *
      * @param x point to evaluate the standard normal CDF at
      * @return standard normal CDF at {@code x}
      */
     static double standardNormalCdf(double x) {
-        return 0.5 * (1d + erf(x / Math.sqrt(2)));
+        Instrumentation.cdfEvaluated();
+        return 0.5 * erfc(-x / Math.sqrt(2d));
     }
 
     /**
@@ -96,4 +124,170 @@ public interface MathUtils {
     static double standardNormalPdf(double x) {
         return Math.exp(-x * x / 2d) / (Math.sqrt(2d * Math.PI));
     }
+
+    /**
+     * Returns the complementary error function ({@code erfc = 1 - erf}) evaluated at {@code x}.
+     * <p>Uses the rational Chebyshev approximations of <a href="https://doi.org/10.1090/S0025-5718-1969-0247736-4">Cody (1969)</a>, which are accurate to double precision and keep their relative accuracy in the tails, i.e.&nbsp;{@code erfc(x)} for large {@code x} doesn't underflow to zero until it's below the smallest double.</p>
+     *
+     * @param x point to evaluate the complementary error function at
+     * @return complementary error function at {@code x}
+     */
+    static double erfc(double x) {
+        double y = Math.abs(x);
+        double result;
+
+        if (y <= CODY_THRESHOLD) {
+            return 1d - codyErf(x, y);
+        } else if (y <= 4d) {
+            result = codyErfcxMid(y) * codyExpNegativeSquare(y);
+        } else if (y >= CODY_ERFC_MAX) {
+            result = 0d;
+        } else {
+            result = codyErfcxTail(y) * codyExpNegativeSquare(y);
+        }
+
+        return x < 0d ? 2d - result : result;
+    }
+
+    /**
+     * Returns the scaled complementary error function ({@code erfcx(x) = exp(x²) erfc(x)}) evaluated at {@code x}.
+     * <p>For large positive {@code x} this behaves like {@code 1 / (x √π)}, so it can be used to evaluate ratios of normal tail probabilities without underflow, see {@link #erfc(double)}.</p>
+     *
+     * @param x point to evaluate the scaled complementary error function at
+     * @return scaled complementary error function at {@code x}
+     */
+    static double erfcx(double x) {
+        double y = Math.abs(x);
+        double result;
+
+        if (y <= CODY_THRESHOLD) {
+            return Math.exp(y * y) * (1d - codyErf(x, y));
+        } else if (y <= 4d) {
+            result = codyErfcxMid(y);
+        } else if (y >= CODY_ERFCX_HUGE) {
+            result = CODY_ONE_OVER_SQRT_PI / y;
+        } else {
+            result = codyErfcxTail(y);
+        }
+
+        if (x < 0d) {
+            if (x < CODY_ERFCX_MIN) {
+                return Double.MAX_VALUE;
+            }
+            double e = codyExpNegativeSquare(y);
+            result = 2d / e - result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the inverse of the standard normal cumulative distribution function (quantile function) evaluated at {@code p}.
+     * <p>Uses the rational approximation of <a href="https://web.archive.org/web/20151030215612/http://home.online.no/~pjacklam/notes/invnorm/">Acklam</a> which has a relative error of less than 1.15e-9, i.e.&nbsp;accurate enough for initial guesses of iterative solvers.</p>
+     *
+     * @param p probability in the open interval (0, 1)
+     * @return {@code x} such that {@code N(x) = p}, {@code -∞} for {@code p = 0} and {@code +∞} for {@code p = 1}
+     * @throws IllegalArgumentException if {@code p} is not in [0, 1]
+     */
+    static double inverseStandardNormalCdf(double p) throws IllegalArgumentException {
+        if (!(p >= 0d && p <= 1d)) {
+            throw new IllegalArgumentException("p must be between zero and one");
+        } else if (p == 0d) {
+            return Double.NEGATIVE_INFINITY;
+        } else if (p == 1d) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final double pLow = 0.02425;
+        if (p < pLow) {
+            double q = Math.sqrt(-2d * Math.log(p));
+            return acklamTail(q);
+        } else if (p > 1d - pLow) {
+            double q = Math.sqrt(-2d * Math.log(1d - p));
+            return -acklamTail(q);
+        }
+
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((-3.969683028665376e+01 * r + 2.209460984245205e+02) * r - 2.759285104469687e+02) * r + 1.383577518672690e+02) * r - 3.066479806614716e+01) * r + 2.506628277459239e+00) * q
+            / (((((-5.447609879822406e+01 * r + 1.615858368580409e+02) * r - 1.556989798598866e+02) * r + 6.680131188771972e+01) * r - 1.328068155288572e+01) * r + 1d);
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private static double acklamTail(double q) {
+        return (((((-7.784894002430293e-03 * q - 3.223964580411365e-01) * q - 2.400758277161838e+00) * q - 2.549732539343734e+00) * q + 4.374664141464968e+00) * q + 2.938163982698783e+00)
+            / ((((7.784695709041462e-03 * q + 3.224671290700398e-01) * q + 2.445134137142996e+00) * q + 3.754408661907416e+00) * q + 1d);
+    }
+
+    /**
+     * erf(x) for |x| ≤ 0.46875.
+     */
+    private static double codyErf(double x, double y) {
+        double ySquared = y > 1.11e-16 ? y * y : 0d;
+        double numerator = 1.85777706184603153e-1 * ySquared;
+        double denominator = ySquared;
+        numerator = (numerator + 3.16112374387056560e00) * ySquared;
+        denominator = (denominator + 2.36012909523441209e01) * ySquared;
+        numerator = (numerator + 1.13864154151050156e02) * ySquared;
+        denominator = (denominator + 2.44024637934444173e02) * ySquared;
+        numerator = (numerator + 3.77485237685302021e02) * ySquared;
+        denominator = (denominator + 1.28261652607737228e03) * ySquared;
+        return x * (numerator + 3.20937758913846947e03) / (denominator + 2.84423683343917062e03);
+    }
+
+    /**
+     * erfcx(y) for 0.46875 < y ≤ 4.
+     */
+    private static double codyErfcxMid(double y) {
+        double numerator = 2.15311535474403846e-8 * y;
+        double denominator = y;
+        numerator = (numerator + 5.64188496988670089e-1) * y;
+        denominator = (denominator + 1.57449261107098347e01) * y;
+        numerator = (numerator + 8.88314979438837594e00) * y;
+        denominator = (denominator + 1.17693950891312499e02) * y;
+        numerator = (numerator + 6.61191906371416295e01) * y;
+        denominator = (denominator + 5.37181101862009858e02) * y;
+        numerator = (numerator + 2.98635138197400131e02) * y;
+        denominator = (denominator + 1.62138957456669019e03) * y;
+        numerator = (numerator + 8.81952221241769090e02) * y;
+        denominator = (denominator + 3.29079923573345963e03) * y;
+        numerator = (numerator + 1.71204761263407058e03) * y;
+        denominator = (denominator + 4.36261909014324716e03) * y;
+        numerator = (numerator + 2.05107837782607147e03) * y;
+        denominator = (denominator + 3.43936767414372164e03) * y;
+        return (numerator + 1.23033935479799725e03) / (denominator + 1.23033935480374942e03);
+    }
+
+    /**
+     * erfcx(y) for y &gt; 4.
+     */
+    private static double codyErfcxTail(double y) {
+        double ySquaredInverse = 1d / (y * y);
+        double numerator = 1.63153871373020978e-2 * ySquaredInverse;
+        double denominator = ySquaredInverse;
+        numerator = (numerator + 3.05326634961232344e-1) * ySquaredInverse;
+        denominator = (denominator + 2.56852019228982242e00) * ySquaredInverse;
+        numerator = (numerator + 3.60344899949804439e-1) * ySquaredInverse;
+        denominator = (denominator + 1.87295284992346725e00) * ySquaredInverse;
+        numerator = (numerator + 1.25781726111229246e-1) * ySquaredInverse;
+        denominator = (denominator + 5.27905102951428412e-1) * ySquaredInverse;
+        numerator = (numerator + 1.60837851487422766e-2) * ySquaredInverse;
+        denominator = (denominator + 6.05183413124413191e-2) * ySquaredInverse;
+        double result = ySquaredInverse * (numerator + 6.58749161529837803e-4) / (denominator + 2.33520497626869185e-3);
+        return (CODY_ONE_OVER_SQRT_PI - result) / y;
+    }
+
+    /**
+     * exp(-y²) evaluated in two parts to avoid the rounding error of squaring y.
+     */
+    private static double codyExpNegativeSquare(double y) {
+        double ySixteenths = Math.floor(y * 16d) / 16d;
+        double delta = (y - ySixteenths) * (y + ySixteenths);
+        return Math.exp(-ySixteenths * ySixteenths) * Math.exp(-delta);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
 }
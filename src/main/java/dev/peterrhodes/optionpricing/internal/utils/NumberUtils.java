@@ -18,16 +18,36 @@ public interface NumberUtils {
      * @throws IllegalStateException if the {@code precisionType} isn't {@link PrecisionType#UNCHANGED} and the {@code digits} is null or less than zero.
      */
     static String precision(Number number, Integer digits, PrecisionType precisionType) throws NullPointerException, IllegalStateException {
+        if (precisionType == PrecisionType.UNCHANGED) {
+            return number.toString();
+        }
+        return precision(number, digits, precisionType, new StringBuilder(24)).toString();
+    }
+
+    /**
+     * Appends a number formatted with a given precision to a builder, producing the same characters as {@link #precision(Number, Integer, PrecisionType)}.
+     * <p>The rounding is done on the shortest decimal digits which uniquely distinguish the {@code double} value (the digits of {@link Double#toString(double)}), like {@link java.util.Formatter} does, but without parsing a format string, only reparsing a number when it has more integer digits than significant figures, and always with a {@code .} decimal separator whatever the default locale.</p>
+     * <p>The characters are the same as {@link java.util.Formatter}'s only up to JDK 18, where both round the digits of {@link Double#toString(double)}.&nbsp;JDK 19 changed {@link Double#toString(double)} to always return the shortest digits (JDK-4511638), so on a later JDK a number whose digits changed, e.g.&nbsp;{@code 2e23}, which was {@code 1.9999999999999998E23}, can round differently in the last place than {@link java.util.Formatter}.</p>
+     *
+     * @param number the number to be formatted
+     * @param digits number of digits of precision, ignored if {@code precisionType} is {@link PrecisionType#UNCHANGED}
+     * @param precisionType type of precision for formatting
+     * @param builder the builder to append to
+     * @return {@code builder}
+     * @throws NullPointerException if the {@code precisionType} is null
+     * @throws IllegalStateException if the {@code precisionType} isn't {@link PrecisionType#UNCHANGED} and the {@code digits} is null or less than zero.
+     */
+    static StringBuilder precision(Number number, Integer digits, PrecisionType precisionType, StringBuilder builder) throws NullPointerException, IllegalStateException {
         precisionArgumentsCheck(digits, precisionType);
 
         switch (precisionType) {
             case DECIMAL_PLACES:
-                return precisionDecimalPlaces(number, digits);
+                return appendDecimalPlaces(builder, number.doubleValue(), digits);
             case SIGNIFICANT_FIGURES:
-                return precisionSignificantFigures(number, digits);
+                return appendSignificantFigures(builder, number.doubleValue(), digits);
             case UNCHANGED:
             default:
-                return number.toString();
+                return builder.append(number.toString());
         }
     }
 
@@ -38,18 +58,145 @@ public interface NumberUtils {
         }
     }
 
-    private static String precisionDecimalPlaces(Number number, Integer digits) {
-        return String.format("%." + digits.toString() + "f", number.doubleValue());
+    private static StringBuilder appendDecimalPlaces(StringBuilder builder, double number, int places) {
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            return builder.append(number);
+        }
+        if (Double.compare(number, 0d) < 0) {
+            builder.append('-');
+        }
+
+        // At most 17 significant digits, plus the zeros of a plain Double.toString before they're stripped
+        char[] digits = new char[24];
+        if (number == 0d) {
+            return appendDecimal(builder, digits, 0, 1, places);
+        }
+        long digitsAndExponent = shortestDigits(Math.abs(number), digits);
+        int decimalExponent = (int) digitsAndExponent;
+
+        long rounded = roundHalfUp(digits, (int) (digitsAndExponent >> 32), decimalExponent, decimalExponent + places);
+        return appendDecimal(builder, digits, (int) (rounded >> 32), (int) rounded, places);
     }
 
-    private static String precisionSignificantFigures(Number number, Integer digits) {
-        String preciseNumber = String.format("%." + digits.toString() + "G", number.doubleValue());
+    private static StringBuilder appendSignificantFigures(StringBuilder builder, double number, int figures) {
+        if (Double.isNaN(number)) {
+            return builder.append("NAN");
+        }
+        boolean isNegative = Double.compare(number, 0d) < 0;
+        if (Double.isInfinite(number)) {
+            return builder.append(isNegative ? "-INFINITY" : "INFINITY");
+        }
+
+        int p = Math.max(1, figures);
+        char[] digits = new char[24];
+        if (number == 0d) {
+            return appendDecimal(isNegative ? builder.append('-') : builder, digits, 0, 1, p - 1);
+        }
+        long digitsAndExponent = shortestDigits(Math.abs(number), digits);
+        long rounded = roundHalfUp(digits, (int) (digitsAndExponent >> 32), (int) digitsAndExponent, p);
+        int n = (int) (rounded >> 32);
+        int decimalExponent = (int) rounded; // number = 0.d₁d₂... × 10^decimalExponent
+        int scientificExponent = decimalExponent - 1;
 
-        // If the amount of digits to the LHS of the decimal place of the number is greater than the precision, then it will be formatted in scientific notation
-        if (preciseNumber.contains("e") || preciseNumber.contains("E")) {
-            preciseNumber = String.format("%.0f", Double.parseDouble(preciseNumber));
+        if (isNegative) {
+            builder.append('-');
         }
+        if (scientificExponent < -4) {
+            // Formatted in scientific notation and reformatted with no decimal places, which is always zero
+            return builder.append('0');
+        } else if (scientificExponent >= p) {
+            // Formatted in scientific notation and reformatted with no decimal places, i.e. the digits of the double nearest the rounded integer
+            double integer = Double.parseDouble(new StringBuilder(n + 6).append(digits, 0, n).append('E').append(decimalExponent - n).toString());
+            if (Double.isInfinite(integer)) {
+                return builder.append("Infinity"); // rounded beyond the largest double
+            }
+            long integerDigitsAndExponent = shortestDigits(integer, digits);
+            return appendDecimal(builder, digits, (int) (integerDigitsAndExponent >> 32), (int) integerDigitsAndExponent, 0);
+        }
+        return appendDecimal(builder, digits, n, decimalExponent, p - decimalExponent);
+    }
 
-        return preciseNumber;
+    /**
+     * Appends {@code 0.d₁d₂...dₙ × 10^decimalExponent} with a number of decimal places, the digits must already be rounded.
+     */
+    private static StringBuilder appendDecimal(StringBuilder builder, char[] digits, int n, int decimalExponent, int places) {
+        if (decimalExponent <= 0) {
+            builder.append('0');
+        } else {
+            for (int i = 0; i < decimalExponent; i++) {
+                builder.append(i < n ? digits[i] : '0');
+            }
+        }
+        if (places > 0) {
+            builder.append('.');
+            for (int k = 0; k < places; k++) {
+                int i = decimalExponent + k;
+                builder.append(i >= 0 && i < n ? digits[i] : '0');
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Writes the shortest digits of a positive finite number without leading or trailing zeros, returning their count in the high 32 bits and the decimal exponent, {@code number = 0.d₁d₂... × 10^exponent}, in the low 32 bits.
+     */
+    private static long shortestDigits(double number, char[] digits) {
+        String shortest = Double.toString(number);
+        int exponentIndex = shortest.indexOf('E');
+        int end = exponentIndex < 0 ? shortest.length() : exponentIndex;
+        int decimalExponent = exponentIndex < 0 ? 0 : Integer.parseInt(shortest.substring(exponentIndex + 1));
+
+        int n = 0;
+        boolean isFraction = false;
+        for (int i = 0; i < end; i++) {
+            char c = shortest.charAt(i);
+            if (c == '.') {
+                isFraction = true;
+            } else {
+                if (!isFraction) {
+                    decimalExponent++;
+                }
+                if (c == '0' && n == 0) {
+                    decimalExponent--; // leading zero
+                } else {
+                    digits[n++] = c;
+                }
+            }
+        }
+        while (n > 1 && digits[n - 1] == '0') {
+            n--;
+        }
+        return ((long) n << 32) | (decimalExponent & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Rounds digits half up to a number of significant digits, returning the new count of digits in the high 32 bits and the decimal exponent, which increases if the rounding carries out of the first digit, in the low 32 bits.&nbsp;A negative number of significant digits isn't rounded.
+     */
+    private static long roundHalfUp(char[] digits, int n, int decimalExponent, int significantDigits) {
+        if (significantDigits >= n || significantDigits < 0) {
+            return ((long) n << 32) | (decimalExponent & 0xFFFFFFFFL);
+        }
+        if (significantDigits == 0) {
+            // Only the first digit is above the precision, so it rounds to a single 1 or to nothing
+            if (digits[0] >= '5') {
+                digits[0] = '1';
+                return (1L << 32) | ((decimalExponent + 1) & 0xFFFFFFFFL);
+            }
+            return decimalExponent & 0xFFFFFFFFL;
+        }
+        if (digits[significantDigits] < '5') {
+            return ((long) significantDigits << 32) | (decimalExponent & 0xFFFFFFFFL);
+        }
+
+        int i = significantDigits - 1;
+        while (i >= 0 && digits[i] == '9') {
+            i--;
+        }
+        if (i < 0) {
+            digits[0] = '1';
+            return (1L << 32) | ((decimalExponent + 1) & 0xFFFFFFFFL);
+        }
+        digits[i]++;
+        return ((long) (i + 1) << 32) | (decimalExponent & 0xFFFFFFFFL);
     }
 }
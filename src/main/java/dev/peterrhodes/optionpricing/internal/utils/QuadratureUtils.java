@@ -0,0 +1,88 @@
+package dev.peterrhodes.optionpricing.internal.utils;
+
+/**
+ * Numerical integration rules.&nbsp;The nodes and weights are expensive to compute relative to evaluating an integral with them, so they're cached by the number of nodes.
+ */
+public interface QuadratureUtils {
+
+    /**
+     * Maximum number of Newton iterations for a Gauss-Laguerre node.
+     */
+    int GAUSS_LAGUERRE_MAX_ITERATIONS = 100;
+
+    /**
+     * Binary exponent above which the Laguerre polynomial recurrence is scaled down, as its values grow like {@code e^(x/2)} at the largest nodes.
+     */
+    int GAUSS_LAGUERRE_RESCALE_EXPONENT = 256;
+
+    /**
+     * Returns the nodes and weights of the {@code n}-point Gauss-Laguerre rule for {@code ∫₀^∞ f(x) dx}.
+     * <p>The weights returned are the classical weights multiplied by {@code e^x}, i.e.&nbsp;{@code ∫₀^∞ f(x) dx ≈ Σ wᵢ f(xᵢ)} for an integrand that decays roughly exponentially.&nbsp;They're computed in log space, so they stay finite when {@code e^x} overflows at the largest nodes of a rule with more than about 180 nodes.&nbsp;The arrays are shared between callers and must not be modified.</p>
+     *
+     * @param n number of nodes
+     * @return two arrays: the nodes ({@code [0]}) and the weights ({@code [1]})
+     * @throws IllegalArgumentException if {@code n} is not greater than zero
+     */
+    static double[][] gaussLaguerre(int n) throws IllegalArgumentException {
+        ValidationUtils.checkGreaterThanZero(n, "n");
+        return GaussLaguerreCache.RULES.computeIfAbsent(n, QuadratureUtils::computeGaussLaguerre);
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    /**
+     * Nodes are the roots of the Laguerre polynomial {@code Lₙ}, found with Newton iterations from the initial guesses in Numerical Recipes (Press et al., 2007, section 4.6).
+     */
+    private static double[][] computeGaussLaguerre(int n) {
+        double[] nodes = new double[n];
+        double[] weights = new double[n];
+        double z = 0d;
+        for (int i = 0; i < n; i++) {
+            if (i == 0) {
+                z = 3d / (1d + 2.4 * n);
+            } else if (i == 1) {
+                z += 15d / (1d + 2.5 * n);
+            } else {
+                double ai = i - 1;
+                z += ((1d + 2.55 * ai) / (1.9 * ai)) * (z - nodes[i - 2]);
+            }
+
+            double derivative = 0d;
+            double previous = 0d;
+            int exponentShift = 0;
+            for (int iteration = 0; iteration < GAUSS_LAGUERRE_MAX_ITERATIONS; iteration++) {
+                // Recurrence for Lₙ(z) and Lₙ₋₁(z), both scaled by 2^-exponentShift, which doesn't change the Newton step
+                double current = 1d;
+                previous = 0d;
+                exponentShift = 0;
+                for (int j = 1; j <= n; j++) {
+                    double beforePrevious = previous;
+                    previous = current;
+                    current = ((2 * j - 1 - z) * previous - (j - 1) * beforePrevious) / j;
+                    if (Math.getExponent(current) > GAUSS_LAGUERRE_RESCALE_EXPONENT) {
+                        current = Math.scalb(current, -GAUSS_LAGUERRE_RESCALE_EXPONENT);
+                        previous = Math.scalb(previous, -GAUSS_LAGUERRE_RESCALE_EXPONENT);
+                        exponentShift += GAUSS_LAGUERRE_RESCALE_EXPONENT;
+                    }
+                }
+                derivative = n * (current - previous) / z;
+
+                double zPrevious = z;
+                z = zPrevious - current / derivative;
+                if (Math.abs(z - zPrevious) <= 1e-14 * Math.max(1d, Math.abs(z))) {
+                    break;
+                }
+            }
+
+            nodes[i] = z;
+            // wᵢ = -1 / (n Lₙ'(xᵢ) Lₙ₋₁(xᵢ)), then multiplied by e^xᵢ, in log space as e^xᵢ overflows for the largest nodes
+            weights[i] = Math.exp(z - Math.log(Math.abs(derivative * n * previous)) - 2d * exponentShift * Math.log(2d));
+        }
+
+        return new double[][] { nodes, weights };
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -0,0 +1,75 @@
+package dev.peterrhodes.optionpricing.internal.utils;
+
+/**
+ * Miscellaneous utility methods for order statistics.
+ */
+public interface SelectionUtils {
+
+    /**
+     * Partially orders an array so that {@code values[k]} is the {@code k}th smallest value (zero based), every value before it is less than or equal to it and every value after it is greater than or equal to it.
+     * <p>Uses quickselect with a median of three pivot, i.e.&nbsp;an expected linear number of comparisons instead of the {@code n log n} of a full sort, and nothing is allocated.</p>
+     *
+     * @param values the values to be partially ordered in place, which mustn't contain {@link Double#NaN}
+     * @param k index of the order statistic
+     * @return the {@code k}th smallest value
+     * @throws IllegalArgumentException if {@code k} is not a valid index of {@code values}
+     */
+    static double select(double[] values, int k) throws IllegalArgumentException {
+        if (k < 0 || k >= values.length) {
+            throw new IllegalArgumentException("k must be a valid index of values");
+        }
+
+        int left = 0;
+        int right = values.length - 1;
+        while (right > left) {
+            // Median of three, which also leaves values[left] <= pivot <= values[right] as sentinels
+            int middle = (left + right) >>> 1;
+            if (values[middle] < values[left]) {
+                swap(values, middle, left);
+            }
+            if (values[right] < values[left]) {
+                swap(values, right, left);
+            }
+            if (values[right] < values[middle]) {
+                swap(values, right, middle);
+            }
+            double pivot = values[middle];
+
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i++, j--);
+                }
+            }
+
+            // values[left..j] <= pivot <= values[i..right], and anything between them equals the pivot
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+        return values[k];
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private static void swap(double[] values, int i, int j) {
+        double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
@@ -0,0 +1,59 @@
+package dev.peterrhodes.optionpricing.internal.utils;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Miscellaneous utility methods for running tasks on a thread pool.
+ */
+public interface TaskUtils {
+
+    /**
+     * Runs tasks on a fixed pool of threads, created for the call and shut down before it returns, so no more than {@code parallelism} threads are ever used.
+     *
+     * @param tasks tasks to run
+     * @param parallelism maximum number of threads, fewer if there are fewer tasks
+     * @param activity what the tasks are doing, added to the exception message if the calling thread is interrupted
+     * @throws IllegalStateException if the calling thread is interrupted, with its interrupt status set again, or a task threw a checked exception
+     */
+    static void invokeAll(List<? extends Callable<Void>> tasks, int parallelism, String activity) throws IllegalStateException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, tasks.size())));
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                join(future);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while " + activity, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for a task, rethrowing whatever it threw.
+     *
+     * @param <T> result type
+     * @param future task to wait for
+     * @return result of the task
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     * @throws IllegalStateException if the task threw a checked exception, which is the cause
+     */
+    static <T> T join(Future<T> future) throws InterruptedException, IllegalStateException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -40,4 +40,13 @@ public interface ValidationUtils {
             throw new IllegalArgumentException(description + " must be greater than zero");
         }
     }
+
+    /**
+     * Checks whether a primitive number is greater than zero, without boxing it.
+     */
+    static void checkGreaterThanZero(double number, String description) throws IllegalArgumentException {
+        if (number <= 0) {
+            throw new IllegalArgumentException(description + " must be greater than zero");
+        }
+    }
 }
@@ -1,13 +1,19 @@
 package dev.peterrhodes.optionpricing.models;
 
 import dev.peterrhodes.optionpricing.internal.utils.CopyUtils;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
 
 /**
  * Model of an analytic option calculation.
+ * <p>The calculations of the analytic options are rendered lazily, i.e.&nbsp;a step's LaTeX is only built the first time it's read, by any of the getters or {@link #appendAlign(Appendable)}, and then it's memoized, so reading a single step with {@link #getStep(int)} or {@link #getStepPart(int, int)} doesn't render the others and no step is rendered twice.&nbsp;The getters return the memoized arrays rather than copies, which mustn't be modified.&nbsp;The model is immutable and safe to share between threads.</p>
  */
 public final class AnalyticCalculation {
 
-    private String[][] steps;
+    private final List<Supplier<String[]>> stepSuppliers;
+    private final AtomicReferenceArray<String[]> steps;
 
     /**
      * Creates a model for the results of a analytic option calculation.
@@ -15,21 +21,124 @@ public final class AnalyticCalculation {
      * @param steps The steps of the calculation written as LaTeX mathematical expressions.&nbsp;Each step is split into parts based on the equals sign.
      */
     public AnalyticCalculation(String[][] steps) {
-        this.steps = CopyUtils.deepCopy(steps);
+        this.stepSuppliers = null;
+        this.steps = new AtomicReferenceArray<String[]>(CopyUtils.deepCopy(steps));
+    }
+
+    /**
+     * Creates a model for the results of a analytic option calculation whose steps are rendered when they're first read.
+     *
+     * @param stepSuppliers Suppliers of the steps of the calculation written as LaTeX mathematical expressions, which must always supply the same step.&nbsp;Each step is split into parts based on the equals sign.
+     */
+    public AnalyticCalculation(List<Supplier<String[]>> stepSuppliers) {
+        this.stepSuppliers = List.copyOf(stepSuppliers);
+        this.steps = new AtomicReferenceArray<String[]>(stepSuppliers.size());
     }
 
     //region getters
     //----------------------------------------------------------------------
 
     /**
-     * Get steps.
+     * Get steps, rendering the steps which haven't been read before.
      *
-     * @return steps
+     * @return steps, the memoized arrays of which mustn't be modified
      */
     public String[][] getSteps() {
-        return CopyUtils.deepCopy(this.steps);
+        String[][] steps = new String[this.steps.length()][];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = this.step(i);
+        }
+        return steps;
+    }
+
+    /**
+     * Get stepCount.
+     *
+     * @return number of steps
+     */
+    public int getStepCount() {
+        return this.steps.length();
+    }
+
+    /**
+     * Returns a single step, rendering it if it hasn't been read before.
+     *
+     * @param i index of the step
+     * @return the parts of the step, the memoized array of which mustn't be modified
+     * @throws IndexOutOfBoundsException if {@code i} isn't the index of a step
+     */
+    public String[] getStep(int i) throws IndexOutOfBoundsException {
+        return this.step(i);
+    }
+
+    /**
+     * Returns a single part of a step, e.g.&nbsp;the last part is its value.
+     *
+     * @param i index of the step
+     * @param part index of the part
+     * @return the part of the step
+     * @throws IndexOutOfBoundsException if {@code i} isn't the index of a step or {@code part} isn't the index of one of its parts
+     */
+    public String getStepPart(int i, int part) throws IndexOutOfBoundsException {
+        return this.step(i)[part];
     }
 
     //----------------------------------------------------------------------
     //endregion getters
+
+    //region LaTeX output
+    //----------------------------------------------------------------------
+
+    /**
+     * Writes the steps as a LaTeX {@code align*} environment, with the parts of each step joined by an equals sign and aligned at the start of the line, i.e.&nbsp;{@code \begin{align*} & a = b \\& c = d \\ \end{align*}}.
+     * <p>The parts are appended one at a time rather than joined into a string first, so writing the calculations of many options to a {@link java.io.Writer} doesn't build a string per calculation.&nbsp;Steps which haven't been read yet are rendered and memoized like any other read.</p>
+     *
+     * @param <A> type of the appendable
+     * @param appendable where to write the LaTeX, e.g.&nbsp;a {@link java.io.Writer} or a {@link StringBuilder}
+     * @return {@code appendable}
+     * @throws IOException if {@code appendable} throws an {@link IOException}
+     */
+    public <A extends Appendable> A appendAlign(A appendable) throws IOException {
+        appendable.append("\\begin{align*} ");
+        for (int i = 0; i < this.steps.length(); i++) {
+            appendable.append("& ");
+            String[] step = this.step(i);
+            for (int part = 0; part < step.length; part++) {
+                if (part > 0) {
+                    appendable.append(" = ");
+                }
+                appendable.append(step[part]);
+            }
+            appendable.append(" \\\\");
+        }
+        appendable.append(" \\end{align*}");
+        return appendable;
+    }
+
+    /**
+     * Returns the steps as a LaTeX {@code align*} environment, as written by {@link #appendAlign(Appendable)}.
+     *
+     * @return LaTeX of the calculation
+     */
+    public String toAlign() {
+        StringBuilder builder = new StringBuilder(256 * this.steps.length());
+        try {
+            return this.appendAlign(builder).toString();
+        } catch (IOException e) {
+            throw new AssertionError(e); // a StringBuilder doesn't throw
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion LaTeX output
+
+    private String[] step(int i) {
+        String[] step = this.steps.get(i);
+        if (step == null) {
+            // A step rendered concurrently is equal, so the first one set is kept
+            this.steps.compareAndSet(i, null, this.stepSuppliers.get(i).get());
+            step = this.steps.get(i);
+        }
+        return step;
+    }
 }
@@ -0,0 +1,69 @@
+package dev.peterrhodes.optionpricing.models;
+
+/**
+ * Model for the details of an option price calculation performed with the <a href="https://doi.org/10.1137/080718061">Fang and Oosterlee (2008)</a> Fourier-cosine series expansion.
+ */
+public final class FourierCosine {
+
+    private double lowerTruncation;
+    private double upperTruncation;
+    private int terms;
+    private double price;
+
+    /**
+     * Creates a model for the details of the Fourier-cosine option price calculation.
+     *
+     * @param lowerTruncation (a) lower end of the truncation range of {@code ln(S_τ / K)}.
+     * @param upperTruncation (b) upper end of the truncation range of {@code ln(S_τ / K)}.
+     * @param terms Number of terms in the cosine series.
+     * @param price Option price.
+     */
+    public FourierCosine(double lowerTruncation, double upperTruncation, int terms, double price) {
+        this.lowerTruncation = lowerTruncation;
+        this.upperTruncation = upperTruncation;
+        this.terms = terms;
+        this.price = price;
+    }
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    /**
+     * Get lowerTruncation.
+     *
+     * @return lowerTruncation
+     */
+    public double getLowerTruncation() {
+        return this.lowerTruncation;
+    }
+
+    /**
+     * Get upperTruncation.
+     *
+     * @return upperTruncation
+     */
+    public double getUpperTruncation() {
+        return this.upperTruncation;
+    }
+
+    /**
+     * Get terms.
+     *
+     * @return terms
+     */
+    public int getTerms() {
+        return this.terms;
+    }
+
+    /**
+     * Get price.
+     *
+     * @return price
+     */
+    public double getPrice() {
+        return this.price;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+}
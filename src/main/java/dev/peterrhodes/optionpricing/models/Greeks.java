@@ -0,0 +1,93 @@
+package dev.peterrhodes.optionpricing.models;
+
+/**
+ * Model for the value and Greeks of a position or an aggregate of positions, i.e.&nbsp;the quantity weighted sums of the option values and Greeks.
+ */
+public final class Greeks {
+
+    private double value;
+    private double delta;
+    private double gamma;
+    private double vega;
+    private double theta;
+    private double rho;
+
+    /**
+     * Creates the value and Greeks of a position or an aggregate.
+     *
+     * @param value Value.
+     * @param delta Delta (Δ).
+     * @param gamma Gamma (Γ).
+     * @param vega Vega.
+     * @param theta Theta (Θ).
+     * @param rho Rho (ρ).
+     */
+    public Greeks(double value, double delta, double gamma, double vega, double theta, double rho) {
+        this.value = value;
+        this.delta = delta;
+        this.gamma = gamma;
+        this.vega = vega;
+        this.theta = theta;
+        this.rho = rho;
+    }
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    /**
+     * Get value.
+     *
+     * @return value
+     */
+    public double getValue() {
+        return this.value;
+    }
+
+    /**
+     * Get delta.
+     *
+     * @return delta
+     */
+    public double getDelta() {
+        return this.delta;
+    }
+
+    /**
+     * Get gamma.
+     *
+     * @return gamma
+     */
+    public double getGamma() {
+        return this.gamma;
+    }
+
+    /**
+     * Get vega.
+     *
+     * @return vega
+     */
+    public double getVega() {
+        return this.vega;
+    }
+
+    /**
+     * Get theta.
+     *
+     * @return theta
+     */
+    public double getTheta() {
+        return this.theta;
+    }
+
+    /**
+     * Get rho.
+     *
+     * @return rho
+     */
+    public double getRho() {
+        return this.rho;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+}
@@ -0,0 +1,105 @@
+package dev.peterrhodes.optionpricing.models;
+
+/**
+ * Model for the details of an option price calculation performed with the <a href="https://doi.org/10.1093/rfs/6.2.327">Heston (1993)</a> stochastic volatility model.
+ */
+public final class Heston {
+
+    private double kappa;
+    private double theta;
+    private double xi;
+    private double rho;
+    private double v0;
+    private int integrationNodes;
+    private double price;
+
+    /**
+     * Creates a model for the details of the Heston option price calculation.
+     *
+     * @param kappa (κ) rate at which the variance reverts to its long run mean.
+     * @param theta (θ) long run mean of the variance.
+     * @param xi (ξ) volatility of the variance.
+     * @param rho (ρ) correlation between the underlying asset price and its variance.
+     * @param v0 (v₀) initial variance.
+     * @param integrationNodes Number of Gauss-Laguerre nodes used to integrate the characteristic function.
+     * @param price Option price.
+     */
+    public Heston(double kappa, double theta, double xi, double rho, double v0, int integrationNodes, double price) {
+        this.kappa = kappa;
+        this.theta = theta;
+        this.xi = xi;
+        this.rho = rho;
+        this.v0 = v0;
+        this.integrationNodes = integrationNodes;
+        this.price = price;
+    }
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    /**
+     * Get kappa.
+     *
+     * @return kappa
+     */
+    public double getKappa() {
+        return this.kappa;
+    }
+
+    /**
+     * Get theta.
+     *
+     * @return theta
+     */
+    public double getTheta() {
+        return this.theta;
+    }
+
+    /**
+     * Get xi.
+     *
+     * @return xi
+     */
+    public double getXi() {
+        return this.xi;
+    }
+
+    /**
+     * Get rho.
+     *
+     * @return rho
+     */
+    public double getRho() {
+        return this.rho;
+    }
+
+    /**
+     * Get v0.
+     *
+     * @return v0
+     */
+    public double getV0() {
+        return this.v0;
+    }
+
+    /**
+     * Get integrationNodes.
+     *
+     * @return integrationNodes
+     */
+    public int getIntegrationNodes() {
+        return this.integrationNodes;
+    }
+
+    /**
+     * Get price.
+     *
+     * @return price
+     */
+    public double getPrice() {
+        return this.price;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+}
@@ -0,0 +1,163 @@
+package dev.peterrhodes.optionpricing.models;
+
+import dev.peterrhodes.optionpricing.internal.common.CoxRossRubinsteinLayout;
+import dev.peterrhodes.optionpricing.internal.common.MappedFile;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Model for the details of a Cox, Ross, and Rubinstein option price calculation whose nodes are stored in a memory-mapped file rather than on the heap, e.g.&nbsp;a tree with tens of thousands of time steps and over a billion nodes.
+ * <p>The file has the layout of an unindexed, not delta encoded {@link dev.peterrhodes.optionpricing.CalculationCodec} encoding, i.e.&nbsp;a header with the parameters, the exercised bitmap, then the asset price and option value columns, so it can be opened by other processes and, if it's under 2 GiB, read with {@link dev.peterrhodes.optionpricing.CalculationCodec#readCoxRossRubinstein(FileChannel, long)}.&nbsp;The file is mapped in segments, so the heap used doesn't depend on the number of time steps.</p>
+ */
+public final class MappedCoxRossRubinstein {
+
+    private final MappedFile file;
+    private final int timeSteps;
+    private final double deltat;
+    private final double u;
+    private final double d;
+    private final double p;
+
+    /**
+     * Opens a file written by {@link dev.peterrhodes.optionpricing.MappedLattices#coxRossRubinstein}, mapping it read-only.
+     *
+     * @param path path of the file
+     * @throws IllegalArgumentException if the file doesn't contain an unindexed, not delta encoded calculation of a supported version
+     * @throws IOException if the file can't be opened or mapped
+     */
+    public MappedCoxRossRubinstein(Path path) throws IllegalArgumentException, IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.file = MappedFile.map(channel, FileChannel.MapMode.READ_ONLY, channel.size(), MappedFile.DEFAULT_SEGMENT_SHIFT);
+        }
+        if (this.file.size() < 48 || this.file.getInt(0) != CoxRossRubinsteinLayout.MAGIC || this.file.get(4) != CoxRossRubinsteinLayout.VERSION || this.file.get(5) != 0) {
+            throw new IllegalArgumentException("file doesn't contain a mapped CoxRossRubinstein calculation");
+        }
+        this.timeSteps = this.file.getInt(8);
+        this.deltat = this.file.getDouble(16);
+        this.u = this.file.getDouble(24);
+        this.d = this.file.getDouble(32);
+        this.p = this.file.getDouble(40);
+        if (this.timeSteps < 0 || this.timeSteps > CoxRossRubinsteinLayout.MAX_TIME_STEPS || this.file.size() < CoxRossRubinsteinLayout.size(this.timeSteps)) {
+            throw new IllegalArgumentException("file doesn't contain a mapped CoxRossRubinstein calculation");
+        }
+    }
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    /**
+     * Get timeSteps.
+     *
+     * @return timeSteps
+     */
+    public int getTimeSteps() {
+        return this.timeSteps;
+    }
+
+    /**
+     * Get deltat.
+     *
+     * @return deltat
+     */
+    public double getDeltat() {
+        return this.deltat;
+    }
+
+    /**
+     * Get u.
+     *
+     * @return u
+     */
+    public double getU() {
+        return this.u;
+    }
+
+    /**
+     * Get d.
+     *
+     * @return d
+     */
+    public double getD() {
+        return this.d;
+    }
+
+    /**
+     * Get p.
+     *
+     * @return p
+     */
+    public double getP() {
+        return this.p;
+    }
+
+    /**
+     * Get nodeCount.
+     * <p>The node count is derived from the number of time steps, so it can be greater than {@link Integer#MAX_VALUE}, in which case the node count field of the header is {@code -1}.</p>
+     *
+     * @return number of nodes
+     */
+    public long getNodeCount() {
+        return CoxRossRubinsteinLayout.nodeCount(this.timeSteps);
+    }
+
+    /**
+     * Returns a node of the tree.
+     *
+     * @param i time step position
+     * @param j asset price position for the time step
+     * @return node
+     * @throws IndexOutOfBoundsException if {@code (i, j)} isn't a node of the tree
+     */
+    public CoxRossRubinstein.Node getNode(int i, int j) throws IndexOutOfBoundsException {
+        return new CoxRossRubinstein.Node(i, j, this.getS(i, j), this.getV(i, j), this.getExercised(i, j));
+    }
+
+    /**
+     * Returns the asset price at a node.
+     *
+     * @param i time step position
+     * @param j asset price position for the time step
+     * @return S
+     * @throws IndexOutOfBoundsException if {@code (i, j)} isn't a node of the tree
+     */
+    public double getS(int i, int j) throws IndexOutOfBoundsException {
+        return this.file.getDouble(CoxRossRubinsteinLayout.sOffset(this.timeSteps, this.index(i, j)));
+    }
+
+    /**
+     * Returns the option value at a node.
+     *
+     * @param i time step position
+     * @param j asset price position for the time step
+     * @return V
+     * @throws IndexOutOfBoundsException if {@code (i, j)} isn't a node of the tree
+     */
+    public double getV(int i, int j) throws IndexOutOfBoundsException {
+        return this.file.getDouble(CoxRossRubinsteinLayout.vOffset(this.timeSteps, this.index(i, j)));
+    }
+
+    /**
+     * Returns whether the option was exercised at a node.
+     *
+     * @param i time step position
+     * @param j asset price position for the time step
+     * @return exercised
+     * @throws IndexOutOfBoundsException if {@code (i, j)} isn't a node of the tree
+     */
+    public boolean getExercised(int i, int j) throws IndexOutOfBoundsException {
+        long k = this.index(i, j);
+        return (this.file.get(CoxRossRubinsteinLayout.BITMAP_OFFSET + (k >>> 3)) & (1 << (k & 7))) != 0;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+
+    private long index(int i, int j) {
+        if (i < 0 || i > this.timeSteps || j < 0 || j > i) {
+            throw new IndexOutOfBoundsException("(i, j) must be a node of the tree");
+        }
+        return CoxRossRubinsteinLayout.index(i, j);
+    }
+}
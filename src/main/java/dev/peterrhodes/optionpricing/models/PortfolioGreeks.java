@@ -0,0 +1,87 @@
+package dev.peterrhodes.optionpricing.models;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Model for the Greeks of a {@link dev.peterrhodes.optionpricing.Portfolio} aggregated per underlying and per expiry bucket.
+ * <p>Expiry bucket {@code b} holds the positions whose time to maturity is greater than boundary {@code b - 1} and at most boundary {@code b}, the last bucket holds the positions beyond the last boundary.</p>
+ */
+public final class PortfolioGreeks {
+
+    private Greeks total;
+    private Map<String, Greeks> underlyings;
+    private Map<String, Greeks[]> expiryBuckets;
+    private double[] expiryBucketBoundaries;
+
+    /**
+     * Creates the aggregated Greeks of a portfolio.
+     *
+     * @param total Greeks of the whole portfolio.
+     * @param underlyings Greeks of each underlying, in the order they were added to the portfolio.
+     * @param expiryBuckets Greeks of each expiry bucket of each underlying.
+     * @param expiryBucketBoundaries Upper bounds of the expiry buckets in years, in ascending order.
+     */
+    public PortfolioGreeks(Greeks total, Map<String, Greeks> underlyings, Map<String, Greeks[]> expiryBuckets, double[] expiryBucketBoundaries) {
+        this.total = total;
+        this.underlyings = Collections.unmodifiableMap(new LinkedHashMap<>(underlyings));
+        this.expiryBuckets = Collections.unmodifiableMap(new LinkedHashMap<>(expiryBuckets));
+        this.expiryBucketBoundaries = expiryBucketBoundaries.clone();
+    }
+
+    /**
+     * Get the Greeks of an underlying.
+     *
+     * @param underlying underlying identifier
+     * @return Greeks, or {@code null} if the portfolio has no positions on the underlying
+     */
+    public Greeks getUnderlying(String underlying) {
+        return this.underlyings.get(underlying);
+    }
+
+    /**
+     * Get the Greeks of an expiry bucket of an underlying.
+     *
+     * @param underlying underlying identifier
+     * @param bucket expiry bucket index
+     * @return Greeks, or {@code null} if the portfolio has no positions on the underlying
+     */
+    public Greeks getExpiryBucket(String underlying, int bucket) {
+        Greeks[] buckets = this.expiryBuckets.get(underlying);
+        return buckets == null ? null : buckets[bucket];
+    }
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    /**
+     * Get total.
+     *
+     * @return total
+     */
+    public Greeks getTotal() {
+        return this.total;
+    }
+
+    /**
+     * Get underlyings.
+     *
+     * @return underlyings
+     */
+    public Map<String, Greeks> getUnderlyings() {
+        return this.underlyings;
+    }
+
+    /**
+     * Get expiryBucketBoundaries.
+     *
+     * @return expiryBucketBoundaries
+     */
+    public double[] getExpiryBucketBoundaries() {
+        return this.expiryBucketBoundaries.clone();
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+}
@@ -0,0 +1,79 @@
+package dev.peterrhodes.optionpricing.models;
+
+/**
+ * Model for a point in time copy of the statistics of a {@link dev.peterrhodes.optionpricing.PricingCache}.
+ */
+public final class PricingCacheStats {
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private int size;
+
+    /**
+     * Creates the statistics of a pricing cache.
+     *
+     * @param hits Number of lookups which found a cached result.
+     * @param misses Number of lookups which calculated the result.
+     * @param evictions Number of results removed because the cache was full or they expired.
+     * @param size Number of cached results.
+     */
+    public PricingCacheStats(long hits, long misses, long evictions, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    /**
+     * Returns the fraction of lookups which found a cached result.
+     *
+     * @return hit ratio between 0 and 1, or zero if there haven't been any lookups
+     */
+    public double getHitRatio() {
+        long lookups = this.hits + this.misses;
+        return lookups == 0L ? 0d : this.hits / (double) lookups;
+    }
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    /**
+     * Get hits.
+     *
+     * @return hits
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Get misses.
+     *
+     * @return misses
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Get evictions.
+     *
+     * @return evictions
+     */
+    public long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Get size.
+     *
+     * @return size
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+}
@@ -0,0 +1,195 @@
+package dev.peterrhodes.optionpricing.models;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Model for a point in time copy of the metrics recorded by a {@link dev.peterrhodes.optionpricing.PricingMetrics}.
+ */
+public final class PricingMetricsSnapshot {
+
+    /**
+     * Snapshot without any metrics.
+     */
+    public static final PricingMetricsSnapshot EMPTY = new PricingMetricsSnapshot(Collections.emptyMap(), 0L);
+
+    private Map<String, Operation> operations;
+    private long cdfEvaluations;
+
+    /**
+     * Creates a snapshot of the pricing metrics.
+     *
+     * @param operations Metrics of each operation keyed by its name.
+     * @param cdfEvaluations Number of standard normal CDF evaluations.
+     */
+    public PricingMetricsSnapshot(Map<String, Operation> operations, long cdfEvaluations) {
+        this.operations = Collections.unmodifiableMap(new TreeMap<>(operations));
+        this.cdfEvaluations = cdfEvaluations;
+    }
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    /**
+     * Get operations, sorted by name.
+     *
+     * @return operations
+     */
+    public Map<String, Operation> getOperations() {
+        return this.operations;
+    }
+
+    /**
+     * Get the metrics of an operation.
+     *
+     * @param name name of the operation, e.g.&nbsp;{@code CoxRossRubinstein.price}
+     * @return operation metrics, or {@code null} if the operation hasn't been recorded
+     */
+    public Operation getOperation(String name) {
+        return this.operations.get(name);
+    }
+
+    /**
+     * Get cdfEvaluations.
+     *
+     * @return cdfEvaluations
+     */
+    public long getCdfEvaluations() {
+        return this.cdfEvaluations;
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+
+    /**
+     * Metrics of a single operation, i.e.&nbsp;an entry point of a model.&nbsp;The latency distribution is given by the upper bounds of the non-empty histogram buckets and their counts.
+     */
+    public static final class Operation {
+
+        private long calls;
+        private long totalNanos;
+        private long maxNanos;
+        private long latticeNodes;
+        private long[] bucketUpperBounds;
+        private long[] bucketCounts;
+
+        /**
+         * Creates the metrics of an operation.
+         *
+         * @param calls Number of calls.
+         * @param totalNanos Total time taken by the calls in nanoseconds.
+         * @param maxNanos Longest call in nanoseconds.
+         * @param latticeNodes Total number of lattice nodes evaluated.
+         * @param bucketUpperBounds Inclusive upper bounds of the latency histogram buckets in nanoseconds, in ascending order.
+         * @param bucketCounts Number of calls in each latency histogram bucket.
+         * @throws IllegalArgumentException if {@code bucketUpperBounds} and {@code bucketCounts} aren't the same length
+         */
+        public Operation(long calls, long totalNanos, long maxNanos, long latticeNodes, long[] bucketUpperBounds, long[] bucketCounts) throws IllegalArgumentException {
+            if (bucketUpperBounds.length != bucketCounts.length) {
+                throw new IllegalArgumentException("bucketUpperBounds and bucketCounts must be the same length");
+            }
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.latticeNodes = latticeNodes;
+            this.bucketUpperBounds = bucketUpperBounds.clone();
+            this.bucketCounts = bucketCounts.clone();
+        }
+
+        /**
+         * Returns the latency at a percentile, i.e.&nbsp;the upper bound of the histogram bucket the percentile falls in, capped at the longest call.
+         *
+         * @param percentile percentile between 0 and 100
+         * @return latency in nanoseconds, or zero if there are no calls
+         * @throws IllegalArgumentException if {@code percentile} is not between 0 and 100
+         */
+        public long getLatencyNanos(double percentile) throws IllegalArgumentException {
+            if (!(percentile >= 0d && percentile <= 100d)) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100");
+            }
+
+            long total = Arrays.stream(this.bucketCounts).sum();
+            long rank = Math.max(1L, (long) Math.ceil(percentile / 100d * total));
+            long cumulative = 0L;
+            for (int i = 0; i < this.bucketCounts.length; i++) {
+                cumulative += this.bucketCounts[i];
+                if (cumulative >= rank) {
+                    return Math.min(this.bucketUpperBounds[i], this.maxNanos);
+                }
+            }
+
+            return 0L;
+        }
+
+        /**
+         * Returns the mean latency.
+         *
+         * @return mean latency in nanoseconds, or zero if there are no calls
+         */
+        public double getMeanNanos() {
+            return this.calls == 0L ? 0d : this.totalNanos / (double) this.calls;
+        }
+
+        //region getters
+        //----------------------------------------------------------------------
+
+        /**
+         * Get calls.
+         *
+         * @return calls
+         */
+        public long getCalls() {
+            return this.calls;
+        }
+
+        /**
+         * Get totalNanos.
+         *
+         * @return totalNanos
+         */
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        /**
+         * Get maxNanos.
+         *
+         * @return maxNanos
+         */
+        public long getMaxNanos() {
+            return this.maxNanos;
+        }
+
+        /**
+         * Get latticeNodes.
+         *
+         * @return latticeNodes
+         */
+        public long getLatticeNodes() {
+            return this.latticeNodes;
+        }
+
+        /**
+         * Get bucketUpperBounds.
+         *
+         * @return bucketUpperBounds
+         */
+        public long[] getBucketUpperBounds() {
+            return this.bucketUpperBounds.clone();
+        }
+
+        /**
+         * Get bucketCounts.
+         *
+         * @return bucketCounts
+         */
+        public long[] getBucketCounts() {
+            return this.bucketCounts.clone();
+        }
+
+        //----------------------------------------------------------------------
+        //endregion getters
+    }
+}
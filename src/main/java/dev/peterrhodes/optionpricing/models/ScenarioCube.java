@@ -0,0 +1,157 @@
+package dev.peterrhodes.optionpricing.models;
+
+import dev.peterrhodes.optionpricing.ScenarioGrid;
+
+/**
+ * Model for the values of a book of options under every scenario of a {@link ScenarioGrid}.
+ * <p>The unit values are held in a single {@code double[]} indexed by {@code contract * scenarios + scenario}, and the aggregations are single passes over it, weighted by the position quantities.</p>
+ */
+public final class ScenarioCube {
+
+    private ScenarioGrid grid;
+    private double[] quantities;
+    private double[] baseValues;
+    private double[] values;
+
+    /**
+     * Creates a scenario cube.
+     *
+     * @param grid Scenario grid the book was revalued under.
+     * @param quantities Position quantity of each contract.
+     * @param baseValues Unit value of each contract without any shocks.
+     * @param values Unit value of each contract under each scenario, indexed by {@code contract * grid.size() + scenario}.&nbsp;The arrays aren't copied.
+     * @throws IllegalArgumentException if the array lengths don't match the number of contracts and scenarios
+     */
+    public ScenarioCube(ScenarioGrid grid, double[] quantities, double[] baseValues, double[] values) throws IllegalArgumentException {
+        if (baseValues.length != quantities.length || values.length != quantities.length * grid.size()) {
+            throw new IllegalArgumentException("array lengths must match the number of contracts and scenarios");
+        }
+        this.grid = grid;
+        this.quantities = quantities;
+        this.baseValues = baseValues;
+        this.values = values;
+    }
+
+    /**
+     * Returns the unit value of a contract under a scenario.
+     *
+     * @param contract contract index
+     * @param scenario scenario index, see {@link ScenarioGrid#scenario(int, int, int)}
+     * @return unit value
+     */
+    public double getValue(int contract, int scenario) {
+        return this.values[contract * this.grid.size() + scenario];
+    }
+
+    /**
+     * Returns the profit and loss of a position under each scenario, i.e.&nbsp;its quantity times the change of its unit value.
+     *
+     * @param contract contract index
+     * @return profit and loss indexed by scenario
+     */
+    public double[] getPositionPnl(int contract) {
+        int scenarios = this.grid.size();
+        double[] pnl = new double[scenarios];
+        double quantity = this.quantities[contract];
+        double baseValue = this.baseValues[contract];
+        int offset = contract * scenarios;
+        for (int s = 0; s < scenarios; s++) {
+            pnl[s] = quantity * (this.values[offset + s] - baseValue);
+        }
+        return pnl;
+    }
+
+    /**
+     * Returns the value of the book under each scenario.
+     *
+     * @return book value indexed by scenario
+     */
+    public double[] getBookValues() {
+        int scenarios = this.grid.size();
+        double[] bookValues = new double[scenarios];
+        for (int c = 0; c < this.quantities.length; c++) {
+            double quantity = this.quantities[c];
+            int offset = c * scenarios;
+            for (int s = 0; s < scenarios; s++) {
+                bookValues[s] += quantity * this.values[offset + s];
+            }
+        }
+        return bookValues;
+    }
+
+    /**
+     * Returns the value of the book without any shocks.
+     *
+     * @return book value
+     */
+    public double getBaseBookValue() {
+        double baseBookValue = 0d;
+        for (int c = 0; c < this.quantities.length; c++) {
+            baseBookValue += this.quantities[c] * this.baseValues[c];
+        }
+        return baseBookValue;
+    }
+
+    /**
+     * Returns the profit and loss of the book under each scenario.
+     *
+     * @return book profit and loss indexed by scenario
+     */
+    public double[] getBookPnl() {
+        double[] pnl = this.getBookValues();
+        double baseBookValue = this.getBaseBookValue();
+        for (int s = 0; s < pnl.length; s++) {
+            pnl[s] -= baseBookValue;
+        }
+        return pnl;
+    }
+
+    /**
+     * Returns the scenario with the largest loss of the book.
+     *
+     * @return scenario index
+     */
+    public int getWorstScenario() {
+        double[] bookValues = this.getBookValues();
+        int worst = 0;
+        for (int s = 1; s < bookValues.length; s++) {
+            if (bookValues[s] < bookValues[worst]) {
+                worst = s;
+            }
+        }
+        return worst;
+    }
+
+    //region getters
+    //----------------------------------------------------------------------
+
+    /**
+     * Get grid.
+     *
+     * @return grid
+     */
+    public ScenarioGrid getGrid() {
+        return this.grid;
+    }
+
+    /**
+     * Get the number of contracts.
+     *
+     * @return number of contracts
+     */
+    public int getContracts() {
+        return this.quantities.length;
+    }
+
+    /**
+     * Get the unit value of each contract without any shocks.
+     *
+     * @return baseValues
+     */
+    public double[] getBaseValues() {
+        return this.baseValues.clone();
+    }
+
+    //----------------------------------------------------------------------
+    //endregion getters
+}
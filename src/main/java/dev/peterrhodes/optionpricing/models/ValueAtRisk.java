@@ -0,0 +1,97 @@
+package dev.peterrhodes.optionpricing.models;
+
+/**
+ * Model for the value at risk and expected shortfall of a book, calculated from its profit and loss under each scenario.
+ * <p>The tail is the {@code ⌈(1 - α) n⌉} worst of the {@code n} scenarios at confidence level {@code α}, the value at risk is the loss of the best scenario in the tail and the expected shortfall is the mean loss of the tail.&nbsp;Both are positive for a loss.</p>
+ */
+public final class ValueAtRisk {
+
+    private double confidence;
+    private double valueAtRisk;
+    private double expectedShortfall;
+    private int tailCount;
+    private double baseValue;
+    private double[] pnl;
+
+    /**
+     * Creates a value at risk model.
+     *
+     * @param confidence Confidence level ({@code 0 < α < 1}).
+     * @param valueAtRisk Value at risk.
+     * @param expectedShortfall Expected shortfall.
+     * @param tailCount Number of scenarios in the tail.
+     * @param baseValue Value of the book without any shocks.
+     * @param pnl Profit and loss of the book indexed by scenario, the array isn't copied.
+     */
+    public ValueAtRisk(double confidence, double valueAtRisk, double expectedShortfall, int tailCount, double baseValue, double[] pnl) {
+        this.confidence = confidence;
+        this.valueAtRisk = valueAtRisk;
+        this.expectedShortfall = expectedShortfall;
+        this.tailCount = tailCount;
+        this.baseValue = baseValue;
+        this.pnl = pnl;
+    }
+
+    /**
+     * Get confidence.
+     *
+     * @return confidence level
+     */
+    public double getConfidence() {
+        return this.confidence;
+    }
+
+    /**
+     * Get valueAtRisk.
+     *
+     * @return value at risk
+     */
+    public double getValueAtRisk() {
+        return this.valueAtRisk;
+    }
+
+    /**
+     * Get expectedShortfall.
+     *
+     * @return expected shortfall
+     */
+    public double getExpectedShortfall() {
+        return this.expectedShortfall;
+    }
+
+    /**
+     * Get tailCount.
+     *
+     * @return number of scenarios in the tail
+     */
+    public int getTailCount() {
+        return this.tailCount;
+    }
+
+    /**
+     * Get baseValue.
+     *
+     * @return value of the book without any shocks
+     */
+    public double getBaseValue() {
+        return this.baseValue;
+    }
+
+    /**
+     * Get scenarioCount.
+     *
+     * @return number of scenarios
+     */
+    public int getScenarioCount() {
+        return this.pnl.length;
+    }
+
+    /**
+     * Get pnl.
+     *
+     * @return a copy of the profit and loss of the book indexed by scenario
+     */
+    public double[] getPnl() {
+        return this.pnl.clone();
+    }
+}
@@ -1,4 +1,6 @@
 module dev.peterrhodes.optionpricing {
+    requires jdk.jfr;
+
     exports dev.peterrhodes.optionpricing;
     exports dev.peterrhodes.optionpricing.enums;
     exports dev.peterrhodes.optionpricing.models;
@@ -0,0 +1,155 @@
+package dev.peterrhodes.optionpricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #BatchPricing}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class BatchPricingTest {
+
+    //region array tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void Black_Scholes_Merton_values_should_equal_option_values() {
+        // Arrange
+        OptionType[] types = { OptionType.CALL, OptionType.PUT, OptionType.PUT };
+        double[] S = { 52, 42, 100 }, K = { 50, 40, 110 }, τ = { 0.25, 0.5, 2 }, σ = { 0.3, 0.2, 0.35 }, r = { 0.12, 0.1, 0.03 }, q = { 0, 0, 0.02 };
+        double[] prices = new double[3], batchPrices = new double[3], deltas = new double[3], gammas = new double[3], vegas = new double[3], thetas = new double[3], rhos = new double[3];
+
+        // Act
+        BatchPricing.european(EuropeanModel.BLACK_SCHOLES_MERTON, types, S, K, τ, σ, r, q, prices);
+        BatchPricing.europeanGreeks(EuropeanModel.BLACK_SCHOLES_MERTON, types, S, K, τ, σ, r, q, batchPrices, deltas, gammas, vegas, thetas, rhos);
+
+        // Assert
+        for (int i = 0; i < types.length; i++) {
+            AnalyticOption option = types[i] == OptionType.CALL
+                ? AnalyticOptionFactory.createEuropeanCall(S[i], K[i], τ[i], σ[i], r[i], q[i])
+                : AnalyticOptionFactory.createEuropeanPut(S[i], K[i], τ[i], σ[i], r[i], q[i]);
+            assertThat(prices[i]).as("price %d", i).isEqualTo(option.price(), withPrecision(1e-9));
+            assertThat(batchPrices[i]).as("fused price %d", i).isEqualTo(prices[i], withPrecision(1e-13));
+            assertThat(deltas[i]).as("delta %d", i).isEqualTo(option.delta(), withPrecision(1e-9));
+            assertThat(gammas[i]).as("gamma %d", i).isEqualTo(option.gamma(), withPrecision(1e-9));
+            assertThat(vegas[i]).as("vega %d", i).isEqualTo(option.vega(), withPrecision(1e-8));
+            assertThat(thetas[i]).as("theta %d", i).isEqualTo(option.theta(), withPrecision(1e-8));
+            assertThat(rhos[i]).as("rho %d", i).isEqualTo(option.rho(), withPrecision(1e-8));
+        }
+    }
+
+    @Test
+    public void Black_76_values_should_equal_option_values() {
+        // Arrange
+        OptionType[] types = { OptionType.CALL, OptionType.PUT, OptionType.CALL };
+        double[] F = { 20, 20, 110 }, K = { 20, 22, 100 }, τ = { 0.25, 1, 2 }, σ = { 0.25, 0.4, 0.15 }, r = { 0.09, 0.01, 0.05 }, q = { 0.5, 0.5, 0.5 };
+        double[] prices = new double[3], batchPrices = new double[3], deltas = new double[3], gammas = new double[3], vegas = new double[3], thetas = new double[3], rhos = new double[3];
+
+        // Act
+        BatchPricing.european(EuropeanModel.BLACK_76, types, F, K, τ, σ, r, q, prices);
+        BatchPricing.europeanGreeks(EuropeanModel.BLACK_76, types, F, K, τ, σ, r, q, batchPrices, deltas, gammas, vegas, thetas, rhos);
+
+        // Assert
+        for (int i = 0; i < types.length; i++) {
+            AnalyticOption option = types[i] == OptionType.CALL
+                ? AnalyticOptionFactory.createBlack76Call(F[i], K[i], τ[i], σ[i], r[i])
+                : AnalyticOptionFactory.createBlack76Put(F[i], K[i], τ[i], σ[i], r[i]);
+            assertThat(prices[i]).as("price %d", i).isEqualTo(option.price(), withPrecision(1e-14));
+            assertThat(batchPrices[i]).as("fused price %d", i).isEqualTo(option.price(), withPrecision(1e-14));
+            assertThat(deltas[i]).as("delta %d", i).isEqualTo(option.delta(), withPrecision(1e-14));
+            assertThat(gammas[i]).as("gamma %d", i).isEqualTo(option.gamma(), withPrecision(1e-14));
+            assertThat(vegas[i]).as("vega %d", i).isEqualTo(option.vega(), withPrecision(1e-13));
+            assertThat(thetas[i]).as("theta %d", i).isEqualTo(option.theta(), withPrecision(1e-13));
+            assertThat(rhos[i]).as("rho %d", i).isEqualTo(option.rho(), withPrecision(1e-13));
+        }
+    }
+
+    @Test
+    public void Bachelier_values_should_equal_option_values() {
+        // Arrange
+        OptionType[] types = { OptionType.CALL, OptionType.PUT, OptionType.PUT };
+        double[] F = { 0.02, -0.001, 0.03 }, K = { 0.015, 0.0, 0.035 }, τ = { 2, 0.5, 5 }, σ = { 0.008, 0.004, 0.012 }, r = { 0.03, 0.0, 0.02 }, q = new double[3];
+        double[] prices = new double[3], batchPrices = new double[3], deltas = new double[3], gammas = new double[3], vegas = new double[3], thetas = new double[3], rhos = new double[3];
+
+        // Act
+        BatchPricing.european(EuropeanModel.BACHELIER, types, F, K, τ, σ, r, q, prices);
+        BatchPricing.europeanGreeks(EuropeanModel.BACHELIER, types, F, K, τ, σ, r, q, batchPrices, deltas, gammas, vegas, thetas, rhos);
+
+        // Assert
+        for (int i = 0; i < types.length; i++) {
+            AnalyticOption option = types[i] == OptionType.CALL
+                ? AnalyticOptionFactory.createBachelierCall(F[i], K[i], τ[i], σ[i], r[i])
+                : AnalyticOptionFactory.createBachelierPut(F[i], K[i], τ[i], σ[i], r[i]);
+            assertThat(prices[i]).as("price %d", i).isEqualTo(option.price(), withPrecision(1e-16));
+            assertThat(batchPrices[i]).as("fused price %d", i).isEqualTo(option.price(), withPrecision(1e-16));
+            assertThat(deltas[i]).as("delta %d", i).isEqualTo(option.delta(), withPrecision(1e-14));
+            assertThat(gammas[i]).as("gamma %d", i).isEqualTo(option.gamma(), withPrecision(1e-10));
+            assertThat(vegas[i]).as("vega %d", i).isEqualTo(option.vega(), withPrecision(1e-14));
+            assertThat(thetas[i]).as("theta %d", i).isEqualTo(option.theta(), withPrecision(1e-14));
+            assertThat(rhos[i]).as("rho %d", i).isEqualTo(option.rho(), withPrecision(1e-14));
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion array tests
+
+    //region buffer tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void Buffer_values_should_equal_array_values() {
+        // Arrange
+        OptionType[] types = { OptionType.CALL, OptionType.PUT, OptionType.PUT, null };
+        double[] S = { 52, 42, 100, 100 }, K = { 50, 40, 110, 110 }, τ = { 0.25, 0.5, 2, 2 }, σ = { 0.3, 0.2, 0.35, 0.35 }, r = { 0.12, 0.1, 0.03, 0.03 }, q = { 0, 0, 0.02, 0.02 };
+        final double[][] expected = new double[6][4];
+        int n = types.length;
+        ByteBuffer typeColumn = ByteBuffer.allocateDirect(n + 1).put((byte) 9);
+        for (OptionType type : types) {
+            typeColumn.put(type == null ? (byte) 7 : (byte) type.ordinal());
+        }
+        typeColumn.position(1);
+        DoubleBuffer[] inputs = new DoubleBuffer[6], outputs = new DoubleBuffer[6];
+        double[][] inputArrays = { S, K, τ, σ, r, q };
+        for (int c = 0; c < 6; c++) {
+            // the columns of a little-endian record file, each starting after a one-element header
+            inputs[c] = ByteBuffer.allocateDirect(8 * (n + 1)).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            inputs[c].put(-1).put(inputArrays[c]).position(1);
+            outputs[c] = ByteBuffer.allocateDirect(8 * n).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        }
+        DoubleBuffer prices = DoubleBuffer.allocate(n);
+
+        // Act
+        BatchPricing.europeanGreeks(EuropeanModel.BLACK_SCHOLES_MERTON, types, S, K, τ, σ, r, q, expected[0], expected[1], expected[2], expected[3], expected[4], expected[5]);
+        BatchPricing.european(EuropeanModel.BLACK_SCHOLES_MERTON, typeColumn, inputs[0], inputs[1], inputs[2], inputs[3], inputs[4], inputs[5], prices);
+        BatchPricing.europeanGreeks(EuropeanModel.BLACK_SCHOLES_MERTON, typeColumn, inputs[0], inputs[1], inputs[2], inputs[3], inputs[4], inputs[5], outputs[0], outputs[1], outputs[2], outputs[3], outputs[4], outputs[5]);
+
+        // Assert
+        for (int c = 0; c < 6; c++) {
+            assertThat(inputs[c].position()).as("input position %d", c).isEqualTo(1);
+            for (int i = 0; i < n - 1; i++) {
+                assertThat(outputs[c].get(i)).as("output %d of option %d", c, i).isEqualTo(expected[c][i]);
+            }
+            assertThat(outputs[c].get(n - 1)).as("output %d of the invalid option", c).isNaN();
+        }
+        for (int i = 0; i < n - 1; i++) {
+            assertThat(prices.get(i)).as("price %d", i).isEqualTo(expected[0][i], withPrecision(1e-13));
+        }
+        assertThat(prices.get(3)).isNaN();
+        assertThatThrownBy(() -> BatchPricing.european(EuropeanModel.BLACK_76, typeColumn, inputs[0], inputs[1], inputs[2], inputs[3], inputs[4], inputs[5], DoubleBuffer.allocate(n + 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchPricing.european(EuropeanModel.BLACK_76, typeColumn, inputs[0], inputs[1], inputs[2], inputs[3], inputs[4], inputs[5], prices.asReadOnlyBuffer()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("prices must not be read-only");
+    }
+
+    //----------------------------------------------------------------------
+    //endregion buffer tests
+}
@@ -0,0 +1,132 @@
+package dev.peterrhodes.optionpricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import dev.peterrhodes.optionpricing.models.CoxRossRubinstein;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for {@link #CalculationCodec}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class CalculationCodecTest {
+
+    @Test
+    public void Cox_ross_rubinstein_should_round_trip() {
+        // Arrange
+        CoxRossRubinstein calculation = coxRossRubinstein();
+
+        for (boolean deltaEncoded : new boolean[] { false, true }) {
+            // Act
+            ByteBuffer buffer = CalculationCodec.encodeCoxRossRubinstein(calculation, deltaEncoded);
+            CalculationCodec.CoxRossRubinsteinView view = CalculationCodec.readCoxRossRubinstein(buffer);
+
+            // Assert
+            assertThat(buffer.hasRemaining()).as("read to the end").isFalse();
+            assertSameCalculation(view.toCoxRossRubinstein(), calculation);
+            assertThat(view.getI(65)).isEqualTo(10);
+            assertThat(view.getJ(65)).isEqualTo(10);
+        }
+        assertThat(CalculationCodec.encodeCoxRossRubinstein(calculation, false).remaining()).as("header, bitmap, and columns of 66 nodes").isEqualTo(48 + 8 * 2 + 16 * 66);
+        assertThat(CalculationCodec.encodeCoxRossRubinstein(calculation, true).remaining()).as("delta encoded size").isLessThan(CalculationCodec.encodeCoxRossRubinstein(calculation, false).remaining());
+    }
+
+    @Test
+    public void Nodes_out_of_order_should_be_indexed() {
+        // Arrange
+        CoxRossRubinstein.Node[] nodes = {
+            new CoxRossRubinstein.Node(1, 1, 110, 10, true),
+            new CoxRossRubinstein.Node(0, 0, 100, 5, false),
+        };
+        CoxRossRubinstein calculation = new CoxRossRubinstein(1, 0.5, 1.1, 0.9, 0.5, nodes);
+
+        // Act
+        CalculationCodec.CoxRossRubinsteinView view = CalculationCodec.readCoxRossRubinstein(CalculationCodec.encodeCoxRossRubinstein(calculation, false));
+
+        // Assert
+        assertThat(view.getNodeCount()).isEqualTo(2);
+        assertSameCalculation(view.toCoxRossRubinstein(), calculation);
+    }
+
+    @Test
+    public void File_should_be_read_through_a_mapped_view(@TempDir Path directory) throws IOException {
+        // Arrange
+        CoxRossRubinstein calculation = coxRossRubinstein();
+        AnalyticCalculation analyticCalculation = AnalyticOptionFactory.createEuropeanPut(42, 40, 0.5, 0.2, 0.1, 0).thetaCalculation();
+        Path file = directory.resolve("calculations.bin");
+        int first;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            first = CalculationCodec.writeAnalyticCalculation(analyticCalculation, channel);
+            CalculationCodec.writeCoxRossRubinstein(calculation, false, channel);
+        }
+
+        // Act
+        CalculationCodec.CoxRossRubinsteinView view;
+        AnalyticCalculation analyticView;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            view = CalculationCodec.readCoxRossRubinstein(channel, first);
+            analyticView = CalculationCodec.readAnalyticCalculation(channel.map(FileChannel.MapMode.READ_ONLY, 0, first));
+        }
+
+        // Assert
+        assertSameCalculation(view.toCoxRossRubinstein(), calculation);
+        assertThat(analyticView.getSteps()).isEqualTo(analyticCalculation.getSteps());
+    }
+
+    @Test
+    public void Analytic_calculation_should_round_trip() {
+        // Arrange
+        AnalyticCalculation calculation = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0).priceCalculation();
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        buffer.put((byte) 7);
+
+        // Act
+        int size = CalculationCodec.writeAnalyticCalculation(calculation, buffer);
+        buffer.flip().get();
+        AnalyticCalculation read = CalculationCodec.readAnalyticCalculation(buffer);
+
+        // Assert
+        assertThat(buffer.position()).isEqualTo(1 + size);
+        assertThat(read.getStepPart(4, 3)).isEqualTo(calculation.getStepPart(4, 3));
+        assertThat(read.getSteps()).isEqualTo(calculation.getSteps());
+    }
+
+    @Test
+    public void Invalid_encodings_should_throw() {
+        // Arrange
+        ByteBuffer analytic = CalculationCodec.encodeAnalyticCalculation(new AnalyticCalculation(new String[][] { { "x", "1" } }));
+        ByteBuffer unsupported = CalculationCodec.encodeCoxRossRubinstein(coxRossRubinstein(), false);
+        unsupported.put(4, (byte) 2);
+
+        // Act Assert
+        assertThatThrownBy(() -> CalculationCodec.readCoxRossRubinstein(analytic)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CalculationCodec.readCoxRossRubinstein(unsupported)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CalculationCodec.readAnalyticCalculation(ByteBuffer.allocate(4))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CoxRossRubinstein coxRossRubinstein() {
+        Option option = new OptionBuilder(50, 52, 2, 0.3, 0.05, 0).styleAmerican().typePut().build();
+        return PricingModelSelector.coxRossRubinstein(10).calculation(option);
+    }
+
+    private static void assertSameCalculation(CoxRossRubinstein actual, CoxRossRubinstein expected) {
+        assertThat(actual.getTimeSteps()).isEqualTo(expected.getTimeSteps());
+        assertThat(actual.getDeltat()).isEqualTo(expected.getDeltat());
+        assertThat(actual.getU()).isEqualTo(expected.getU());
+        assertThat(actual.getD()).isEqualTo(expected.getD());
+        assertThat(actual.getP()).isEqualTo(expected.getP());
+        CoxRossRubinstein.Node[] actualNodes = actual.getNodes(), expectedNodes = expected.getNodes();
+        assertThat(actualNodes.length).isEqualTo(expectedNodes.length);
+        for (int k = 0; k < expectedNodes.length; k++) {
+            assertThat(actualNodes[k]).usingRecursiveComparison().isEqualTo(expectedNodes[k]);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package dev.peterrhodes.optionpricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.peterrhodes.optionpricing.enums.CalculationType;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #CalculationReports}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class CalculationReportsTest {
+
+    @Test
+    public void Calculations_should_equal_the_options_calculations() {
+        // Arrange
+        AnalyticOption[] options = options(150);
+        CalculationType[] calculationTypes = { CalculationType.THETA, CalculationType.PRICE };
+
+        // Act
+        AnalyticCalculation[][] calculations = CalculationReports.calculate(options, calculationTypes, 3);
+
+        // Assert
+        assertThat(calculations.length).isEqualTo(options.length);
+        for (int o = 0; o < options.length; o++) {
+            assertThat(calculations[o][0].getSteps()).isEqualTo(options[o].thetaCalculation().getSteps());
+            assertThat(calculations[o][1].getSteps()).isEqualTo(options[o].priceCalculation().getSteps());
+        }
+    }
+
+    @Test
+    public void Document_should_contain_the_calculations_in_order() throws IOException {
+        // Arrange
+        AnalyticOption[] options = options(300);
+        CalculationType[] calculationTypes = CalculationType.values();
+        StringBuilder expected = new StringBuilder("\\documentclass{article}\n\\usepackage{amsmath}\n\\begin{document}\n");
+        for (AnalyticOption option : options) {
+            for (CalculationType calculationType : calculationTypes) {
+                expected.append(CalculationReports.calculation(option, calculationType).toAlign()).append('\n');
+            }
+        }
+        expected.append("\\end{document}\n");
+
+        // Act
+        StringWriter writer = CalculationReports.document(options, calculationTypes, new StringWriter(), 2);
+
+        // Assert
+        assertThat(writer.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void Invalid_arguments_should_throw() {
+        // Arrange
+        AnalyticOption[] options = options(1);
+        CalculationType[] calculationTypes = { CalculationType.PRICE };
+
+        // Act Assert
+        assertThatThrownBy(() -> CalculationReports.calculate(options, calculationTypes, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CalculationReports.calculate(new AnalyticOption[1], calculationTypes)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CalculationReports.document(options, calculationTypes, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    private static AnalyticOption[] options(int count) {
+        AnalyticOption[] options = new AnalyticOption[count];
+        for (int i = 0; i < count; i++) {
+            double K = 40 + i % 25;
+            switch (i % 3) {
+                case 0:
+                    options[i] = AnalyticOptionFactory.createEuropeanCall(52, K, 0.25, 0.3, 0.12, 0.01);
+                    break;
+                case 1:
+                    options[i] = AnalyticOptionFactory.createBlack76Put(52, K, 0.5, 0.25, 0.05);
+                    break;
+                default:
+                    options[i] = AnalyticOptionFactory.createBachelierCall(0.01, 0.005 + i * 1e-4, 1, 0.008, 0.03);
+                    break;
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,202 @@
+package dev.peterrhodes.optionpricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import dev.peterrhodes.optionpricing.internal.AllocationMeter;
+import dev.peterrhodes.optionpricing.models.CoxRossRubinstein;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #LiveOption}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class LiveOptionTest {
+
+    private static final int TICKS = 2_000;
+
+    //region throws tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void Invalid_arguments_should_throw_IllegalArgumentException() {
+        // Arrange
+        OptionSpec european = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleEuropean().typeCall().build();
+        OptionSpec american = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleAmerican().typePut().build();
+        LiveOption option = LiveOption.european(european, 1e-4);
+
+        // Act Assert
+        assertThatThrownBy(() -> LiveOption.european(american, 1e-4)).isInstanceOf(IllegalArgumentException.class).hasMessage("spec must be European style");
+        assertThatThrownBy(() -> LiveOption.european(european, -1e-4)).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("tolerance");
+        assertThatThrownBy(() -> LiveOption.coxRossRubinstein(american, 0, 1e-4)).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("timeSteps");
+        assertThatThrownBy(() -> option.onSpot(0)).isInstanceOf(IllegalArgumentException.class).hasMessage("spotPrice must be greater than zero");
+    }
+
+    //----------------------------------------------------------------------
+    //endregion
+
+    //region European tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void European_with_zero_tolerance_should_equal_the_analytic_option() {
+        // Arrange
+        OptionSpec spec = new OptionSpec.Builder(52, 50, 0.25, 0.3, 0.12, 0.02).styleEuropean().typePut().build();
+        LiveOption option = LiveOption.european(spec, 0);
+        double[] spotPrices = { 52, 52.01, 51.5, 60, 45 };
+
+        for (double spotPrice : spotPrices) {
+            // Act
+            double price = option.onSpot(spotPrice);
+
+            // Assert
+            AnalyticOption expected = AnalyticOptionFactory.create(spec.withInitialSpotPrice(spotPrice));
+            assertThat(price).as("price at %s", spotPrice).isEqualTo(expected.price(), withPrecision(1e-12));
+            assertThat(option.delta()).as("delta at %s", spotPrice).isEqualTo(expected.delta(), withPrecision(1e-12));
+            assertThat(option.gamma()).as("gamma at %s", spotPrice).isEqualTo(expected.gamma(), withPrecision(1e-12));
+            assertThat(option.isApproximate()).isFalse();
+        }
+        assertThat(option.exactUpdates()).isEqualTo(spotPrices.length + 1L);
+        assertThat(option.approximateUpdates()).isZero();
+    }
+
+    @Test
+    public void European_approximation_should_stay_within_the_tolerance() {
+        // Arrange
+        double tolerance = 1e-4;
+        OptionSpec spec = new OptionSpec.Builder(100, 100, 0.5, 0.25, 0.03, 0.01).styleEuropean().typeCall().build();
+        LiveOption option = LiveOption.european(spec, tolerance);
+        LiveOption exact = LiveOption.european(spec, 0);
+        Random random = new Random(37);
+        double spotPrice = 100;
+
+        for (int i = 0; i < TICKS; i++) {
+            spotPrice *= 1 + 0.0005 * random.nextGaussian();
+
+            // Act
+            double price = option.onSpot(spotPrice);
+
+            // Assert
+            assertThat(price).as("price at %s", spotPrice).isEqualTo(exact.onSpot(spotPrice), withPrecision(2 * tolerance));
+        }
+        assertThat(option.approximateUpdates()).as("approximate updates").isGreaterThan(option.exactUpdates());
+    }
+
+    @Test
+    public void European_approximation_at_zero_speed_should_stay_within_the_tolerance() {
+        // Arrange, d₁ = -σ√τ so the speed at the initial spot price is zero
+        double tolerance = 1e-4;
+        OptionSpec spec = new OptionSpec.Builder(100 * Math.exp(-0.06), 100, 1, 0.2, 0, 0).styleEuropean().typeCall().build();
+
+        for (double move = -25; move <= 25; move += 0.25) {
+            LiveOption option = LiveOption.european(spec, tolerance);
+            double spotPrice = spec.getInitialSpotPrice() + move;
+
+            // Act
+            double price = option.onSpot(spotPrice);
+
+            // Assert
+            double expected = AnalyticOptionFactory.create(spec.withInitialSpotPrice(spotPrice)).price();
+            assertThat(price).as("price at %s (approximate %s)", spotPrice, option.isApproximate()).isEqualTo(expected, withPrecision(tolerance));
+            if (Math.abs(move) <= 0.5) {
+                assertThat(option.isApproximate()).as("approximate at %s", spotPrice).isTrue();
+            } else if (Math.abs(move) > 5) {
+                assertThat(option.isApproximate()).as("approximate at %s", spotPrice).isFalse(); // more than a quarter of S₀σ√τ
+            }
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion
+
+    //region lattice tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void Lattice_with_zero_tolerance_should_equal_the_pricing_model() {
+        // Arrange
+        OptionSpec spec = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleAmerican().typePut().build();
+        int timeSteps = 200;
+        LiveOption option = LiveOption.coxRossRubinstein(spec, timeSteps, 0);
+        PricingModel<CoxRossRubinstein> pricingModel = PricingModelSelector.coxRossRubinstein(timeSteps);
+
+        for (double spotPrice : new double[] { 50, 49.5, 55, 40 }) {
+            // Act
+            double price = option.onSpot(spotPrice);
+
+            // Assert
+            assertThat(price).as("price at %s", spotPrice).isEqualTo(pricingModel.price(spec.withInitialSpotPrice(spotPrice)));
+        }
+    }
+
+    @Test
+    public void Lattice_approximation_should_stay_close_to_the_exact_price() {
+        // Arrange
+        double tolerance = 1e-3;
+        OptionSpec spec = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleAmerican().typePut().build();
+        LiveOption option = LiveOption.coxRossRubinstein(spec, 500, tolerance);
+        LiveOption exact = LiveOption.coxRossRubinstein(spec, 500, 0);
+        Random random = new Random(41);
+        double spotPrice = 50;
+
+        for (int i = 0; i < TICKS; i++) {
+            spotPrice *= 1 + 0.0005 * random.nextGaussian();
+
+            // Act
+            double price = option.onSpot(spotPrice);
+
+            // Assert, the lattice price itself isn't smooth in the spot price so a little more than the tolerance is allowed
+            assertThat(price).as("price at %s", spotPrice).isEqualTo(exact.onSpot(spotPrice), withPrecision(5 * tolerance));
+        }
+        assertThat(option.approximateUpdates()).as("approximate updates").isGreaterThan(option.exactUpdates());
+    }
+
+    @Test
+    public void Lattice_approximation_at_zero_speed_should_follow_the_analytic_price() {
+        // Arrange, d₁ = -σ√τ so the speed at the initial spot price is about zero
+        double tolerance = 1e-3;
+        OptionSpec spec = new OptionSpec.Builder(100 * Math.exp(-0.06), 100, 1, 0.2, 0, 0).styleEuropean().typeCall().build();
+        double bias = LiveOption.coxRossRubinstein(spec, 500, 0).price() - AnalyticOptionFactory.create(spec).price();
+
+        for (double move = -25; move <= 25; move += 0.25) {
+            LiveOption option = LiveOption.coxRossRubinstein(spec, 500, tolerance);
+            double spotPrice = spec.getInitialSpotPrice() + move;
+
+            // Act
+            double price = option.onSpot(spotPrice);
+
+            // Assert, the exact lattice price oscillates with the spot price, so an approximation is compared with the analytic price plus the lattice's bias at the initial spot price
+            if (option.isApproximate()) {
+                double expected = AnalyticOptionFactory.create(spec.withInitialSpotPrice(spotPrice)).price() + bias;
+                assertThat(price).as("price at %s", spotPrice).isEqualTo(expected, withPrecision(tolerance));
+            }
+            if (Math.abs(move) > 5) {
+                assertThat(option.isApproximate()).as("approximate at %s", spotPrice).isFalse(); // more than a quarter of S₀σ√τ
+            }
+        }
+    }
+
+    @Test
+    public void Spot_updates_should_not_allocate() {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+
+        // Arrange
+        OptionSpec.Builder builder = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).typePut();
+        LiveOption european = LiveOption.european(builder.styleEuropean().build(), 0);
+        LiveOption lattice = LiveOption.coxRossRubinstein(builder.styleAmerican().build(), 50, 0);
+        double[] spotPrices = { 50, 50.5, 49.5 };
+        int[] tick = new int[1];
+
+        // Act
+        double bytesPerCall = AllocationMeter.bytesPerCall(() -> {
+            double spotPrice = spotPrices[tick[0]++ % spotPrices.length];
+            return european.onSpot(spotPrice) + lattice.onSpot(spotPrice);
+        }, 2_000, 1_000);
+
+        // Assert
+        assertThat(bytesPerCall).as("bytes per call").isLessThan(1d);
+    }
+}
@@ -0,0 +1,145 @@
+package dev.peterrhodes.optionpricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #OptionSpec}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class OptionSpecTest {
+
+    //region throws tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void Unconfigured_style_or_type_should_throw_IllegalStateException() {
+        // Arrange
+        OptionSpec.Builder noStyle = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).typeCall();
+        OptionSpec.Builder noType = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleEuropean();
+
+        // Act Assert
+        assertThatThrownBy(noStyle::build).isInstanceOf(IllegalStateException.class).hasMessage("option style not configured");
+        assertThatThrownBy(noType::build).isInstanceOf(IllegalStateException.class).hasMessage("option type not configured");
+    }
+
+    @Test
+    public void Invalid_argument_values_should_throw_IllegalArgumentException() {
+        // Arrange
+        double[][] invalidArguments = {
+            { 0, 52, 2, 0.3 },
+            { 50, -52, 2, 0.3 },
+            { 50, 52, 0, 0.3 },
+            { 50, 52, 2, -0.3 },
+        };
+        OptionSpec spec = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleEuropean().typeCall().build();
+
+        // Act Assert
+        for (double[] arguments : invalidArguments) {
+            assertThatThrownBy(() -> {
+                new OptionSpec.Builder(arguments[0], arguments[1], arguments[2], arguments[3], 0.05, 0.01).styleEuropean().typeCall().build();
+            }).isInstanceOf(IllegalArgumentException.class)
+              .hasMessageContaining("must be greater than zero");
+        }
+        assertThatThrownBy(() -> spec.withVolatility(0)).isInstanceOf(IllegalArgumentException.class).hasMessage("volatility must be greater than zero");
+    }
+
+    //----------------------------------------------------------------------
+    //endregion
+
+    //region value tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void Specs_with_equal_parameters_should_be_equal() {
+        // Arrange
+        OptionSpec.Builder builder = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleAmerican().typePut();
+
+        // Act
+        OptionSpec spec = builder.build(), sameSpec = builder.build(), otherStrike = builder.strikePrice(54).build();
+        OptionSpec bumpedBack = spec.withVolatility(0.31).withVolatility(0.3);
+
+        // Assert
+        assertThat(sameSpec).isEqualTo(spec).hasSameHashCodeAs(spec);
+        assertThat(bumpedBack).isEqualTo(spec).hasSameHashCodeAs(spec);
+        assertThat(otherStrike).isNotEqualTo(spec);
+        assertThat(otherStrike.getStrikePrice()).isEqualTo(54d);
+        assertThat(spec.withRiskFreeRate(0.06)).isNotEqualTo(spec);
+    }
+
+    @Test
+    public void Option_builder_spec_should_have_the_same_parameters() {
+        // Arrange
+        OptionBuilder builder = new OptionBuilder(50, 52, 2, 0.3, 0.05, 0.01).styleEuropean().typeCall();
+
+        // Act
+        Option option = builder.build();
+        OptionSpec spec = builder.buildSpec();
+
+        // Assert
+        assertThat(spec.optionStyle()).isEqualTo(OptionStyle.EUROPEAN);
+        assertThat(spec.optionType()).isEqualTo(OptionType.CALL);
+        assertThat(spec.getInitialSpotPrice()).isEqualTo(option.initialSpotPrice().doubleValue());
+        assertThat(spec.getStrikePrice()).isEqualTo(option.strikePrice().doubleValue());
+        assertThat(spec.getTimeToMaturity()).isEqualTo(option.timeToMaturity().doubleValue());
+        assertThat(spec.getVolatility()).isEqualTo(option.volatility().doubleValue());
+        assertThat(spec.getRiskFreeRate()).isEqualTo(option.riskFreeRate().doubleValue());
+        assertThat(spec.getDividendYield()).isEqualTo(option.dividendYield().doubleValue());
+    }
+
+    @Test
+    public void Number_parameters_should_be_boxed_once() {
+        // Arrange
+        OptionSpec spec = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleEuropean().typeCall().build();
+        Option[] options = {spec, AnalyticOptionFactory.create(spec), AnalyticOptionFactory.create(EuropeanModel.BLACK_76, spec), AnalyticOptionFactory.create(EuropeanModel.BACHELIER, spec)};
+
+        for (int i = 0; i < options.length; i++) {
+            // Act
+            Option option = options[i];
+            Number initialSpotPrice = option.initialSpotPrice();
+            Number volatility = option.volatility();
+
+            // Assert
+            assertThat(initialSpotPrice).isEqualTo(50d).isSameAs(option.initialSpotPrice());
+            assertThat(volatility).isEqualTo(0.3).isSameAs(option.volatility());
+            assertThat(option.strikePrice()).isEqualTo(52d);
+            assertThat(option.timeToMaturity()).isEqualTo(2d);
+            assertThat(option.riskFreeRate()).isEqualTo(0.05);
+            assertThat(option.dividendYield()).as("no dividend yield in the Black-76 and Bachelier models").isEqualTo(i < 2 ? 0.01 : 0d);
+        }
+    }
+
+    @Test
+    public void Exercise_value_should_equal_the_option_exercise_value() {
+        for (OptionStyle style : OptionStyle.values()) {
+            for (OptionType type : OptionType.values()) {
+                // Arrange
+                OptionBuilder builder = new OptionBuilder(50, 52, 2, 0.3, 0.05, 0.01);
+                builder = style == OptionStyle.AMERICAN ? builder.styleAmerican() : builder.styleEuropean();
+                builder = type == OptionType.CALL ? builder.typeCall() : builder.typePut();
+                Option option = builder.build();
+                OptionSpec spec = builder.buildSpec();
+
+                for (double t : new double[] { 0, 1, 2 }) {
+                    for (double S_t : new double[] { 40, 52, 60 }) {
+                        ExerciseValueParameter parameter = new ExerciseValueParameter.Builder(t, S_t).build();
+
+                        // Act
+                        double exerciseValue = spec.exerciseValue(parameter);
+
+                        // Assert
+                        assertThat(exerciseValue).as("%s %s, t=%s, S=%s", style, type, t, S_t).isEqualTo(option.exerciseValue(parameter));
+                    }
+                }
+            }
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion
+}
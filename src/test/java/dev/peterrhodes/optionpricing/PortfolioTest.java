@@ -0,0 +1,171 @@
+package dev.peterrhodes.optionpricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.models.Greeks;
+import dev.peterrhodes.optionpricing.models.PortfolioGreeks;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #Portfolio}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class PortfolioTest {
+
+    @Test
+    public void Greeks_should_be_aggregated_per_underlying_and_expiry_bucket() {
+        // Arrange
+        Portfolio portfolio = new Portfolio(0.5, 1);
+        AnalyticOption shortDated = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0.02);
+        AnalyticOption longDated = AnalyticOptionFactory.createEuropeanPut(52, 55, 2, 0.3, 0.12, 0.02);
+        AnalyticOption other = AnalyticOptionFactory.createEuropeanPut(42, 40, 0.75, 0.2, 0.1, 0);
+        portfolio.add("ABC", shortDated, 10);
+        portfolio.add("ABC", longDated, -5);
+        portfolio.add("XYZ", other, 3);
+
+        // Act
+        PortfolioGreeks greeks = portfolio.greeks();
+
+        // Assert
+        assertThat(greeks.getUnderlyings()).containsOnlyKeys("ABC", "XYZ");
+        assertThat(greeks.getUnderlying("ABC").getDelta()).isEqualTo(10 * shortDated.delta() - 5 * longDated.delta(), withPrecision(1e-12));
+        assertThat(greeks.getExpiryBucket("ABC", 0).getGamma()).isEqualTo(10 * shortDated.gamma(), withPrecision(1e-12));
+        assertThat(greeks.getExpiryBucket("ABC", 1).getGamma()).isZero();
+        assertThat(greeks.getExpiryBucket("ABC", 2).getVega()).isEqualTo(-5 * longDated.vega(), withPrecision(1e-12));
+        assertThat(greeks.getExpiryBucket("XYZ", 1).getTheta()).isEqualTo(3 * other.theta(), withPrecision(1e-12));
+        assertThat(greeks.getTotal().getValue()).isEqualTo(10 * shortDated.price() - 5 * longDated.price() + 3 * other.price(), withPrecision(1e-12));
+        assertThat(greeks.getTotal().getRho()).isEqualTo(10 * shortDated.rho() - 5 * longDated.rho() + 3 * other.rho(), withPrecision(1e-12));
+    }
+
+    @Test
+    public void Incremental_updates_should_equal_a_full_recalculation() {
+        // Arrange
+        Random random = new Random(7);
+        Portfolio portfolio = new Portfolio(0.25, 0.5, 1, 2);
+        String[] underlyings = { "ABC", "DEF", "GHI" };
+        for (int i = 0; i < 5_000; i++) {
+            OptionSpec spec = new OptionSpec.Builder(100, 80 + 40 * random.nextDouble(), 0.05 + 3 * random.nextDouble(), 0.1 + 0.4 * random.nextDouble(), 0.03, 0.01)
+                .styleEuropean()
+                .type(random.nextBoolean() ? OptionType.CALL : OptionType.PUT)
+                .build();
+            portfolio.add(underlyings[i % underlyings.length], AnalyticOptionFactory.create(spec), random.nextInt(21) - 10);
+        }
+        portfolio.greeks();
+
+        // Act
+        portfolio.setQuantity(42, 100);
+        portfolio.replace(43, AnalyticOptionFactory.create(new OptionSpec.Builder(100, 100, 1.5, 0.25, 0.03, 0.01).styleEuropean().typeCall().build()));
+        portfolio.replaceUnderlying("DEF", option -> AnalyticOptionFactory.create(OptionSpec.from(option).withInitialSpotPrice(103)));
+        PortfolioGreeks incremental = portfolio.greeks();
+        portfolio.recalculate();
+        PortfolioGreeks recalculated = portfolio.greeks();
+
+        // Assert
+        for (String underlying : underlyings) {
+            for (int b = 0; b < 5; b++) {
+                Greeks expected = recalculated.getExpiryBucket(underlying, b), actual = incremental.getExpiryBucket(underlying, b);
+                String description = underlying + " bucket " + b;
+                assertThat(actual.getValue()).as(description).isEqualTo(expected.getValue(), withPrecision(1e-8));
+                assertThat(actual.getDelta()).as(description).isEqualTo(expected.getDelta(), withPrecision(1e-8));
+                assertThat(actual.getGamma()).as(description).isEqualTo(expected.getGamma(), withPrecision(1e-8));
+                assertThat(actual.getVega()).as(description).isEqualTo(expected.getVega(), withPrecision(1e-8));
+                assertThat(actual.getTheta()).as(description).isEqualTo(expected.getTheta(), withPrecision(1e-8));
+                assertThat(actual.getRho()).as(description).isEqualTo(expected.getRho(), withPrecision(1e-8));
+            }
+        }
+        assertThat(incremental.getUnderlying("DEF").getDelta()).isNotEqualTo(0d);
+    }
+
+    @Test
+    public void Pricing_model_greeks_should_be_close_to_the_analytic_greeks() {
+        // Arrange
+        OptionSpec spec = new OptionSpec.Builder(50, 52, 1, 0.3, 0.05, 0.01).styleEuropean().typePut().build();
+        AnalyticOption analytic = AnalyticOptionFactory.create(spec);
+        Portfolio portfolio = new Portfolio();
+        portfolio.add("ABC", spec, PricingModelSelector.coxRossRubinstein(1000), 1);
+
+        // Act
+        Greeks greeks = portfolio.greeks().getTotal();
+
+        // Assert
+        assertThat(greeks.getValue()).isEqualTo(analytic.price(), withPrecision(1e-2));
+        assertThat(greeks.getDelta()).isEqualTo(analytic.delta(), withPrecision(1e-2));
+        assertThat(greeks.getGamma()).isEqualTo(analytic.gamma(), withPrecision(2e-3));
+        assertThat(greeks.getVega()).isEqualTo(analytic.vega(), withPrecision(1e-1));
+        assertThat(greeks.getTheta()).isEqualTo(analytic.theta(), withPrecision(1e-1));
+        assertThat(greeks.getRho()).isEqualTo(analytic.rho(), withPrecision(1e-1));
+    }
+
+    @Test
+    public void Short_dated_pricing_model_greeks_should_be_close_to_the_analytic_greeks() {
+        // Arrange
+        OptionSpec spec = new OptionSpec.Builder(100, 100, 0.05, 0.2, 0, 0).styleEuropean().typeCall().build();
+        AnalyticOption analytic = AnalyticOptionFactory.create(spec);
+        Portfolio portfolio = new Portfolio();
+        portfolio.add("ABC", spec, PricingModelSelector.coxRossRubinstein(2000), 1);
+
+        // Act
+        Greeks greeks = portfolio.greeks().getTotal();
+
+        // Assert
+        assertThat(greeks.getDelta()).isEqualTo(analytic.delta(), withPrecision(1e-3));
+        assertThat(greeks.getGamma()).isEqualTo(analytic.gamma(), withPrecision(analytic.gamma() / 100d));
+    }
+
+    @Test
+    public void Invalid_positions_should_throw() {
+        // Arrange
+        Portfolio portfolio = new Portfolio(1);
+        Option custom = new Option() {
+            @Override
+            public OptionStyle optionStyle() {
+                return OptionStyle.EUROPEAN;
+            }
+
+            @Override
+            public OptionType optionType() {
+                return OptionType.CALL;
+            }
+
+            @Override
+            public Number initialSpotPrice() {
+                return 50;
+            }
+
+            @Override
+            public Number strikePrice() {
+                return 50;
+            }
+
+            @Override
+            public Number timeToMaturity() {
+                return 1;
+            }
+
+            @Override
+            public Number volatility() {
+                return 0.2;
+            }
+
+            @Override
+            public Number riskFreeRate() {
+                return 0.05;
+            }
+
+            @Override
+            public Number dividendYield() {
+                return 0;
+            }
+        };
+
+        // Act Assert
+        assertThatThrownBy(() -> new Portfolio(1, 0.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> portfolio.add("ABC", custom, PricingModelSelector.coxRossRubinstein(10), 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> portfolio.setQuantity(0, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package dev.peterrhodes.optionpricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.portfolio.PositionFilePricer;
+import dev.peterrhodes.optionpricing.internal.portfolio.PositionGreeks;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for {@link #PositionFiles}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class PositionFilesTest {
+
+    @Test
+    public void Results_should_equal_batch_and_lattice_values(@TempDir Path directory) throws IOException {
+        // Arrange
+        int n = PositionFiles.CHUNK_SIZE + 100; // two chunks
+        OptionType[] types = new OptionType[n];
+        double[] S = new double[n], K = new double[n], τ = new double[n], σ = new double[n], r = new double[n], q = new double[n];
+        List<String> lines = new ArrayList<String>();
+        lines.add("style,type,S,K,tau,sigma,r,q");
+        for (int i = 0; i < n; i++) {
+            types[i] = i % 2 == 0 ? OptionType.CALL : OptionType.PUT;
+            S[i] = 40 + i % 25;
+            K[i] = 50;
+            τ[i] = 0.25 + (i % 7) * 0.25;
+            σ[i] = 0.2 + (i % 5) * 0.05;
+            r[i] = 0.05;
+            q[i] = 0.01;
+            String style = i == 3 || i == n - 1 ? "american" : "European";
+            lines.add(style + "," + types[i].name().toLowerCase() + "," + S[i] + "," + K[i] + "," + τ[i] + "," + σ[i] + "," + r[i] + "," + q[i]);
+        }
+        lines.add("");
+        lines.add("american,put,50,50,0.5,-0.2,0.05,0"); // invalid volatility
+        Path csv = directory.resolve("positions.csv");
+        final Path positions = directory.resolve("positions.bin");
+        final Path results = directory.resolve("results.bin");
+        Files.write(csv, lines);
+        double[][] expected = new double[6][n];
+        BatchPricing.europeanGreeks(EuropeanModel.BLACK_SCHOLES_MERTON, types, S, K, τ, σ, r, q, expected[0], expected[1], expected[2], expected[3], expected[4], expected[5]);
+        PricingModel<?> latticeModel = PricingModelSelector.coxRossRubinstein(50);
+        double[] american = new double[PositionGreeks.WIDTH];
+        for (int i : new int[] { 3, n - 1 }) {
+            OptionSpec spec = new OptionSpec.Builder(S[i], K[i], τ[i], σ[i], r[i], q[i]).styleAmerican().type(types[i]).build();
+            PositionGreeks.finiteDifference(latticeModel, spec, american, 0);
+            for (int c = 0; c < 6; c++) {
+                expected[c][i] = american[c];
+            }
+        }
+
+        // Act
+        long converted = PositionFiles.convertCsv(csv, positions);
+        long priced = PositionFiles.price(positions, results, EuropeanModel.BLACK_SCHOLES_MERTON, 50, 2);
+        ByteBuffer file;
+        try (FileChannel channel = FileChannel.open(results, StandardOpenOption.READ)) {
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        // Assert
+        assertThat(converted).isEqualTo(n + 1);
+        assertThat(priced).isEqualTo(n + 1);
+        assertThat(file.getLong(8)).isEqualTo(n + 1);
+        int columnSize = 8 * (n + 1) + 32768 - 1 & -32768;
+        for (int c = 0; c < 6; c++) {
+            int offset = 32768 + c * columnSize;
+            for (int i = 0; i < n; i++) {
+                assertThat(file.getDouble(offset + 8 * i)).as("column %d of row %d", c, i).isEqualTo(expected[c][i]);
+            }
+            assertThat(file.getDouble(offset + 8 * n)).as("column %d of the invalid row", c).isNaN();
+        }
+    }
+
+    @Test
+    public void Files_mapped_in_several_segments_should_equal_files_mapped_in_one(@TempDir Path directory) throws IOException {
+        // Arrange
+        int n = 3 * PositionFiles.CHUNK_SIZE + 100; // 100 KB double columns
+        List<String> lines = new ArrayList<String>();
+        lines.add("style,type,S,K,tau,sigma,r,q");
+        for (int i = 0; i < n; i++) {
+            lines.add((i % 1000 == 0 ? "american," : "european,") + (i % 2 == 0 ? "call," : "put,") + (40 + i % 25) + ",50," + (0.25 + (i % 7) * 0.25) + ",0.3,0.05,0.01");
+        }
+        Path csv = directory.resolve("positions.csv");
+        Path positions = directory.resolve("positions.bin");
+        Files.write(csv, lines);
+        PositionFiles.convertCsv(csv, positions);
+        Path expected = directory.resolve("expected.bin");
+        PositionFiles.price(positions, expected, EuropeanModel.BLACK_SCHOLES_MERTON, 20, 2);
+
+        for (int segmentShift : new int[] { 15, 16 }) {
+            // Act
+            Path results = directory.resolve("results" + segmentShift + ".bin");
+            long priced = PositionFilePricer.price(positions, results, EuropeanModel.BLACK_SCHOLES_MERTON, 20, 2, segmentShift);
+
+            // Assert
+            assertThat(priced).isEqualTo(n);
+            assertThat(Files.readAllBytes(results)).as("segment shift %d", segmentShift).isEqualTo(Files.readAllBytes(expected));
+        }
+        assertThatThrownBy(() -> PositionFilePricer.price(positions, directory.resolve("results.bin"), EuropeanModel.BLACK_SCHOLES_MERTON, 20, 2, 14))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void Invalid_files_should_throw(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path csv = directory.resolve("positions.csv");
+        Path positions = directory.resolve("positions.bin");
+        Path results = directory.resolve("results.bin");
+        Files.write(csv, List.of("style,type,S,K,tau,sigma,r,q", "european,straddle,50,50,0.5,0.2,0.05,0"));
+
+        // Act Assert
+        assertThatThrownBy(() -> PositionFiles.convertCsv(csv, positions))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("line 2 can't be parsed");
+        assertThatThrownBy(() -> PositionFiles.price(csv, results, EuropeanModel.BLACK_SCHOLES_MERTON, 50))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("positions must be a positions file");
+    }
+}
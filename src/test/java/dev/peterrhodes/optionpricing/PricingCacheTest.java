@@ -0,0 +1,274 @@
+package dev.peterrhodes.optionpricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.OptionImpl;
+import dev.peterrhodes.optionpricing.internal.enums.PrecisionType;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import dev.peterrhodes.optionpricing.models.CoxRossRubinstein;
+import dev.peterrhodes.optionpricing.models.PricingCacheStats;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #PricingCache}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class PricingCacheTest {
+
+    @Test
+    public void Repeated_prices_should_be_calculated_once() {
+        // Arrange
+        CountingPricingModel countingModel = new CountingPricingModel(PricingModelSelector.coxRossRubinstein(100));
+        PricingModel<CoxRossRubinstein> pricingModel = new PricingCache.Builder().build().cache(countingModel);
+        OptionBuilder builder = new OptionBuilder(50, 52, 2, 0.3, 0.05, 0.01).styleAmerican().typePut();
+        Option option = builder.build();
+        OptionSpec spec = builder.buildSpec();
+
+        // Act
+        double price = pricingModel.price(option);
+        double specPrice = pricingModel.price(spec);
+        double repeatedPrice = pricingModel.price(builder.build());
+
+        // Assert
+        assertThat(countingModel.calls.get()).as("calls").isEqualTo(1);
+        assertThat(specPrice).isEqualTo(price);
+        assertThat(repeatedPrice).isEqualTo(price);
+        assertThat(price).isEqualTo(PricingModelSelector.coxRossRubinstein(100).price(option));
+    }
+
+    @Test
+    public void Quantised_parameters_should_share_a_price() {
+        // Arrange
+        CountingPricingModel countingModel = new CountingPricingModel(PricingModelSelector.coxRossRubinstein(50));
+        PricingModel<CoxRossRubinstein> pricingModel = new PricingCache.Builder()
+            .spotQuantum(0.01)
+            .volatilityQuantum(0.001)
+            .build()
+            .cache(countingModel);
+        OptionSpec spec = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleEuropean().typeCall().build();
+
+        // Act
+        double price = pricingModel.price(spec);
+        double nearbyPrice = pricingModel.price(spec.withInitialSpotPrice(50.002).withVolatility(0.3003));
+        double otherPrice = pricingModel.price(spec.withInitialSpotPrice(50.01));
+
+        // Assert
+        assertThat(countingModel.calls.get()).as("calls").isEqualTo(2);
+        assertThat(nearbyPrice).isEqualTo(price);
+        assertThat(otherPrice).isNotEqualTo(price);
+    }
+
+    @Test
+    public void Least_recently_used_results_should_be_evicted() {
+        // Arrange
+        CountingPricingModel countingModel = new CountingPricingModel(PricingModelSelector.coxRossRubinstein(10));
+        PricingCache cache = new PricingCache.Builder().maximumSize(2).stripes(1).build();
+        PricingModel<CoxRossRubinstein> pricingModel = cache.cache(countingModel);
+        OptionSpec.Builder builder = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleEuropean().typeCall();
+        OptionSpec first = builder.strikePrice(50).build(), second = builder.strikePrice(51).build(), third = builder.strikePrice(52).build();
+
+        // Act
+        pricingModel.price(first);
+        pricingModel.price(second);
+        pricingModel.price(first); // second is now the least recently used
+        pricingModel.price(third);
+        pricingModel.price(first);
+        pricingModel.price(second);
+
+        // Assert
+        PricingCacheStats stats = cache.stats();
+        assertThat(countingModel.calls.get()).as("calls").isEqualTo(4);
+        assertThat(stats.getHits()).as("hits").isEqualTo(2L);
+        assertThat(stats.getMisses()).as("misses").isEqualTo(4L);
+        assertThat(stats.getEvictions()).as("evictions").isEqualTo(2L);
+        assertThat(stats.getSize()).as("size").isEqualTo(2);
+        assertThat(stats.getHitRatio()).as("hit ratio").isEqualTo(2d / 6d);
+    }
+
+    @Test
+    public void Expired_results_should_be_recalculated() {
+        // Arrange
+        AtomicLong now = new AtomicLong();
+        CountingPricingModel countingModel = new CountingPricingModel(PricingModelSelector.coxRossRubinstein(10));
+        PricingCache cache = new PricingCache.Builder().expireAfterWrite(Duration.ofSeconds(1)).ticker(now::get).build();
+        PricingModel<CoxRossRubinstein> pricingModel = cache.cache(countingModel);
+        OptionSpec spec = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleEuropean().typeCall().build();
+
+        // Act
+        pricingModel.price(spec);
+        now.set(Duration.ofMillis(999).toNanos());
+        pricingModel.price(spec);
+        now.set(Duration.ofMillis(2500).toNanos());
+        pricingModel.price(spec);
+        now.set(Duration.ofMillis(3500).toNanos());
+        cache.cleanUp();
+
+        // Assert
+        assertThat(countingModel.calls.get()).as("calls").isEqualTo(2);
+        assertThat(cache.stats().getEvictions()).as("evictions").isEqualTo(2L);
+        assertThat(cache.stats().getSize()).as("size").isZero();
+    }
+
+    @Test
+    public void Pricing_models_with_the_same_configuration_should_share_results() {
+        // Arrange
+        PricingCache cache = new PricingCache.Builder().build();
+        OptionSpec spec = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleEuropean().typeCall().build();
+        CountingPricingModel countingModel = new CountingPricingModel(PricingModelSelector.coxRossRubinstein(100));
+        CountingPricingModel otherCountingModel = new CountingPricingModel(PricingModelSelector.coxRossRubinstein(100));
+
+        // Act
+        double price = cache.cache(PricingModelSelector.coxRossRubinstein(100)).price(spec);
+        double sameConfigurationPrice = cache.cache(PricingModelSelector.coxRossRubinstein(100)).price(spec);
+        cache.cache(PricingModelSelector.coxRossRubinstein(101)).price(spec);
+        cache.cache(PricingModelSelector.heston(2, 0.04, 0.3, -0.7)).price(spec);
+        cache.cache(PricingModelSelector.heston(2, 0.04, 0.3, -0.7)).price(spec);
+        cache.cache(PricingModelSelector.heston(2, 0.04, 0.3, -0.6)).price(spec);
+        cache.cache(countingModel).price(spec);
+        cache.cache(countingModel).price(spec);
+        cache.cache(otherCountingModel).price(spec);
+
+        // Assert
+        PricingCacheStats stats = cache.stats();
+        assertThat(sameConfigurationPrice).isEqualTo(price);
+        assertThat(stats.getHits()).as("equal lattices, equal Heston models, and the same counting model").isEqualTo(3L);
+        assertThat(stats.getMisses()).as("misses").isEqualTo(6L);
+        assertThat(otherCountingModel.calls.get()).as("a model without equals is compared by identity").isEqualTo(1);
+    }
+
+    @Test
+    public void Cached_analytic_options_should_be_shared_and_equal_to_uncached_options() {
+        // Arrange
+        PricingCache cache = new PricingCache.Builder().build();
+        OptionSpec spec = new OptionSpec.Builder(52, 50, 0.25, 0.3, 0.12, 0.02).styleEuropean().typeCall().build();
+        AnalyticOption uncached = AnalyticOptionFactory.create(EuropeanModel.BLACK_76, spec);
+
+        // Act
+        AnalyticOption option = cache.analyticOption(EuropeanModel.BLACK_76, spec);
+        AnalyticOption sameOption = cache.analyticOption(EuropeanModel.BLACK_76, new OptionSpec.Builder(52, 50, 0.25, 0.3, 0.12, 0.02).styleEuropean().typeCall().build());
+        AnalyticOption otherModel = cache.analyticOption(spec);
+
+        // Assert
+        assertThat(sameOption).isSameAs(option);
+        assertThat(otherModel).isNotSameAs(option);
+        assertThat(option.price()).isEqualTo(uncached.price());
+        assertThat(option.delta()).isEqualTo(uncached.delta());
+        assertThat(option.gamma()).isEqualTo(uncached.gamma());
+        assertThat(option.vega()).isEqualTo(uncached.vega());
+        assertThat(option.theta()).isEqualTo(uncached.theta());
+        assertThat(option.rho()).isEqualTo(uncached.rho());
+        assertThat(option.price()).isEqualTo(uncached.price());
+        assertThatThrownBy(() -> option.setCalculationStepPrecision(5, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void Cached_analytic_option_precision_should_apply_to_later_calculations() {
+        // Arrange
+        PricingCache cache = new PricingCache.Builder().build();
+        OptionSpec spec = new OptionSpec.Builder(52, 50, 0.25, 0.3, 0.12, 0.02).styleEuropean().typeCall().build();
+        AnalyticOption uncached = AnalyticOptionFactory.create(spec);
+        uncached.setCalculationStepPrecision(2, PrecisionType.DECIMAL_PLACES);
+        AnalyticOption option = cache.analyticOption(spec);
+        final double price = option.price();
+        final AnalyticCalculation before = option.priceCalculation();
+
+        // Act
+        option.setCalculationStepPrecision(2, PrecisionType.DECIMAL_PLACES);
+        AnalyticCalculation after = option.priceCalculation();
+
+        // Assert
+        assertThat(after.toAlign()).isEqualTo(uncached.priceCalculation().toAlign());
+        assertThat(before.toAlign()).isNotEqualTo(after.toAlign());
+        assertThat(cache.analyticOption(spec).priceCalculation().toAlign()).as("shared by every lookup").isEqualTo(after.toAlign());
+        assertThat(option.price()).isEqualTo(price);
+    }
+
+    @Test
+    public void Options_a_spec_cannot_hold_should_be_priced_as_without_the_cache() {
+        // Arrange
+        PricingModel<CoxRossRubinstein> uncached = PricingModelSelector.coxRossRubinstein(10);
+        CountingPricingModel countingModel = new CountingPricingModel(uncached);
+        PricingModel<CoxRossRubinstein> pricingModel = new PricingCache.Builder().build().cache(countingModel);
+        OptionImpl[] options = {
+            new OptionImpl(0, 52, 2, 0.3, 0.05, 0.01),
+            new OptionImpl(50, 52, 2, 0, 0.05, 0.01),
+            new OptionImpl(50, 52, -2, 0.3, 0.05, 0.01),
+            new OptionImpl(new BigDecimal("1e-400"), 52, 2, 0.3, 0.05, 0.01),
+            new OptionImpl(50, 52, 2, 0.3, 0.05, 0.01),
+        };
+        for (int i = 0; i < options.length; i++) {
+            options[i].setOptionStyle(OptionStyle.AMERICAN);
+            options[i].setOptionType(i == options.length - 1 ? null : OptionType.PUT);
+        }
+
+        for (OptionImpl option : options) {
+            // Act
+            Object expected = priceOrException(uncached, option);
+            Object result = priceOrException(pricingModel, option);
+
+            // Assert
+            assertThat(result).as("%s %s %s", option.initialSpotPrice(), option.timeToMaturity(), option.volatility()).isEqualTo(expected);
+        }
+        assertThat(countingModel.calls.get()).as("calls, none cached").isEqualTo(options.length);
+    }
+
+    @Test
+    public void Concurrent_lookups_should_count_every_lookup() {
+        // Arrange
+        PricingCache cache = new PricingCache.Builder().maximumSize(1024).build();
+        PricingModel<CoxRossRubinstein> pricingModel = cache.cache(PricingModelSelector.coxRossRubinstein(20));
+        OptionSpec.Builder builder = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleAmerican().typePut();
+        OptionSpec[] specs = IntStream.range(0, 32).mapToObj(i -> builder.strikePrice(40 + i).build()).toArray(OptionSpec[]::new);
+        int lookups = 20_000;
+
+        // Act
+        IntStream.range(0, lookups).parallel().forEach(i -> pricingModel.price(specs[i % specs.length]));
+
+        // Assert
+        PricingCacheStats stats = cache.stats();
+        assertThat(stats.getHits() + stats.getMisses()).as("lookups").isEqualTo(lookups);
+        assertThat(stats.getSize()).as("size").isLessThanOrEqualTo(specs.length);
+        assertThat(stats.getHitRatio()).as("hit ratio").isGreaterThan(0.9);
+    }
+
+    private static Object priceOrException(PricingModel<?> pricingModel, Option option) {
+        try {
+            return pricingModel.price(option);
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    /**
+     * Counts the prices calculated by a pricing model.
+     */
+    private static final class CountingPricingModel implements PricingModel<CoxRossRubinstein> {
+
+        private final PricingModel<CoxRossRubinstein> pricingModel;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingPricingModel(PricingModel<CoxRossRubinstein> pricingModel) {
+            this.pricingModel = pricingModel;
+        }
+
+        @Override
+        public double price(Option option) {
+            this.calls.incrementAndGet();
+            return this.pricingModel.price(option);
+        }
+
+        @Override
+        public CoxRossRubinstein calculation(Option option) {
+            return this.pricingModel.calculation(option);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package dev.peterrhodes.optionpricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.models.ScenarioCube;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #ScenarioEngine}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class ScenarioEngineTest {
+
+    @Test
+    public void Grid_steps_and_scenario_indices_should_be_consistent() {
+        // Arrange
+        ScenarioGrid grid = new ScenarioGrid.Builder()
+            .spotShocks(ScenarioGrid.steps(-0.1, 0.1, 21))
+            .volatilityShocks(ScenarioGrid.steps(-0.05, 0.05, 3))
+            .rateShifts(-0.01, 0.01)
+            .build();
+
+        // Act
+        int scenario = grid.scenario(20, 1, 1);
+
+        // Assert
+        assertThat(grid.size()).isEqualTo(21 * 3 * 2);
+        assertThat(grid.spotShock(scenario)).isEqualTo(0.1, withPrecision(1e-15));
+        assertThat(grid.volatilityShock(scenario)).isEqualTo(0d, withPrecision(1e-15));
+        assertThat(grid.rateShift(scenario)).isEqualTo(0.01);
+        assertThatThrownBy(() -> new ScenarioGrid.Builder().spotShocks(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void European_values_should_equal_the_analytic_options() {
+        for (EuropeanModel model : EuropeanModel.values()) {
+            // Arrange
+            OptionSpec[] book = {
+                new OptionSpec.Builder(52, 50, 0.25, 0.3, 0.12, 0.02).styleEuropean().typeCall().build(),
+                new OptionSpec.Builder(42, 40, 0.5, 0.2, 0.1, 0.03).styleEuropean().typePut().build(),
+            };
+            double[] quantities = { 10, -4 };
+            ScenarioGrid grid = new ScenarioGrid.Builder()
+                .spotShocks(ScenarioGrid.steps(-0.1, 0.1, 5))
+                .volatilityShocks(-0.05, 0, 0.05)
+                .rateShifts(-0.01, 0.01)
+                .build();
+
+            // Act
+            ScenarioCube cube = ScenarioEngine.european(model, book, quantities, grid);
+
+            // Assert
+            double[] bookValues = cube.getBookValues();
+            for (int s = 0; s < grid.size(); s++) {
+                double expectedBookValue = 0d;
+                for (int c = 0; c < book.length; c++) {
+                    OptionSpec shocked = book[c]
+                        .withInitialSpotPriceAndVolatility(book[c].getInitialSpotPrice() * (1 + grid.spotShock(s)), book[c].getVolatility() + grid.volatilityShock(s))
+                        .withRiskFreeRate(book[c].getRiskFreeRate() + grid.rateShift(s));
+                    double expected = AnalyticOptionFactory.create(model, shocked).price();
+                    assertThat(cube.getValue(c, s)).as("%s contract %d scenario %d", model, c, s).isEqualTo(expected, withPrecision(1e-10));
+                    expectedBookValue += quantities[c] * expected;
+                }
+                assertThat(bookValues[s]).as("%s book value %d", model, s).isEqualTo(expectedBookValue, withPrecision(1e-9));
+            }
+            assertThat(cube.getBaseValues()[0]).isEqualTo(AnalyticOptionFactory.create(model, book[0]).price(), withPrecision(1e-12));
+        }
+    }
+
+    @Test
+    public void Book_pnl_should_be_relative_to_the_base_value() {
+        // Arrange
+        OptionSpec[] book = { new OptionSpec.Builder(100, 100, 1, 0.2, 0.03, 0).styleEuropean().typeCall().build() };
+        ScenarioGrid grid = new ScenarioGrid.Builder().spotShocks(-0.2, 0, 0.2).build();
+
+        // Act
+        ScenarioCube cube = ScenarioEngine.european(EuropeanModel.BLACK_SCHOLES_MERTON, book, new double[] { 1 }, grid);
+
+        // Assert
+        double[] pnl = cube.getBookPnl();
+        assertThat(pnl[1]).isEqualTo(0d, withPrecision(1e-12));
+        assertThat(pnl[0]).isNegative();
+        assertThat(pnl[2]).isPositive();
+        assertThat(cube.getWorstScenario()).isZero();
+        assertThat(cube.getPositionPnl(0)).containsExactly(pnl, withPrecision(1e-12));
+    }
+
+    @Test
+    public void Pricing_model_values_should_equal_the_pricing_model() {
+        // Arrange
+        OptionSpec[] book = {
+            new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleAmerican().typePut().build(),
+            new OptionSpec.Builder(50, 48, 1, 0.25, 0.05, 0.02).styleAmerican().typeCall().build(),
+        };
+        ScenarioGrid grid = new ScenarioGrid.Builder().spotShocks(-0.05, 0, 0.05).volatilityShocks(-0.02, 0.02).build();
+        PricingModel<?> pricingModel = PricingModelSelector.coxRossRubinstein(100);
+
+        // Act
+        ScenarioCube cube = ScenarioEngine.revalue(pricingModel, book, new double[] { 1, 2 }, grid);
+
+        // Assert
+        for (int c = 0; c < book.length; c++) {
+            for (int s = 0; s < grid.size(); s++) {
+                OptionSpec shocked = book[c].withInitialSpotPriceAndVolatility(book[c].getInitialSpotPrice() * (1 + grid.spotShock(s)), book[c].getVolatility() + grid.volatilityShock(s));
+                assertThat(cube.getValue(c, s)).as("contract %d scenario %d", c, s).isEqualTo(pricingModel.price(shocked));
+            }
+        }
+    }
+
+    @Test
+    public void American_contracts_should_throw_for_analytic_models() {
+        // Arrange
+        OptionSpec[] book = { new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01).styleAmerican().typePut().build() };
+        ScenarioGrid grid = new ScenarioGrid.Builder().build();
+
+        // Act Assert
+        assertThatThrownBy(() -> ScenarioEngine.european(EuropeanModel.BLACK_SCHOLES_MERTON, book, new double[] { 1 }, grid))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScenarioEngine.european(EuropeanModel.BLACK_SCHOLES_MERTON, book, new double[0], grid))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("book and quantities must be the same length");
+    }
+}
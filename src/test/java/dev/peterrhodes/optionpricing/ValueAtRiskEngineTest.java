@@ -0,0 +1,151 @@
+package dev.peterrhodes.optionpricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.enums.OptionStyle;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.kernels.BaroneAdesiWhaleyKernel;
+import dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel;
+import dev.peterrhodes.optionpricing.models.ValueAtRisk;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #ValueAtRiskEngine}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class ValueAtRiskEngineTest {
+
+    private static final OptionSpec[] BOOK = {
+        new OptionSpec.Builder(52, 50, 0.25, 0.3, 0.05, 0.02).styleEuropean().typeCall().build(),
+        new OptionSpec.Builder(42, 40, 0.5, 0.2, 0.1, 0.03).styleEuropean().typePut().build(),
+        new OptionSpec.Builder(100, 105, 1, 0.25, 0.08, 0.04).styleAmerican().typePut().build(),
+        new OptionSpec.Builder(100, 95, 0.75, 0.25, 0.08, 0.04).styleAmerican().typeCall().build(),
+    };
+    private static final int[] UNDERLYINGS = { 0, 1, 2, 2 };
+    private static final double[] QUANTITIES = { 10, -4, 7, -3 };
+
+    @Test
+    public void Historical_value_at_risk_should_equal_a_sorted_full_revaluation() {
+        // Arrange
+        Random random = new Random(11);
+        double[][] spotReturns = new double[1000][3];
+        for (double[] row : spotReturns) {
+            for (int u = 0; u < row.length; u++) {
+                row[u] = 0.02 * random.nextGaussian();
+            }
+        }
+        RiskScenarios scenarios = RiskScenarios.historical(spotReturns);
+
+        // Act
+        ValueAtRisk result = ValueAtRiskEngine.calculate(BOOK, UNDERLYINGS, QUANTITIES, scenarios, 0.99, 64);
+
+        // Assert
+        double[] expectedPnl = new double[spotReturns.length];
+        double baseValue = 0d;
+        for (int c = 0; c < BOOK.length; c++) {
+            baseValue += QUANTITIES[c] * value(BOOK[c], BOOK[c].getInitialSpotPrice());
+        }
+        for (int s = 0; s < spotReturns.length; s++) {
+            for (int c = 0; c < BOOK.length; c++) {
+                double S = BOOK[c].getInitialSpotPrice() * (1d + spotReturns[s][UNDERLYINGS[c]]);
+                expectedPnl[s] += QUANTITIES[c] * (value(BOOK[c], S) - value(BOOK[c], BOOK[c].getInitialSpotPrice()));
+            }
+        }
+        assertThat(result.getPnl()).containsExactly(expectedPnl, withPrecision(1e-9));
+        assertThat(result.getBaseValue()).isEqualTo(baseValue, withPrecision(1e-9));
+
+        double[] sorted = expectedPnl.clone();
+        Arrays.sort(sorted);
+        assertThat(result.getTailCount()).isEqualTo(10);
+        assertThat(result.getValueAtRisk()).isEqualTo(-sorted[9], withPrecision(1e-9));
+        assertThat(result.getExpectedShortfall()).isEqualTo(-Arrays.stream(sorted, 0, 10).average().getAsDouble(), withPrecision(1e-9));
+        assertThat(result.getExpectedShortfall()).isGreaterThanOrEqualTo(result.getValueAtRisk());
+    }
+
+    @Test
+    public void Monte_Carlo_scenarios_should_not_depend_on_the_block_size() {
+        // Arrange
+        double[] volatilities = { 0.3, 0.2, 0.25 };
+        double[][] correlations = {
+            { 1, 0.5, 0.2 },
+            { 0.5, 1, 0.3 },
+            { 0.2, 0.3, 1 },
+        };
+        RiskScenarios scenarios = RiskScenarios.monteCarlo(volatilities, correlations, 1d / 252d, 5000, 42L);
+
+        // Act
+        ValueAtRisk small = ValueAtRiskEngine.calculate(BOOK, UNDERLYINGS, QUANTITIES, scenarios, 0.975, 100);
+        ValueAtRisk large = ValueAtRiskEngine.calculate(BOOK, UNDERLYINGS, QUANTITIES, scenarios, 0.975);
+
+        // Assert
+        assertThat(small.getPnl()).containsExactly(large.getPnl());
+        assertThat(small.getValueAtRisk()).isEqualTo(large.getValueAtRisk());
+        assertThat(small.getValueAtRisk()).isGreaterThan(0d);
+        assertThat(small.getScenarioCount()).isEqualTo(5000);
+    }
+
+    @Test
+    public void Monte_Carlo_returns_should_have_the_given_volatilities_and_correlation() {
+        // Arrange
+        double[] volatilities = { 0.3, 0.2 };
+        double[][] correlations = {
+            { 1, -0.6 },
+            { -0.6, 1 },
+        };
+        int count = 20000;
+        RiskScenarios scenarios = RiskScenarios.monteCarlo(volatilities, correlations, 1d, count, 3L);
+        double[] spotFactors = new double[count * 2], logSpotFactors = new double[count * 2];
+
+        // Act
+        scenarios.fill(0, count, spotFactors, logSpotFactors);
+
+        // Assert
+        double[] mean = new double[2];
+        for (int s = 0; s < count; s++) {
+            mean[0] += logSpotFactors[2 * s] / count;
+            mean[1] += logSpotFactors[2 * s + 1] / count;
+            assertThat(spotFactors[2 * s]).isEqualTo(Math.exp(logSpotFactors[2 * s]));
+        }
+        double var0 = 0d, var1 = 0d, covariance = 0d;
+        for (int s = 0; s < count; s++) {
+            double x = logSpotFactors[2 * s] - mean[0];
+            double y = logSpotFactors[2 * s + 1] - mean[1];
+            var0 += x * x / count;
+            var1 += y * y / count;
+            covariance += x * y / count;
+        }
+        assertThat(Math.sqrt(var0)).isEqualTo(0.3, withPrecision(0.01));
+        assertThat(Math.sqrt(var1)).isEqualTo(0.2, withPrecision(0.01));
+        assertThat(covariance / Math.sqrt(var0 * var1)).isEqualTo(-0.6, withPrecision(0.02));
+    }
+
+    @Test
+    public void Invalid_arguments_should_throw() {
+        // Arrange
+        RiskScenarios scenarios = RiskScenarios.historical(new double[][] { { 0.01, 0.02, -0.01 } });
+
+        // Act Assert
+        assertThatThrownBy(() -> ValueAtRiskEngine.calculate(BOOK, new int[] { 0, 1, 2, 3 }, QUANTITIES, scenarios, 0.99))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ValueAtRiskEngine.calculate(BOOK, UNDERLYINGS, QUANTITIES, scenarios, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("confidence must be between zero and one");
+        assertThatThrownBy(() -> RiskScenarios.historical(new double[][] { { -1 } }))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RiskScenarios.monteCarlo(new double[] { 0.2, 0.2 }, new double[][] { { 1, 1.5 }, { 1.5, 1 } }, 1, 10, 0L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("correlations must be positive definite");
+    }
+
+    private static double value(OptionSpec spec, double S) {
+        boolean isCall = spec.optionType() == OptionType.CALL;
+        if (spec.optionStyle() == OptionStyle.AMERICAN) {
+            return BaroneAdesiWhaleyKernel.price(isCall, S, spec.getStrikePrice(), spec.getTimeToMaturity(), spec.getVolatility(), spec.getRiskFreeRate(), spec.getDividendYield());
+        }
+        return BlackScholesMertonKernel.price(isCall, S, spec.getStrikePrice(), spec.getTimeToMaturity(), spec.getVolatility(), spec.getRiskFreeRate(), spec.getDividendYield());
+    }
+}
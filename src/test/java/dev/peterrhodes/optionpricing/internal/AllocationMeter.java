@@ -0,0 +1,72 @@
+package dev.peterrhodes.optionpricing.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Measures the heap memory allocated per call of a hot path with the thread allocation counter of {@link com.sun.management.ThreadMXBean}, so that tests can fail when a path which should be allocation free starts allocating.
+ * <p>The path is called enough times to be compiled by the JIT before measuring, as the interpreter boxes and allocates where compiled code doesn't.&nbsp;The result of each call is accumulated so that the calls can't be eliminated as dead code.</p>
+ */
+public final class AllocationMeter {
+
+    /**
+     * Calls made before measuring, enough for the path to be compiled by C2.
+     */
+    public static final int WARMUP_CALLS = 50_000;
+
+    /**
+     * Calls measured, the allocation of reading the counter is negligible when divided by this.
+     */
+    public static final int MEASURED_CALLS = 20_000;
+
+    private static volatile double sink;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Returns true if the JVM can measure the memory allocated by a thread.
+     */
+    public static boolean isSupported() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).isThreadAllocatedMemorySupported();
+    }
+
+    /**
+     * Returns the average number of bytes allocated by a call of {@code path}.
+     *
+     * @param path hot path to measure
+     * @return bytes allocated per call
+     */
+    public static double bytesPerCall(DoubleSupplier path) {
+        return bytesPerCall(path, WARMUP_CALLS, MEASURED_CALLS);
+    }
+
+    /**
+     * Returns the average number of bytes allocated by a call of {@code path}, for paths which are too slow to call the default number of times.
+     *
+     * @param path hot path to measure
+     * @param warmupCalls calls made before measuring
+     * @param measuredCalls calls measured
+     * @return bytes allocated per call
+     */
+    public static double bytesPerCall(DoubleSupplier path, int warmupCalls, int measuredCalls) {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        double accumulator = 0d;
+        for (int i = 0; i < warmupCalls; i++) {
+            accumulator += path.getAsDouble();
+        }
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < measuredCalls; i++) {
+            accumulator += path.getAsDouble();
+        }
+        long after = threadBean.getThreadAllocatedBytes(threadId);
+
+        sink = accumulator;
+        return (after - before) / (double) measuredCalls;
+    }
+}
@@ -0,0 +1,121 @@
+package dev.peterrhodes.optionpricing.internal.analyticoptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.AnalyticOption;
+import dev.peterrhodes.optionpricing.AnalyticOptionFactory;
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.enums.PrecisionType;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #BachelierOption}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class BachelierOptionTest {
+
+    @Test
+    public void Invalid_argument_values_should_throw_IllegalArgumentException() {
+        // Act Assert
+        assertThatThrownBy(() -> {
+            AnalyticOption ex = AnalyticOptionFactory.createBachelierCall(0.01, 0.01, 0, 0.008, 0.03);
+        })
+            .as("zero time to maturity")
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must be greater than zero");
+
+        assertThatThrownBy(() -> {
+            AnalyticOption ex = AnalyticOptionFactory.createBachelierPut(0.01, 0.01, 1, 0, 0.03);
+        })
+            .as("zero volatility")
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must be greater than zero");
+    }
+
+    @Test
+    public void Price_for_call_and_put() {
+        // Arrange
+        AnalyticOption call = AnalyticOptionFactory.createBachelierCall(0.02, 0.015, 2, 0.008, 0.03);
+        AnalyticOption put = AnalyticOptionFactory.createBachelierPut(0.02, 0.015, 2, 0.008, 0.03);
+        call.setCalculationStepPrecision(4, PrecisionType.SIGNIFICANT_FIGURES);
+
+        // Act
+        AnalyticCalculation result = call.priceCalculation();
+
+        // Assert
+        assertThat(call.price()).as("call").isEqualTo(0.007013559171968702, withPrecision(1e-15));
+        assertThat(put.price()).as("put").isEqualTo(0.002304736504047458, withPrecision(1e-15));
+        assertThat(call.price() - put.price()).as("put-call parity").isEqualTo(Math.exp(-0.06) * 0.005, withPrecision(1e-15));
+
+        String[][] steps = result.getSteps();
+        assertThat(steps.length).as("number of steps").isEqualTo(4); // d, N(d), N'(d), price
+        assertThat(steps[0][3]).as("d").isEqualTo("0.4419");
+        assertThat(steps[1][2]).as("N(d)").isEqualTo("0.6707");
+        assertThat(steps[2][2]).as("N'(d)").isEqualTo("0.3618");
+        assertThat(steps[3][2]).as("price substitution").contains(" 0.02 ", " 0.015 ", " 0.008 ", " 0.4419 ");
+        assertThat(steps[3][3]).as("price").isEqualTo("0.007014");
+    }
+
+    @Test
+    public void Price_with_negative_forward_and_strike() {
+        // Arrange
+        AnalyticOption call = AnalyticOptionFactory.createBachelierCall(-0.002, -0.004, 1, 0.005, 0.01);
+        AnalyticOption put = AnalyticOptionFactory.createBachelierPut(-0.002, -0.004, 1, 0.005, 0.01);
+
+        // Act Assert
+        assertThat(call.price()).isGreaterThan(0.002 * Math.exp(-0.01));
+        assertThat(call.price() - put.price()).as("put-call parity").isEqualTo(0.002 * Math.exp(-0.01), withPrecision(1e-15));
+    }
+
+    @Test
+    public void Greeks_should_equal_finite_differences_of_price() {
+        // Arrange
+        double F = 0.021, K = 0.02, τ = 1.5, σ = 0.01, r = 0.03, h = 1e-6;
+
+        for (boolean isCall : new boolean[] { true, false }) {
+            AnalyticOption option = this.create(isCall, F, K, τ, σ, r);
+
+            // Act
+            double delta = (this.create(isCall, F + h, K, τ, σ, r).price() - this.create(isCall, F - h, K, τ, σ, r).price()) / (2d * h);
+            double gamma = (this.create(isCall, F + h, K, τ, σ, r).delta() - this.create(isCall, F - h, K, τ, σ, r).delta()) / (2d * h);
+            double vega = (this.create(isCall, F, K, τ, σ + h, r).price() - this.create(isCall, F, K, τ, σ - h, r).price()) / (2d * h);
+            double theta = -(this.create(isCall, F, K, τ + h, σ, r).price() - this.create(isCall, F, K, τ - h, σ, r).price()) / (2d * h);
+            double rho = (this.create(isCall, F, K, τ, σ, r + h).price() - this.create(isCall, F, K, τ, σ, r - h).price()) / (2d * h);
+
+            // Assert
+            assertThat(option.delta()).as("delta").isEqualTo(delta, withPrecision(1e-8));
+            assertThat(option.gamma()).as("gamma").isEqualTo(gamma, withPrecision(1e-4));
+            assertThat(option.vega()).as("vega").isEqualTo(vega, withPrecision(1e-8));
+            assertThat(option.theta()).as("theta").isEqualTo(theta, withPrecision(1e-8));
+            assertThat(option.rho()).as("rho").isEqualTo(rho, withPrecision(1e-8));
+        }
+    }
+
+    @Test
+    public void Calculations_should_have_expected_number_of_steps() {
+        // Arrange
+        AnalyticOption option = AnalyticOptionFactory.createBachelierPut(0.02, 0.015, 2, 0.008, 0.03);
+
+        // Act Assert
+        assertThat(option.deltaCalculation().getSteps().length).as("delta").isEqualTo(3);
+        assertThat(option.gammaCalculation().getSteps().length).as("gamma").isEqualTo(3);
+        assertThat(option.vegaCalculation().getSteps().length).as("vega").isEqualTo(3);
+        assertThat(option.thetaCalculation().getSteps().length).as("theta").isEqualTo(4);
+        assertThat(option.rhoCalculation().getSteps().length).as("rho").isEqualTo(4);
+        assertThat(option.parameterNotation()).containsExactly("F", "K", "\\tau", "\\sigma", "r");
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private AnalyticOption create(boolean isCall, double F, double K, double τ, double σ, double r) {
+        return isCall ? AnalyticOptionFactory.createBachelierCall(F, K, τ, σ, r) : AnalyticOptionFactory.createBachelierPut(F, K, τ, σ, r);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
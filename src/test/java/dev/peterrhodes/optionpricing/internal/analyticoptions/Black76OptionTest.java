@@ -0,0 +1,134 @@
+package dev.peterrhodes.optionpricing.internal.analyticoptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.AnalyticOption;
+import dev.peterrhodes.optionpricing.AnalyticOptionFactory;
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.enums.PrecisionType;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #Black76Option}.
+ * References:
+ * <ul>
+ *   <li>Hull (2014): Hull, J. (2014) Options, Futures and Other Derivatives. 9th Edition, Prentice Hall, Upper Saddle River.</li>
+ * </ul>
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class Black76OptionTest {
+
+    @Test
+    public void Invalid_argument_values_should_throw_IllegalArgumentException() {
+        // Act Assert
+        assertThatThrownBy(() -> {
+            AnalyticOption ex = AnalyticOptionFactory.createBlack76Call(0, 20, 1, 0.25, 0.09);
+        })
+            .as("zero futures price")
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must be greater than zero");
+
+        assertThatThrownBy(() -> {
+            AnalyticOption ex = AnalyticOptionFactory.createBlack76Put(20, 20, 1, 0, 0.09);
+        })
+            .as("zero volatility")
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must be greater than zero");
+    }
+
+    /**
+     * Hull (2014): Black's model, European put futures option on crude oil.
+     */
+    @Test
+    public void Price_for_put_Hull2014() {
+        // Arrange
+        AnalyticOption option = AnalyticOptionFactory.createBlack76Put(20, 20, 4d / 12d, 0.25, 0.09);
+        option.setCalculationStepPrecision(4, PrecisionType.DECIMAL_PLACES);
+
+        // Act
+        double price = option.price();
+        AnalyticCalculation result = option.priceCalculation();
+
+        // Assert
+        assertThat(price).as("price").isEqualTo(1.12, withPrecision(0.005));
+
+        String[][] steps = result.getSteps();
+        assertThat(steps.length).as("number of steps").isEqualTo(5); // d₁, d₂, N(-d₁), N(-d₂), price
+        assertThat(steps[0][3]).as("d₁").isEqualTo("0.0722");
+        assertThat(steps[1][3]).as("d₂").isEqualTo("-0.0722");
+        assertThat(steps[2][2]).as("N(-d₁)").isEqualTo("0.4712");
+        assertThat(steps[3][2]).as("N(-d₂)").isEqualTo("0.5288");
+        assertThat(steps[4][2]).as("price substitution").contains(" 20 ", " 0.09 ", " 0.0722 ");
+        assertThat(steps[4][3]).as("price").isEqualTo("1.1166");
+    }
+
+    @Test
+    public void Values_should_equal_Black_Scholes_Merton_with_dividend_yield_equal_to_risk_free_rate() {
+        // Arrange
+        double F = 105, K = 100, τ = 0.75, σ = 0.3, r = 0.04;
+
+        for (boolean isCall : new boolean[] { true, false }) {
+            AnalyticOption black76 = isCall ? AnalyticOptionFactory.createBlack76Call(F, K, τ, σ, r) : AnalyticOptionFactory.createBlack76Put(F, K, τ, σ, r);
+            AnalyticOption european = isCall ? AnalyticOptionFactory.createEuropeanCall(F, K, τ, σ, r, r) : AnalyticOptionFactory.createEuropeanPut(F, K, τ, σ, r, r);
+
+            // Act Assert
+            assertThat(black76.price()).as("price").isEqualTo(european.price(), withPrecision(1e-9));
+            assertThat(black76.delta()).as("delta").isEqualTo(european.delta(), withPrecision(1e-9));
+            assertThat(black76.gamma()).as("gamma").isEqualTo(european.gamma(), withPrecision(1e-9));
+            assertThat(black76.vega()).as("vega").isEqualTo(european.vega(), withPrecision(1e-8));
+            assertThat(black76.theta()).as("theta").isEqualTo(european.theta(), withPrecision(1e-8));
+        }
+    }
+
+    @Test
+    public void Greeks_should_equal_finite_differences_of_price() {
+        // Arrange
+        double F = 95, K = 100, τ = 0.5, σ = 0.35, r = 0.06, h = 1e-4;
+
+        for (boolean isCall : new boolean[] { true, false }) {
+            AnalyticOption option = this.create(isCall, F, K, τ, σ, r);
+
+            // Act
+            double delta = (this.create(isCall, F + h, K, τ, σ, r).price() - this.create(isCall, F - h, K, τ, σ, r).price()) / (2d * h);
+            double gamma = (this.create(isCall, F + h, K, τ, σ, r).delta() - this.create(isCall, F - h, K, τ, σ, r).delta()) / (2d * h);
+            double vega = (this.create(isCall, F, K, τ, σ + h, r).price() - this.create(isCall, F, K, τ, σ - h, r).price()) / (2d * h);
+            double theta = -(this.create(isCall, F, K, τ + h, σ, r).price() - this.create(isCall, F, K, τ - h, σ, r).price()) / (2d * h);
+            double rho = (this.create(isCall, F, K, τ, σ, r + h).price() - this.create(isCall, F, K, τ, σ, r - h).price()) / (2d * h);
+
+            // Assert
+            assertThat(option.delta()).as("delta").isEqualTo(delta, withPrecision(1e-7));
+            assertThat(option.gamma()).as("gamma").isEqualTo(gamma, withPrecision(1e-7));
+            assertThat(option.vega()).as("vega").isEqualTo(vega, withPrecision(1e-6));
+            assertThat(option.theta()).as("theta").isEqualTo(theta, withPrecision(1e-6));
+            assertThat(option.rho()).as("rho").isEqualTo(rho, withPrecision(1e-6));
+        }
+    }
+
+    @Test
+    public void Calculations_should_have_expected_number_of_steps() {
+        // Arrange
+        AnalyticOption option = AnalyticOptionFactory.createBlack76Call(20, 20, 4d / 12d, 0.25, 0.09);
+
+        // Act Assert
+        assertThat(option.deltaCalculation().getSteps().length).as("delta").isEqualTo(3);
+        assertThat(option.gammaCalculation().getSteps().length).as("gamma").isEqualTo(3);
+        assertThat(option.vegaCalculation().getSteps().length).as("vega").isEqualTo(3);
+        assertThat(option.thetaCalculation().getSteps().length).as("theta").isEqualTo(6);
+        assertThat(option.rhoCalculation().getSteps().length).as("rho").isEqualTo(5);
+        assertThat(option.parameterNotation()).containsExactly("F", "K", "\\tau", "\\sigma", "r");
+    }
+
+    //region private methods
+    //----------------------------------------------------------------------
+
+    private AnalyticOption create(boolean isCall, double F, double K, double τ, double σ, double r) {
+        return isCall ? AnalyticOptionFactory.createBlack76Call(F, K, τ, σ, r) : AnalyticOptionFactory.createBlack76Put(F, K, τ, σ, r);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion private methods
+}
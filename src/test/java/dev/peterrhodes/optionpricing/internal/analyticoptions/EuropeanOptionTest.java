@@ -3,11 +3,22 @@ package dev.peterrhodes.optionpricing.internal.analyticoptions;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import dev.peterrhodes.optionpricing.AnalyticOption;
 import dev.peterrhodes.optionpricing.AnalyticOptionFactory;
+import dev.peterrhodes.optionpricing.OptionSpec;
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.AllocationMeter;
 import dev.peterrhodes.optionpricing.internal.enums.PrecisionType;
 import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+import java.util.function.ToDoubleFunction;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +33,9 @@ import org.junit.jupiter.api.Test;
 @SuppressWarnings("checkstyle:multiplevariabledeclarations")
 public class EuropeanOptionTest {
 
+    // Less than a byte per call on average, i.e. nothing is allocated once the path is compiled
+    private static final double ALLOCATION_BUDGET = 1d;
+
     @Test
     public void Invalid_argument_values_should_throw_IllegalArgumentException() {
         // Arrange
@@ -380,6 +394,134 @@ public class EuropeanOptionTest {
     //----------------------------------------------------------------------
     //endregion disabled tests
 
+    @Test
+    public void Options_created_from_a_spec_should_equal_options_created_from_numbers() {
+        // Arrange
+        OptionSpec call = new OptionSpec.Builder(52, 50, 0.25, 0.3, 0.12, 0.02).styleEuropean().typeCall().build();
+        OptionSpec put = new OptionSpec.Builder(42, 40, 0.5, 0.2, 0.1, 0.02).styleEuropean().typePut().build();
+        OptionSpec american = new OptionSpec.Builder(42, 40, 0.5, 0.2, 0.1, 0.02).styleAmerican().typePut().build();
+
+        // Act
+        AnalyticOption[][] options = {
+            { AnalyticOptionFactory.create(call), AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0.02) },
+            { AnalyticOptionFactory.create(put), AnalyticOptionFactory.createEuropeanPut(42, 40, 0.5, 0.2, 0.1, 0.02) },
+            { AnalyticOptionFactory.create(EuropeanModel.BLACK_76, call), AnalyticOptionFactory.createBlack76Call(52, 50, 0.25, 0.3, 0.12) },
+            { AnalyticOptionFactory.create(EuropeanModel.BACHELIER, put), AnalyticOptionFactory.createBachelierPut(42, 40, 0.5, 0.2, 0.1) },
+        };
+
+        // Assert
+        for (int i = 0; i < options.length; i++) {
+            AnalyticOption fromSpec = options[i][0], fromNumbers = options[i][1];
+            assertThat(fromSpec.price()).as("price %d", i).isEqualTo(fromNumbers.price());
+            assertThat(fromSpec.delta()).as("delta %d", i).isEqualTo(fromNumbers.delta());
+            assertThat(fromSpec.vega()).as("vega %d", i).isEqualTo(fromNumbers.vega());
+        }
+        assertThatThrownBy(() -> AnalyticOptionFactory.create(american))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("spec must be European style");
+    }
+
+    @Test
+    public void Calculation_steps_should_be_rendered_lazily_with_the_precision_when_calculated() {
+        // Arrange
+        AnalyticOption option = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0);
+        option.setCalculationStepPrecision(4, PrecisionType.DECIMAL_PLACES);
+        AnalyticCalculation calculation = option.priceCalculation();
+        option.setCalculationStepPrecision(2, PrecisionType.DECIMAL_PLACES);
+
+        // Act
+        String d1 = calculation.getStepPart(0, 3);
+        String[][] steps = calculation.getSteps();
+        steps[0] = null; // the outer array is the caller's, the steps are memoized
+
+        // Assert
+        assertThat(d1).isEqualTo("0.5365");
+        assertThat(calculation.getStepCount()).isEqualTo(5);
+        assertThat(calculation.getStep(0)[3]).isEqualTo("0.5365");
+        assertThat(calculation.getStep(4)).isSameAs(steps[4]);
+        assertThat(option.priceCalculation().getStepPart(0, 3)).isEqualTo("0.54");
+    }
+
+    @Test
+    public void Calculation_should_be_written_as_an_align_environment() throws IOException {
+        // Arrange
+        AnalyticCalculation calculation = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0).priceCalculation();
+        String expected = "\\begin{align*} ";
+        for (String[] step : calculation.getSteps()) {
+            expected += "& ";
+            expected += String.join(" = ", step);
+            expected += " \\\\";
+        }
+        expected += " \\end{align*}";
+        StringWriter writer = new StringWriter();
+
+        // Act
+        AnalyticCalculation lazyCalculation = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0).priceCalculation();
+        lazyCalculation.appendAlign(writer.append("% price\n"));
+
+        // Assert
+        assertThat(writer.toString()).isEqualTo("% price\n" + expected);
+        assertThat(calculation.toAlign()).isEqualTo(expected);
+    }
+
+    //region allocation tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void Price_and_greeks_should_not_allocate() {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+
+        // Arrange
+        AnalyticOption call = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0.02);
+        AnalyticOption put = AnalyticOptionFactory.createEuropeanPut(42, 40, 0.5, 0.2, 0.1, 0.02);
+        Map<String, DoubleSupplier> paths = new LinkedHashMap<>();
+        paths.put("price", () -> call.price() + put.price());
+        paths.put("delta", () -> call.delta() + put.delta());
+        paths.put("gamma", () -> call.gamma() + put.gamma());
+        paths.put("vega", () -> call.vega() + put.vega());
+        paths.put("theta", () -> call.theta() + put.theta());
+        paths.put("rho", () -> call.rho() + put.rho());
+
+        for (Map.Entry<String, DoubleSupplier> path : paths.entrySet()) {
+            // Act
+            double bytesPerCall = AllocationMeter.bytesPerCall(path.getValue());
+
+            // Assert
+            assertThat(bytesPerCall).as("%s bytes per call", path.getKey()).isLessThan(ALLOCATION_BUDGET);
+        }
+    }
+
+    @Test
+    public void First_evaluation_of_price_and_greeks_should_not_allocate() {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+
+        // Arrange
+        AnalyticOption[] options = new AnalyticOption[1]; // the new option escapes, so it's allocated on both paths
+        DoubleSupplier create = () -> {
+            options[0] = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0.02);
+            return 0d;
+        };
+        Map<String, ToDoubleFunction<AnalyticOption>> values = new LinkedHashMap<>();
+        values.put("price", AnalyticOption::price);
+        values.put("delta", AnalyticOption::delta);
+        values.put("gamma", AnalyticOption::gamma);
+        values.put("vega", AnalyticOption::vega);
+        values.put("theta", AnalyticOption::theta);
+        values.put("rho", AnalyticOption::rho);
+        double creationBytes = AllocationMeter.bytesPerCall(create);
+
+        for (Map.Entry<String, ToDoubleFunction<AnalyticOption>> value : values.entrySet()) {
+            // Act
+            double bytesPerCall = AllocationMeter.bytesPerCall(() -> create.getAsDouble() + value.getValue().applyAsDouble(options[0]));
+
+            // Assert
+            assertThat(bytesPerCall - creationBytes).as("%s bytes per first call", value.getKey()).isLessThan(ALLOCATION_BUDGET);
+        }
+    }
+
+    //----------------------------------------------------------------------
+    //endregion allocation tests
+
     //region private methods
     //----------------------------------------------------------------------
 
@@ -0,0 +1,82 @@
+package dev.peterrhodes.optionpricing.internal.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.peterrhodes.optionpricing.internal.enums.LatexDelimeterType;
+import dev.peterrhodes.optionpricing.internal.enums.PrecisionType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #FormulaTemplate}.
+ */
+public class FormulaTemplateTest {
+
+    @Test
+    public void Rendering_should_equal_substituting_the_keys_in_order() {
+        // Arrange
+        String formula = "\\frac{\\ln \\left( \\frac{S}{K} \\right) + \\left( r - q + \\frac{\\sigma^{2}}{2} \\right) \\tau}{\\sigma \\sqrt{\\tau}} + d_1 + d";
+        EquationInput[] values = {
+            new EquationInput.Builder("S").withNumberValue(52).withDelimeter(LatexDelimeterType.PARENTHESIS).build(),
+            new EquationInput.Builder("K").withNumberValue(50).build(),
+            new EquationInput.Builder("r").withNumberValue(0.12).build(),
+            new EquationInput.Builder("q").withNumberValue(0).build(),
+            new EquationInput.Builder("\\sigma").withNumberValue(0.3).withDelimeter(LatexDelimeterType.PARENTHESIS).build(),
+            new EquationInput.Builder("\\tau").withNumberValue(0.25).build(),
+            new EquationInput.Builder("d_1").withNumberValue(0.53652).withPrecision(4, PrecisionType.DECIMAL_PLACES).build(),
+        };
+
+        // Act
+        String result = FormulaTemplate.compile(formula, "S", "K", "r", "q", "\\sigma", "\\tau", "d_1").render(values);
+
+        // Assert
+        assertThat(result).isEqualTo("\\frac{\\ln \\left( \\frac{\\left( 52 \\right)}{50} \\right) + \\left( 0.12 - 0 + \\frac{\\left( 0.3 \\right)^{2}}{2} \\right) 0.25}{\\left( 0.3 \\right) \\sqrt{0.25}} + 0.5365 + d");
+    }
+
+    @Test
+    public void Earlier_keys_should_take_precedence() {
+        // Arrange
+        String formula = "N(d_1) d_1 N(d_1)";
+        EquationInput[] values = {
+            new EquationInput.Builder("N(d_1)").withStringValue("0.7").build(),
+            new EquationInput.Builder("d_1").withStringValue("0.5").build(),
+        };
+
+        // Act
+        String result = FormulaTemplate.compile(formula, "N(d_1)", "d_1").render(values);
+
+        // Assert
+        assertThat(result).isEqualTo("0.7 0.5 0.7");
+    }
+
+    @Test
+    public void Values_shouldnt_be_substituted_into_other_values() {
+        // Arrange
+        EquationInput[] values = {
+            new EquationInput.Builder("x").withStringValue("y").build(),
+            new EquationInput.Builder("y").withStringValue("x").build()
+        };
+
+        // Act
+        String result = FormulaTemplate.of("x + y", values).render(values);
+
+        // Assert
+        assertThat(result).isEqualTo("y + x");
+    }
+
+    @Test
+    public void Templates_should_be_cached_per_formula_and_keys() {
+        // Arrange
+        EquationInput[] values = { new EquationInput.Builder("a").withNumberValue(1).build(), new EquationInput.Builder("b").withNumberValue(2).build() };
+        EquationInput[] reversed = { values[1], values[0] };
+
+        // Act
+        FormulaTemplate first = FormulaTemplate.of("a + b", values);
+        FormulaTemplate second = FormulaTemplate.of("a + b", values);
+        FormulaTemplate other = FormulaTemplate.of("a + b", reversed);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(other.render(reversed, new StringBuilder("x = ")).toString()).isEqualTo("x = 1 + 2");
+    }
+}
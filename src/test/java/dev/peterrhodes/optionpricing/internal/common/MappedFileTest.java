@@ -0,0 +1,47 @@
+package dev.peterrhodes.optionpricing.internal.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for {@link #MappedFile}.
+ */
+public class MappedFileTest {
+
+    @Test
+    public void Values_should_be_read_back_across_segments(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path path = directory.resolve("mapped.bin");
+        long size = 10_000;
+
+        // Act
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedFile file = MappedFile.map(channel, FileChannel.MapMode.READ_WRITE, size, 6); // 64 byte segments
+            for (long offset = 0; offset < size; offset += 8) {
+                file.putDouble(offset, offset / 8d);
+            }
+            file.putInt(4, 7);
+            file.put(size - 1, (byte) 3);
+            file.force();
+        }
+        MappedFile file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            file = MappedFile.map(channel, FileChannel.MapMode.READ_ONLY, channel.size(), 6);
+        }
+
+        // Assert
+        assertThat(file.size()).isEqualTo(size);
+        assertThat(file.getDouble(8 * 1000)).isEqualTo(1000d);
+        assertThat(file.getDouble(64)).as("first value of a segment").isEqualTo(8d);
+        assertThat(file.getInt(4)).isEqualTo(7);
+        assertThat(file.get(size - 1)).isEqualTo((byte) 3);
+        assertThatThrownBy(() -> file.getLong(size)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package dev.peterrhodes.optionpricing.internal.impliedvolatility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.ImpliedVolatility;
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.OptionBuilder;
+import dev.peterrhodes.optionpricing.PricingModelSelector;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.kernels.BaroneAdesiWhaleyKernel;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #AmericanImpliedVolatility}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class AmericanImpliedVolatilityTest {
+
+    @Test
+    public void Barone_Adesi_Whaley_price_should_be_close_to_Cox_Ross_Rubinstein_price() {
+        // Arrange
+        double S = 90.0, K = 100.0, τ = 0.5, σ = 0.25, r = 0.08, q = 0.04;
+        Option call = new OptionBuilder(S, K, τ, σ, r, q).styleAmerican().typeCall().build();
+        Option put = new OptionBuilder(S, K, τ, σ, r, q).styleAmerican().typePut().build();
+
+        // Act
+        double callPrice = BaroneAdesiWhaleyKernel.price(true, S, K, τ, σ, r, q);
+        double putPrice = BaroneAdesiWhaleyKernel.price(false, S, K, τ, σ, r, q);
+
+        // Assert (the approximation is typically within a few cents)
+        assertThat(callPrice).isEqualTo(PricingModelSelector.coxRossRubinstein(200).price(call), withPrecision(0.1));
+        assertThat(putPrice).isEqualTo(PricingModelSelector.coxRossRubinstein(200).price(put), withPrecision(0.1));
+    }
+
+    @Test
+    public void Implied_volatility_round_trip() {
+        // Arrange
+        double[] spotPrices = { 100.0, 90.0, 110.0, 90.0, 120.0, 100.0 };
+        double[] timesToMaturity = { 0.1, 0.5, 3.0, 1.0, 0.25, 2.0 };
+        double[] volatilities = { 0.15, 0.25, 0.3, 0.2, 0.6, 0.1 };
+        double K = 100.0, r = 0.08, q = 0.03;
+
+        for (OptionType optionType : OptionType.values()) {
+            for (int i = 0; i < spotPrices.length; i++) {
+                double S = spotPrices[i], τ = timesToMaturity[i], σ = volatilities[i];
+                boolean isCall = optionType == OptionType.CALL;
+                double price = BaroneAdesiWhaleyKernel.price(isCall, S, K, τ, σ, r, q);
+
+                // Act
+                double cold = ImpliedVolatility.american(optionType, price, S, K, τ, r, q);
+                double warm = ImpliedVolatility.american(optionType, price, S, K, τ, r, q, σ * 1.01);
+
+                // Assert
+                String description = String.format("%s S = %s, τ = %s, σ = %s", optionType, S, τ, σ);
+                assertThat(cold).as(description).isEqualTo(σ, withPrecision(1e-8));
+                assertThat(warm).as(description).isEqualTo(σ, withPrecision(1e-8));
+            }
+        }
+    }
+
+    @Test
+    public void Price_equal_to_intrinsic_value_should_return_zero() {
+        // Arrange
+        double S = 80.0, K = 100.0, τ = 1.0, r = 0.1, q = 0.0;
+
+        // Act Assert
+        assertThat(ImpliedVolatility.american(OptionType.PUT, 20.0, S, K, τ, r, q)).isZero();
+    }
+
+    @Test
+    public void Arbitrage_violations_should_throw_IllegalArgumentException() {
+        // Arrange
+        double S = 80.0, K = 100.0, τ = 1.0, r = 0.1, q = 0.0;
+        Class exClass = IllegalArgumentException.class;
+
+        // Act Assert
+        assertThatThrownBy(() -> {
+            double ex = ImpliedVolatility.american(OptionType.PUT, 19.0, S, K, τ, r, q);
+        })
+            .as("put below intrinsic value")
+            .isInstanceOf(exClass)
+            .hasMessageContaining("below the intrinsic value");
+
+        assertThatThrownBy(() -> {
+            double ex = ImpliedVolatility.american(OptionType.CALL, 80.0, S, K, τ, r, q);
+        })
+            .as("call at spot price")
+            .isInstanceOf(exClass)
+            .hasMessageContaining("must be less than");
+    }
+
+    @Test
+    public void Batch_implied_volatility_should_warm_start_from_output_array() {
+        // Arrange
+        OptionType[] optionTypes = { OptionType.PUT, OptionType.CALL, OptionType.PUT };
+        double[] S = { 95.0, 105.0, 95.0 };
+        double[] K = { 100.0, 100.0, 100.0 };
+        double[] τ = { 0.5, 0.5, 0.5 };
+        double[] r = { 0.05, 0.05, 0.05 };
+        double[] q = { 0.02, 0.02, 0.02 };
+        double[] prices = {
+            BaroneAdesiWhaleyKernel.price(false, S[0], K[0], τ[0], 0.3, r[0], q[0]),
+            BaroneAdesiWhaleyKernel.price(true, S[1], K[1], τ[1], 0.22, r[1], q[1]),
+            1.0, // below intrinsic value
+        };
+        double[] volatilities = { 0.29, Double.NaN, 0.3 };
+
+        // Act
+        int failures = ImpliedVolatility.american(optionTypes, prices, S, K, τ, r, q, volatilities);
+
+        // Assert
+        assertThat(failures).isEqualTo(1);
+        assertThat(volatilities[0]).isEqualTo(0.3, withPrecision(1e-8));
+        assertThat(volatilities[1]).isEqualTo(0.22, withPrecision(1e-8));
+        assertThat(volatilities[2]).isNaN();
+    }
+}
@@ -0,0 +1,213 @@
+package dev.peterrhodes.optionpricing.internal.impliedvolatility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.AnalyticOptionFactory;
+import dev.peterrhodes.optionpricing.ImpliedVolatility;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #EuropeanImpliedVolatility}.
+ * References:
+ * <ul>
+ *   <li>Hull (2014): Hull, J. (2014) Options, Futures and Other Derivatives. 9th Edition, Prentice Hall, Upper Saddle River.</li>
+ * </ul>
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class EuropeanImpliedVolatilityTest {
+
+    @Test
+    public void Implied_volatility_for_call_Hull2014Sec15_11() {
+        // Arrange
+        double c = 1.875, S = 21.0, K = 20.0, τ = 0.25, r = 0.1, q = 0.0;
+
+        // Act
+        double σ = ImpliedVolatility.european(OptionType.CALL, c, S, K, τ, r, q);
+
+        // Assert
+        assertThat(σ).isEqualTo(0.235, withPrecision(0.001));
+    }
+
+    @Test
+    public void Implied_volatility_round_trip() {
+        // Arrange
+        double[] spotPrices = { 100.0, 100.0, 100.0, 80.0, 120.0, 42.0, 50.0 };
+        double[] strikePrices = { 100.0, 60.0, 150.0, 100.0, 100.0, 40.0, 50.0 };
+        double[] timesToMaturity = { 1.0, 0.25, 2.0, 0.5, 5.0, 0.5, 0.01 };
+        double[] volatilities = { 0.2, 0.5, 0.3, 0.1, 1.5, 0.2, 0.8 };
+        double r = 0.05, q = 0.02;
+
+        for (OptionType optionType : OptionType.values()) {
+            for (int i = 0; i < spotPrices.length; i++) {
+                double S = spotPrices[i], K = strikePrices[i], τ = timesToMaturity[i], σ = volatilities[i];
+                double price = normalizedBlackPrice(optionType == OptionType.CALL, S, K, τ, σ, r, q);
+
+                // Act
+                double result = EuropeanImpliedVolatility.impliedVolatility(optionType == OptionType.CALL, price, S, K, τ, r, q);
+
+                // Assert
+                assertThat(result)
+                    .as(String.format("%s S = %s, K = %s, τ = %s, σ = %s", optionType, S, K, τ, σ))
+                    .isEqualTo(σ, withPrecision(σ * 1e-10));
+            }
+        }
+    }
+
+    @Test
+    public void Implied_volatility_from_analytic_option_price() {
+        // Arrange
+        double S = 50.0, K = 52.0, τ = 2.0, σ = 0.3, r = 0.05, q = 0.0;
+        double price = AnalyticOptionFactory.createEuropeanPut(S, K, τ, σ, r, q).price();
+
+        // Act
+        double result = ImpliedVolatility.european(OptionType.PUT, price, S, K, τ, r, q);
+
+        // Assert
+        assertThat(result).isEqualTo(σ, withPrecision(0.000001));
+    }
+
+    @Test
+    public void Price_equal_to_intrinsic_value_should_return_zero() {
+        // Arrange
+        double S = 100.0, K = 90.0, τ = 1.0, r = 0.0, q = 0.0;
+
+        // Act Assert
+        assertThat(ImpliedVolatility.european(OptionType.CALL, 10.0, S, K, τ, r, q)).isZero();
+        assertThat(ImpliedVolatility.european(OptionType.PUT, 0.0, S, K, τ, r, q)).isZero();
+    }
+
+    @Test
+    public void Prices_within_rounding_of_the_bounds_should_return_zero_or_infinity() {
+        // Arrange
+        OptionType[] optionTypes = { OptionType.CALL, OptionType.CALL, OptionType.CALL };
+        double[] S = { 100.0, 100.0, 100.0 };
+        double[] K = { 1.0, 200.0, 100.0 };
+        double[] τ = { 1.0, 0.01, 1.0 };
+        double[] r = { 0.0, 0.0, 0.05 };
+        double[] q = { 0.0, 0.0, 0.03 };
+        double[] prices = {
+            Math.nextUp(99.0), // time value lost to rounding
+            Double.MIN_VALUE, // time value underflows
+            Math.nextDown(100.0 * Math.exp(-0.03)), // distance to the upper bound lost to rounding
+        };
+        double[] volatilities = new double[3];
+
+        // Act
+        int failures = ImpliedVolatility.european(optionTypes, prices, S, K, τ, r, q, volatilities);
+
+        // Assert
+        assertThat(failures).isZero();
+        assertThat(volatilities).containsExactly(0.0, 0.0, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < prices.length; i++) {
+            assertThat(EuropeanImpliedVolatility.arbitrageViolation(true, prices[i], S[i], K[i], τ[i], r[i], q[i])).as("price %d is within the bounds", i).isNull();
+            assertThat(ImpliedVolatility.european(optionTypes[i], prices[i], S[i], K[i], τ[i], r[i], q[i])).isEqualTo(volatilities[i]);
+        }
+    }
+
+    @Test
+    public void Arbitrage_violations_should_throw_IllegalArgumentException() {
+        // Arrange
+        double S = 100.0, K = 90.0, τ = 1.0, r = 0.0, q = 0.0;
+        Class exClass = IllegalArgumentException.class;
+
+        // Act Assert
+        assertThatThrownBy(() -> {
+            double ex = ImpliedVolatility.european(OptionType.CALL, 9.0, S, K, τ, r, q);
+        })
+            .as("call below intrinsic value")
+            .isInstanceOf(exClass)
+            .hasMessageContaining("below the intrinsic value");
+
+        assertThatThrownBy(() -> {
+            double ex = ImpliedVolatility.european(OptionType.CALL, 100.0, S, K, τ, r, q);
+        })
+            .as("call at spot price")
+            .isInstanceOf(exClass)
+            .hasMessageContaining("must be less than");
+
+        assertThatThrownBy(() -> {
+            double ex = ImpliedVolatility.european(OptionType.PUT, 95.0, S, K, τ, r, q);
+        })
+            .as("put above strike price")
+            .isInstanceOf(exClass)
+            .hasMessageContaining("must be less than");
+
+        assertThatThrownBy(() -> {
+            double ex = ImpliedVolatility.european(OptionType.PUT, Double.NaN, S, K, τ, r, q);
+        })
+            .as("NaN price")
+            .isInstanceOf(exClass)
+            .hasMessageContaining("NaN");
+
+        assertThatThrownBy(() -> {
+            double ex = ImpliedVolatility.european(OptionType.PUT, 5.0, S, K, 0.0, r, q);
+        })
+            .as("zero time to maturity")
+            .isInstanceOf(exClass)
+            .hasMessageContaining("must be greater than zero");
+    }
+
+    @Test
+    public void Batch_implied_volatility_should_return_NaN_for_violations() {
+        // Arrange
+        OptionType[] optionTypes = { OptionType.CALL, OptionType.CALL, OptionType.PUT, OptionType.PUT };
+        double[] S = { 100.0, 100.0, 100.0, 100.0 };
+        double[] K = { 110.0, 90.0, 110.0, 110.0 };
+        double[] τ = { 1.0, 1.0, 1.0, 0.0 };
+        double[] σ = { 0.25, 0.0, 0.4, 0.0 };
+        double[] r = { 0.03, 0.03, 0.03, 0.03 };
+        double[] q = { 0.0, 0.0, 0.0, 0.0 };
+        double[] prices = {
+            normalizedBlackPrice(true, S[0], K[0], τ[0], σ[0], r[0], q[0]),
+            1.0, // below intrinsic value
+            normalizedBlackPrice(false, S[2], K[2], τ[2], σ[2], r[2], q[2]),
+            10.0, // zero time to maturity
+        };
+        double[] volatilities = new double[4];
+
+        // Act
+        int failures = ImpliedVolatility.european(optionTypes, prices, S, K, τ, r, q, volatilities);
+
+        // Assert
+        assertThat(failures).isEqualTo(2);
+        assertThat(volatilities[0]).isEqualTo(σ[0], withPrecision(1e-12));
+        assertThat(volatilities[1]).isNaN();
+        assertThat(volatilities[2]).isEqualTo(σ[2], withPrecision(1e-12));
+        assertThat(volatilities[3]).isNaN();
+
+        assertThatThrownBy(() -> {
+            int ex = ImpliedVolatility.european(optionTypes, prices, S, K, τ, r, q, new double[3]);
+        })
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("same length");
+    }
+
+    @Test
+    public void Normalized_call_complement() {
+        // Arrange
+        double[] xValues = { -2.0, -0.5, 0.0, 0.5 };
+        double[] sValues = { 0.1, 1.0, 3.0 };
+
+        for (double x : xValues) {
+            for (double s : sValues) {
+                // Act
+                double sum = NormalizedBlack.call(x, s) + NormalizedBlack.callComplement(x, s);
+
+                // Assert
+                assertThat(sum)
+                    .as(String.format("x = %s, s = %s", x, s))
+                    .isEqualTo(Math.exp(x / 2d), withPrecision(1e-15));
+            }
+        }
+    }
+
+    private static double normalizedBlackPrice(boolean isCall, double S, double K, double τ, double σ, double r, double q) {
+        double F = S * Math.exp((r - q) * τ);
+        double x = Math.log(F / K);
+        double b = isCall ? NormalizedBlack.call(x, σ * Math.sqrt(τ)) : NormalizedBlack.call(-x, σ * Math.sqrt(τ));
+        return Math.exp(-r * τ) * Math.sqrt(F * K) * b;
+    }
+}
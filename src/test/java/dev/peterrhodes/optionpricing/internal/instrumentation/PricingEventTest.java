@@ -0,0 +1,121 @@
+package dev.peterrhodes.optionpricing.internal.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.peterrhodes.optionpricing.AnalyticOption;
+import dev.peterrhodes.optionpricing.AnalyticOptionFactory;
+import dev.peterrhodes.optionpricing.BatchPricing;
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.OptionBuilder;
+import dev.peterrhodes.optionpricing.PricingModelSelector;
+import dev.peterrhodes.optionpricing.enums.EuropeanModel;
+import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #PricingEvent} and {@link #BatchPricingEvent}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class PricingEventTest {
+
+    @Test
+    public void Calculations_should_not_emit_events_until_their_steps_are_rendered() throws IOException {
+        // Arrange
+        AnalyticOption analyticOption = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0);
+        Path file = Files.createTempFile("pricing", ".jfr");
+
+        // Act
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(PricingEvent.NAME).withoutThreshold();
+            recording.start();
+            analyticOption.priceCalculation().getStep(4);
+            analyticOption.gammaCalculation();
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(PricingEvent.NAME))
+                .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        // Assert
+        assertThat(events).as("only the rendered price step").hasSize(1);
+        assertThat(events.get(0).getString("operation")).isEqualTo("priceCalculation");
+    }
+
+    @Test
+    public void Calculations_and_batches_should_emit_events() throws IOException {
+        // Arrange
+        Option option = new OptionBuilder(1500, 1480, 1, 0.18, 0.04, 0.025)
+            .styleAmerican()
+            .typePut()
+            .build();
+        AnalyticOption analyticOption = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0);
+        OptionType[] types = { OptionType.CALL, OptionType.PUT };
+        double[] S = { 52, 42 }, K = { 50, 40 }, τ = { 0.25, 0.5 }, σ = { 0.3, 0.2 }, r = { 0.12, 0.1 }, q = { 0, 0 }, prices = new double[2];
+        Path file = Files.createTempFile("pricing", ".jfr");
+
+        // Act
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(PricingEvent.NAME).withoutThreshold();
+            recording.enable(BatchPricingEvent.NAME).withoutThreshold();
+            recording.start();
+            PricingModelSelector.coxRossRubinstein(2).calculation(option);
+            AnalyticCalculation calculation = analyticOption.deltaCalculation();
+            calculation.getSteps();
+            calculation.getSteps(); // memoized
+            BatchPricing.european(EuropeanModel.BLACK_SCHOLES_MERTON, types, S, K, τ, σ, r, q, prices);
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("dev.peterrhodes.optionpricing."))
+                .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        // Assert
+        assertThat(events).as("a lattice, the three delta steps, and a batch").hasSize(5);
+
+        RecordedEvent lattice = events.get(0);
+        assertThat(lattice.getEventType().getName()).isEqualTo(PricingEvent.NAME);
+        assertThat(lattice.getString("model")).isEqualTo("CoxRossRubinstein");
+        assertThat(lattice.getString("operation")).isEqualTo("calculation");
+        assertThat(lattice.getString("optionStyle")).isEqualTo("AMERICAN");
+        assertThat(lattice.getString("optionType")).isEqualTo("PUT");
+        assertThat(lattice.getDouble("underlyingPrice")).isEqualTo(1500);
+        assertThat(lattice.getDouble("strikePrice")).isEqualTo(1480);
+        assertThat(lattice.getDouble("timeToMaturity")).isEqualTo(1);
+        assertThat(lattice.getDouble("volatility")).isEqualTo(0.18);
+        assertThat(lattice.getDouble("riskFreeRate")).isEqualTo(0.04);
+        assertThat(lattice.getDouble("dividendYield")).isEqualTo(0.025);
+        assertThat(lattice.getInt("timeSteps")).isEqualTo(2);
+        assertThat(lattice.getDuration().isNegative()).isFalse();
+
+        for (RecordedEvent analytic : events.subList(1, 4)) {
+            assertThat(analytic.getEventType().getName()).isEqualTo(PricingEvent.NAME);
+            assertThat(analytic.getString("model")).isEqualTo("BlackScholesMerton");
+            assertThat(analytic.getString("operation")).isEqualTo("deltaCalculation");
+            assertThat(analytic.getString("optionType")).isEqualTo("CALL");
+            assertThat(analytic.getInt("timeSteps")).isEqualTo(0);
+        }
+
+        RecordedEvent batch = events.get(4);
+        assertThat(batch.getEventType().getName()).isEqualTo(BatchPricingEvent.NAME);
+        assertThat(batch.getString("model")).isEqualTo("BlackScholesMerton");
+        assertThat(batch.getString("operation")).isEqualTo("european");
+        assertThat(batch.getInt("options")).isEqualTo(2);
+    }
+}
@@ -0,0 +1,200 @@
+package dev.peterrhodes.optionpricing.internal.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.AnalyticOption;
+import dev.peterrhodes.optionpricing.AnalyticOptionFactory;
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.OptionBuilder;
+import dev.peterrhodes.optionpricing.PricingMetrics;
+import dev.peterrhodes.optionpricing.PricingModel;
+import dev.peterrhodes.optionpricing.PricingModelSelector;
+import dev.peterrhodes.optionpricing.internal.analyticoptions.EuropeanOption;
+import dev.peterrhodes.optionpricing.models.AnalyticCalculation;
+import dev.peterrhodes.optionpricing.models.CoxRossRubinstein;
+import dev.peterrhodes.optionpricing.models.PricingMetricsSnapshot;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #RecordingPricingMetrics}.
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class RecordingPricingMetricsTest {
+
+    @AfterEach
+    public void uninstall() {
+        PricingMetrics.install(PricingMetrics.noOp());
+    }
+
+    @Test
+    public void No_op_metrics_should_not_instrument() {
+        // Arrange
+        AnalyticOption option = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0);
+
+        // Act
+        option.price();
+
+        // Assert
+        assertThat(PricingMetrics.installed()).isSameAs(PricingMetrics.noOp());
+        assertThat(option).isInstanceOf(EuropeanOption.class);
+        assertThat(PricingMetrics.installed().snapshot().getOperations()).isEmpty();
+    }
+
+    @Test
+    public void Recording_metrics_should_count_calls_lattice_nodes_and_cdf_evaluations() {
+        // Arrange
+        PricingMetrics metrics = PricingMetrics.recording();
+        PricingMetrics.install(metrics);
+        AnalyticOption analyticOption = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0);
+        Option option = new OptionBuilder(1500, 1480, 1, 0.18, 0.04, 0.025)
+            .styleAmerican()
+            .typePut()
+            .build();
+        PricingModel<CoxRossRubinstein> pricingModel = PricingModelSelector.coxRossRubinstein(10);
+
+        // Act
+        double price = 0d;
+        for (int i = 0; i < 3; i++) {
+            price += analyticOption.price();
+        }
+        analyticOption.delta();
+        pricingModel.price(option);
+        pricingModel.price(option);
+        pricingModel.calculation(option);
+        PricingMetricsSnapshot snapshot = metrics.snapshot();
+
+        // Assert
+        assertThat(price / 3d).as("instrumented price").isEqualTo(5.06, withPrecision(0.01));
+        assertThat(snapshot.getOperations()).containsOnlyKeys(
+            "BlackScholesMerton.price", "BlackScholesMerton.delta", "CoxRossRubinstein.price", "CoxRossRubinstein.calculation"
+        );
+        assertThat(snapshot.getOperation("BlackScholesMerton.price").getCalls()).as("price calls").isEqualTo(3);
+        assertThat(snapshot.getOperation("BlackScholesMerton.delta").getCalls()).as("delta calls").isEqualTo(1);
+        assertThat(snapshot.getOperation("CoxRossRubinstein.price").getCalls()).as("lattice price calls").isEqualTo(2);
+        assertThat(snapshot.getOperation("CoxRossRubinstein.price").getLatticeNodes()).as("lattice price nodes").isEqualTo(2 * 66);
+        assertThat(snapshot.getOperation("CoxRossRubinstein.calculation").getLatticeNodes()).as("lattice calculation nodes").isEqualTo(66);
+        assertThat(snapshot.getCdfEvaluations()).as("two for the first price, then cached by the option").isEqualTo(2);
+    }
+
+    @Test
+    public void Calculation_steps_and_values_should_share_the_cdf_evaluations() {
+        // Arrange
+        PricingMetrics metrics = PricingMetrics.recording();
+        PricingMetrics.install(metrics);
+        AnalyticOption option = AnalyticOptionFactory.createEuropeanPut(52, 50, 0.25, 0.3, 0.12, 0.02);
+
+        // Act
+        String[][] steps = option.thetaCalculation().getSteps();
+        final double theta = option.theta();
+        option.price();
+        option.rho();
+
+        // Assert
+        assertThat(steps.length).as("d₁, d₂, N(-d₁), N(-d₂), N'(d₁), theta").isEqualTo(6);
+        assertThat(theta).isNegative();
+        assertThat(metrics.snapshot().getCdfEvaluations()).as("N(-d₁) and N(-d₂) once each").isEqualTo(2);
+    }
+
+    @Test
+    public void Calculation_steps_should_be_recorded_when_they_are_rendered() {
+        // Arrange
+        PricingMetrics metrics = PricingMetrics.recording();
+        PricingMetrics.install(metrics);
+        AnalyticOption option = AnalyticOptionFactory.createEuropeanCall(52, 50, 0.25, 0.3, 0.12, 0);
+
+        // Act
+        AnalyticCalculation calculation = option.priceCalculation();
+        final PricingMetricsSnapshot created = metrics.snapshot();
+        calculation.toAlign();
+        calculation.toAlign(); // memoized
+        calculation.getSteps();
+        PricingMetricsSnapshot rendered = metrics.snapshot();
+
+        // Assert
+        assertThat(created.getOperations()).as("nothing recorded until a step is rendered").isEmpty();
+        assertThat(rendered.getOperation("BlackScholesMerton.priceCalculation").getCalls()).as("one call per step").isEqualTo(5);
+        assertThat(calculation.getStep(0)).as("memoized, not copied").isSameAs(calculation.getSteps()[0]);
+    }
+
+    @Test
+    public void Latency_percentiles_should_be_within_histogram_precision() {
+        // Arrange
+        PricingMetrics metrics = PricingMetrics.recording();
+
+        // Act
+        for (long nanos = 1; nanos <= 10_000; nanos++) {
+            metrics.recordCall("operation", nanos);
+        }
+        PricingMetricsSnapshot.Operation operation = metrics.snapshot().getOperation("operation");
+
+        // Assert
+        assertThat(operation.getCalls()).isEqualTo(10_000);
+        assertThat(operation.getMaxNanos()).isEqualTo(10_000);
+        assertThat(operation.getMeanNanos()).isEqualTo(5000.5, withPrecision(1e-9));
+        assertThat(operation.getLatencyNanos(100)).isEqualTo(10_000);
+        double[] percentiles = { 1, 50, 90, 99, 99.9 };
+        for (double percentile : percentiles) {
+            double expected = percentile * 100d;
+            assertThat((double) operation.getLatencyNanos(percentile))
+                .as("p%s", percentile)
+                .isBetween(expected, expected * (1d + 1d / LatencyHistogram.SUB_BUCKETS));
+        }
+    }
+
+    @Test
+    public void Bucket_upper_bound_should_be_within_relative_error() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >>> (1 + random.nextInt(63)); // non-negative, spread over every magnitude
+
+            // Act
+            int index = LatencyHistogram.bucketIndex(value);
+            long upperBound = LatencyHistogram.bucketUpperBound(index);
+
+            // Assert
+            assertThat(index).isBetween(0, LatencyHistogram.BUCKETS - 1);
+            assertThat(upperBound).as("upper bound of %d", value).isGreaterThanOrEqualTo(value);
+            assertThat(upperBound - value).as("error of %d", value).isLessThanOrEqualTo(value / LatencyHistogram.SUB_BUCKETS);
+        }
+        assertThat(LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void Concurrent_recording_should_not_lose_calls() throws InterruptedException {
+        // Arrange
+        PricingMetrics metrics = PricingMetrics.recording();
+        int threads = 4, callsPerThread = 25_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < callsPerThread; i++) {
+                    metrics.recordCall("operation", i);
+                    metrics.recordCdfEvaluation();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        PricingMetricsSnapshot snapshot = metrics.snapshot();
+
+        // Assert
+        long bucketTotal = 0;
+        for (long count : snapshot.getOperation("operation").getBucketCounts()) {
+            bucketTotal += count;
+        }
+        assertThat(snapshot.getOperation("operation").getCalls()).isEqualTo(threads * callsPerThread);
+        assertThat(bucketTotal).isEqualTo(threads * callsPerThread);
+        assertThat(snapshot.getCdfEvaluations()).isEqualTo(threads * callsPerThread);
+        assertThat(snapshot.getOperation("operation").getMaxNanos()).isEqualTo(callsPerThread - 1);
+    }
+}
@@ -3,18 +3,32 @@ package dev.peterrhodes.optionpricing.internal.pricingmodels;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import dev.peterrhodes.optionpricing.AnalyticOptionFactory;
+import dev.peterrhodes.optionpricing.CalculationCodec;
+import dev.peterrhodes.optionpricing.MappedLattices;
 import dev.peterrhodes.optionpricing.Option;
 import dev.peterrhodes.optionpricing.OptionBuilder;
+import dev.peterrhodes.optionpricing.OptionSpec;
 import dev.peterrhodes.optionpricing.PricingModel;
 import dev.peterrhodes.optionpricing.PricingModelSelector;
 import dev.peterrhodes.optionpricing.enums.OptionStyle;
 import dev.peterrhodes.optionpricing.enums.OptionType;
+import dev.peterrhodes.optionpricing.internal.AllocationMeter;
+import dev.peterrhodes.optionpricing.internal.common.CoxRossRubinsteinLayout;
 import dev.peterrhodes.optionpricing.models.CoxRossRubinstein;
+import dev.peterrhodes.optionpricing.models.MappedCoxRossRubinstein;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Test class for {@link #CoxRossRubinsteinPricingModel}.
@@ -26,6 +40,9 @@ import org.junit.jupiter.api.Test;
 @SuppressWarnings("checkstyle:multiplevariabledeclarations")
 public class CoxRossRubinsteinPricingModelTest {
 
+    // Upper bound on the header and padding of an array
+    private static final int ARRAY_OVERHEAD = 24;
+
     //region throws IllegalArgumentException tests
     //----------------------------------------------------------------------
 
@@ -193,9 +210,149 @@ public class CoxRossRubinsteinPricingModelTest {
             .isEqualTo(pricingModel.price(AnalyticOptionFactory.createEuropeanPut(140, 150, 0.5, 0.25, 0.04, 0)));
     }
 
+    @Test
+    public void Mapped_calculation_should_equal_calculation(@TempDir Path directory) throws IOException {
+        for (int c = 0; c < 4; c++) {
+            // Arrange
+            OptionType type = c % 2 == 0 ? OptionType.CALL : OptionType.PUT;
+            OptionBuilder builder = new OptionBuilder(50, 52, 2, 0.3, 0.05, 0.01);
+            builder = c < 2 ? builder.styleAmerican() : builder.styleEuropean();
+            Option option = (type == OptionType.CALL ? builder.typeCall() : builder.typePut()).build();
+            int timeSteps = 100;
+            Path path = directory.resolve(c + ".crr");
+
+            // Act
+            MappedCoxRossRubinstein result = MappedLattices.coxRossRubinstein(option, timeSteps, path);
+            CoxRossRubinstein expected = PricingModelSelector.coxRossRubinstein(timeSteps).calculation(option);
+            CoxRossRubinstein encoded;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                encoded = CalculationCodec.readCoxRossRubinstein(channel, 0).toCoxRossRubinstein();
+            }
+
+            // Assert
+            assertThat(result.getNodeCount()).isEqualTo(expected.getNodes().length);
+            assertThat(result.getP()).isEqualTo(expected.getP());
+            for (CoxRossRubinstein.Node node : expected.getNodes()) {
+                assertThat(result.getNode(node.getI(), node.getJ())).as("%s (%d, %d)", type, node.getI(), node.getJ()).usingRecursiveComparison().isEqualTo(node);
+            }
+            assertThat(encoded.getNodes()).usingRecursiveFieldByFieldElementComparator().containsExactly(expected.getNodes());
+            assertThat(new MappedCoxRossRubinstein(path).getV(0, 0)).isEqualTo(expected.getNodes()[0].getV());
+            assertThatThrownBy(() -> result.getS(timeSteps, timeSteps + 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    public void Mapped_calculation_should_support_more_than_int_max_nodes(@TempDir Path directory) throws IOException {
+        // Arrange
+        int timeSteps = 70_000;
+        long size = CoxRossRubinsteinLayout.size(timeSteps);
+        Path path = directory.resolve("large.crr");
+        ByteBuffer header = ByteBuffer.allocate((int) CoxRossRubinsteinLayout.BITMAP_OFFSET).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0, CoxRossRubinsteinLayout.MAGIC).put(4, CoxRossRubinsteinLayout.VERSION).putInt(8, timeSteps).putInt(12, CoxRossRubinsteinLayout.nodeCountField(timeSteps));
+        ByteBuffer value = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putDouble(0, 42d);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.SPARSE, StandardOpenOption.WRITE)) {
+            channel.write(header, 0);
+            channel.write(value, CoxRossRubinsteinLayout.vOffset(timeSteps, CoxRossRubinsteinLayout.index(timeSteps, timeSteps)));
+        }
+        assumeTrue(path.toFile().length() == size, "sparse file of the tree's size");
+
+        // Act
+        MappedCoxRossRubinstein result = new MappedCoxRossRubinstein(path);
+
+        // Assert
+        assertThat(result.getNodeCount()).isGreaterThan(Integer.MAX_VALUE).isEqualTo(2_450_105_001L);
+        assertThat(result.getV(timeSteps, timeSteps)).isEqualTo(42d);
+        assertThat(CoxRossRubinsteinLayout.nodeCountField(timeSteps)).isEqualTo(-1);
+        assertThat(CoxRossRubinsteinLayout.nodeCountField(65_534)).isEqualTo(2_147_450_880);
+        assertThatThrownBy(() -> MappedLattices.coxRossRubinstein(new OptionBuilder(50, 52, 2, 0.3, 0.05, 0.01).styleEuropean().typeCall().build(), CoxRossRubinsteinLayout.MAX_TIME_STEPS + 1, directory.resolve("too-large.crr")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     //----------------------------------------------------------------------
     //endregion
-    
+
+    //region price tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void Price_should_equal_calculation_root_node_value() {
+        for (OptionStyle style : OptionStyle.values()) {
+            for (OptionType type : OptionType.values()) {
+                for (int timeSteps : new int[] { 1, 2, 50, 500 }) {
+                    // Arrange
+                    OptionBuilder builder = new OptionBuilder(50, 52, 2, 0.3, 0.05, 0.01);
+                    builder = style == OptionStyle.AMERICAN ? builder.styleAmerican() : builder.styleEuropean();
+                    Option option = (type == OptionType.CALL ? builder.typeCall() : builder.typePut()).build();
+                    PricingModel<CoxRossRubinstein> pricingModel = PricingModelSelector.coxRossRubinstein(timeSteps);
+
+                    // Act
+                    double price = pricingModel.price(option);
+                    double customPrice = pricingModel.price(new DelegatingOption(option));
+                    CoxRossRubinstein result = pricingModel.calculation(option);
+
+                    // Assert
+                    String description = String.format("%s %s, %d time steps", style, type, timeSteps);
+                    assertThat(price).as(description).isEqualTo(result.getNodes()[0].getV());
+                    assertThat(customPrice).as(description + ", custom option").isEqualTo(price);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void Spec_price_should_equal_option_price() {
+        for (OptionStyle style : OptionStyle.values()) {
+            for (OptionType type : OptionType.values()) {
+                // Arrange
+                OptionBuilder builder = new OptionBuilder(50, 52, 2, 0.3, 0.05, 0.01);
+                builder = style == OptionStyle.AMERICAN ? builder.styleAmerican() : builder.styleEuropean();
+                builder = type == OptionType.CALL ? builder.typeCall() : builder.typePut();
+                Option option = builder.build();
+                OptionSpec spec = builder.buildSpec();
+                PricingModel<CoxRossRubinstein> pricingModel = PricingModelSelector.coxRossRubinstein(100);
+
+                // Act
+                double price = pricingModel.price(option);
+                double specPrice = pricingModel.price(spec);
+                double specAsOptionPrice = pricingModel.price((Option) spec);
+
+                // Assert
+                String description = String.format("%s %s", style, type);
+                assertThat(specPrice).as(description).isEqualTo(price);
+                assertThat(specAsOptionPrice).as(description + ", as option").isEqualTo(price);
+            }
+        }
+    }
+
+    @Test
+    public void Price_should_only_allocate_a_single_time_step() {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+
+        // Arrange
+        int timeSteps = 1000;
+        Option option = new OptionBuilder(50, 52, 2, 0.3, 0.05, 0.01)
+            .styleAmerican()
+            .typePut()
+            .build();
+        OptionSpec spec = new OptionSpec.Builder(50, 52, 2, 0.3, 0.05, 0.01)
+            .styleAmerican()
+            .typePut()
+            .build();
+        PricingModel<CoxRossRubinstein> pricingModel = PricingModelSelector.coxRossRubinstein(timeSteps);
+        long budget = 3L * (Double.BYTES * (timeSteps + 1) + ARRAY_OVERHEAD); // option values and powers of u and d
+
+        // Act
+        double bytesPerCall = AllocationMeter.bytesPerCall(() -> pricingModel.price(option), 200, 100);
+        double specBytesPerCall = AllocationMeter.bytesPerCall(() -> pricingModel.price(spec), 200, 100);
+
+        // Assert
+        assertThat(bytesPerCall).as("bytes per call").isLessThanOrEqualTo(budget);
+        assertThat(specBytesPerCall).as("spec bytes per call").isLessThanOrEqualTo(budget);
+    }
+
+    //----------------------------------------------------------------------
+    //endregion
+
     //region private methods
     //----------------------------------------------------------------------
 
@@ -245,4 +402,56 @@ public class CoxRossRubinsteinPricingModelTest {
                 .isEqualTo(expectedNode.getExercised());
         }
     }
+
+    /**
+     * Option which isn't one of the library's implementations, so its exercise value is asked for.
+     */
+    private static final class DelegatingOption implements Option {
+
+        private final Option option;
+
+        DelegatingOption(Option option) {
+            this.option = option;
+        }
+
+        @Override
+        public OptionStyle optionStyle() {
+            return this.option.optionStyle();
+        }
+
+        @Override
+        public OptionType optionType() {
+            return this.option.optionType();
+        }
+
+        @Override
+        public Number initialSpotPrice() {
+            return this.option.initialSpotPrice();
+        }
+
+        @Override
+        public Number strikePrice() {
+            return this.option.strikePrice();
+        }
+
+        @Override
+        public Number timeToMaturity() {
+            return this.option.timeToMaturity();
+        }
+
+        @Override
+        public Number volatility() {
+            return this.option.volatility();
+        }
+
+        @Override
+        public Number riskFreeRate() {
+            return this.option.riskFreeRate();
+        }
+
+        @Override
+        public Number dividendYield() {
+            return this.option.dividendYield();
+        }
+    }
 }
@@ -0,0 +1,205 @@
+package dev.peterrhodes.optionpricing.internal.pricingmodels;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.CharacteristicFunction;
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.OptionBuilder;
+import dev.peterrhodes.optionpricing.PricingModel;
+import dev.peterrhodes.optionpricing.PricingModelSelector;
+import dev.peterrhodes.optionpricing.StrikeVectorPricingModel;
+import dev.peterrhodes.optionpricing.internal.kernels.BlackScholesMertonKernel;
+import dev.peterrhodes.optionpricing.models.FourierCosine;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #FourierCosinePricingModel}.
+ * <ul>
+ *   <li>Fang and Oosterlee (2008): Fang, F. and Oosterlee, C. W. (2008) A Novel Pricing Method for European Options Based on Fourier-Cosine Series Expansions. SIAM Journal on Scientific Computing, 31(2), 826-848.</li>
+ * </ul>
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class FourierCosinePricingModelTest {
+
+    //region throws tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void Invalid_parameters_should_throw() {
+        // Act Assert
+        assertThatThrownBy(() -> {
+            PricingModel ex = PricingModelSelector.fourierCosine(null);
+        })
+            .isInstanceOf(NullPointerException.class);
+
+        assertThatThrownBy(() -> {
+            PricingModel ex = PricingModelSelector.fourierCosine(CharacteristicFunction.geometricBrownianMotion(0.2), 0);
+        })
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("greater than zero");
+
+        assertThatThrownBy(() -> {
+            CharacteristicFunction ex = CharacteristicFunction.varianceGamma(0.2, 1d, 2d);
+        })
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("greater than zero");
+    }
+
+    @Test
+    public void American_option_should_throw() {
+        // Arrange
+        Option option = new OptionBuilder(100, 100, 1, 0.2, 0, 0).styleAmerican().typePut().build();
+
+        // Act Assert
+        assertThatThrownBy(() -> {
+            double ex = PricingModelSelector.fourierCosine(CharacteristicFunction.geometricBrownianMotion(0.2)).price(option);
+        })
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("European");
+    }
+
+    @Test
+    public void Null_option_should_throw() {
+        // Act Assert
+        assertThatThrownBy(() -> {
+            double ex = PricingModelSelector.fourierCosine(CharacteristicFunction.geometricBrownianMotion(0.2)).price((Option) null);
+        })
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("option can't be null");
+    }
+
+    //----------------------------------------------------------------------
+    //endregion throws tests
+
+    @Test
+    public void Prices_for_geometric_Brownian_motion_should_equal_Black_Scholes() {
+        // Arrange
+        double S = 100, τ = 0.75, σ = 0.25, r = 0.05, q = 0.02;
+        double[] strikePrices = { 50, 80, 95, 100, 105, 120, 200 };
+        StrikeVectorPricingModel<FourierCosine> pricingModel = PricingModelSelector.fourierCosine(CharacteristicFunction.geometricBrownianMotion(σ));
+        Option call = new OptionBuilder(S, 100, τ, σ, r, q).styleEuropean().typeCall().build();
+        Option put = new OptionBuilder(S, 100, τ, σ, r, q).styleEuropean().typePut().build();
+
+        // Act
+        double[] callPrices = pricingModel.price(call, strikePrices);
+        double[] putPrices = pricingModel.price(put, strikePrices);
+
+        // Assert
+        for (int i = 0; i < strikePrices.length; i++) {
+            double K = strikePrices[i];
+            assertThat(callPrices[i])
+                .as(String.format("call K = %s", K))
+                .isEqualTo(BlackScholesMertonKernel.price(true, S, K, τ, σ, r, q), withPrecision(1e-10));
+            assertThat(putPrices[i])
+                .as(String.format("put K = %s", K))
+                .isEqualTo(BlackScholesMertonKernel.price(false, S, K, τ, σ, r, q), withPrecision(1e-10));
+        }
+    }
+
+    @Test
+    public void Price_for_call_FangOosterlee2008Sec5_3() {
+        // Arrange
+        Option option = new OptionBuilder(100, 100, 1, 0.1, 0, 0).styleEuropean().typeCall().build();
+        CharacteristicFunction φ = CharacteristicFunction.heston(1.5768, 0.0398, 0.5751, -0.5711, 0.0175);
+
+        // Act
+        double price = PricingModelSelector.fourierCosine(φ).price(option);
+
+        // Assert
+        assertThat(price).isEqualTo(5.785155450, withPrecision(1e-7));
+    }
+
+    @Test
+    public void Prices_for_Heston_should_equal_Lewis_integral() {
+        // Arrange
+        double S = 100, τ = 0.5, r = 0.03, q = 0.01, κ = 1.5768, θ = 0.0398, ξ = 0.5751, ρ = -0.5711, v0 = 0.0175;
+        double[] strikePrices = { 70, 90, 100, 110, 140 };
+        Option option = new OptionBuilder(S, 100, τ, Math.sqrt(v0), r, q).styleEuropean().typePut().build();
+        CharacteristicFunction φ = CharacteristicFunction.heston(κ, θ, ξ, ρ, v0);
+
+        // Act
+        double[] prices = PricingModelSelector.fourierCosine(φ).price(option, strikePrices);
+        double[] convergedPrices = PricingModelSelector.fourierCosine(φ, 1024).price(option, strikePrices);
+
+        // Assert
+        double[] expected = PricingModelSelector.heston(κ, θ, ξ, ρ).price(option, strikePrices);
+        for (int i = 0; i < strikePrices.length; i++) {
+            assertThat(prices[i])
+                .as(String.format("K = %s", strikePrices[i]))
+                .isEqualTo(expected[i], withPrecision(1e-5))
+                .isEqualTo(convergedPrices[i], withPrecision(1e-5));
+        }
+        assertThat(convergedPrices[0]).isEqualTo(0.108508244536, withPrecision(1e-10));
+        assertThat(convergedPrices[4]).isEqualTo(38.418443464517, withPrecision(1e-9));
+    }
+
+    @Test
+    public void Price_for_Merton_without_jumps_should_equal_Black_Scholes() {
+        // Arrange
+        double S = 100, K = 90, τ = 2, σ = 0.3, r = 0.04, q = 0;
+        Option option = new OptionBuilder(S, K, τ, σ, r, q).styleEuropean().typePut().build();
+
+        // Act
+        double price = PricingModelSelector.fourierCosine(CharacteristicFunction.mertonJumpDiffusion(σ, 0d, -0.1, 0.2)).price(option);
+
+        // Assert
+        assertThat(price).isEqualTo(BlackScholesMertonKernel.price(false, S, K, τ, σ, r, q), withPrecision(1e-10));
+    }
+
+    @Test
+    public void Price_for_Merton_should_equal_series_of_Black_Scholes_prices() {
+        // Arrange
+        double S = 100, K = 105, τ = 1, σ = 0.2, r = 0.05, q = 0.01, λ = 0.5, μ = -0.1, δ = 0.15;
+        Option option = new OptionBuilder(S, K, τ, σ, r, q).styleEuropean().typeCall().build();
+
+        // Act
+        double price = PricingModelSelector.fourierCosine(CharacteristicFunction.mertonJumpDiffusion(σ, λ, μ, δ)).price(option);
+
+        // Assert
+        double k = Math.exp(μ + δ * δ / 2d) - 1d;
+        double λPrime = λ * (1d + k);
+        double expected = 0d;
+        double poisson = Math.exp(-λPrime * τ);
+        for (int n = 0; n < 50; n++) {
+            double σn = Math.sqrt(σ * σ + n * δ * δ / τ);
+            double rn = r - λ * k + n * Math.log(1d + k) / τ;
+            expected += poisson * BlackScholesMertonKernel.price(true, S, K, τ, σn, rn, q);
+            poisson *= λPrime * τ / (n + 1);
+        }
+        assertThat(price).isEqualTo(expected, withPrecision(1e-9));
+    }
+
+    @Test
+    public void Prices_for_variance_gamma_should_satisfy_put_call_parity_FangOosterlee2008Sec5_4() {
+        // Arrange
+        double S = 100, K = 90, τ = 1, r = 0.1, q = 0;
+        CharacteristicFunction φ = CharacteristicFunction.varianceGamma(0.12, 0.2, -0.14);
+        Option call = new OptionBuilder(S, K, τ, 0.12, r, q).styleEuropean().typeCall().build();
+        Option put = new OptionBuilder(S, K, τ, 0.12, r, q).styleEuropean().typePut().build();
+
+        // Act
+        double callPrice = PricingModelSelector.fourierCosine(φ, 1024).price(call);
+        double putPrice = PricingModelSelector.fourierCosine(φ, 1024).price(put);
+
+        // Assert
+        assertThat(callPrice).isEqualTo(19.099354724, withPrecision(1e-6));
+        assertThat(callPrice - putPrice).isEqualTo(S * Math.exp(-q * τ) - K * Math.exp(-r * τ), withPrecision(1e-10));
+    }
+
+    @Test
+    public void Calculation() {
+        // Arrange
+        Option option = new OptionBuilder(100, 100, 1, 0.2, 0, 0).styleEuropean().typeCall().build();
+
+        // Act
+        FourierCosine result = PricingModelSelector.fourierCosine(CharacteristicFunction.geometricBrownianMotion(0.2), 128).calculation(option);
+
+        // Assert
+        assertThat(result.getLowerTruncation()).isLessThan(0d);
+        assertThat(result.getUpperTruncation()).isGreaterThan(0d);
+        assertThat(result.getTerms()).isEqualTo(128);
+        assertThat(result.getPrice()).isEqualTo(BlackScholesMertonKernel.price(true, 100, 100, 1, 0.2, 0, 0), withPrecision(1e-10));
+    }
+}
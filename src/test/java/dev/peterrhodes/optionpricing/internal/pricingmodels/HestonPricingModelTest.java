@@ -0,0 +1,146 @@
+package dev.peterrhodes.optionpricing.internal.pricingmodels;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import dev.peterrhodes.optionpricing.AnalyticOptionFactory;
+import dev.peterrhodes.optionpricing.Option;
+import dev.peterrhodes.optionpricing.OptionBuilder;
+import dev.peterrhodes.optionpricing.PricingModel;
+import dev.peterrhodes.optionpricing.PricingModelSelector;
+import dev.peterrhodes.optionpricing.StrikeVectorPricingModel;
+import dev.peterrhodes.optionpricing.models.Heston;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #HestonPricingModel}.
+ * <ul>
+ *   <li>Fang and Oosterlee (2008): Fang, F. and Oosterlee, C. W. (2008) A Novel Pricing Method for European Options Based on Fourier-Cosine Series Expansions. SIAM Journal on Scientific Computing, 31(2), 826-848.</li>
+ * </ul>
+ */
+@SuppressWarnings("checkstyle:multiplevariabledeclarations")
+public class HestonPricingModelTest {
+
+    // Fang and Oosterlee (2008), section 5.3
+    private static final double κ = 1.5768, θ = 0.0398, ξ = 0.5751, ρ = -0.5711, v0 = 0.0175;
+
+    //region throws tests
+    //----------------------------------------------------------------------
+
+    @Test
+    public void Invalid_parameters_should_throw() {
+        // Act Assert
+        assertThatThrownBy(() -> {
+            PricingModel ex = PricingModelSelector.heston(0d, θ, ξ, ρ);
+        })
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("greater than zero");
+
+        assertThatThrownBy(() -> {
+            PricingModel ex = PricingModelSelector.heston(κ, θ, ξ, 1d);
+        })
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("between minus one and one");
+    }
+
+    @Test
+    public void American_option_should_throw() {
+        // Arrange
+        Option option = new OptionBuilder(100, 100, 1, Math.sqrt(v0), 0, 0).styleAmerican().typePut().build();
+
+        // Act Assert
+        assertThatThrownBy(() -> {
+            double ex = PricingModelSelector.heston(κ, θ, ξ, ρ).price(option);
+        })
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("European");
+    }
+
+    @Test
+    public void Null_option_should_throw() {
+        // Act Assert
+        assertThatThrownBy(() -> {
+            double ex = PricingModelSelector.heston(κ, θ, ξ, ρ).price((Option) null);
+        })
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("option can't be null");
+    }
+
+    //----------------------------------------------------------------------
+    //endregion throws tests
+
+    @Test
+    public void Price_for_call_FangOosterlee2008Sec5_3() {
+        // Arrange
+        Option shortOption = new OptionBuilder(100, 100, 1, Math.sqrt(v0), 0, 0).styleEuropean().typeCall().build();
+        Option longOption = new OptionBuilder(100, 100, 10, Math.sqrt(v0), 0, 0).styleEuropean().typeCall().build();
+        PricingModel<Heston> pricingModel = PricingModelSelector.heston(κ, θ, ξ, ρ);
+
+        // Act
+        double shortPrice = pricingModel.price(shortOption);
+        double longPrice = pricingModel.price(longOption);
+
+        // Assert
+        assertThat(shortPrice).isEqualTo(5.785155450, withPrecision(1e-7));
+        assertThat(longPrice).isEqualTo(22.318945791, withPrecision(1e-7));
+    }
+
+    @Test
+    public void Strike_vector_prices_should_equal_single_prices() {
+        // Arrange
+        double S = 100, τ = 0.5, r = 0.03, q = 0.01;
+        double[] strikePrices = { 70, 90, 100, 110, 140 };
+        StrikeVectorPricingModel<Heston> pricingModel = PricingModelSelector.heston(κ, θ, ξ, ρ);
+        Option call = new OptionBuilder(S, 100, τ, Math.sqrt(v0), r, q).styleEuropean().typeCall().build();
+        Option put = new OptionBuilder(S, 100, τ, Math.sqrt(v0), r, q).styleEuropean().typePut().build();
+
+        // Act
+        double[] callPrices = pricingModel.price(call, strikePrices);
+        double[] putPrices = pricingModel.price(put, strikePrices);
+
+        // Assert
+        for (int i = 0; i < strikePrices.length; i++) {
+            double K = strikePrices[i];
+            Option single = new OptionBuilder(S, K, τ, Math.sqrt(v0), r, q).styleEuropean().typeCall().build();
+            assertThat(callPrices[i])
+                .as(String.format("K = %s", K))
+                .isEqualTo(pricingModel.price(single), withPrecision(1e-12));
+            assertThat(callPrices[i] - putPrices[i])
+                .as(String.format("put-call parity K = %s", K))
+                .isEqualTo(S * Math.exp(-q * τ) - K * Math.exp(-r * τ), withPrecision(1e-10));
+        }
+    }
+
+    @Test
+    public void Price_with_small_volatility_of_variance_should_converge_to_Black_Scholes() {
+        // Arrange
+        double S = 100, K = 110, τ = 0.25, σ = 0.2, r = 0.05, q = 0.02;
+        Option option = new OptionBuilder(S, K, τ, σ, r, q).styleEuropean().typePut().build();
+
+        // Act
+        double price = PricingModelSelector.heston(1d, σ * σ, 1e-4, 0d).price(option);
+
+        // Assert
+        double expected = AnalyticOptionFactory.createEuropeanPut(S, K, τ, σ, r, q).price();
+        assertThat(price).isEqualTo(expected, withPrecision(1e-6));
+    }
+
+    @Test
+    public void Calculation() {
+        // Arrange
+        Option option = new OptionBuilder(100, 100, 1, Math.sqrt(v0), 0, 0).styleEuropean().typeCall().build();
+
+        // Act
+        Heston result = PricingModelSelector.heston(κ, θ, ξ, ρ, 48).calculation(option);
+
+        // Assert
+        assertThat(result.getKappa()).isEqualTo(κ);
+        assertThat(result.getTheta()).isEqualTo(θ);
+        assertThat(result.getXi()).isEqualTo(ξ);
+        assertThat(result.getRho()).isEqualTo(ρ);
+        assertThat(result.getV0()).isEqualTo(v0, withPrecision(1e-15));
+        assertThat(result.getIntegrationNodes()).isEqualTo(48);
+        assertThat(result.getPrice()).isEqualTo(5.785155450, withPrecision(1e-6));
+    }
+}
@@ -86,4 +86,92 @@ public class MathUtilsTest {
             .as("erf(-x) = -erf(x)")
             .isEqualTo(-0.796908212, withPrecision(0.000000001));
     }
+
+    @Test
+    public void Erfc() {
+        // Arrange
+        double[] xValues = { -1.0, 0.0, 0.3, 1.0, 3.0, 10.0, 26.0, 27.0 };
+
+        // Act Assert
+        double[] expected = {
+            1.8427007929497148,
+            1.0,
+            0.67137324054087258,
+            0.15729920705028513,
+            2.2090496998585441e-5,
+            2.0884875837625446e-45,
+            5.6631924088561428e-296,
+            0d
+        };
+
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(MathUtils.erfc(xValues[i]))
+                .as(String.format("x = %f", xValues[i]))
+                .isCloseTo(expected[i], withPrecision(Math.abs(expected[i]) * 1e-14));
+        }
+    }
+
+    @Test
+    public void Standard_normal_cdf_should_keep_relative_accuracy_in_the_tail() {
+        // Arrange
+        double[] xValues = { -10.0, -5.0, -1.96, 0.0, 1.0, 3.0 };
+
+        // Act Assert
+        double[] expected = {
+            7.6198530241605269e-24,
+            2.8665157187919391e-7,
+            0.024997895148220435,
+            0.5,
+            0.84134474606854293,
+            0.99865010196836990
+        };
+
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(MathUtils.standardNormalCdf(xValues[i]))
+                .as(String.format("x = %f", xValues[i]))
+                .isCloseTo(expected[i], withPrecision(expected[i] * 1e-13));
+        }
+    }
+
+    @Test
+    public void Erfcx() {
+        // Arrange
+        double[] xValues = { -1.0, 0.3, 3.0, 30.0, 1e8 };
+
+        // Act Assert
+        double[] expected = {
+            5.0089800807622830,
+            0.73459933456765510,
+            0.17900115118138993,
+            0.018795888861416751,
+            5.6418958354775628e-9
+        };
+
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(MathUtils.erfcx(xValues[i]))
+                .as(String.format("x = %f", xValues[i]))
+                .isCloseTo(expected[i], withPrecision(expected[i] * 1e-14));
+        }
+    }
+
+    @Test
+    public void Inverse_standard_normal_cdf() {
+        // Arrange
+        double[] pValues = { 1e-10, 0.01, 0.3, 0.5, 0.975, 0.999 };
+
+        // Act Assert
+        for (double p : pValues) {
+            assertThat(0.5 * MathUtils.erfc(-MathUtils.inverseStandardNormalCdf(p) / Math.sqrt(2d)))
+                .as(String.format("p = %s", p))
+                .isCloseTo(p, withPrecision(p * 1e-7));
+        }
+
+        assertThat(MathUtils.inverseStandardNormalCdf(0d)).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(MathUtils.inverseStandardNormalCdf(1d)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThatThrownBy(() -> {
+            double ex = MathUtils.inverseStandardNormalCdf(1.5);
+        })
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("between zero and one");
+    }
 }
@@ -2,10 +2,14 @@ package dev.peterrhodes.optionpricing.internal.utils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import dev.peterrhodes.optionpricing.internal.enums.PrecisionType;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Random;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +131,55 @@ public class NumberUtilsTest {
         this.performAsserts(numbers, result, expected);
     }
 
+    @Test
+    public void Formatting_should_equal_string_format() {
+        // Formatter rounds the digits of Double.toString only up to JDK 18, JDK 19 changed Double.toString (JDK-4511638)
+        assumeTrue(Runtime.version().feature() <= 18, "String.format parity only holds up to JDK 18");
+
+        // Arrange
+        Random random = new Random(43);
+        List<Double> numbers = new ArrayList<Double>(Arrays.asList(
+            0d, -0d, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE,
+            0.5, 1.005, 0.125, 9.96, 99.95, 0.000099999, 0.00009, 1e20, -1e-7, 999999.5, 0.0005, 0.005, 0.05
+        ));
+        for (int i = 0; i < 20_000; i++) {
+            double mantissa = i % 2 == 0 ? random.nextDouble() : Math.rint(random.nextDouble() * 10_000) / 1_000;
+            numbers.add((random.nextBoolean() ? 1 : -1) * mantissa * Math.pow(10, random.nextInt(50) - 25));
+        }
+
+        // Act Assert
+        for (double number : numbers) {
+            for (int digits = 0; digits <= 17; digits++) {
+                assertThat(NumberUtils.precision(number, digits, PrecisionType.DECIMAL_PLACES))
+                    .as("%s to %d decimal places", number, digits)
+                    .isEqualTo(String.format(Locale.ROOT, "%." + digits + "f", number));
+                assertThat(NumberUtils.precision(number, digits, PrecisionType.SIGNIFICANT_FIGURES))
+                    .as("%s to %d significant figures", number, digits)
+                    .isEqualTo(formatSignificantFigures(number, digits));
+            }
+        }
+    }
+
+    @Test
+    public void Formatting_shouldnt_depend_on_the_locale() {
+        // Arrange
+        Locale locale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        StringBuilder builder = new StringBuilder("x = ");
+
+        try {
+            // Act
+            NumberUtils.precision(1234.5678, 2, PrecisionType.DECIMAL_PLACES, builder);
+            builder.append(", ");
+            NumberUtils.precision(0.012345, 3, PrecisionType.SIGNIFICANT_FIGURES, builder);
+
+            // Assert
+            assertThat(builder.toString()).isEqualTo("x = 1234.57, 0.0123");
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
     //region private methods
     //----------------------------------------------------------------------
 
@@ -142,6 +195,17 @@ public class NumberUtilsTest {
         }
     }
 
+    /**
+     * The significant figures formatting before it was written without {@link java.util.Formatter}.
+     */
+    private static String formatSignificantFigures(double number, int digits) {
+        String preciseNumber = String.format(Locale.ROOT, "%." + digits + "G", number);
+        if (preciseNumber.contains("e") || preciseNumber.contains("E")) {
+            preciseNumber = String.format(Locale.ROOT, "%.0f", Double.parseDouble(preciseNumber));
+        }
+        return preciseNumber;
+    }
+
     //----------------------------------------------------------------------
     //endregion private methods
 }
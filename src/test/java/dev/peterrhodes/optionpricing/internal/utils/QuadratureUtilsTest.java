@@ -0,0 +1,46 @@
+package dev.peterrhodes.optionpricing.internal.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #QuadratureUtils}.
+ */
+public class QuadratureUtilsTest {
+
+    @Test
+    public void Zero_nodes_should_throw() {
+        // Act Assert
+        assertThatThrownBy(() -> QuadratureUtils.gaussLaguerre(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must be greater than zero");
+    }
+
+    @Test
+    public void Gauss_Laguerre_rules_should_integrate_exponentially_decaying_functions() {
+        // Arrange
+        int[] nodeCounts = { 8, 64, 181, 400 }; // e^x of the largest node overflows from about 180 nodes
+
+        for (int n : nodeCounts) {
+            // Act
+            double[][] rule = QuadratureUtils.gaussLaguerre(n);
+            double exponential = 0d;
+            double secondMoment = 0d;
+            for (int i = 0; i < n; i++) {
+                double x = rule[0][i];
+                double w = rule[1][i];
+                assertThat(w).as("%d-point weight %d", n, i).isFinite().isPositive();
+                exponential += w * Math.exp(-x);
+                secondMoment += w * x * x * Math.exp(-x);
+            }
+
+            // Assert
+            assertThat(rule[0]).as("%d-point nodes", n).hasSize(n).isSorted();
+            assertThat(exponential).as("%d-point ∫ e^-x dx", n).isEqualTo(1d, withPrecision(1e-10));
+            assertThat(secondMoment).as("%d-point ∫ x² e^-x dx", n).isEqualTo(2d, withPrecision(1e-10));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package dev.peterrhodes.optionpricing.internal.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link #SelectionUtils}.
+ */
+public class SelectionUtilsTest {
+
+    @Test
+    public void Select_should_equal_the_sorted_value_and_partition_the_array() {
+        Random random = new Random(7);
+        for (int n : new int[] { 1, 2, 3, 10, 101, 1000 }) {
+            for (int k : new int[] { 0, n / 100, n / 2, n - 1 }) {
+                // Arrange
+                double[] values = new double[n];
+                for (int i = 0; i < n; i++) {
+                    // Plenty of ties
+                    values[i] = random.nextInt(n / 2 + 1) - n / 4;
+                }
+                double[] sorted = values.clone();
+                Arrays.sort(sorted);
+
+                // Act
+                double selected = SelectionUtils.select(values, k);
+
+                // Assert
+                assertThat(selected).isEqualTo(sorted[k]);
+                assertThat(values[k]).isEqualTo(sorted[k]);
+                for (int i = 0; i < n; i++) {
+                    if (i < k) {
+                        assertThat(values[i]).isLessThanOrEqualTo(selected);
+                    } else {
+                        assertThat(values[i]).isGreaterThanOrEqualTo(selected);
+                    }
+                }
+                Arrays.sort(values);
+                assertThat(values).isEqualTo(sorted);
+            }
+        }
+    }
+
+    @Test
+    public void Select_outside_the_array_should_throw() {
+        // Arrange
+        double[] values = { 1, 2, 3 };
+
+        // Act Assert
+        assertThatThrownBy(() -> SelectionUtils.select(values, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SelectionUtils.select(values, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}